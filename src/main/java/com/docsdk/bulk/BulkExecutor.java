@@ -0,0 +1,223 @@
+package com.docsdk.bulk;
+
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.executor.VirtualThreads;
+import lombok.Builder;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs many blocking {@link Pipeline}s over the synchronous {@link DocSDKClient} concurrently, a thread per pipeline.
+ * <p>
+ * On JDK 21 or later, the threads are virtual: a pipeline blocked on a response costs a few hundred bytes of heap rather than a platform thread,
+ * so thousands of conversions can run without sizing a thread pool. On older JDKs, platform threads are used instead, at most
+ * {@link #getMaxConcurrency()} of them, the pipelines beyond it being queued rather than each blocking a thread. The number of requests actually in flight is bounded by the connection pool of the client,
+ * and, if configured, by its concurrency limiter.
+ * <p>
+ * Closing the executor interrupts the running pipelines and fails the ones not yet started, unless the executor service has been passed in.
+ * The client is not closed.
+ */
+public class BulkExecutor implements Closeable {
+
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final DocSDKClient docSDKClient;
+    private final ExecutorService executorService;
+    private final boolean executorServiceOwned;
+
+    /**
+     * Maximum number of pipelines running at once, further ones wait for a running one to end
+     */
+    @Getter
+    private final int maxConcurrency;
+
+    @Nullable
+    private final Semaphore semaphore;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * @param docSDKClient    {@link DocSDKClient} the pipelines run with
+     * @param executorService (optional) {@link ExecutorService} running the pipelines, by default a thread per pipeline, virtual where available,
+     *                        otherwise at most maxConcurrency platform threads
+     * @param maxConcurrency  maximum number of pipelines running at once, {@link #UNBOUNDED} by default
+     */
+    @Builder
+    private BulkExecutor(final DocSDKClient docSDKClient, @Nullable final ExecutorService executorService, final int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency below 1");
+        }
+
+        this.docSDKClient = docSDKClient;
+        this.executorService = executorService != null ? executorService : VirtualThreads.newThreadPerTaskExecutor("docsdk-bulk", maxConcurrency);
+        this.executorServiceOwned = executorService == null;
+        this.maxConcurrency = maxConcurrency;
+        this.semaphore = maxConcurrency == UNBOUNDED ? null : new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Run a pipeline.
+     *
+     * @param input    input of the pipeline
+     * @param pipeline {@link Pipeline}
+     * @return {@link CompletableFuture} of the output, failed with the exception thrown by the pipeline
+     */
+    public <I, O> CompletableFuture<O> submit(final I input, final Pipeline<I, O> pipeline) {
+        final CompletableFuture<O> outputFuture = new CompletableFuture<>();
+        try {
+            executorService.execute(new PipelineRun<>(input, pipeline, outputFuture));
+        } catch (RejectedExecutionException e) {
+            outputFuture.completeExceptionally(e);
+        }
+        return outputFuture;
+    }
+
+    /**
+     * Run a pipeline per input.
+     *
+     * @param inputs   inputs
+     * @param pipeline {@link Pipeline}
+     * @return {@link CompletableFuture}s of the outputs, in the order of the inputs
+     */
+    public <I, O> List<CompletableFuture<O>> submitAll(final Collection<? extends I> inputs, final Pipeline<I, O> pipeline) {
+        final List<CompletableFuture<O>> outputFutures = new ArrayList<>(inputs.size());
+        for (final I input : inputs) {
+            outputFutures.add(submit(input, pipeline));
+        }
+        return outputFutures;
+    }
+
+    /**
+     * Run a pipeline per input and wait for all of them to end.
+     *
+     * @param inputs   inputs
+     * @param pipeline {@link Pipeline}
+     * @return outputs, in the order of the inputs
+     * @throws ExecutionException   if a pipeline failed, with the exception of the first failed one, once all have ended
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public <I, O> List<O> invokeAll(final Collection<? extends I> inputs, final Pipeline<I, O> pipeline) throws ExecutionException, InterruptedException {
+        final List<CompletableFuture<O>> outputFutures = submitAll(inputs, pipeline);
+        try {
+            CompletableFuture.allOf(outputFutures.toArray(new CompletableFuture<?>[0])).get();
+        } catch (ExecutionException e) {
+            throw new ExecutionException(e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause());
+        }
+
+        final List<O> outputs = new ArrayList<>(outputFutures.size());
+        for (final CompletableFuture<O> outputFuture : outputFutures) {
+            outputs.add(outputFuture.join());
+        }
+        return outputs;
+    }
+
+    /**
+     * @return number of pipelines running
+     */
+    public int getRunning() {
+        return running.get();
+    }
+
+    /**
+     * @return number of pipelines completed successfully
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * @return number of pipelines failed
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    @Override
+    public void close() {
+        if (executorServiceOwned) {
+            for (final Runnable runnable : executorService.shutdownNow()) {
+                if (runnable instanceof PipelineRun) {
+                    failed.increment();
+                    ((PipelineRun<?, ?>) runnable).outputFuture.completeExceptionally(new RejectedExecutionException("Bulk executor has been closed"));
+                }
+            }
+        }
+    }
+
+    private <I, O> void run(final I input, final Pipeline<I, O> pipeline, final CompletableFuture<O> outputFuture) {
+        if (semaphore != null) {
+            try {
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.increment();
+                outputFuture.completeExceptionally(e);
+                return;
+            }
+        }
+
+        running.incrementAndGet();
+        O output = null;
+        Throwable throwable = null;
+        try {
+            output = pipeline.run(docSDKClient, input);
+        } catch (Throwable t) {
+            throwable = t;
+        } finally {
+            running.decrementAndGet();
+            if (semaphore != null) {
+                semaphore.release();
+            }
+        }
+
+        // Complete once the pipeline no longer counts as running, so waiting callers see the counters settled
+        if (throwable != null) {
+            failed.increment();
+            outputFuture.completeExceptionally(throwable);
+        } else {
+            completed.increment();
+            outputFuture.complete(output);
+        }
+    }
+
+    /**
+     * Run of a pipeline, kept recognizable so that runs not yet started can be failed on close
+     */
+    private class PipelineRun<I, O> implements Runnable {
+
+        private final I input;
+        private final Pipeline<I, O> pipeline;
+        private final CompletableFuture<O> outputFuture;
+
+        private PipelineRun(final I input, final Pipeline<I, O> pipeline, final CompletableFuture<O> outputFuture) {
+            this.input = input;
+            this.pipeline = pipeline;
+            this.outputFuture = outputFuture;
+        }
+
+        @Override
+        public void run() {
+            BulkExecutor.this.run(input, pipeline, outputFuture);
+        }
+    }
+
+    public static class BulkExecutorBuilder {
+
+        private int maxConcurrency = UNBOUNDED;
+    }
+}
@@ -0,0 +1,15 @@
+package com.docsdk.bulk;
+
+import com.docsdk.client.DocSDKClient;
+
+/**
+ * Blocking conversion pipeline run for an input by a {@link BulkExecutor}, e.g. creating a job, waiting for it and downloading its result
+ *
+ * @param <I> input type
+ * @param <O> output type
+ */
+@FunctionalInterface
+public interface Pipeline<I, O> {
+
+    O run(final DocSDKClient docSDKClient, final I input) throws Exception;
+}
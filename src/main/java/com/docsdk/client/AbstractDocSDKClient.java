@@ -7,6 +7,8 @@ import com.docsdk.dto.response.TaskResponse;
 import com.docsdk.dto.response.UserResponse;
 import com.docsdk.dto.response.WebhookResponse;
 import com.docsdk.dto.result.AbstractResult;
+import com.docsdk.executor.AbstractRequestExecutor;
+import com.docsdk.executor.ConnectionLane;
 import com.docsdk.resource.AbstractExportFilesResource;
 import com.docsdk.resource.AbstractFilesResource;
 import com.docsdk.resource.AbstractImportFilesResource;
@@ -14,32 +16,46 @@ import com.docsdk.resource.AbstractJobsResource;
 import com.docsdk.resource.AbstractTasksResource;
 import com.docsdk.resource.AbstractUsersResource;
 import com.docsdk.resource.AbstractWebhooksResource;
+import org.apache.http.pool.PoolStats;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 public class AbstractDocSDKClient<
-    VAR extends AbstractResult<Void>, ISAR extends AbstractResult<InputStream>,
+    VAR extends AbstractResult<Void>, ISAR extends AbstractResult<InputStream>, PAR extends AbstractResult<Path>,
     TRAR extends AbstractResult<TaskResponse>, TRPAR extends AbstractResult<Pageable<TaskResponse>>,
     JRAR extends AbstractResult<JobResponse>, JRPAR extends AbstractResult<Pageable<JobResponse>>,
     WRAR extends AbstractResult<WebhookResponse>, WRPAR extends AbstractResult<Pageable<WebhookResponse>>,
     URAR extends AbstractResult<UserResponse>, ORPAR extends AbstractResult<Pageable<OperationResponse>>> implements Closeable {
 
+    private final AbstractRequestExecutor<?, ?> abstractRequestExecutor;
+    private final boolean requestExecutorOwned;
+
     private final AbstractTasksResource<TRAR, TRPAR, VAR, ORPAR> abstractTasksResource;
     private final AbstractJobsResource<JRAR, JRPAR, VAR> abstractJobsResource;
     private final AbstractImportFilesResource<TRAR> abstractImportFilesResource;
     private final AbstractExportFilesResource<TRAR> abstractExportFilesResource;
     private final AbstractUsersResource<URAR> abstractUsersResource;
     private final AbstractWebhooksResource<WRAR, WRPAR, VAR> abstractWebhooksResource;
-    private final AbstractFilesResource<ISAR> abstractFilesResource;
+    private final AbstractFilesResource<ISAR, PAR> abstractFilesResource;
 
+    /**
+     * @param abstractRequestExecutor {@link AbstractRequestExecutor} shared by all resources of the client
+     * @param requestExecutorOwned    whether the executor has been created by the client, and so is closed by it.
+     *                                Executors passed in by the caller may be shared with other clients and are closed by the caller.
+     */
     public AbstractDocSDKClient(
+        final AbstractRequestExecutor<?, ?> abstractRequestExecutor, final boolean requestExecutorOwned,
         final AbstractTasksResource<TRAR, TRPAR, VAR, ORPAR> abstractTasksResource, final AbstractJobsResource<JRAR, JRPAR, VAR> abstractJobsResource,
         final AbstractImportFilesResource<TRAR> abstractImportFilesResource, final AbstractExportFilesResource<TRAR> abstractExportFilesResource,
         final AbstractUsersResource<URAR> abstractUsersResource, final AbstractWebhooksResource<WRAR, WRPAR, VAR> abstractWebhooksResource,
-        final AbstractFilesResource<ISAR> abstractFilesResource
+        final AbstractFilesResource<ISAR, PAR> abstractFilesResource
     ) {
+        this.abstractRequestExecutor = abstractRequestExecutor;
+        this.requestExecutorOwned = requestExecutorOwned;
+
         this.abstractTasksResource = abstractTasksResource;
         this.abstractJobsResource = abstractJobsResource;
         this.abstractImportFilesResource = abstractImportFilesResource;
@@ -73,18 +89,36 @@ public class AbstractDocSDKClient<
         return abstractWebhooksResource;
     }
 
-    public AbstractFilesResource<ISAR> files() {
+    public AbstractFilesResource<ISAR, PAR> files() {
         return abstractFilesResource;
     }
 
+    /**
+     * Get live statistics of the connection pool used by this client.
+     *
+     * @return {@link PoolStats} with leased, pending and available connections
+     */
+    public PoolStats getPoolStats() {
+        return abstractRequestExecutor.getPoolStats();
+    }
+
+    /**
+     * Get live statistics of the connection pool of a lane.
+     *
+     * @param connectionLane {@link ConnectionLane}
+     * @return {@link PoolStats} with leased, pending and available connections
+     */
+    public PoolStats getPoolStats(final ConnectionLane connectionLane) {
+        return abstractRequestExecutor.getPoolStats(connectionLane);
+    }
+
+    /**
+     * Close the request executor, if it has been created by this client. Resources hold no connections of their own.
+     */
     @Override
     public void close() throws IOException {
-        abstractTasksResource.close();
-        abstractJobsResource.close();
-        abstractImportFilesResource.close();
-        abstractExportFilesResource.close();
-        abstractUsersResource.close();
-        abstractWebhooksResource.close();
-        abstractFilesResource.close();
+        if (requestExecutorOwned) {
+            abstractRequestExecutor.close();
+        }
     }
 }
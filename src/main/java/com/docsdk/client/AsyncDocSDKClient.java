@@ -1,6 +1,7 @@
 package com.docsdk.client;
 
 import com.docsdk.client.http.AsyncCloseableHttpClientProvider;
+import com.docsdk.client.http.ConnectionPoolSettings;
 import com.docsdk.client.mapper.ObjectMapperProvider;
 import com.docsdk.client.setttings.PropertyFileSettingsProvider;
 import com.docsdk.client.setttings.SettingsProvider;
@@ -12,14 +13,17 @@ import com.docsdk.dto.response.UserResponse;
 import com.docsdk.dto.response.WebhookResponse;
 import com.docsdk.dto.result.AsyncResult;
 import com.docsdk.executor.AsyncRequestExecutor;
+import com.docsdk.executor.ConnectionLane;
+import com.docsdk.executor.RequestExecutorSettings;
 import com.docsdk.extractor.ResultExtractor;
 import com.docsdk.resource.async.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 public class AsyncDocSDKClient extends AbstractDocSDKClient<AsyncResult<Void>,
-    AsyncResult<InputStream>, AsyncResult<TaskResponse>, AsyncResult<Pageable<TaskResponse>>,
+    AsyncResult<InputStream>, AsyncResult<Path>, AsyncResult<TaskResponse>, AsyncResult<Pageable<TaskResponse>>,
     AsyncResult<JobResponse>, AsyncResult<Pageable<JobResponse>>, AsyncResult<WebhookResponse>,
     AsyncResult<Pageable<WebhookResponse>>, AsyncResult<UserResponse>, AsyncResult<Pageable<OperationResponse>>> {
 
@@ -33,16 +37,50 @@ public class AsyncDocSDKClient extends AbstractDocSDKClient<AsyncResult<Void>,
         this(settingsProvider, new ObjectMapperProvider());
     }
 
+    public AsyncDocSDKClient(
+        final SettingsProvider settingsProvider, final ConnectionPoolSettings connectionPoolSettings
+    ) throws IOException {
+        this(settingsProvider, new ObjectMapperProvider(), connectionPoolSettings);
+    }
+
     public AsyncDocSDKClient(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider
     ) throws IOException {
-        this(settingsProvider, objectMapperProvider, new AsyncRequestExecutor(new ResultExtractor(objectMapperProvider), new AsyncCloseableHttpClientProvider()));
+        this(settingsProvider, objectMapperProvider, ConnectionPoolSettings.defaults());
+    }
+
+    public AsyncDocSDKClient(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider, final ConnectionPoolSettings connectionPoolSettings
+    ) throws IOException {
+        this(settingsProvider, objectMapperProvider, new AsyncRequestExecutor(new ResultExtractor(objectMapperProvider), new AsyncCloseableHttpClientProvider(connectionPoolSettings)), true);
+    }
+
+    /**
+     * Create a client with a connection pool per {@link ConnectionLane}: one for the calls of the API and one for uploads and downloads,
+     * so long transfers of files cannot starve e.g. waiting for tasks.
+     */
+    public AsyncDocSDKClient(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider,
+        final ConnectionPoolSettings controlConnectionPoolSettings, final ConnectionPoolSettings dataConnectionPoolSettings
+    ) throws IOException {
+        this(settingsProvider, objectMapperProvider, new AsyncRequestExecutor(new ResultExtractor(objectMapperProvider), new AsyncCloseableHttpClientProvider(controlConnectionPoolSettings),
+            new AsyncCloseableHttpClientProvider(dataConnectionPoolSettings), RequestExecutorSettings.defaults()), true);
     }
 
+    /**
+     * Create a client over an existing request executor, which is not closed by the client.
+     * This way many clients, e.g. one per API key, can share one connection pool and IO reactor.
+     */
     public AsyncDocSDKClient(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider, final AsyncRequestExecutor asyncRequestExecutor
     ) {
-        this(settingsProvider, objectMapperProvider, asyncRequestExecutor,
+        this(settingsProvider, objectMapperProvider, asyncRequestExecutor, false);
+    }
+
+    private AsyncDocSDKClient(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider, final AsyncRequestExecutor asyncRequestExecutor, final boolean requestExecutorOwned
+    ) {
+        this(settingsProvider, objectMapperProvider, asyncRequestExecutor, requestExecutorOwned,
             new AsyncTasksResource(settingsProvider, objectMapperProvider, asyncRequestExecutor,
                 new AsyncConvertFilesResource(settingsProvider, objectMapperProvider, asyncRequestExecutor),
                 new AsyncOptimizeFilesResource(settingsProvider, objectMapperProvider, asyncRequestExecutor),
@@ -61,7 +99,14 @@ public class AsyncDocSDKClient extends AbstractDocSDKClient<AsyncResult<Void>,
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider,
         final AsyncRequestExecutor asyncRequestExecutor, final AsyncTasksResource asyncTasksResource, final AsyncJobsResource asyncJobsResource
     ) {
-        super(asyncTasksResource, asyncJobsResource,
+        this(settingsProvider, objectMapperProvider, asyncRequestExecutor, false, asyncTasksResource, asyncJobsResource);
+    }
+
+    private AsyncDocSDKClient(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider,
+        final AsyncRequestExecutor asyncRequestExecutor, final boolean requestExecutorOwned, final AsyncTasksResource asyncTasksResource, final AsyncJobsResource asyncJobsResource
+    ) {
+        super(asyncRequestExecutor, requestExecutorOwned, asyncTasksResource, asyncJobsResource,
             new AsyncImportFilesResource(settingsProvider, objectMapperProvider, asyncRequestExecutor, asyncTasksResource),
             new AsyncExportFilesResource(settingsProvider, objectMapperProvider, asyncRequestExecutor),
             new AsyncUsersResource(settingsProvider, objectMapperProvider, asyncRequestExecutor),
@@ -69,4 +114,28 @@ public class AsyncDocSDKClient extends AbstractDocSDKClient<AsyncResult<Void>,
             new AsyncFilesResource(settingsProvider, objectMapperProvider, asyncRequestExecutor)
         );
     }
+
+    /**
+     * @return {@link AsyncTasksResource}, typed as such for its async only operations, e.g. {@link AsyncTasksResource#publishWait(String)}
+     */
+    @Override
+    public AsyncTasksResource tasks() {
+        return (AsyncTasksResource) super.tasks();
+    }
+
+    /**
+     * @return {@link AsyncJobsResource}, typed as such for its async only operations, e.g. {@link AsyncJobsResource#publishWait(String)}
+     */
+    @Override
+    public AsyncJobsResource jobs() {
+        return (AsyncJobsResource) super.jobs();
+    }
+
+    /**
+     * @return {@link AsyncFilesResource}, typed as such for its async only operations, e.g. {@link AsyncFilesResource#publish(String)}
+     */
+    @Override
+    public AsyncFilesResource files() {
+        return (AsyncFilesResource) super.files();
+    }
 }
@@ -1,6 +1,7 @@
 package com.docsdk.client;
 
 import com.docsdk.client.http.CloseableHttpClientProvider;
+import com.docsdk.client.http.ConnectionPoolSettings;
 import com.docsdk.client.mapper.ObjectMapperProvider;
 import com.docsdk.client.setttings.PropertyFileSettingsProvider;
 import com.docsdk.client.setttings.SettingsProvider;
@@ -11,15 +12,18 @@ import com.docsdk.dto.response.TaskResponse;
 import com.docsdk.dto.response.UserResponse;
 import com.docsdk.dto.response.WebhookResponse;
 import com.docsdk.dto.result.Result;
+import com.docsdk.executor.ConnectionLane;
 import com.docsdk.executor.RequestExecutor;
+import com.docsdk.executor.RequestExecutorSettings;
 import com.docsdk.extractor.ResultExtractor;
 import com.docsdk.resource.sync.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 public class DocSDKClient extends AbstractDocSDKClient<Result<Void>,
-    Result<InputStream>, Result<TaskResponse>, Result<Pageable<TaskResponse>>,
+    Result<InputStream>, Result<Path>, Result<TaskResponse>, Result<Pageable<TaskResponse>>,
     Result<JobResponse>, Result<Pageable<JobResponse>>, Result<WebhookResponse>,
     Result<Pageable<WebhookResponse>>, Result<UserResponse>, Result<Pageable<OperationResponse>>> {
 
@@ -33,17 +37,52 @@ public class DocSDKClient extends AbstractDocSDKClient<Result<Void>,
         this(settingsProvider, new ObjectMapperProvider());
     }
 
+    public DocSDKClient(
+        final SettingsProvider settingsProvider, final ConnectionPoolSettings connectionPoolSettings
+    ) throws IOException {
+        this(settingsProvider, new ObjectMapperProvider(), connectionPoolSettings);
+    }
+
     public DocSDKClient(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider
     ) throws IOException {
-        this(settingsProvider, objectMapperProvider, new RequestExecutor(new ResultExtractor(objectMapperProvider), new CloseableHttpClientProvider()));
+        this(settingsProvider, objectMapperProvider, ConnectionPoolSettings.defaults());
     }
 
+    public DocSDKClient(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider, final ConnectionPoolSettings connectionPoolSettings
+    ) throws IOException {
+        this(settingsProvider, objectMapperProvider, new RequestExecutor(new ResultExtractor(objectMapperProvider), new CloseableHttpClientProvider(connectionPoolSettings)), true);
+    }
+
+    /**
+     * Create a client with a connection pool per {@link ConnectionLane}: one for the calls of the API and one for uploads and downloads,
+     * so long transfers of files cannot starve e.g. waiting for tasks.
+     */
+    public DocSDKClient(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider,
+        final ConnectionPoolSettings controlConnectionPoolSettings, final ConnectionPoolSettings dataConnectionPoolSettings
+    ) throws IOException {
+        this(settingsProvider, objectMapperProvider, new RequestExecutor(new ResultExtractor(objectMapperProvider), new CloseableHttpClientProvider(controlConnectionPoolSettings),
+            new CloseableHttpClientProvider(dataConnectionPoolSettings), RequestExecutorSettings.defaults()), true);
+    }
+
+    /**
+     * Create a client over an existing request executor, which is not closed by the client.
+     * This way many clients, e.g. one per API key, can share one connection pool and IO reactor.
+     */
     public DocSDKClient(
         final SettingsProvider settingsProvider,
         final ObjectMapperProvider objectMapperProvider, final RequestExecutor requestExecutor
     ) {
-        this(settingsProvider, objectMapperProvider, requestExecutor,
+        this(settingsProvider, objectMapperProvider, requestExecutor, false);
+    }
+
+    private DocSDKClient(
+        final SettingsProvider settingsProvider,
+        final ObjectMapperProvider objectMapperProvider, final RequestExecutor requestExecutor, final boolean requestExecutorOwned
+    ) {
+        this(settingsProvider, objectMapperProvider, requestExecutor, requestExecutorOwned,
             new TasksResource(settingsProvider, objectMapperProvider, requestExecutor,
                 new ConvertFilesResource(settingsProvider, objectMapperProvider, requestExecutor),
                 new OptimizeFilesResource(settingsProvider, objectMapperProvider, requestExecutor),
@@ -63,7 +102,15 @@ public class DocSDKClient extends AbstractDocSDKClient<Result<Void>,
         final ObjectMapperProvider objectMapperProvider, final RequestExecutor requestExecutor,
         final TasksResource tasksResource, final JobsResource jobsResource
     ) {
-        super(tasksResource, jobsResource,
+        this(settingsProvider, objectMapperProvider, requestExecutor, false, tasksResource, jobsResource);
+    }
+
+    private DocSDKClient(
+        final SettingsProvider settingsProvider,
+        final ObjectMapperProvider objectMapperProvider, final RequestExecutor requestExecutor, final boolean requestExecutorOwned,
+        final TasksResource tasksResource, final JobsResource jobsResource
+    ) {
+        super(requestExecutor, requestExecutorOwned, tasksResource, jobsResource,
             new ImportFilesResource(settingsProvider, objectMapperProvider, requestExecutor, tasksResource),
             new ExportFilesResource(settingsProvider, objectMapperProvider, requestExecutor),
             new UsersResource(settingsProvider, objectMapperProvider, requestExecutor),
@@ -1,29 +1,98 @@
 package com.docsdk.client.http;
 
 import lombok.Getter;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
 
 public abstract class AbstractCloseableHttpClientProvider<C extends Closeable> {
 
-    public static final int DEFAULT_MAX_PER_ROUTE = 3;
-    public static final int MAX_TOTAL = 37;
+    public static final int DEFAULT_MAX_PER_ROUTE = ConnectionPoolSettings.DEFAULT_MAX_PER_ROUTE;
+    public static final int MAX_TOTAL = ConnectionPoolSettings.DEFAULT_MAX_TOTAL;
 
     @Getter
-    private final int defaultMaxPerRoute;
+    private final ConnectionPoolSettings connectionPoolSettings;
 
-    @Getter
-    private final int maxTotal;
+    /**
+     * Connection pool of the last provided client
+     */
+    @Nullable
+    private volatile ConnPoolControl<HttpRoute> connPoolControl;
 
     public AbstractCloseableHttpClientProvider() {
-        this(DEFAULT_MAX_PER_ROUTE, MAX_TOTAL);
+        this(ConnectionPoolSettings.defaults());
     }
 
     public AbstractCloseableHttpClientProvider(final int defaultMaxPerRoute, final int maxTotal) {
-        this.defaultMaxPerRoute = defaultMaxPerRoute;
-        this.maxTotal = maxTotal;
+        this(ConnectionPoolSettings.builder().defaultMaxPerRoute(defaultMaxPerRoute).maxTotal(maxTotal).build());
+    }
+
+    public AbstractCloseableHttpClientProvider(final ConnectionPoolSettings connectionPoolSettings) {
+        this.connectionPoolSettings = connectionPoolSettings;
+    }
+
+    public int getDefaultMaxPerRoute() {
+        return connectionPoolSettings.getDefaultMaxPerRoute();
+    }
+
+    public int getMaxTotal() {
+        return connectionPoolSettings.getMaxTotal();
     }
 
     public abstract C provide() throws IOException;
+
+    /**
+     * Get live statistics of the connection pool of the last provided client.
+     *
+     * @return {@link PoolStats} with leased, pending and available connections
+     */
+    public PoolStats getPoolStats() {
+        @Nullable final ConnPoolControl<HttpRoute> connPoolControl = this.connPoolControl;
+        if (connPoolControl == null) {
+            throw new IllegalStateException("No client has been provided yet");
+        }
+        return connPoolControl.getTotalStats();
+    }
+
+    protected void setConnPoolControl(final ConnPoolControl<HttpRoute> connPoolControl) {
+        this.connPoolControl = connPoolControl;
+        connPoolControl.setDefaultMaxPerRoute(getDefaultMaxPerRoute());
+        connPoolControl.setMaxTotal(getMaxTotal());
+    }
+
+    /**
+     * Track a connection pool shared with other providers, leaving its limits to its owner.
+     */
+    protected void setSharedConnPoolControl(final ConnPoolControl<HttpRoute> connPoolControl) {
+        this.connPoolControl = connPoolControl;
+    }
+
+    protected RequestConfig getRequestConfig() {
+        return RequestConfig.custom()
+            .setConnectTimeout(toTimeout(connectionPoolSettings.getConnectTimeout()))
+            .setSocketTimeout(toTimeout(connectionPoolSettings.getSocketTimeout()))
+            .setConnectionRequestTimeout(toTimeout(connectionPoolSettings.getConnectionRequestTimeout())).build();
+    }
+
+    protected ConnectionKeepAliveStrategy getConnectionKeepAliveStrategy() {
+        return new KeepAliveHeaderStrategy(connectionPoolSettings.getDefaultKeepAlive());
+    }
+
+    protected boolean isIdleEvictionEnabled() {
+        return !connectionPoolSettings.getIdleEvictionInterval().isNegative();
+    }
+
+    /**
+     * @return timeout in milliseconds, 0 for no timeout, -1 for the system default
+     */
+    protected static int toTimeout(final Duration duration) {
+        return duration.isNegative() ? -1 : (int) Math.min(Integer.MAX_VALUE, duration.toMillis());
+    }
 }
@@ -1,33 +1,144 @@
 package com.docsdk.client.http;
 
+import lombok.Getter;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.ManagedNHttpClientConnectionFactory;
 import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
 import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.nio.reactor.ConnectingIOReactor;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class AsyncCloseableHttpClientProvider extends AbstractCloseableHttpClientProvider<CloseableHttpAsyncClient> {
 
+    @Getter
+    private final IOReactorSettings ioReactorSettings;
+
+    /**
+     * Reactor and connection pool shared with other providers, null for a reactor and a pool of its own per provided client
+     */
+    @Nullable
+    private final SharedIOReactor sharedIOReactor;
+
+    /**
+     * Connection manager of the last provided client
+     */
+    @Nullable
+    private volatile PoolingNHttpClientConnectionManager poolingNHttpClientConnectionManager;
+
     public AsyncCloseableHttpClientProvider() {
-        super(DEFAULT_MAX_PER_ROUTE, MAX_TOTAL);
+        this(ConnectionPoolSettings.defaults());
     }
 
     public AsyncCloseableHttpClientProvider(final int defaultMaxPerRoute, final int maxTotal) {
-        super(defaultMaxPerRoute, maxTotal);
+        this(ConnectionPoolSettings.builder().defaultMaxPerRoute(defaultMaxPerRoute).maxTotal(maxTotal).build());
+    }
+
+    public AsyncCloseableHttpClientProvider(final ConnectionPoolSettings connectionPoolSettings) {
+        this(connectionPoolSettings, IOReactorSettings.defaults());
+    }
+
+    public AsyncCloseableHttpClientProvider(final ConnectionPoolSettings connectionPoolSettings, final IOReactorSettings ioReactorSettings) {
+        super(connectionPoolSettings);
+
+        this.ioReactorSettings = ioReactorSettings;
+        this.sharedIOReactor = null;
+    }
+
+    /**
+     * Provide clients over the reactor and the connection pool of a {@link SharedIOReactor}, rather than starting a reactor per client.
+     * The settings of the shared reactor apply, and closing a provided client leaves the shared reactor running.
+     *
+     * @param sharedIOReactor {@link SharedIOReactor}, closed by the caller once all clients are done
+     */
+    public AsyncCloseableHttpClientProvider(final SharedIOReactor sharedIOReactor) {
+        super(sharedIOReactor.getConnectionPoolSettings());
+
+        this.ioReactorSettings = sharedIOReactor.getIoReactorSettings();
+        this.sharedIOReactor = sharedIOReactor;
     }
 
     @Override
     public CloseableHttpAsyncClient provide() throws IOException {
-        final ConnectingIOReactor connectingIOReactor = new DefaultConnectingIOReactor();
-        final PoolingNHttpClientConnectionManager poolingNHttpClientConnectionManager = new PoolingNHttpClientConnectionManager(connectingIOReactor);
-        poolingNHttpClientConnectionManager.setDefaultMaxPerRoute(getDefaultMaxPerRoute());
-        poolingNHttpClientConnectionManager.setMaxTotal(getMaxTotal());
+        if (sharedIOReactor != null) {
+            final PoolingNHttpClientConnectionManager poolingNHttpClientConnectionManager = sharedIOReactor.getPoolingNHttpClientConnectionManager();
+            this.poolingNHttpClientConnectionManager = poolingNHttpClientConnectionManager;
+            setSharedConnPoolControl(poolingNHttpClientConnectionManager);
+
+            // A client over a shared connection manager neither runs nor shuts down the reactor, the shared reactor does
+            final CloseableHttpAsyncClient closeableHttpAsyncClient = HttpAsyncClientBuilder.create()
+                .setConnectionManager(poolingNHttpClientConnectionManager).setConnectionManagerShared(true)
+                .setDefaultRequestConfig(getRequestConfig()).setKeepAliveStrategy(getConnectionKeepAliveStrategy()).build();
+            closeableHttpAsyncClient.start();
+            return closeableHttpAsyncClient;
+        }
+
+        final ConnectionPoolSettings connectionPoolSettings = getConnectionPoolSettings();
 
-        final CloseableHttpAsyncClient closeableHttpAsyncClient = HttpAsyncClientBuilder.create().setConnectionManager(poolingNHttpClientConnectionManager).build();
+        final ConnectingIOReactor connectingIOReactor = new DefaultConnectingIOReactor(getIOReactorConfig());
+        final PoolingNHttpClientConnectionManager poolingNHttpClientConnectionManager = new PoolingNHttpClientConnectionManager(
+            connectingIOReactor, ManagedNHttpClientConnectionFactory.INSTANCE,
+            RegistryBuilder.<SchemeIOSessionStrategy>create().register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", SSLIOSessionStrategy.getDefaultStrategy()).build(),
+            DefaultSchemePortResolver.INSTANCE, SystemDefaultDnsResolver.INSTANCE, connectionPoolSettings.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        this.poolingNHttpClientConnectionManager = poolingNHttpClientConnectionManager;
+        setConnPoolControl(poolingNHttpClientConnectionManager);
+
+        final CloseableHttpAsyncClient closeableHttpAsyncClient = HttpAsyncClientBuilder.create().setConnectionManager(poolingNHttpClientConnectionManager)
+            .setDefaultRequestConfig(getRequestConfig()).setKeepAliveStrategy(getConnectionKeepAliveStrategy()).build();
         closeableHttpAsyncClient.start();
 
+        if (isIdleEvictionEnabled()) {
+            final long maxIdleTimeMillis = connectionPoolSettings.getMaxIdleTime().toMillis();
+            final AtomicReference<IdleConnectionEvictor> idleConnectionEvictor = new AtomicReference<>();
+            idleConnectionEvictor.set(new IdleConnectionEvictor(() -> {
+                // The async client offers no hook on close, so the evictor stops itself once the client is no longer running
+                if (!closeableHttpAsyncClient.isRunning()) {
+                    if (idleConnectionEvictor.get() != null) {
+                        idleConnectionEvictor.get().close();
+                    }
+                    return;
+                }
+                poolingNHttpClientConnectionManager.closeExpiredConnections();
+                poolingNHttpClientConnectionManager.closeIdleConnections(maxIdleTimeMillis, TimeUnit.MILLISECONDS);
+            }, connectionPoolSettings.getIdleEvictionInterval()));
+        }
+
         return closeableHttpAsyncClient;
     }
+
+    protected IOReactorConfig getIOReactorConfig() {
+        final ConnectionPoolSettings connectionPoolSettings = getConnectionPoolSettings();
+        return IOReactorConfig.custom()
+            .setIoThreadCount(ioReactorSettings.getIoThreadCount())
+            .setSelectInterval(ioReactorSettings.getSelectInterval().toMillis())
+            .setTcpNoDelay(ioReactorSettings.isTcpNoDelay())
+            .setSoKeepAlive(ioReactorSettings.isSoKeepAlive())
+            .setSndBufSize(ioReactorSettings.getSndBufSize())
+            .setRcvBufSize(ioReactorSettings.getRcvBufSize())
+            .setConnectTimeout(toTimeout(connectionPoolSettings.getConnectTimeout()))
+            .setSoTimeout(toTimeout(connectionPoolSettings.getSocketTimeout())).build();
+    }
+
+    /**
+     * @return connection manager of the last provided client
+     */
+    PoolingNHttpClientConnectionManager getPoolingNHttpClientConnectionManager() {
+        @Nullable final PoolingNHttpClientConnectionManager poolingNHttpClientConnectionManager = this.poolingNHttpClientConnectionManager;
+        if (poolingNHttpClientConnectionManager == null) {
+            throw new IllegalStateException("No client has been provided yet");
+        }
+        return poolingNHttpClientConnectionManager;
+    }
 }
@@ -4,22 +4,56 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+
 public class CloseableHttpClientProvider extends AbstractCloseableHttpClientProvider<CloseableHttpClient> {
 
     public CloseableHttpClientProvider() {
-        super(DEFAULT_MAX_PER_ROUTE, MAX_TOTAL);
+        super();
     }
 
     public CloseableHttpClientProvider(final int defaultMaxPerRoute, final int maxTotal) {
         super(defaultMaxPerRoute, maxTotal);
     }
 
+    public CloseableHttpClientProvider(final ConnectionPoolSettings connectionPoolSettings) {
+        super(connectionPoolSettings);
+    }
+
     @Override
     public CloseableHttpClient provide() {
-        final PoolingHttpClientConnectionManager poolingHttpClientConnectionManager = new PoolingHttpClientConnectionManager();
-        poolingHttpClientConnectionManager.setDefaultMaxPerRoute(getDefaultMaxPerRoute());
-        poolingHttpClientConnectionManager.setMaxTotal(getMaxTotal());
+        final ConnectionPoolSettings connectionPoolSettings = getConnectionPoolSettings();
+
+        // Requests wait for a connection outside of the pool, so virtual threads waiting for one do not pin their carrier threads
+        final PoolingHttpClientConnectionManager poolingHttpClientConnectionManager = new GatedHttpClientConnectionManager(
+            connectionPoolSettings.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        poolingHttpClientConnectionManager.setValidateAfterInactivity(toTimeout(connectionPoolSettings.getValidateAfterInactivity()));
+        setConnPoolControl(poolingHttpClientConnectionManager);
+
+        final ClosingHttpClientBuilder closingHttpClientBuilder = new ClosingHttpClientBuilder();
+        // Retries are up to the retry policy of the request executor, retrying here as well would multiply the attempts
+        closingHttpClientBuilder.setConnectionManager(poolingHttpClientConnectionManager)
+            .setDefaultRequestConfig(getRequestConfig()).setKeepAliveStrategy(getConnectionKeepAliveStrategy()).disableAutomaticRetries();
+
+        if (isIdleEvictionEnabled()) {
+            final long maxIdleTimeMillis = connectionPoolSettings.getMaxIdleTime().toMillis();
+            closingHttpClientBuilder.closeWith(new IdleConnectionEvictor(() -> {
+                poolingHttpClientConnectionManager.closeExpiredConnections();
+                poolingHttpClientConnectionManager.closeIdleConnections(maxIdleTimeMillis, TimeUnit.MILLISECONDS);
+            }, connectionPoolSettings.getIdleEvictionInterval()));
+        }
+
+        return closingHttpClientBuilder.build();
+    }
+
+    /**
+     * Builder, which closes additional resources together with the client
+     */
+    private static class ClosingHttpClientBuilder extends HttpClientBuilder {
 
-        return HttpClientBuilder.create().setConnectionManager(poolingHttpClientConnectionManager).build();
+        private void closeWith(final Closeable closeable) {
+            addCloseable(closeable);
+        }
     }
 }
@@ -0,0 +1,90 @@
+package com.docsdk.client.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Settings of the HTTP connection pool, shared by {@link CloseableHttpClientProvider} and {@link AsyncCloseableHttpClientProvider}.
+ * <p>
+ * {@link Duration#ZERO} timeouts mean no timeout, negative durations mean that the setting is disabled.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ConnectionPoolSettings {
+
+    public static final int DEFAULT_MAX_PER_ROUTE = 20;
+    public static final int DEFAULT_MAX_TOTAL = 100;
+
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_VALIDATE_AFTER_INACTIVITY = Duration.ofSeconds(2);
+    public static final Duration DEFAULT_IDLE_EVICTION_INTERVAL = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofMinutes(1);
+    public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of connections per route, i.e. per host
+     */
+    @Builder.Default
+    private final int defaultMaxPerRoute = DEFAULT_MAX_PER_ROUTE;
+
+    /**
+     * Maximum number of connections in total
+     */
+    @Builder.Default
+    private final int maxTotal = DEFAULT_MAX_TOTAL;
+
+    /**
+     * Timeout for establishing a connection
+     */
+    @Builder.Default
+    private final Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+    /**
+     * Timeout for waiting for data, i.e. maximum period of inactivity between two data packets.
+     * There is none by default, because waiting for tasks and jobs keeps the connection silent until they finish.
+     */
+    @Builder.Default
+    private final Duration socketTimeout = Duration.ZERO;
+
+    /**
+     * Timeout for leasing a connection from the pool, when all connections are in use
+     */
+    @Builder.Default
+    private final Duration connectionRequestTimeout = Duration.ZERO;
+
+    /**
+     * Period of inactivity, after which a pooled connection is validated before being leased again. Only supported by the synchronous client.
+     */
+    @Builder.Default
+    private final Duration validateAfterInactivity = DEFAULT_VALIDATE_AFTER_INACTIVITY;
+
+    /**
+     * Total time to live of a connection, regardless of keep-alive, disabled by default
+     */
+    @Builder.Default
+    private final Duration timeToLive = Duration.ofMillis(-1);
+
+    /**
+     * Interval of the background thread, which evicts expired and idle connections, negative to disable the thread
+     */
+    @Builder.Default
+    private final Duration idleEvictionInterval = DEFAULT_IDLE_EVICTION_INTERVAL;
+
+    /**
+     * Idle time, after which a pooled connection is evicted by the background thread
+     */
+    @Builder.Default
+    private final Duration maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+
+    /**
+     * Keep-alive of connections, when the server does not specify one in its {@code Keep-Alive} header
+     */
+    @Builder.Default
+    private final Duration defaultKeepAlive = DEFAULT_KEEP_ALIVE;
+
+    public static ConnectionPoolSettings defaults() {
+        return ConnectionPoolSettings.builder().build();
+    }
+}
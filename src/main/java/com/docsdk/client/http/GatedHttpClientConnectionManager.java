@@ -0,0 +1,140 @@
+package com.docsdk.client.http;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pooling connection manager, which lets requests wait for a free connection on a {@link Semaphore} rather than inside the pool.
+ * <p>
+ * The pool of HttpClient 4 waits for a free connection within a synchronized block, which pins a virtual thread to its carrier thread:
+ * once as many virtual threads wait as there are carrier threads, the ones holding connections cannot run to release them.
+ * The permits mirror the per route and total limits of the pool, as of the first request of a route, so a request holding
+ * both finds a connection in the pool without waiting there. Requests waiting for permits are counted as pending in the stats.
+ */
+class GatedHttpClientConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final Map<HttpRoute, Semaphore> routePermits = new ConcurrentHashMap<>();
+    private final AtomicReference<Semaphore> totalPermits = new AtomicReference<>();
+
+    /**
+     * Leased connections and their routes, so releasing a connection returns the permits it was leased with
+     */
+    private final Map<HttpClientConnection, HttpRoute> leasedRoutes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    GatedHttpClientConnectionManager(final long timeToLive, final TimeUnit timeUnit) {
+        super(timeToLive, timeUnit);
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(final HttpRoute route, final Object state) {
+        return new ConnectionRequest() {
+
+            @Nullable
+            private volatile ConnectionRequest connectionRequest;
+
+            @Override
+            public HttpClientConnection get(
+                final long timeout, final TimeUnit timeUnit
+            ) throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                // A timeout of 0 waits indefinitely
+                final long deadlineNanos = timeout > 0 ? System.nanoTime() + timeUnit.toNanos(timeout) : 0;
+                acquirePermits(route, deadlineNanos);
+
+                try {
+                    final ConnectionRequest connectionRequest = GatedHttpClientConnectionManager.super.requestConnection(route, state);
+                    this.connectionRequest = connectionRequest;
+                    final HttpClientConnection httpClientConnection = connectionRequest.get(getRemainingMillis(deadlineNanos), TimeUnit.MILLISECONDS);
+                    leasedRoutes.put(httpClientConnection, route);
+                    return httpClientConnection;
+                } catch (InterruptedException | ExecutionException | ConnectionPoolTimeoutException | RuntimeException e) {
+                    releasePermits(route);
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                @Nullable final ConnectionRequest connectionRequest = this.connectionRequest;
+                return connectionRequest != null && connectionRequest.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void releaseConnection(final HttpClientConnection managedConn, final Object state, final long keepalive, final TimeUnit timeUnit) {
+        try {
+            super.releaseConnection(managedConn, state, keepalive, timeUnit);
+        } finally {
+            @Nullable final HttpRoute route = leasedRoutes.remove(managedConn);
+            if (route != null) {
+                releasePermits(route);
+            }
+        }
+    }
+
+    @Override
+    public PoolStats getTotalStats() {
+        final PoolStats poolStats = super.getTotalStats();
+        return new PoolStats(poolStats.getLeased(), poolStats.getPending() + waiting.get(), poolStats.getAvailable(), poolStats.getMax());
+    }
+
+    private void acquirePermits(final HttpRoute route, final long deadlineNanos) throws InterruptedException, ConnectionPoolTimeoutException {
+        final Semaphore routeSemaphore = routePermits.computeIfAbsent(route, key -> new Semaphore(getMaxPerRoute(key)));
+        final Semaphore totalSemaphore = getTotalPermits();
+
+        waiting.incrementAndGet();
+        try {
+            acquire(routeSemaphore, deadlineNanos);
+            try {
+                acquire(totalSemaphore, deadlineNanos);
+            } catch (InterruptedException | ConnectionPoolTimeoutException e) {
+                routeSemaphore.release();
+                throw e;
+            }
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private void releasePermits(final HttpRoute route) {
+        getTotalPermits().release();
+        routePermits.get(route).release();
+    }
+
+    private Semaphore getTotalPermits() {
+        @Nullable final Semaphore semaphore = totalPermits.get();
+        if (semaphore != null) {
+            return semaphore;
+        }
+        totalPermits.compareAndSet(null, new Semaphore(getMaxTotal()));
+        return totalPermits.get();
+    }
+
+    private static void acquire(final Semaphore semaphore, final long deadlineNanos) throws InterruptedException, ConnectionPoolTimeoutException {
+        if (deadlineNanos == 0) {
+            semaphore.acquire();
+        } else if (!semaphore.tryAcquire(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            throw new ConnectionPoolTimeoutException("Timeout waiting for connection from pool");
+        }
+    }
+
+    private static long getRemainingMillis(final long deadlineNanos) {
+        // At least a millisecond, as 0 would wait indefinitely
+        return deadlineNanos == 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.docsdk.client.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Settings of the IO reactor of {@link AsyncCloseableHttpClientProvider}, i.e. of the threads dispatching the IO events of all connections and of their sockets.
+ * <p>
+ * The connect and socket timeouts of the reactor are taken from {@link ConnectionPoolSettings}.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class IOReactorSettings {
+
+    public static final int DEFAULT_IO_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+    public static final Duration DEFAULT_SELECT_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Number of IO dispatcher threads, each serving its share of the connections
+     */
+    @Builder.Default
+    private final int ioThreadCount = DEFAULT_IO_THREAD_COUNT;
+
+    /**
+     * Interval, in which the dispatcher threads check for timed out connections and pending requests to stop
+     */
+    @Builder.Default
+    private final Duration selectInterval = DEFAULT_SELECT_INTERVAL;
+
+    /**
+     * Whether {@code TCP_NODELAY} is set, so small requests are sent without waiting to be coalesced
+     */
+    @Builder.Default
+    private final boolean tcpNoDelay = true;
+
+    /**
+     * Whether {@code SO_KEEPALIVE} is set, so dead peers of silent connections are detected by TCP
+     */
+    @Builder.Default
+    private final boolean soKeepAlive = false;
+
+    /**
+     * Size of the socket send buffer ({@code SO_SNDBUF}) in bytes, 0 for the system default
+     */
+    @Builder.Default
+    private final int sndBufSize = 0;
+
+    /**
+     * Size of the socket receive buffer ({@code SO_RCVBUF}) in bytes, 0 for the system default
+     */
+    @Builder.Default
+    private final int rcvBufSize = 0;
+
+    public static IOReactorSettings defaults() {
+        return IOReactorSettings.builder().build();
+    }
+}
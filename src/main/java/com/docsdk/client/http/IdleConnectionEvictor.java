@@ -0,0 +1,31 @@
+package com.docsdk.client.http;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background daemon thread, which periodically evicts expired and idle connections from a connection pool,
+ * so connections closed by the server while they were idle are not leased again.
+ */
+public class IdleConnectionEvictor implements Closeable {
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    public IdleConnectionEvictor(final Runnable eviction, final Duration interval) {
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("docsdk-idle-connection-evictor-%d").setDaemon(true).build());
+
+        final long intervalMillis = Math.max(1, interval.toMillis());
+        this.scheduledExecutorService.scheduleWithFixedDelay(eviction, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduledExecutorService.shutdownNow();
+    }
+}
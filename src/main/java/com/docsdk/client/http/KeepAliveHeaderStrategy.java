@@ -0,0 +1,28 @@
+package com.docsdk.client.http;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.protocol.HttpContext;
+
+import java.time.Duration;
+
+/**
+ * Keep-alive strategy, which honours the {@code timeout} of the server's {@code Keep-Alive} header,
+ * and falls back to the default keep-alive when the server does not send one, instead of keeping the connection forever.
+ */
+public class KeepAliveHeaderStrategy implements ConnectionKeepAliveStrategy {
+
+    private final long defaultKeepAliveMillis;
+
+    public KeepAliveHeaderStrategy(final Duration defaultKeepAlive) {
+        this.defaultKeepAliveMillis = defaultKeepAlive.isNegative() ? -1 : defaultKeepAlive.toMillis();
+    }
+
+    @Override
+    public long getKeepAliveDuration(final HttpResponse httpResponse, final HttpContext httpContext) {
+        final long keepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(httpResponse, httpContext);
+
+        return keepAliveMillis < 0 ? defaultKeepAliveMillis : keepAliveMillis;
+    }
+}
@@ -0,0 +1,64 @@
+package com.docsdk.client.http;
+
+import lombok.Getter;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * IO reactor and connection pool shared by the clients of several {@link AsyncCloseableHttpClientProvider}s,
+ * e.g. of request executors with settings of their own per tenant, so running many of them takes one set of dispatcher threads rather than one per executor.
+ * <p>
+ * The reactor runs from creation until {@link #close()}. Clients provided over it only stop using it when closed.
+ */
+public class SharedIOReactor implements Closeable {
+
+    @Getter
+    private final ConnectionPoolSettings connectionPoolSettings;
+
+    @Getter
+    private final IOReactorSettings ioReactorSettings;
+
+    private final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider;
+
+    /**
+     * Client owning the reactor and the connection pool, which runs the dispatcher threads and shuts them down on close
+     */
+    private final CloseableHttpAsyncClient closeableHttpAsyncClient;
+
+    public SharedIOReactor() throws IOException {
+        this(ConnectionPoolSettings.defaults(), IOReactorSettings.defaults());
+    }
+
+    public SharedIOReactor(final ConnectionPoolSettings connectionPoolSettings, final IOReactorSettings ioReactorSettings) throws IOException {
+        this.connectionPoolSettings = connectionPoolSettings;
+        this.ioReactorSettings = ioReactorSettings;
+
+        this.asyncCloseableHttpClientProvider = new AsyncCloseableHttpClientProvider(connectionPoolSettings, ioReactorSettings);
+        this.closeableHttpAsyncClient = asyncCloseableHttpClientProvider.provide();
+    }
+
+    /**
+     * Get live statistics of the shared connection pool.
+     *
+     * @return {@link PoolStats} with leased, pending and available connections
+     */
+    public PoolStats getPoolStats() {
+        return asyncCloseableHttpClientProvider.getPoolStats();
+    }
+
+    PoolingNHttpClientConnectionManager getPoolingNHttpClientConnectionManager() {
+        return asyncCloseableHttpClientProvider.getPoolingNHttpClientConnectionManager();
+    }
+
+    /**
+     * Shut the reactor down, closing all connections of the pool. Clients provided over it fail from then on.
+     */
+    @Override
+    public void close() throws IOException {
+        closeableHttpAsyncClient.close();
+    }
+}
@@ -1,16 +1,88 @@
 package com.docsdk.client.mapper;
 
+import com.docsdk.dto.request.Request;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.google.common.base.Suppliers;
 
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Provides the {@link ObjectMapper} of a client, which is built once and shared by all its resources and response processors.
+ * <p>
+ * {@link ObjectReader}s and {@link ObjectWriter}s are immutable and thread-safe, so they are cached as well, readers per target type.
+ * This way every request and response reuses the serializers and deserializers resolved before, instead of resolving them once again.
+ * <p>
+ * Override {@link #createObjectMapper()} to customize the mapper.
+ */
 public class ObjectMapperProvider {
 
+    private final Supplier<ObjectMapper> objectMapperSupplier = Suppliers.memoize(this::createObjectMapper)::get;
+
+    // Leave the target open, so entities can write to the output stream of the connection
+    private final Supplier<ObjectWriter> objectWriterSupplier = Suppliers.memoize(() -> provide().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET))::get;
+
+    // Keyed by type rather than by type reference, so type references created per call do not grow the cache
+    private final Map<Type, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+
+    /**
+     * @return the shared {@link ObjectMapper}, never reconfigure it
+     */
     public ObjectMapper provide() {
+        return objectMapperSupplier.get();
+    }
+
+    /**
+     * @return cached {@link ObjectReader} for the type of the given type reference
+     */
+    public ObjectReader provideReader(final TypeReference<?> typeReference) {
+        return objectReaders.computeIfAbsent(typeReference.getType(), type -> provide().readerFor(provide().constructType(type)));
+    }
+
+    /**
+     * @return cached {@link ObjectWriter}
+     */
+    public ObjectWriter provideWriter() {
+        return objectWriterSupplier.get();
+    }
+
+    protected ObjectMapper createObjectMapper() {
         return new ObjectMapper()
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE)
-            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .registerModule(new SimpleModule().setSerializerModifier(new RequestSerializerModifier()));
+    }
+
+    /**
+     * Serializes requests with their properties via {@link RequestSerializer}.
+     */
+    private static class RequestSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> modifySerializer(
+            final SerializationConfig serializationConfig, final BeanDescription beanDescription, final JsonSerializer<?> jsonSerializer
+        ) {
+            if (Request.class.isAssignableFrom(beanDescription.getBeanClass()) && jsonSerializer instanceof BeanSerializerBase) {
+                return new RequestSerializer((JsonSerializer<Object>) jsonSerializer);
+            }
+            return jsonSerializer;
+        }
     }
 }
@@ -0,0 +1,101 @@
+package com.docsdk.client.mapper;
+
+import com.docsdk.dto.request.Request;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serializes a {@link Request} with its {@link Request#getProperties()} merged into the same JSON object, straight to the generator.
+ * <p>
+ * Fields of the request are written by its bean serializer and take precedence over properties with the same name,
+ * like they did when the request was converted into a map and the properties were put into it if absent.
+ */
+public class RequestSerializer extends StdSerializer<Request> implements ResolvableSerializer {
+
+    private final JsonSerializer<Object> beanSerializer;
+
+    private JsonSerializer<Object> unwrappingBeanSerializer;
+
+    public RequestSerializer(final JsonSerializer<Object> beanSerializer) {
+        super(Request.class);
+
+        this.beanSerializer = beanSerializer;
+    }
+
+    @Override
+    public void resolve(final SerializerProvider serializerProvider) throws JsonMappingException {
+        if (beanSerializer instanceof ResolvableSerializer) {
+            ((ResolvableSerializer) beanSerializer).resolve(serializerProvider);
+        }
+        unwrappingBeanSerializer = beanSerializer.unwrappingSerializer(NameTransformer.NOP);
+    }
+
+    @Override
+    public void serialize(final Request request, final JsonGenerator jsonGenerator, final SerializerProvider serializerProvider) throws IOException {
+        if (request.getProperties().isEmpty()) {
+            beanSerializer.serialize(request, jsonGenerator, serializerProvider);
+            return;
+        }
+
+        jsonGenerator.writeStartObject(request);
+
+        final Set<String> fieldNames = new HashSet<>();
+        unwrappingBeanSerializer.serialize(request, new FieldNameRecordingJsonGenerator(jsonGenerator, fieldNames), serializerProvider);
+
+        for (final Map.Entry<String, Object> entry : request.getProperties().entrySet()) {
+            if (!fieldNames.contains(entry.getKey())) {
+                jsonGenerator.writeFieldName(entry.getKey());
+                serializerProvider.defaultSerializeValue(entry.getValue(), jsonGenerator);
+            }
+        }
+
+        jsonGenerator.writeEndObject();
+    }
+
+    /**
+     * Records names of the fields written into the current object, but not into the objects nested in it.
+     */
+    private static class FieldNameRecordingJsonGenerator extends JsonGeneratorDelegate {
+
+        private final JsonStreamContext jsonStreamContext;
+        private final Set<String> fieldNames;
+
+        private FieldNameRecordingJsonGenerator(final JsonGenerator jsonGenerator, final Set<String> fieldNames) {
+            super(jsonGenerator, false);
+
+            this.jsonStreamContext = jsonGenerator.getOutputContext();
+            this.fieldNames = fieldNames;
+        }
+
+        @Override
+        public void writeFieldName(final String name) throws IOException {
+            record(name);
+            super.writeFieldName(name);
+        }
+
+        @Override
+        public void writeFieldName(final SerializableString name) throws IOException {
+            record(name.getValue());
+            super.writeFieldName(name);
+        }
+
+        private void record(final String name) {
+            if (getOutputContext() == jsonStreamContext) {
+                fieldNames.add(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.docsdk.dto.response;
+
+import com.docsdk.dto.Event;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+@Getter
+@Setter
+@Accessors(chain = true)
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class WebhookEventResponse extends Response {
+
+    /**
+     * The event, which triggered the webhook.
+     */
+    private Event event;
+
+    /**
+     * The job, as shown by the jobs endpoint.
+     */
+    private JobResponse job;
+}
@@ -1,6 +1,11 @@
 package com.docsdk.dto.result;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -12,4 +17,77 @@ public abstract class AsyncResult<T> extends AbstractResult<T> {
     public abstract Result<T> get(
         final long timeout, final TimeUnit timeUnit
     ) throws InterruptedException, ExecutionException, TimeoutException, IOException;
+
+    /**
+     * Get the result as a {@link CompletionStage}, which is completed as soon as the response has been received, without blocking any thread.
+     * <p>
+     * {@link IOException}s are propagated wrapped in {@link UncheckedIOException}.
+     *
+     * @return {@link CompletionStage}
+     */
+    public abstract CompletionStage<Result<T>> toCompletionStage();
+
+    /**
+     * Chain another request, which is sent once this result is available, without blocking the calling thread.
+     *
+     * @param resultComposer {@link ResultComposer}, which sends the next request
+     * @param <U>            type of the next result
+     * @return {@link AsyncResult} of the next request
+     */
+    public <U> AsyncResult<U> thenCompose(final ResultComposer<T, U> resultComposer) {
+        final CompletableFuture<Result<U>> completableFuture = toCompletionStage().toCompletableFuture().thenCompose(result -> {
+            try {
+                return resultComposer.compose(result).toCompletionStage();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (URISyntaxException e) {
+                throw new CompletionException(e);
+            }
+        });
+
+        return CompletableAsyncResult.<U>builder().completableFuture(completableFuture).build();
+    }
+
+    /**
+     * Push the result to the callback as soon as it is available, instead of pulling it with a blocking {@link #get()}.
+     * The callback is called from the thread, which completed the result, so it must not block.
+     *
+     * @param resultCallback {@link ResultCallback}
+     * @return this {@link AsyncResult}
+     */
+    public AsyncResult<T> whenComplete(final ResultCallback<T> resultCallback) {
+        toCompletionStage().whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                resultCallback.onResult(result);
+                return;
+            }
+
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (cause instanceof UncheckedIOException) {
+                cause = cause.getCause();
+            }
+            resultCallback.onFailure(cause);
+        });
+
+        return this;
+    }
+
+    public interface ResultCallback<T> {
+
+        /**
+         * @param result {@link Result}, including the unsuccessful ones
+         */
+        void onResult(final Result<T> result);
+
+        /**
+         * @param throwable failure of the request, e.g. an {@link IOException}
+         */
+        void onFailure(final Throwable throwable);
+    }
+
+    @FunctionalInterface
+    public interface ResultComposer<T, U> {
+
+        AsyncResult<U> compose(final Result<T> result) throws IOException, URISyntaxException;
+    }
 }
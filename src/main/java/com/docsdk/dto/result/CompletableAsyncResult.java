@@ -0,0 +1,52 @@
+package com.docsdk.dto.result;
+
+import lombok.Builder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Builder
+public class CompletableAsyncResult<T> extends AsyncResult<T> {
+
+    private CompletableFuture<Result<T>> completableFuture;
+
+    @Override
+    public Result<T> get() throws InterruptedException, ExecutionException, IOException {
+        try {
+            return completableFuture.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public Result<T> get(
+        final long timeout, final TimeUnit timeUnit
+    ) throws InterruptedException, ExecutionException, TimeoutException, IOException {
+        try {
+            return completableFuture.get(timeout, timeUnit);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public CompletionStage<Result<T>> toCompletionStage() {
+        return completableFuture;
+    }
+
+    /**
+     * Rethrow {@link IOException}s, which were wrapped on their way through the completion stages, as they are thrown by blocking results
+     */
+    private ExecutionException unwrap(final ExecutionException executionException) throws IOException {
+        if (executionException.getCause() instanceof UncheckedIOException) {
+            throw ((UncheckedIOException) executionException.getCause()).getCause();
+        }
+        return executionException;
+    }
+}
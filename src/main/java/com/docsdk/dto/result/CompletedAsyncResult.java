@@ -2,6 +2,8 @@ package com.docsdk.dto.result;
 
 import lombok.Builder;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 @Builder
@@ -20,4 +22,9 @@ public class CompletedAsyncResult<T> extends AsyncResult<T> {
     ) {
         return result;
     }
+
+    @Override
+    public CompletionStage<Result<T>> toCompletionStage() {
+        return CompletableFuture.completedFuture(result);
+    }
 }
@@ -7,17 +7,26 @@ import org.apache.http.HttpResponse;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+/**
+ * Result of a response future, extracted on the calling thread once requested.
+ *
+ * @deprecated the request executors extract results as soon as the responses arrive and return a {@link CompletableAsyncResult},
+ * use {@link CompletableAsyncResult} instead. This class is kept for compatibility only and will be removed.
+ */
+@Deprecated
 @Builder
 public class FutureAsyncResult<T> extends AsyncResult<T> {
 
     private ResultExtractor resultExtractor;
 
-    private Future<HttpResponse> future;
+    private CompletableFuture<HttpResponse> future;
 
     private TypeReference<T> typeReference;
 
@@ -34,6 +43,16 @@ public class FutureAsyncResult<T> extends AsyncResult<T> {
         return extractResult(future.get(timeout, timeUnit));
     }
 
+    public CompletionStage<Result<T>> toCompletionStage() {
+        return future.thenApply(httpResponse -> {
+            try {
+                return extractResult(httpResponse);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     /**
      * This method should be synchronized in order to prevent unexpected behavior if multiple threads tries to access an input stream
      */
@@ -0,0 +1,68 @@
+package com.docsdk.dto.result;
+
+import lombok.Builder;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Builder
+public class MappedAsyncResult<S, T> extends AsyncResult<T> {
+
+    private AsyncResult<S> asyncResult;
+
+    private ResultMapper<S, T> resultMapper;
+
+    private final Lock lock = new ReentrantLock();
+
+    @Nullable
+    private Result<T> result;
+
+    @Override
+    public Result<T> get() throws InterruptedException, ExecutionException, IOException {
+        return mapResult(asyncResult.get());
+    }
+
+    @Override
+    public Result<T> get(
+        final long timeout, final TimeUnit timeUnit
+    ) throws InterruptedException, ExecutionException, TimeoutException, IOException {
+        return mapResult(asyncResult.get(timeout, timeUnit));
+    }
+
+    @Override
+    public CompletionStage<Result<T>> toCompletionStage() {
+        return asyncResult.toCompletionStage().thenApply(sourceResult -> {
+            try {
+                return mapResult(sourceResult);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private Result<T> mapResult(final Result<S> sourceResult) throws IOException {
+        lock.lock();
+        try {
+            // Cache result, in case user will try to call get() multiple times
+            if (result == null) {
+                result = resultMapper.map(sourceResult);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ResultMapper<S, T> {
+
+        Result<T> map(final Result<S> result) throws IOException;
+    }
+}
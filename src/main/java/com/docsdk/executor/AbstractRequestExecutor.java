@@ -1,12 +1,35 @@
 package com.docsdk.executor;
 
 import com.docsdk.client.http.AbstractCloseableHttpClientProvider;
+import com.docsdk.dto.result.Result;
+import com.docsdk.executor.breaker.CircuitBreaker;
+import com.docsdk.executor.breaker.CircuitBreakerOpenException;
+import com.docsdk.executor.limiter.ConcurrencyLimiter;
+import com.docsdk.executor.limiter.RateLimiter;
+import com.docsdk.executor.retry.RetryAttempt;
+import com.docsdk.executor.retry.RetryListener;
+import com.docsdk.executor.retry.RetryPolicy;
 import com.docsdk.extractor.ResultExtractor;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.pool.PoolStats;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 public abstract class AbstractRequestExecutor<P extends AbstractCloseableHttpClientProvider<C>, C extends Closeable> implements Closeable {
 
     @Getter
@@ -15,15 +38,218 @@ public abstract class AbstractRequestExecutor<P extends AbstractCloseableHttpCli
     @Getter
     private final C closeableHttpClient;
 
+    private final P closeableHttpClientProvider;
+
+    private final C dataCloseableHttpClient;
+
+    private final P dataCloseableHttpClientProvider;
+
+    @Getter
+    private final RetryPolicy retryPolicy;
+
+    private final RetryListener retryListener;
+
+    private final ResultListener resultListener;
+
+    @Getter
+    @Nullable
+    private final RateLimiter rateLimiter;
+
+    @Getter
+    @Nullable
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    @Getter
+    @Nullable
+    private final CircuitBreaker circuitBreaker;
+
     public AbstractRequestExecutor(
         final ResultExtractor resultExtractor, final P closeableHttpClientProvider
+    ) throws IOException {
+        this(resultExtractor, closeableHttpClientProvider, RequestExecutorSettings.defaults());
+    }
+
+    public AbstractRequestExecutor(
+        final ResultExtractor resultExtractor, final P closeableHttpClientProvider, final RetryPolicy retryPolicy, final RetryListener retryListener
+    ) throws IOException {
+        this(resultExtractor, closeableHttpClientProvider, RequestExecutorSettings.builder().retryPolicy(retryPolicy).retryListener(retryListener).build());
+    }
+
+    public AbstractRequestExecutor(
+        final ResultExtractor resultExtractor, final P closeableHttpClientProvider, final RequestExecutorSettings requestExecutorSettings
+    ) throws IOException {
+        this(resultExtractor, closeableHttpClientProvider, closeableHttpClientProvider, requestExecutorSettings);
+    }
+
+    /**
+     * Create executor with a connection pool per {@link ConnectionLane}, so transfers of files cannot starve the calls of the API.
+     *
+     * @param closeableHttpClientProvider     provider of the client of the {@link ConnectionLane#CONTROL} lane
+     * @param dataCloseableHttpClientProvider provider of the client of the {@link ConnectionLane#DATA} lane, the same provider for a single pool
+     */
+    public AbstractRequestExecutor(
+        final ResultExtractor resultExtractor, final P closeableHttpClientProvider, final P dataCloseableHttpClientProvider,
+        final RequestExecutorSettings requestExecutorSettings
     ) throws IOException {
         this.resultExtractor = resultExtractor;
         this.closeableHttpClient = closeableHttpClientProvider.provide();
+        this.closeableHttpClientProvider = closeableHttpClientProvider;
+        this.dataCloseableHttpClient = dataCloseableHttpClientProvider == closeableHttpClientProvider ? closeableHttpClient : dataCloseableHttpClientProvider.provide();
+        this.dataCloseableHttpClientProvider = dataCloseableHttpClientProvider;
+        this.retryPolicy = requestExecutorSettings.getRetryPolicy();
+        this.retryListener = requestExecutorSettings.getRetryListener();
+        this.resultListener = requestExecutorSettings.getResultListener();
+        this.rateLimiter = requestExecutorSettings.getRateLimiter();
+        this.concurrencyLimiter = requestExecutorSettings.getConcurrencyLimiter();
+        this.circuitBreaker = requestExecutorSettings.getCircuitBreaker();
+    }
+
+    /**
+     * Get live statistics of the connection pool used by this executor for the calls of the API.
+     *
+     * @return {@link PoolStats} with leased, pending and available connections
+     */
+    public PoolStats getPoolStats() {
+        return getPoolStats(ConnectionLane.CONTROL);
+    }
+
+    /**
+     * Get live statistics of the connection pool of a lane. Without a separate data lane, both lanes report the same pool.
+     *
+     * @param connectionLane {@link ConnectionLane}
+     * @return {@link PoolStats} with leased, pending and available connections
+     */
+    public PoolStats getPoolStats(final ConnectionLane connectionLane) {
+        return connectionLane == ConnectionLane.DATA ? dataCloseableHttpClientProvider.getPoolStats() : closeableHttpClientProvider.getPoolStats();
+    }
+
+    /**
+     * @return client of the connection pool of the lane
+     */
+    public C getCloseableHttpClient(final ConnectionLane connectionLane) {
+        return connectionLane == ConnectionLane.DATA ? dataCloseableHttpClient : closeableHttpClient;
+    }
+
+    /**
+     * Ask the retry policy about a finished attempt and notify the retry listener.
+     *
+     * @return delay before the next attempt, or null if the request is not retried
+     */
+    @Nullable
+    protected Duration onAttempt(
+        final HttpRequest httpRequest, final int attempt, final long startNanos, @Nullable final HttpResponse httpResponse, @Nullable final Exception exception
+    ) {
+        @Nullable final Duration retryDelay = retryPolicy.getRetryDelay(httpRequest, attempt, httpResponse, exception);
+
+        try {
+            retryListener.onAttempt(RetryAttempt.builder().httpRequest(httpRequest).attempt(attempt)
+                .status(httpResponse == null ? null : httpResponse.getStatusLine().getStatusCode()).exception(exception)
+                .duration(Duration.ofNanos(System.nanoTime() - startNanos)).retryDelay(retryDelay).build());
+        } catch (RuntimeException e) {
+            log.warn("Retry listener failed", e);
+        }
+
+        return retryDelay;
+    }
+
+    /**
+     * Notify the result listener about the outcome of a request, either its result or its failure.
+     */
+    protected void onResult(final HttpRequest httpRequest, @Nullable final Result<?> result, @Nullable final Throwable throwable) {
+        try {
+            if (throwable != null) {
+                resultListener.onFailure(httpRequest, throwable);
+            } else {
+                resultListener.onResult(httpRequest, result);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Result listener failed", e);
+        }
+    }
+
+    /**
+     * Get the {@link ConcurrencyLimiter} the request is subject to. Waits for tasks and jobs bypass it, as they run for as long as the task or job does,
+     * which tells nothing about the load of the server, and would hold permits for as long.
+     *
+     * @return {@link ConcurrencyLimiter}, or null if there is none or the request bypasses it
+     */
+    @Nullable
+    protected ConcurrencyLimiter getConcurrencyLimiter(final HttpRequest httpRequest) {
+        return concurrencyLimiter == null || EndpointGroup.isWait(httpRequest) ? null : concurrencyLimiter;
+    }
+
+    /**
+     * Release the permit of the {@link ConcurrencyLimiter} held by a finished attempt, telling it whether the server kept up.
+     */
+    protected void releasePermit(
+        @Nullable final ConcurrencyLimiter.Permit permit, final long startNanos, @Nullable final HttpResponse httpResponse, @Nullable final Throwable throwable
+    ) {
+        if (permit == null) {
+            return;
+        }
+
+        if (throwable instanceof SocketTimeoutException || throwable instanceof ConnectTimeoutException) {
+            permit.onDropped();
+        } else if (throwable != null || httpResponse == null) {
+            permit.onIgnore();
+        } else if (concurrencyLimiter.getDropStatuses().contains(httpResponse.getStatusLine().getStatusCode())) {
+            permit.onDropped();
+        } else {
+            permit.onSuccess(System.nanoTime() - startNanos);
+        }
     }
 
+    /**
+     * Get the permission of the {@link CircuitBreaker} to send a request.
+     *
+     * @return {@link CircuitBreaker.Permission}, or null if there is no circuit breaker
+     * @throws CircuitBreakerOpenException if the circuit of the endpoint group of the request is open
+     */
+    @Nullable
+    protected CircuitBreaker.Permission acquirePermission(final HttpRequest httpRequest) throws CircuitBreakerOpenException {
+        return circuitBreaker == null ? null : circuitBreaker.acquirePermission(httpRequest);
+    }
+
+    /**
+     * Release the permission of the {@link CircuitBreaker} held by a finished request, recording whether it failed.
+     */
+    protected void releasePermission(
+        @Nullable final CircuitBreaker.Permission permission, final long startNanos, @Nullable final HttpResponse httpResponse, @Nullable final Throwable throwable
+    ) {
+        if (permission == null) {
+            return;
+        }
+
+        final long durationNanos = System.nanoTime() - startNanos;
+        if (throwable instanceof CancellationException || throwable instanceof CircuitBreakerOpenException
+            || throwable instanceof InterruptedIOException && !(throwable instanceof SocketTimeoutException || throwable instanceof ConnectTimeoutException)) {
+            permission.onIgnore();
+        } else if (throwable != null || httpResponse == null) {
+            permission.onFailure(durationNanos);
+        } else if (circuitBreaker.getFailureStatuses().contains(httpResponse.getStatusLine().getStatusCode())) {
+            permission.onFailure(durationNanos);
+        } else {
+            permission.onSuccess(durationNanos);
+        }
+    }
+
+    /**
+     * Execute request without waiting for its result, e.g. to load the next page of a list while the current one is consumed.
+     *
+     * @param httpUriRequest {@link HttpUriRequest}
+     * @param typeReference  {@link TypeReference}
+     * @return {@link CompletableFuture} of the {@link Result}, failed with the {@link IOException} of the request, if any
+     */
+    public abstract <T> CompletableFuture<Result<T>> executeAsync(@NotNull final HttpUriRequest httpUriRequest, @NotNull final TypeReference<T> typeReference);
+
     @Override
     public void close() throws IOException {
-        closeableHttpClient.close();
+        try {
+            closeableHttpClient.close();
+        } finally {
+            if (dataCloseableHttpClient != closeableHttpClient) {
+                dataCloseableHttpClient.close();
+            }
+        }
     }
 }
@@ -2,26 +2,77 @@ package com.docsdk.executor;
 
 import com.docsdk.client.http.AsyncCloseableHttpClientProvider;
 import com.docsdk.dto.result.AsyncResult;
-import com.docsdk.dto.result.FutureAsyncResult;
+import com.docsdk.dto.result.CompletableAsyncResult;
+import com.docsdk.dto.result.Result;
+import com.docsdk.executor.breaker.CircuitBreaker;
+import com.docsdk.executor.breaker.CircuitBreakerOpenException;
+import com.docsdk.executor.consumer.FileAsyncResponseConsumer;
+import com.docsdk.executor.consumer.PublishingAsyncResponseConsumer;
+import com.docsdk.executor.consumer.StreamingAsyncResponseConsumer;
+import com.docsdk.executor.decode.DecodeExecutor;
+import com.docsdk.executor.decode.DecodeRejectedException;
+import com.docsdk.executor.decode.DecodeExecutorStatistics;
+import com.docsdk.executor.limiter.ConcurrencyLimiter;
+import com.docsdk.executor.limiter.RateLimiter;
+import com.docsdk.executor.retry.RetryListener;
+import com.docsdk.executor.retry.RetryPolicy;
 import com.docsdk.extractor.ResultExtractor;
+import com.docsdk.reactive.Publisher;
+import com.docsdk.resource.AbstractResource;
 import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpRequest;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
+import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+@Slf4j
 public class AsyncRequestExecutor extends AbstractRequestExecutor<AsyncCloseableHttpClientProvider, CloseableHttpAsyncClient> {
 
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    /**
+     * Executor the results of {@link #execute(HttpUriRequest, TypeReference)} are extracted on, so the IO reactor threads never parse bodies
+     */
+    private final Executor decodeExecutor;
+
+    /**
+     * {@link DecodeExecutor} created by this executor, and so closed by it, null if the decode executor has been configured
+     */
+    @Nullable
+    private final DecodeExecutor ownedDecodeExecutor;
+
+    @Nullable
+    private final FutureCallback<HttpResponse> httpResponseFutureCallback;
+
     public AsyncRequestExecutor(
         final ResultExtractor resultExtractor,
         final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider
     ) throws IOException {
-        this(resultExtractor, asyncCloseableHttpClientProvider, null);
+        this(resultExtractor, asyncCloseableHttpClientProvider, RequestExecutorSettings.defaults());
     }
 
     public AsyncRequestExecutor(
@@ -29,12 +80,487 @@ public class AsyncRequestExecutor extends AbstractRequestExecutor<AsyncCloseable
         final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider,
         @Nullable final FutureCallback<HttpResponse> httpResponseFutureCallback
     ) throws IOException {
-        super(resultExtractor, asyncCloseableHttpClientProvider);
+        this(resultExtractor, asyncCloseableHttpClientProvider, asyncCloseableHttpClientProvider, RequestExecutorSettings.defaults(), httpResponseFutureCallback);
+    }
+
+    public AsyncRequestExecutor(
+        final ResultExtractor resultExtractor,
+        final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider,
+        final RetryPolicy retryPolicy, final RetryListener retryListener
+    ) throws IOException {
+        this(resultExtractor, asyncCloseableHttpClientProvider, RequestExecutorSettings.builder().retryPolicy(retryPolicy).retryListener(retryListener).build());
     }
 
+    public AsyncRequestExecutor(
+        final ResultExtractor resultExtractor,
+        final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider,
+        final RequestExecutorSettings requestExecutorSettings
+    ) throws IOException {
+        this(resultExtractor, asyncCloseableHttpClientProvider, asyncCloseableHttpClientProvider, requestExecutorSettings);
+    }
+
+    public AsyncRequestExecutor(
+        final ResultExtractor resultExtractor,
+        final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider,
+        final AsyncCloseableHttpClientProvider dataAsyncCloseableHttpClientProvider,
+        final RequestExecutorSettings requestExecutorSettings
+    ) throws IOException {
+        this(resultExtractor, asyncCloseableHttpClientProvider, dataAsyncCloseableHttpClientProvider, requestExecutorSettings, null);
+    }
+
+    /**
+     * @param httpResponseFutureCallback callback notified about the response of every request sent by {@link #execute(HttpUriRequest, TypeReference)},
+     *                                   once its result has been extracted, e.g. to inspect the status and headers, null for none
+     */
+    public AsyncRequestExecutor(
+        final ResultExtractor resultExtractor,
+        final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider,
+        final AsyncCloseableHttpClientProvider dataAsyncCloseableHttpClientProvider,
+        final RequestExecutorSettings requestExecutorSettings,
+        @Nullable final FutureCallback<HttpResponse> httpResponseFutureCallback
+    ) throws IOException {
+        super(resultExtractor, asyncCloseableHttpClientProvider, dataAsyncCloseableHttpClientProvider, requestExecutorSettings);
+
+        this.scheduledExecutorService = createScheduledExecutorService();
+        this.ownedDecodeExecutor = requestExecutorSettings.getDecodeExecutor() == null ? DecodeExecutor.defaults() : null;
+        this.decodeExecutor = ownedDecodeExecutor != null ? ownedDecodeExecutor : requestExecutorSettings.getDecodeExecutor();
+        this.httpResponseFutureCallback = httpResponseFutureCallback;
+    }
+
+    /**
+     * Execute request, retrying it as long as the {@link RetryPolicy} asks to. Retries and permits of the {@link RateLimiter} are scheduled,
+     * and requests over the limit of the {@link ConcurrencyLimiter} are queued, so no thread waits between or before the attempts.
+     * While the {@link CircuitBreaker} is open, an attempt fails fast with {@link CircuitBreakerOpenException}, without being retried.
+     * The result is extracted on the decode executor as soon as the response has arrived, and pushed to the {@link ResultListener}
+     * and to the callbacks of the {@link AsyncResult}.
+     */
     public <T> AsyncResult<T> execute(@NotNull final HttpUriRequest httpUriRequest, @NotNull final TypeReference<T> typeReference) throws IOException {
-        final Future<HttpResponse> httpResponseFuture = getCloseableHttpClient().execute(httpUriRequest, null);
+        final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+        executeAttempt(httpUriRequest, ConnectionLane.of(httpUriRequest, typeReference), 1, httpResponseFuture);
+
+        return CompletableAsyncResult.<T>builder().completableFuture(extract(httpUriRequest, httpResponseFuture, typeReference)).build();
+    }
+
+    @Override
+    public <T> CompletableFuture<Result<T>> executeAsync(@NotNull final HttpUriRequest httpUriRequest, @NotNull final TypeReference<T> typeReference) {
+        try {
+            return execute(httpUriRequest, typeReference).toCompletionStage().toCompletableFuture();
+        } catch (IOException e) {
+            final CompletableFuture<Result<T>> resultFuture = new CompletableFuture<>();
+            resultFuture.completeExceptionally(e);
+            return resultFuture;
+        }
+    }
+
+    /**
+     * Execute request and complete the result as soon as the response head has been received.
+     * The body of a successful response is streamed from the connection, which stays leased until the input stream is read to the end or closed.
+     * The request is attempted once, because the body of a response cannot be discarded in favour of a retry once streaming started.
+     * It is sent through the {@link ConnectionLane#DATA} lane and not subject to the {@link ConcurrencyLimiter},
+     * as the duration of a transfer depends on the size of the file rather than the load of the server.
+     * The {@link ResultListener} and the response callback are notified once the response head has been received, before the body is read.
+     *
+     * @param httpUriRequest {@link HttpUriRequest}
+     * @return {@link AsyncResult}
+     */
+    public AsyncResult<InputStream> stream(@NotNull final HttpUriRequest httpUriRequest) throws IOException {
+        final StreamingAsyncResponseConsumer streamingAsyncResponseConsumer = new StreamingAsyncResponseConsumer();
+        whenRatePermitted(httpUriRequest, streamingAsyncResponseConsumer.getResponseFuture(), () ->
+            whenCircuitPermitted(httpUriRequest, streamingAsyncResponseConsumer.getResponseFuture(), () ->
+                streamingAsyncResponseConsumer.setExchangeFuture(execute(ConnectionLane.DATA, HttpAsyncMethods.create(httpUriRequest), streamingAsyncResponseConsumer))));
+
+        return CompletableAsyncResult.<InputStream>builder().completableFuture(extract(httpUriRequest, streamingAsyncResponseConsumer.getResponseFuture(),
+            AbstractResource.STREAMING_INPUT_STREAM_TYPE_REFERENCE)).build();
+    }
+
+    /**
+     * Execute request and write the body of a successful response straight into the file, without keeping it in memory.
+     * The request is attempted once, sent through the {@link ConnectionLane#DATA} lane and not subject to the {@link ConcurrencyLimiter},
+     * like with {@link #stream(HttpUriRequest)}. The {@link ResultListener} and the response callback are notified once the file has been written.
+     *
+     * @param httpUriRequest {@link HttpUriRequest}
+     * @param path           {@link Path} file the body will be written to
+     * @return {@link AsyncResult}
+     */
+    public AsyncResult<Void> download(@NotNull final HttpUriRequest httpUriRequest, @NotNull final Path path) throws IOException {
+        final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+        whenRatePermitted(httpUriRequest, httpResponseFuture, () ->
+            whenCircuitPermitted(httpUriRequest, httpResponseFuture, () ->
+                relay(execute(ConnectionLane.DATA, HttpAsyncMethods.create(httpUriRequest), new FileAsyncResponseConsumer(path)), httpResponseFuture)));
+
+        return CompletableAsyncResult.<Void>builder().completableFuture(extract(httpUriRequest, httpResponseFuture, AbstractResource.VOID_TYPE_REFERENCE)).build();
+    }
+
+    /**
+     * Publish the body of a successful response as {@link ByteBuffer} chunks, read from the connection as the subscriber signals demand.
+     * Each subscription sends the request, attempted once, through the {@link ConnectionLane#DATA} lane and not subject to the {@link ConcurrencyLimiter},
+     * like with {@link #stream(HttpUriRequest)}. No thread blocks, the chunks are published from the IO reactor.
+     * As no {@link Result} is extracted, neither the {@link ResultListener} nor the response callback is notified, the subscriber is.
+     *
+     * @param httpUriRequest {@link HttpUriRequest}
+     * @return {@link Publisher}
+     */
+    public Publisher<ByteBuffer> publish(@NotNull final HttpUriRequest httpUriRequest) {
+        return subscriber -> {
+            final PublishingAsyncResponseConsumer publishingAsyncResponseConsumer = new PublishingAsyncResponseConsumer(subscriber);
+            subscriber.onSubscribe(publishingAsyncResponseConsumer.getSubscription());
+            if (publishingAsyncResponseConsumer.isCancelled()) {
+                return;
+            }
+
+            final CompletableFuture<HttpResponse> resultFuture = publishingAsyncResponseConsumer.getResultFuture();
+            try {
+                whenRatePermitted(httpUriRequest, resultFuture, () ->
+                    whenCircuitPermitted(httpUriRequest, resultFuture, () ->
+                        publishingAsyncResponseConsumer.setExchangeFuture(execute(ConnectionLane.DATA, HttpAsyncMethods.create(httpUriRequest), publishingAsyncResponseConsumer))));
+            } catch (RuntimeException e) {
+                resultFuture.completeExceptionally(e);
+            }
+        };
+    }
+
+    /**
+     * @return statistics of the decode executor, e.g. to size it, or null if an executor other than a {@link DecodeExecutor} has been configured
+     */
+    @Nullable
+    public DecodeExecutorStatistics getDecodeExecutorStatistics() {
+        return decodeExecutor instanceof DecodeExecutor ? ((DecodeExecutor) decodeExecutor).getStatistics() : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduledExecutorService.shutdownNow();
+        try {
+            super.close();
+        } finally {
+            if (ownedDecodeExecutor != null) {
+                ownedDecodeExecutor.close();
+            }
+        }
+    }
+
+    /**
+     * Extract the result on the decode executor once the response has arrived, and notify the {@link ResultListener} and the response callback, if any.
+     * {@link IOException}s of the extraction are propagated wrapped in {@link UncheckedIOException}, like by {@link AsyncResult#toCompletionStage()}.
+     * Cancelling the result future cancels the request.
+     */
+    private <T> CompletableFuture<Result<T>> extract(
+        final HttpRequest httpRequest, final CompletableFuture<HttpResponse> httpResponseFuture, final TypeReference<T> typeReference
+    ) {
+        final CompletableFuture<Result<T>> resultFuture = new CompletableFuture<>();
+        cancelOnCancellation(resultFuture, httpResponseFuture);
+
+        httpResponseFuture.whenComplete((httpResponse, throwable) -> {
+            if (throwable != null) {
+                onResult(httpRequest, httpResponse, null, throwable);
+                resultFuture.completeExceptionally(throwable);
+                return;
+            }
+
+            try {
+                decodeExecutor.execute(() -> {
+                    Result<T> result = null;
+                    Throwable extractionThrowable = null;
+                    try {
+                        result = getResultExtractor().extract(httpResponse, typeReference);
+                    } catch (Throwable t) {
+                        extractionThrowable = t;
+                        release(httpResponse);
+                    }
+
+                    // Complete even if the listener or the callback throws an error, so no caller waits forever
+                    try {
+                        onResult(httpRequest, httpResponse, result, extractionThrowable);
+                    } finally {
+                        if (extractionThrowable instanceof IOException) {
+                            resultFuture.completeExceptionally(new UncheckedIOException((IOException) extractionThrowable));
+                        } else if (extractionThrowable != null) {
+                            resultFuture.completeExceptionally(extractionThrowable);
+                        } else {
+                            resultFuture.complete(result);
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                release(httpResponse);
+                final IOException ioException = new DecodeRejectedException(e.getMessage(), e);
+                try {
+                    onResult(httpRequest, httpResponse, null, ioException);
+                } finally {
+                    resultFuture.completeExceptionally(new UncheckedIOException(ioException));
+                }
+            }
+        });
+        return resultFuture;
+    }
+
+    /**
+     * Close the body of a response, which will not be extracted, so a streamed one releases its connection
+     */
+    private static void release(final HttpResponse httpResponse) {
+        if (httpResponse.getEntity() == null) {
+            return;
+        }
+
+        try {
+            httpResponse.getEntity().getContent().close();
+        } catch (IOException | RuntimeException e) {
+            log.debug("Releasing response failed", e);
+        }
+    }
+
+    private void onResult(final HttpRequest httpRequest, @Nullable final HttpResponse httpResponse, @Nullable final Result<?> result, @Nullable final Throwable throwable) {
+        onResult(httpRequest, result, throwable);
+        if (httpResponseFutureCallback == null) {
+            return;
+        }
+
+        try {
+            if (throwable instanceof CancellationException) {
+                httpResponseFutureCallback.cancelled();
+            } else if (throwable != null) {
+                httpResponseFutureCallback.failed(throwable instanceof Exception ? (Exception) throwable : new ExecutionException(throwable));
+            } else {
+                httpResponseFutureCallback.completed(httpResponse);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Response callback failed", e);
+        }
+    }
+
+    /**
+     * Execute an attempt of the request and complete the future with its outcome, unless the {@link RetryPolicy} asks to retry it.
+     */
+    private void executeAttempt(
+        final HttpUriRequest httpUriRequest, final ConnectionLane connectionLane, final int attempt, final CompletableFuture<HttpResponse> httpResponseFuture
+    ) {
+        if (httpResponseFuture.isDone()) {
+            // Cancelled while waiting to retry
+            return;
+        }
+
+        whenRatePermitted(httpUriRequest, httpResponseFuture, () ->
+            whenConcurrencyPermitted(httpUriRequest, httpResponseFuture, permit -> startAttempt(httpUriRequest, connectionLane, attempt, httpResponseFuture, permit)));
+    }
+
+    private void startAttempt(
+        final HttpUriRequest httpUriRequest, final ConnectionLane connectionLane, final int attempt,
+        final CompletableFuture<HttpResponse> httpResponseFuture, @Nullable final ConcurrencyLimiter.Permit permit
+    ) {
+        final long startNanos = System.nanoTime();
+        @Nullable final CircuitBreaker.Permission permission;
+        try {
+            permission = acquirePermission(httpUriRequest);
+        } catch (CircuitBreakerOpenException e) {
+            releasePermit(permit, startNanos, null, e);
+            httpResponseFuture.completeExceptionally(e);
+            return;
+        }
+
+        final CompletableFuture<HttpResponse> attemptFuture;
+        try {
+            attemptFuture = execute(connectionLane, HttpAsyncMethods.create(httpUriRequest), HttpAsyncMethods.createConsumer());
+        } catch (RuntimeException e) {
+            releasePermit(permit, startNanos, null, e);
+            releasePermission(permission, startNanos, null, e);
+            throw e;
+        }
+        cancelOnCancellation(httpResponseFuture, attemptFuture);
+
+        attemptFuture.whenComplete((httpResponse, throwable) -> {
+            releasePermit(permit, startNanos, httpResponse, throwable);
+            releasePermission(permission, startNanos, httpResponse, throwable);
+            if (throwable instanceof CancellationException) {
+                httpResponseFuture.cancel(false);
+                return;
+            }
+
+            @Nullable final Exception exception = throwable == null ? null : throwable instanceof Exception ? (Exception) throwable : new ExecutionException(throwable);
+            @Nullable final Duration retryDelay = onAttempt(httpUriRequest, attempt, startNanos, httpResponse, exception);
+            if (retryDelay == null) {
+                if (throwable != null) {
+                    httpResponseFuture.completeExceptionally(throwable);
+                } else {
+                    httpResponseFuture.complete(httpResponse);
+                }
+                return;
+            }
+
+            try {
+                scheduledExecutorService.schedule(() -> {
+                    try {
+                        executeAttempt(httpUriRequest, connectionLane, attempt + 1, httpResponseFuture);
+                    } catch (RuntimeException e) {
+                        httpResponseFuture.completeExceptionally(e);
+                    }
+                }, retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // The executor has been closed
+                httpResponseFuture.completeExceptionally(throwable != null ? throwable : e);
+            }
+        });
+    }
+
+    /**
+     * Run the action once the {@link RateLimiter} permits the request. Without rate limiting, or with a permit available right away,
+     * the action runs on the calling thread, otherwise on the scheduler, failing the result future if the action fails.
+     */
+    private void whenRatePermitted(final HttpRequest httpRequest, final CompletableFuture<?> resultFuture, final Runnable action) {
+        @Nullable final RateLimiter rateLimiter = getRateLimiter();
+        if (rateLimiter == null) {
+            action.run();
+            return;
+        }
+
+        final CompletableFuture<Void> permitFuture = rateLimiter.acquireAsync(httpRequest, scheduledExecutorService);
+        if (permitFuture.isDone() && !permitFuture.isCompletedExceptionally()) {
+            action.run();
+            return;
+        }
+
+        cancelOnCancellation(resultFuture, permitFuture);
+        permitFuture.whenComplete((permit, throwable) -> {
+            if (throwable != null) {
+                resultFuture.completeExceptionally(throwable);
+                return;
+            }
+            if (resultFuture.isDone()) {
+                return;
+            }
+
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                resultFuture.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Run the action with a permit of the {@link ConcurrencyLimiter}, which the action has to release. Without a concurrency limit the permit is null,
+     * and with a permit available right away the action runs on the calling thread. Otherwise the action runs once another request releases its permit,
+     * and the result future fails if the request is shed or the action fails.
+     */
+    private void whenConcurrencyPermitted(
+        final HttpRequest httpRequest, final CompletableFuture<?> resultFuture, final Consumer<ConcurrencyLimiter.Permit> action
+    ) {
+        @Nullable final ConcurrencyLimiter concurrencyLimiter = getConcurrencyLimiter(httpRequest);
+        if (concurrencyLimiter == null) {
+            action.accept(null);
+            return;
+        }
+
+        final CompletableFuture<ConcurrencyLimiter.Permit> permitFuture = concurrencyLimiter.acquire();
+        if (permitFuture.isDone() && !permitFuture.isCompletedExceptionally()) {
+            action.accept(permitFuture.join());
+            return;
+        }
+
+        cancelOnCancellation(resultFuture, permitFuture);
+        permitFuture.whenComplete((permit, throwable) -> {
+            if (throwable != null) {
+                resultFuture.completeExceptionally(throwable);
+                return;
+            }
+            if (resultFuture.isDone()) {
+                permit.onIgnore();
+                return;
+            }
+
+            try {
+                action.accept(permit);
+            } catch (RuntimeException e) {
+                resultFuture.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Run the action, which starts the exchange, if the {@link CircuitBreaker} permits the request, and record the outcome once the result future completes.
+     * While the circuit is open, the result future fails with {@link CircuitBreakerOpenException} instead.
+     */
+    private void whenCircuitPermitted(final HttpRequest httpRequest, final CompletableFuture<HttpResponse> resultFuture, final Runnable action) {
+        final long startNanos = System.nanoTime();
+        @Nullable final CircuitBreaker.Permission permission;
+        try {
+            permission = acquirePermission(httpRequest);
+        } catch (CircuitBreakerOpenException e) {
+            resultFuture.completeExceptionally(e);
+            return;
+        }
+
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            releasePermission(permission, startNanos, null, e);
+            throw e;
+        }
+        resultFuture.whenComplete((httpResponse, throwable) -> releasePermission(permission, startNanos, httpResponse, throwable));
+    }
+
+    /**
+     * Complete the target future with the outcome of the source future, cancelling the source if the target is cancelled.
+     */
+    private static <T> void relay(final CompletableFuture<T> source, final CompletableFuture<T> target) {
+        cancelOnCancellation(target, source);
+        source.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                target.completeExceptionally(throwable);
+            } else {
+                target.complete(result);
+            }
+        });
+    }
+
+    private static void cancelOnCancellation(final CompletableFuture<?> future, final Future<?> dependentFuture) {
+        future.whenComplete((result, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                dependentFuture.cancel(false);
+            }
+        });
+    }
+
+    private static ScheduledExecutorService createScheduledExecutorService() {
+        final ScheduledThreadPoolExecutor scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "docsdk-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduledThreadPoolExecutor.setRemoveOnCancelPolicy(true);
+        return scheduledThreadPoolExecutor;
+    }
+
+    /**
+     * Execute request and complete the future from the client callback, so the response can be consumed without blocking any thread.
+     * Cancelling the future aborts the exchange.
+     */
+    private CompletableFuture<HttpResponse> execute(
+        final ConnectionLane connectionLane, final HttpAsyncRequestProducer httpAsyncRequestProducer, final HttpAsyncResponseConsumer<HttpResponse> httpAsyncResponseConsumer
+    ) {
+        final CompletableFuture<HttpResponse> completableFuture = new CompletableFuture<>();
+        final Future<HttpResponse> future = getCloseableHttpClient(connectionLane).execute(httpAsyncRequestProducer, httpAsyncResponseConsumer, new FutureCallback<HttpResponse>() {
+
+            @Override
+            public void completed(final HttpResponse httpResponse) {
+                completableFuture.complete(httpResponse);
+            }
+
+            @Override
+            public void failed(final Exception exception) {
+                completableFuture.completeExceptionally(exception);
+            }
+
+            @Override
+            public void cancelled() {
+                completableFuture.cancel(false);
+            }
+        });
 
-        return FutureAsyncResult.<T>builder().resultExtractor(getResultExtractor()).future(httpResponseFuture).typeReference(typeReference).build();
+        completableFuture.whenComplete((httpResponse, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                future.cancel(true);
+            }
+        });
+        return completableFuture;
     }
 }
@@ -0,0 +1,39 @@
+package com.docsdk.executor;
+
+import com.docsdk.resource.AbstractResource;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.apache.http.HttpRequest;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Connection pool of a request executor, a request is sent through. Transfers of files hold their connection for as long as the transfer takes,
+ * so they get their own pool, which cannot starve the short calls of the API, e.g. showing and waiting for tasks.
+ */
+public enum ConnectionLane {
+
+    /**
+     * Calls of the API with JSON bodies
+     */
+    CONTROL,
+
+    /**
+     * Uploads and downloads of files
+     */
+    DATA;
+
+    /**
+     * Assign request to a lane by its endpoint and the type of its result:
+     * requests outside of the API, i.e. uploads and downloads, and requests whose body is read as a stream go through the data lane.
+     *
+     * @param httpRequest   {@link HttpRequest}
+     * @param typeReference {@link TypeReference} of the result, or null if the body is consumed by the caller
+     * @return {@link ConnectionLane}
+     */
+    public static ConnectionLane of(final HttpRequest httpRequest, @Nullable final TypeReference<?> typeReference) {
+        if (typeReference == null || typeReference == AbstractResource.INPUT_STREAM_TYPE_REFERENCE
+            || typeReference == AbstractResource.STREAMING_INPUT_STREAM_TYPE_REFERENCE) {
+            return DATA;
+        }
+        return EndpointGroup.of(httpRequest) == EndpointGroup.FILE_TRANSFER ? DATA : CONTROL;
+    }
+}
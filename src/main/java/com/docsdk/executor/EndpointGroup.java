@@ -0,0 +1,87 @@
+package com.docsdk.executor;
+
+import com.docsdk.resource.AbstractJobsResource;
+import com.docsdk.resource.AbstractResource;
+import com.docsdk.resource.AbstractTasksResource;
+import com.docsdk.resource.AbstractWebhooksResource;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class of API endpoints, which share the limits of the request executor, e.g. their rate limit.
+ */
+public enum EndpointGroup {
+
+    /**
+     * Showing and waiting for tasks and jobs
+     */
+    POLLING,
+
+    /**
+     * Creating tasks and jobs, including imports and exports
+     */
+    TASK_CREATION,
+
+    /**
+     * Uploading and downloading files, i.e. requests outside of the API
+     */
+    FILE_TRANSFER,
+
+    /**
+     * Everything else, e.g. listing tasks, managing webhooks or showing the user
+     */
+    OTHER;
+
+    /**
+     * Classify request by its method and the path of its URI.
+     *
+     * @param httpRequest {@link HttpRequest}
+     * @return {@link EndpointGroup}
+     */
+    public static EndpointGroup of(final HttpRequest httpRequest) {
+        final URI uri = httpRequest instanceof HttpUriRequest ? ((HttpUriRequest) httpRequest).getURI() : URI.create(httpRequest.getRequestLine().getUri());
+        final List<String> pathSegments = Arrays.asList(uri.getRawPath() == null ? new String[0] : uri.getRawPath().split("/"));
+
+        final int v2 = pathSegments.indexOf(AbstractResource.V2);
+        if (v2 < 0) {
+            return FILE_TRANSFER;
+        }
+
+        final List<String> endpointSegments = pathSegments.subList(v2 + 1, pathSegments.size());
+        final String method = httpRequest.getRequestLine().getMethod();
+        final String resource = endpointSegments.isEmpty() ? "" : endpointSegments.get(0);
+
+        if (HttpGet.METHOD_NAME.equals(method) && endpointSegments.size() >= 2
+            && (AbstractTasksResource.PATH_SEGMENT_TASKS.equals(resource) || AbstractJobsResource.PATH_SEGMENT_JOBS.equals(resource))) {
+            return POLLING;
+        }
+        if (HttpPost.METHOD_NAME.equals(method) && !AbstractWebhooksResource.PATH_SEGMENT_WEBHOOKS.equals(resource)
+            && !endpointSegments.contains(AbstractTasksResource.PATH_SEGMENT_CANCEL)) {
+            return TASK_CREATION;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Whether the request long-polls a task or job, i.e. {@code GET tasks/{id}/wait} or {@code GET jobs/{id}/wait},
+     * which takes as long as the task or job runs, rather than as long as the server takes to answer.
+     *
+     * @param httpRequest {@link HttpRequest}
+     * @return true for the wait endpoints
+     */
+    public static boolean isWait(final HttpRequest httpRequest) {
+        if (of(httpRequest) != POLLING) {
+            return false;
+        }
+
+        final URI uri = httpRequest instanceof HttpUriRequest ? ((HttpUriRequest) httpRequest).getURI() : URI.create(httpRequest.getRequestLine().getUri());
+        final String[] pathSegments = uri.getRawPath().split("/");
+        return AbstractTasksResource.PATH_SEGMENT_WAIT.equals(pathSegments[pathSegments.length - 1]);
+    }
+}
@@ -2,16 +2,38 @@ package com.docsdk.executor;
 
 import com.docsdk.client.http.CloseableHttpClientProvider;
 import com.docsdk.dto.result.Result;
+import com.docsdk.executor.breaker.CircuitBreaker;
+import com.docsdk.executor.breaker.CircuitBreakerOpenException;
+import com.docsdk.executor.limiter.ConcurrencyLimiter;
+import com.docsdk.executor.limiter.RateLimiter;
+import com.docsdk.executor.retry.RetryListener;
+import com.docsdk.executor.retry.RetryPolicy;
 import com.docsdk.extractor.ResultExtractor;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Throwables;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 public class RequestExecutor extends AbstractRequestExecutor<CloseableHttpClientProvider, CloseableHttpClient> {
 
+    /**
+     * Threads executing requests for {@link #executeAsync(HttpUriRequest, TypeReference)}, a virtual one per request where available,
+     * otherwise platform ones created on demand and idle ones stopped after a minute
+     */
+    private final ExecutorService executorService = VirtualThreads.newThreadPerTaskExecutor("docsdk-request-executor");
+
     public RequestExecutor(
         final ResultExtractor resultExtractor,
         final CloseableHttpClientProvider closeableHttpClientProvider
@@ -19,9 +41,159 @@ public class RequestExecutor extends AbstractRequestExecutor<CloseableHttpClient
         super(resultExtractor, closeableHttpClientProvider);
     }
 
+    public RequestExecutor(
+        final ResultExtractor resultExtractor,
+        final CloseableHttpClientProvider closeableHttpClientProvider,
+        final RetryPolicy retryPolicy, final RetryListener retryListener
+    ) throws IOException {
+        super(resultExtractor, closeableHttpClientProvider, retryPolicy, retryListener);
+    }
+
+    public RequestExecutor(
+        final ResultExtractor resultExtractor,
+        final CloseableHttpClientProvider closeableHttpClientProvider,
+        final RequestExecutorSettings requestExecutorSettings
+    ) throws IOException {
+        super(resultExtractor, closeableHttpClientProvider, requestExecutorSettings);
+    }
+
+    public RequestExecutor(
+        final ResultExtractor resultExtractor,
+        final CloseableHttpClientProvider closeableHttpClientProvider,
+        final CloseableHttpClientProvider dataCloseableHttpClientProvider,
+        final RequestExecutorSettings requestExecutorSettings
+    ) throws IOException {
+        super(resultExtractor, closeableHttpClientProvider, dataCloseableHttpClientProvider, requestExecutorSettings);
+    }
+
+    /**
+     * Execute request, retrying it as long as the {@link RetryPolicy} asks to. The calling thread waits between the attempts,
+     * and before every attempt for the permits of the {@link RateLimiter} and the {@link ConcurrencyLimiter}, if any.
+     * While the {@link CircuitBreaker} is open, an attempt fails fast with {@link CircuitBreakerOpenException}, without being retried.
+     * The {@link ResultListener} is notified on the calling thread.
+     */
     public <T> Result<T> execute(
         @NotNull final HttpUriRequest httpUriRequest, @NotNull final TypeReference<T> typeReference
     ) throws IOException {
-        return getResultExtractor().extract(getCloseableHttpClient().execute(httpUriRequest), typeReference);
+        final Result<T> result;
+        try {
+            result = executeAttempts(httpUriRequest, typeReference);
+        } catch (IOException | RuntimeException e) {
+            onResult(httpUriRequest, null, e);
+            throw e;
+        }
+        onResult(httpUriRequest, result, null);
+        return result;
+    }
+
+    private <T> Result<T> executeAttempts(
+        final HttpUriRequest httpUriRequest, final TypeReference<T> typeReference
+    ) throws IOException {
+        final CloseableHttpClient closeableHttpClient = getCloseableHttpClient(ConnectionLane.of(httpUriRequest, typeReference));
+        for (int attempt = 1; ; attempt++) {
+            if (getRateLimiter() != null) {
+                getRateLimiter().acquire(httpUriRequest);
+            }
+            @Nullable final ConcurrencyLimiter.Permit permit = acquirePermit(httpUriRequest);
+            final long startNanos = System.nanoTime();
+
+            @Nullable final CircuitBreaker.Permission permission;
+            try {
+                permission = acquirePermission(httpUriRequest);
+            } catch (CircuitBreakerOpenException e) {
+                releasePermit(permit, startNanos, null, e);
+                throw e;
+            }
+
+            final CloseableHttpResponse closeableHttpResponse;
+            try {
+                closeableHttpResponse = closeableHttpClient.execute(httpUriRequest);
+            } catch (RuntimeException e) {
+                releasePermit(permit, startNanos, null, e);
+                releasePermission(permission, startNanos, null, e);
+                throw e;
+            } catch (IOException e) {
+                releasePermit(permit, startNanos, null, e);
+                releasePermission(permission, startNanos, null, e);
+                @Nullable final Duration retryDelay = onAttempt(httpUriRequest, attempt, startNanos, null, e);
+                if (retryDelay == null) {
+                    throw e;
+                }
+                sleep(retryDelay);
+                continue;
+            }
+
+            releasePermit(permit, startNanos, closeableHttpResponse, null);
+            releasePermission(permission, startNanos, closeableHttpResponse, null);
+            @Nullable final Duration retryDelay = onAttempt(httpUriRequest, attempt, startNanos, closeableHttpResponse, null);
+            if (retryDelay == null) {
+                return getResultExtractor().extract(closeableHttpResponse, typeReference);
+            }
+
+            // Consume the discarded response, so its connection goes back to the pool while waiting
+            EntityUtils.consumeQuietly(closeableHttpResponse.getEntity());
+            closeableHttpResponse.close();
+            sleep(retryDelay);
+        }
+    }
+
+    /**
+     * Execute request on a thread of the executor, as the calling thread would wait for the response.
+     */
+    @Override
+    public <T> CompletableFuture<Result<T>> executeAsync(@NotNull final HttpUriRequest httpUriRequest, @NotNull final TypeReference<T> typeReference) {
+        final CompletableFuture<Result<T>> resultFuture = new CompletableFuture<>();
+        try {
+            executorService.execute(() -> {
+                try {
+                    resultFuture.complete(execute(httpUriRequest, typeReference));
+                } catch (IOException | RuntimeException e) {
+                    resultFuture.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            resultFuture.completeExceptionally(new IOException("Request executor has been closed", e));
+        }
+        return resultFuture;
+    }
+
+    @Override
+    public void close() throws IOException {
+        executorService.shutdownNow();
+        super.close();
+    }
+
+    /**
+     * Wait for a permit of the {@link ConcurrencyLimiter}, if any, blocking the calling thread.
+     */
+    @Nullable
+    private ConcurrencyLimiter.Permit acquirePermit(final HttpUriRequest httpUriRequest) throws IOException {
+        @Nullable final ConcurrencyLimiter concurrencyLimiter = getConcurrencyLimiter(httpUriRequest);
+        if (concurrencyLimiter == null) {
+            return null;
+        }
+
+        final CompletableFuture<ConcurrencyLimiter.Permit> permitFuture = concurrencyLimiter.acquire();
+        try {
+            return permitFuture.get();
+        } catch (InterruptedException e) {
+            if (!permitFuture.cancel(false)) {
+                permitFuture.join().onIgnore();
+            }
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the concurrency limit");
+        } catch (ExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static void sleep(final Duration duration) throws InterruptedIOException {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry the request");
+        }
     }
 }
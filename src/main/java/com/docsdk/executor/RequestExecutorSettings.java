@@ -0,0 +1,69 @@
+package com.docsdk.executor;
+
+import com.docsdk.executor.breaker.CircuitBreaker;
+import com.docsdk.executor.limiter.ConcurrencyLimiter;
+import com.docsdk.executor.limiter.RateLimiter;
+import com.docsdk.executor.retry.ExponentialBackoffRetryPolicy;
+import com.docsdk.executor.retry.RetryListener;
+import com.docsdk.executor.retry.RetryPolicy;
+import lombok.Builder;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Settings of a request executor, i.e. what happens around the exchange of a request with the server.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RequestExecutorSettings {
+
+    /**
+     * Policy deciding whether and when a failed attempt is retried
+     */
+    @Builder.Default
+    private final RetryPolicy retryPolicy = ExponentialBackoffRetryPolicy.defaults();
+
+    /**
+     * Listener notified about every attempt
+     */
+    @Builder.Default
+    private final RetryListener retryListener = RetryListener.NONE;
+
+    /**
+     * Rate limiter every attempt waits for, null for no client-side rate limiting
+     */
+    @Nullable
+    private final RateLimiter rateLimiter;
+
+    /**
+     * Adaptive limit of the requests in flight, null for no limit other than the connection pool
+     */
+    @Nullable
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * Circuit breaker failing requests fast while the server is failing, null to always send requests
+     */
+    @Nullable
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Listener notified about the result of every request
+     */
+    @Builder.Default
+    private final ResultListener resultListener = ResultListener.NONE;
+
+    /**
+     * Executor the asynchronous executor extracts results on as soon as the responses arrive, so the IO reactor threads never parse bodies,
+     * e.g. a {@link com.docsdk.executor.decode.DecodeExecutor} shared by several executors, null for a {@link com.docsdk.executor.decode.DecodeExecutor}
+     * with default settings owned by the executor. The synchronous executor extracts results on the thread sending the request.
+     */
+    @Nullable
+    private final Executor decodeExecutor;
+
+    public static RequestExecutorSettings defaults() {
+        return RequestExecutorSettings.builder().build();
+    }
+}
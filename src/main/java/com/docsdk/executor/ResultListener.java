@@ -0,0 +1,31 @@
+package com.docsdk.executor;
+
+import com.docsdk.dto.result.Result;
+import org.apache.http.HttpRequest;
+
+/**
+ * Notified by a request executor about the outcome of every request, once its result has been extracted, e.g. to log or collect metrics for all requests of a client.
+ * Called from the thread, which extracted the result, so implementations must be thread-safe and must not block.
+ * <p>
+ * Streamed and downloaded responses are notified too, a streamed one once its head has been received, with the body of the result not to be read by the listener.
+ * Published responses are not, as their body goes to the subscriber without a result being extracted.
+ */
+public interface ResultListener {
+
+    ResultListener NONE = new ResultListener() {
+    };
+
+    /**
+     * @param httpRequest {@link HttpRequest}
+     * @param result      {@link Result} extracted from the response, including the unsuccessful ones
+     */
+    default void onResult(final HttpRequest httpRequest, final Result<?> result) {
+    }
+
+    /**
+     * @param httpRequest {@link HttpRequest}
+     * @param throwable   failure of the request, e.g. an {@link java.io.IOException} of the exchange or of the extraction
+     */
+    default void onFailure(final HttpRequest httpRequest, final Throwable throwable) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.docsdk.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Virtual threads, when running on JDK 21 or later, looked up reflectively as the SDK is built for Java 8.
+ * On older JDKs, the factories fall back to daemon platform threads.
+ */
+@Slf4j
+public final class VirtualThreads {
+
+    @Nullable
+    private static final Method THREAD_OF_VIRTUAL = getMethod(Thread.class, "ofVirtual");
+    @Nullable
+    private static final Method BUILDER_NAME = getMethod("java.lang.Thread$Builder", "name", String.class, long.class);
+    @Nullable
+    private static final Method BUILDER_FACTORY = getMethod("java.lang.Thread$Builder", "factory");
+    @Nullable
+    private static final Method EXECUTORS_NEW_THREAD_PER_TASK_EXECUTOR = getMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return whether the JDK supports virtual threads
+     */
+    public static boolean isAvailable() {
+        return THREAD_OF_VIRTUAL != null && BUILDER_NAME != null && BUILDER_FACTORY != null && EXECUTORS_NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * @param namePrefix prefix of the thread names, followed by a counter
+     * @return {@link ThreadFactory} of virtual threads if available, otherwise of daemon platform threads
+     */
+    public static ThreadFactory threadFactory(final String namePrefix) {
+        if (isAvailable()) {
+            try {
+                final Object builder = BUILDER_NAME.invoke(THREAD_OF_VIRTUAL.invoke(null), namePrefix + "-", 0L);
+                return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                log.warn("Creating virtual threads failed, falling back to platform threads", e);
+            }
+        }
+
+        final AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, namePrefix + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Create an executor starting a thread per task: a virtual one if available, so blocking tasks are cheap to run by the thousands,
+     * otherwise a platform one, idle ones being reused and stopped after a minute.
+     *
+     * @param namePrefix prefix of the thread names
+     * @return {@link ExecutorService}
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final String namePrefix) {
+        return newThreadPerTaskExecutor(namePrefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create an executor starting a thread per task: a virtual one if available, otherwise a platform one, of which at most the given number
+     * run at once, further tasks being queued, and idle ones being stopped after a minute.
+     *
+     * @param namePrefix         prefix of the thread names
+     * @param maxPlatformThreads maximum number of platform threads, {@link Integer#MAX_VALUE} for no limit
+     * @return {@link ExecutorService}
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final String namePrefix, final int maxPlatformThreads) {
+        final ThreadFactory threadFactory = threadFactory(namePrefix);
+        if (isAvailable()) {
+            try {
+                return (ExecutorService) EXECUTORS_NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                log.warn("Creating virtual thread executor failed, falling back to platform threads", e);
+            }
+        }
+        if (maxPlatformThreads == Integer.MAX_VALUE) {
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+
+        final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(maxPlatformThreads, maxPlatformThreads, 1, TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(), threadFactory);
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return threadPoolExecutor;
+    }
+
+    @Nullable
+    private static Method getMethod(final String className, final String name, final Class<?>... parameterTypes) {
+        try {
+            return getMethod(Class.forName(className), name, parameterTypes);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Method getMethod(final Class<?> type, final String name, final Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.docsdk.executor.breaker;
+
+import com.docsdk.executor.EndpointGroup;
+import com.google.common.collect.ImmutableSet;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker with a circuit per {@link EndpointGroup}, so e.g. failing file transfers do not stop the polling of tasks.
+ * <p>
+ * A closed circuit records the outcomes of the last {@link #getSlidingWindowSize()} requests. Once at least {@link #getMinimumNumberOfCalls()}
+ * have been recorded, the circuit opens if the share of failures reaches {@link #getFailureRateThreshold()}, or the share of requests slower than
+ * {@link #getSlowCallDuration()} reaches {@link #getSlowCallRateThreshold()}. A failure is an exception or a response with one of
+ * {@link #getFailureStatuses()}. Waits for tasks and jobs never count as slow, as they last as long as the task or job does.
+ * An open circuit fails requests fast with {@link CircuitBreakerOpenException} for {@link #getWaitDurationInOpenState()}, then lets {@link #getPermittedCallsInHalfOpenState()} trial requests pass, whose outcomes close the circuit again or open it once more.
+ * <p>
+ * Every state transition is reported to the {@link CircuitBreakerListener}.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 1.0;
+    public static final Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(60);
+    public static final int DEFAULT_SLIDING_WINDOW_SIZE = 20;
+    public static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 10;
+    public static final Duration DEFAULT_WAIT_DURATION_IN_OPEN_STATE = Duration.ofSeconds(30);
+    public static final int DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE = 3;
+    public static final Set<Integer> DEFAULT_FAILURE_STATUSES = ImmutableSet.of(HttpStatus.SC_INTERNAL_SERVER_ERROR,
+        HttpStatus.SC_BAD_GATEWAY, HttpStatus.SC_SERVICE_UNAVAILABLE, HttpStatus.SC_GATEWAY_TIMEOUT);
+
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    /**
+     * Share of failed requests, from which the circuit opens
+     */
+    @Getter
+    private final double failureRateThreshold;
+
+    /**
+     * Share of slow requests, from which the circuit opens, 1 by default, i.e. only if all requests are slow
+     */
+    @Getter
+    private final double slowCallRateThreshold;
+
+    /**
+     * Duration, from which a request counts as slow
+     */
+    @Getter
+    private final Duration slowCallDuration;
+
+    /**
+     * Number of the last requests, whose outcomes are recorded
+     */
+    @Getter
+    private final int slidingWindowSize;
+
+    /**
+     * Number of outcomes needed, before the circuit may open
+     */
+    @Getter
+    private final int minimumNumberOfCalls;
+
+    /**
+     * Duration, for which an open circuit fails requests fast
+     */
+    @Getter
+    private final Duration waitDurationInOpenState;
+
+    /**
+     * Number of trial requests of a half-open circuit
+     */
+    @Getter
+    private final int permittedCallsInHalfOpenState;
+
+    /**
+     * Response statuses, which count as failures
+     */
+    @Getter
+    private final Set<Integer> failureStatuses;
+
+    private final CircuitBreakerListener circuitBreakerListener;
+
+    private final Map<EndpointGroup, Circuit> circuits;
+
+    @Builder
+    private CircuitBreaker(
+        final double failureRateThreshold, final double slowCallRateThreshold, final Duration slowCallDuration, final int slidingWindowSize,
+        final int minimumNumberOfCalls, final Duration waitDurationInOpenState, final int permittedCallsInHalfOpenState,
+        final Set<Integer> failureStatuses, final CircuitBreakerListener circuitBreakerListener
+    ) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1 || slowCallRateThreshold <= 0 || slowCallRateThreshold > 1 || slidingWindowSize < 1
+            || minimumNumberOfCalls < 1 || minimumNumberOfCalls > slidingWindowSize
+            || permittedCallsInHalfOpenState < 1 || permittedCallsInHalfOpenState > slidingWindowSize) {
+            throw new IllegalArgumentException("Invalid circuit breaker settings");
+        }
+
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDuration = slowCallDuration;
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        this.waitDurationInOpenState = waitDurationInOpenState;
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        this.failureStatuses = failureStatuses;
+        this.circuitBreakerListener = circuitBreakerListener;
+
+        final Map<EndpointGroup, Circuit> circuits = new EnumMap<>(EndpointGroup.class);
+        for (final EndpointGroup endpointGroup : EndpointGroup.values()) {
+            circuits.put(endpointGroup, new Circuit(endpointGroup));
+        }
+        this.circuits = Collections.unmodifiableMap(circuits);
+    }
+
+    public static CircuitBreaker defaults() {
+        return CircuitBreaker.builder().build();
+    }
+
+    /**
+     * Get the permission to send a request. The permission must be released with exactly one of {@link Permission#onSuccess(long)},
+     * {@link Permission#onFailure(long)} or {@link Permission#onIgnore()}.
+     *
+     * @param httpRequest {@link HttpRequest}
+     * @return {@link Permission}
+     * @throws CircuitBreakerOpenException if the circuit of the endpoint group of the request is open
+     */
+    public Permission acquirePermission(final HttpRequest httpRequest) throws CircuitBreakerOpenException {
+        return circuits.get(EndpointGroup.of(httpRequest)).acquirePermission(!EndpointGroup.isWait(httpRequest));
+    }
+
+    public CircuitBreakerState getState(final EndpointGroup endpointGroup) {
+        return circuits.get(endpointGroup).getState();
+    }
+
+    /**
+     * @return number of requests of the endpoint group, which failed fast, because its circuit was open
+     */
+    public long getNotPermittedCalls(final EndpointGroup endpointGroup) {
+        return circuits.get(endpointGroup).notPermittedCalls.sum();
+    }
+
+    private void notify(@Nullable final CircuitBreakerTransition circuitBreakerTransition) {
+        if (circuitBreakerTransition == null) {
+            return;
+        }
+
+        try {
+            circuitBreakerListener.onStateTransition(circuitBreakerTransition);
+        } catch (RuntimeException e) {
+            log.warn("Circuit breaker listener failed", e);
+        }
+    }
+
+    public static class CircuitBreakerBuilder {
+
+        private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+        private double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+        private Duration slowCallDuration = DEFAULT_SLOW_CALL_DURATION;
+        private int slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+        private int minimumNumberOfCalls = DEFAULT_MINIMUM_NUMBER_OF_CALLS;
+        private Duration waitDurationInOpenState = DEFAULT_WAIT_DURATION_IN_OPEN_STATE;
+        private int permittedCallsInHalfOpenState = DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE;
+        private Set<Integer> failureStatuses = DEFAULT_FAILURE_STATUSES;
+        private CircuitBreakerListener circuitBreakerListener = CircuitBreakerListener.NONE;
+    }
+
+    /**
+     * Circuit of an endpoint group, with a ring buffer of the recorded outcomes
+     */
+    private class Circuit {
+
+        private final EndpointGroup endpointGroup;
+        private final byte[] outcomes = new byte[slidingWindowSize];
+        private final LongAdder notPermittedCalls = new LongAdder();
+
+        private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+        private int generation;
+        private long openedAtNanos;
+        private int halfOpenPermits;
+
+        private int index;
+        private int calls;
+        private int failures;
+        private int slowCalls;
+
+        private Circuit(final EndpointGroup endpointGroup) {
+            this.endpointGroup = endpointGroup;
+        }
+
+        private Permission acquirePermission(final boolean slowCallCounted) throws CircuitBreakerOpenException {
+            @Nullable CircuitBreakerTransition circuitBreakerTransition = null;
+            final Permission permission;
+            synchronized (this) {
+                if (state == CircuitBreakerState.OPEN && System.nanoTime() - openedAtNanos >= waitDurationInOpenState.toNanos()) {
+                    circuitBreakerTransition = transition(CircuitBreakerState.HALF_OPEN);
+                    halfOpenPermits = permittedCallsInHalfOpenState;
+                }
+
+                if (state == CircuitBreakerState.OPEN || state == CircuitBreakerState.HALF_OPEN && halfOpenPermits == 0) {
+                    permission = null;
+                } else {
+                    if (state == CircuitBreakerState.HALF_OPEN) {
+                        halfOpenPermits--;
+                    }
+                    permission = new Permission(this, generation, slowCallCounted);
+                }
+            }
+            CircuitBreaker.this.notify(circuitBreakerTransition);
+
+            if (permission == null) {
+                notPermittedCalls.increment();
+                throw new CircuitBreakerOpenException(endpointGroup);
+            }
+            return permission;
+        }
+
+        private void record(final int generation, final long durationNanos, final boolean failure, final boolean slowCallCounted) {
+            @Nullable CircuitBreakerTransition circuitBreakerTransition = null;
+            synchronized (this) {
+                if (generation != this.generation) {
+                    // Started before the last transition
+                    return;
+                }
+
+                final byte outcome = (byte) ((failure ? FAILURE : 0) | (slowCallCounted && durationNanos >= slowCallDuration.toNanos() ? SLOW : 0));
+                if (calls == outcomes.length) {
+                    remove(outcomes[index]);
+                } else {
+                    calls++;
+                }
+                outcomes[index] = outcome;
+                index = (index + 1) % outcomes.length;
+                failures += outcome & FAILURE;
+                slowCalls += (outcome & SLOW) >> 1;
+
+                final boolean exceeded = getFailureRate() >= failureRateThreshold || getSlowCallRate() >= slowCallRateThreshold;
+                if (state == CircuitBreakerState.CLOSED && calls >= minimumNumberOfCalls && exceeded) {
+                    circuitBreakerTransition = transition(CircuitBreakerState.OPEN);
+                } else if (state == CircuitBreakerState.HALF_OPEN && calls >= permittedCallsInHalfOpenState) {
+                    circuitBreakerTransition = transition(exceeded ? CircuitBreakerState.OPEN : CircuitBreakerState.CLOSED);
+                }
+            }
+            CircuitBreaker.this.notify(circuitBreakerTransition);
+        }
+
+        private synchronized void ignore(final int generation) {
+            if (generation == this.generation && state == CircuitBreakerState.HALF_OPEN) {
+                halfOpenPermits++;
+            }
+        }
+
+        private synchronized CircuitBreakerState getState() {
+            return state;
+        }
+
+        private void remove(final byte outcome) {
+            failures -= outcome & FAILURE;
+            slowCalls -= (outcome & SLOW) >> 1;
+        }
+
+        private double getFailureRate() {
+            return calls == 0 ? 0 : (double) failures / calls;
+        }
+
+        private double getSlowCallRate() {
+            return calls == 0 ? 0 : (double) slowCalls / calls;
+        }
+
+        /**
+         * Change the state and start a new window, must be called while holding the lock
+         */
+        private CircuitBreakerTransition transition(final CircuitBreakerState toState) {
+            final CircuitBreakerTransition circuitBreakerTransition = CircuitBreakerTransition.builder().endpointGroup(endpointGroup)
+                .fromState(state).toState(toState).failureRate(getFailureRate()).slowCallRate(getSlowCallRate()).build();
+
+            state = toState;
+            generation++;
+            openedAtNanos = System.nanoTime();
+            index = 0;
+            calls = 0;
+            failures = 0;
+            slowCalls = 0;
+            return circuitBreakerTransition;
+        }
+    }
+
+    /**
+     * Permission to send a request through a circuit
+     */
+    public static class Permission {
+
+        private final Circuit circuit;
+        private final int generation;
+        private final boolean slowCallCounted;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permission(final Circuit circuit, final int generation, final boolean slowCallCounted) {
+            this.circuit = circuit;
+            this.generation = generation;
+            this.slowCallCounted = slowCallCounted;
+        }
+
+        /**
+         * Release the permission of a request, which got a response.
+         *
+         * @param durationNanos duration of the request
+         */
+        public void onSuccess(final long durationNanos) {
+            if (released.compareAndSet(false, true)) {
+                circuit.record(generation, durationNanos, false, slowCallCounted);
+            }
+        }
+
+        /**
+         * Release the permission of a request, which failed with an exception or got a response with one of the failure statuses.
+         *
+         * @param durationNanos duration of the request
+         */
+        public void onFailure(final long durationNanos) {
+            if (released.compareAndSet(false, true)) {
+                circuit.record(generation, durationNanos, true, slowCallCounted);
+            }
+        }
+
+        /**
+         * Release the permission of a request, which tells nothing about the health of the server, e.g. because it has been cancelled.
+         */
+        public void onIgnore() {
+            if (released.compareAndSet(false, true)) {
+                circuit.ignore(generation);
+            }
+        }
+    }
+}
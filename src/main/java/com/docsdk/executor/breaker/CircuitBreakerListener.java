@@ -0,0 +1,14 @@
+package com.docsdk.executor.breaker;
+
+/**
+ * Listener notified about every state transition of a {@link CircuitBreaker}, e.g. to log or alert on open circuits.
+ * It is called on the thread, which recorded the outcome causing the transition, so it should return quickly.
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+
+    CircuitBreakerListener NONE = circuitBreakerTransition -> {
+    };
+
+    void onStateTransition(final CircuitBreakerTransition circuitBreakerTransition);
+}
@@ -0,0 +1,49 @@
+package com.docsdk.executor.breaker;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link CircuitBreakerListener}, which counts state transitions, e.g. to watch how often the circuits open.
+ */
+public class CircuitBreakerMetrics implements CircuitBreakerListener {
+
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder halfOpened = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+
+    @Override
+    public void onStateTransition(final CircuitBreakerTransition circuitBreakerTransition) {
+        switch (circuitBreakerTransition.getToState()) {
+            case OPEN:
+                opened.increment();
+                break;
+            case HALF_OPEN:
+                halfOpened.increment();
+                break;
+            case CLOSED:
+                closed.increment();
+                break;
+        }
+    }
+
+    /**
+     * @return number of transitions to {@link CircuitBreakerState#OPEN}
+     */
+    public long getOpened() {
+        return opened.sum();
+    }
+
+    /**
+     * @return number of transitions to {@link CircuitBreakerState#HALF_OPEN}
+     */
+    public long getHalfOpened() {
+        return halfOpened.sum();
+    }
+
+    /**
+     * @return number of transitions back to {@link CircuitBreakerState#CLOSED}
+     */
+    public long getClosed() {
+        return closed.sum();
+    }
+}
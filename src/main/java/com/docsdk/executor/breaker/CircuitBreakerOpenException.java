@@ -0,0 +1,21 @@
+package com.docsdk.executor.breaker;
+
+import com.docsdk.executor.EndpointGroup;
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of sending a request, while the circuit of its endpoint group is open.
+ */
+@Getter
+public class CircuitBreakerOpenException extends IOException {
+
+    private final EndpointGroup endpointGroup;
+
+    public CircuitBreakerOpenException(final EndpointGroup endpointGroup) {
+        super("Circuit breaker of " + endpointGroup + " endpoints is open");
+
+        this.endpointGroup = endpointGroup;
+    }
+}
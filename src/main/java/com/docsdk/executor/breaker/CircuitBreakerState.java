@@ -0,0 +1,19 @@
+package com.docsdk.executor.breaker;
+
+public enum CircuitBreakerState {
+
+    /**
+     * Requests pass, their outcomes are recorded
+     */
+    CLOSED,
+
+    /**
+     * Requests fail fast with {@link CircuitBreakerOpenException}, until the wait duration has elapsed
+     */
+    OPEN,
+
+    /**
+     * A few trial requests pass, their outcomes decide whether the circuit closes or opens again
+     */
+    HALF_OPEN
+}
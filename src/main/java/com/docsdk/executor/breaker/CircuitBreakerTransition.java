@@ -0,0 +1,31 @@
+package com.docsdk.executor.breaker;
+
+import com.docsdk.executor.EndpointGroup;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Change of the state of the circuit of an endpoint group
+ */
+@Getter
+@Builder
+@ToString
+public class CircuitBreakerTransition {
+
+    private final EndpointGroup endpointGroup;
+
+    private final CircuitBreakerState fromState;
+
+    private final CircuitBreakerState toState;
+
+    /**
+     * Share of failed requests in the window, which led to the transition
+     */
+    private final double failureRate;
+
+    /**
+     * Share of slow requests in the window, which led to the transition
+     */
+    private final double slowCallRate;
+}
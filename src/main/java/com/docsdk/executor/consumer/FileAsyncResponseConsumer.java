@@ -0,0 +1,110 @@
+package com.docsdk.executor.consumer;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.FileContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.ContentBufferEntity;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.nio.util.HeapByteBufferAllocator;
+import org.apache.http.nio.util.SimpleInputBuffer;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Response consumer, which writes a successful response body straight into a file, chunk by chunk, as it arrives from the socket.
+ * <p>
+ * Bodies with a known content length are transferred from the socket into the file channel by the operating system ({@link FileContentDecoder}),
+ * without being copied through the heap. Chunked bodies are decoded through a small reusable buffer.
+ * <p>
+ * Bodies of unsuccessful responses are small error messages, so they are buffered in memory as usual, in order to be processed as such.
+ */
+public class FileAsyncResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final ByteBuffer byteBuffer;
+
+    private HttpResponse httpResponse;
+    private FileChannel fileChannel;
+    private SimpleInputBuffer simpleInputBuffer;
+    private long position;
+
+    public FileAsyncResponseConsumer(final Path path) {
+        this(path, DEFAULT_BUFFER_SIZE);
+    }
+
+    public FileAsyncResponseConsumer(final Path path, final int bufferSize) {
+        this.path = path;
+        this.byteBuffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    @Override
+    protected void onResponseReceived(final HttpResponse httpResponse) {
+        this.httpResponse = httpResponse;
+    }
+
+    @Override
+    protected void onEntityEnclosed(final HttpEntity httpEntity, final ContentType contentType) throws IOException {
+        final int status = httpResponse.getStatusLine().getStatusCode();
+
+        if (status >= 200 && status <= 299) {
+            fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            httpResponse.setEntity(null);
+        } else {
+            simpleInputBuffer = new SimpleInputBuffer(4096, HeapByteBufferAllocator.INSTANCE);
+            httpResponse.setEntity(new ContentBufferEntity(httpEntity, simpleInputBuffer));
+        }
+    }
+
+    @Override
+    protected void onContentReceived(final ContentDecoder contentDecoder, final IOControl ioControl) throws IOException {
+        if (fileChannel == null) {
+            simpleInputBuffer.consumeContent(contentDecoder);
+            return;
+        }
+
+        if (contentDecoder instanceof FileContentDecoder) {
+            final long transferred = ((FileContentDecoder) contentDecoder).transfer(fileChannel, position, Integer.MAX_VALUE);
+            if (transferred > 0) {
+                position += transferred;
+            }
+            return;
+        }
+
+        while (contentDecoder.read(byteBuffer) > 0) {
+            byteBuffer.flip();
+            while (byteBuffer.hasRemaining()) {
+                fileChannel.write(byteBuffer);
+            }
+            byteBuffer.clear();
+        }
+    }
+
+    @Override
+    protected HttpResponse buildResult(final HttpContext httpContext) throws IOException {
+        if (fileChannel != null) {
+            fileChannel.close();
+        }
+        return httpResponse;
+    }
+
+    @Override
+    protected void releaseResources() {
+        if (fileChannel != null && fileChannel.isOpen()) {
+            try {
+                fileChannel.close();
+            } catch (IOException ignored) {
+                // Nothing can be done at this point
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.docsdk.executor.consumer;
+
+import com.docsdk.reactive.Subscriber;
+import com.docsdk.reactive.Subscription;
+import com.docsdk.reactive.Subscriptions;
+import lombok.Getter;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Response consumer, which publishes the body of a successful response to a {@link Subscriber} as chunks of {@link ByteBuffer}s.
+ * <p>
+ * Chunks are read from the connection on the IO reactor only as long as the subscriber has demand. Without demand, the IO reactor
+ * suspends reading from the socket, and resumes once the subscriber requests more, so the heap use does not depend on the size of the body.
+ * A response with another status fails the subscription with {@link HttpResponseException}, after its body has been discarded.
+ */
+public class PublishingAsyncResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+
+    private final Subscriber<? super ByteBuffer> subscriber;
+    private final int chunkSize;
+    private final AtomicLong demand = new AtomicLong();
+
+    /**
+     * {@link Subscription} to hand to the subscriber, signalling demand to this consumer
+     */
+    @Getter
+    private final Subscription subscription = new ConsumerSubscription();
+
+    /**
+     * Completed once the body has been published, or failed along with the subscription, which is then signalled the outcome
+     */
+    @Getter
+    private final CompletableFuture<HttpResponse> resultFuture = new CompletableFuture<>();
+
+    private volatile HttpResponse httpResponse;
+    private volatile IOControl ioControl;
+    private volatile Future<HttpResponse> exchangeFuture;
+    private volatile boolean cancelled;
+
+    /**
+     * Chunk allocated for a read which returned nothing, reused by the next read. Only accessed by the IO reactor.
+     */
+    @Nullable
+    private ByteBuffer spareChunk;
+
+    public PublishingAsyncResponseConsumer(final Subscriber<? super ByteBuffer> subscriber) {
+        this(subscriber, DEFAULT_CHUNK_SIZE);
+    }
+
+    public PublishingAsyncResponseConsumer(final Subscriber<? super ByteBuffer> subscriber, final int chunkSize) {
+        this.subscriber = subscriber;
+        this.chunkSize = chunkSize;
+
+        resultFuture.whenComplete((result, throwable) -> {
+            if (cancelled) {
+                return;
+            }
+            if (throwable != null) {
+                subscriber.onError(Subscriptions.unwrap(throwable));
+            } else {
+                subscriber.onComplete();
+            }
+        });
+    }
+
+    /**
+     * Set the future of the whole exchange, so cancelling the subscription is able to abort the exchange and discard the connection
+     *
+     * @param exchangeFuture {@link CompletableFuture}
+     */
+    public void setExchangeFuture(final CompletableFuture<HttpResponse> exchangeFuture) {
+        this.exchangeFuture = exchangeFuture;
+        exchangeFuture.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                resultFuture.completeExceptionally(throwable);
+            }
+        });
+
+        if (cancelled) {
+            exchangeFuture.cancel(true);
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    protected void onResponseReceived(final HttpResponse httpResponse) {
+        this.httpResponse = httpResponse;
+    }
+
+    @Override
+    protected void onEntityEnclosed(final HttpEntity httpEntity, final ContentType contentType) {
+    }
+
+    @Override
+    protected void onContentReceived(final ContentDecoder contentDecoder, final IOControl ioControl) throws IOException {
+        this.ioControl = ioControl;
+
+        if (!isSuccessful()) {
+            // Discard the body of a failed response
+            final ByteBuffer discarded = takeChunk();
+            while (!cancelled && contentDecoder.read(discarded) > 0) {
+                discarded.clear();
+            }
+            spareChunk = discarded;
+            return;
+        }
+
+        while (!cancelled && demand.get() > 0) {
+            final ByteBuffer chunk = takeChunk();
+            if (contentDecoder.read(chunk) <= 0) {
+                spareChunk = chunk;
+                break;
+            }
+            chunk.flip();
+            Subscriptions.produced(demand);
+            subscriber.onNext(chunk);
+        }
+
+        if (demand.get() == 0 && !contentDecoder.isCompleted()) {
+            ioControl.suspendInput();
+            // Demand may have been signalled meanwhile, from another thread
+            if (demand.get() > 0) {
+                ioControl.requestInput();
+            }
+        }
+    }
+
+    @Override
+    protected HttpResponse buildResult(final HttpContext httpContext) {
+        if (isSuccessful()) {
+            resultFuture.complete(httpResponse);
+        } else {
+            resultFuture.completeExceptionally(new HttpResponseException(httpResponse.getStatusLine().getStatusCode(),
+                "Download failed with status " + httpResponse.getStatusLine().getStatusCode()));
+        }
+        return httpResponse;
+    }
+
+    @Override
+    protected void releaseResources() {
+        spareChunk = null;
+
+        final Exception exception = getException();
+        resultFuture.completeExceptionally(exception != null ? exception : new CancellationException());
+    }
+
+    private boolean isSuccessful() {
+        final int status = httpResponse.getStatusLine().getStatusCode();
+        return status >= 200 && status <= 299;
+    }
+
+    private ByteBuffer takeChunk() {
+        final ByteBuffer chunk = spareChunk != null ? spareChunk : ByteBuffer.allocate(chunkSize);
+        spareChunk = null;
+        return chunk;
+    }
+
+    private void cancelExchange() {
+        @Nullable final Future<HttpResponse> future = exchangeFuture;
+        if (future != null) {
+            future.cancel(true);
+        }
+    }
+
+    private class ConsumerSubscription implements Subscription {
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                cancelExchange();
+                resultFuture.completeExceptionally(Subscriptions.nonPositiveRequest(n));
+                return;
+            }
+
+            Subscriptions.request(demand, n);
+            @Nullable final IOControl control = ioControl;
+            if (control != null) {
+                control.requestInput();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelExchange();
+            resultFuture.cancel(false);
+        }
+    }
+}
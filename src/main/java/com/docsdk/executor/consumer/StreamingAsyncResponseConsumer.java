@@ -0,0 +1,172 @@
+package com.docsdk.executor.consumer;
+
+import lombok.Getter;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.nio.util.SharedInputBuffer;
+import org.apache.http.protocol.HttpContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Response consumer, which hands the response over as soon as its head has been received.
+ * <p>
+ * The entity content is exposed as an input stream backed by a bounded {@link SharedInputBuffer}: the IO reactor suspends reading
+ * from the socket while the buffer is full and resumes once the caller has read from it, so the heap use does not depend on the size of the body.
+ * The connection stays leased until the stream has been read to the end or closed.
+ */
+public class StreamingAsyncResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final int bufferSize;
+
+    /**
+     * Completed once the response head has been received, in contrast to the exchange future, which completes once the body has been consumed
+     */
+    @Getter
+    private final CompletableFuture<HttpResponse> responseFuture;
+
+    private volatile HttpResponse httpResponse;
+    private volatile SharedInputBuffer sharedInputBuffer;
+    private volatile Future<HttpResponse> exchangeFuture;
+    private volatile boolean completed;
+    private volatile boolean interrupted;
+
+    public StreamingAsyncResponseConsumer() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    public StreamingAsyncResponseConsumer(final int bufferSize) {
+        this.bufferSize = bufferSize;
+        this.responseFuture = new CompletableFuture<>();
+    }
+
+    /**
+     * Set the future of the whole exchange, so closing the stream before its end is able to abort the exchange and discard the connection
+     *
+     * @param exchangeFuture {@link Future}
+     */
+    public void setExchangeFuture(final Future<HttpResponse> exchangeFuture) {
+        this.exchangeFuture = exchangeFuture;
+    }
+
+    @Override
+    protected void onResponseReceived(final HttpResponse httpResponse) {
+        this.httpResponse = httpResponse;
+    }
+
+    @Override
+    protected void onEntityEnclosed(final HttpEntity httpEntity, final ContentType contentType) {
+        sharedInputBuffer = new SharedInputBuffer(bufferSize);
+
+        final BasicHttpEntity basicHttpEntity = new BasicHttpEntity();
+        basicHttpEntity.setContent(new BufferInputStream());
+        basicHttpEntity.setContentLength(httpEntity.getContentLength());
+        basicHttpEntity.setContentType(httpEntity.getContentType());
+        basicHttpEntity.setContentEncoding(httpEntity.getContentEncoding());
+        httpResponse.setEntity(basicHttpEntity);
+
+        responseFuture.complete(httpResponse);
+    }
+
+    @Override
+    protected void onContentReceived(final ContentDecoder contentDecoder, final IOControl ioControl) throws IOException {
+        sharedInputBuffer.consumeContent(contentDecoder, ioControl);
+
+        if (contentDecoder.isCompleted()) {
+            // The buffer may have suspended input while it was full, do not return the connection to the pool that way
+            ioControl.requestInput();
+        }
+    }
+
+    @Override
+    protected HttpResponse buildResult(final HttpContext httpContext) {
+        completed = true;
+
+        // Response without entity
+        responseFuture.complete(httpResponse);
+        return httpResponse;
+    }
+
+    @Override
+    protected void releaseResources() {
+        if (completed) {
+            // The buffer holds the rest of the body, it is released by the reader
+            return;
+        }
+
+        final Exception exception = getException();
+        responseFuture.completeExceptionally(exception != null ? exception : new CancellationException());
+
+        interrupted = true;
+        if (sharedInputBuffer != null) {
+            sharedInputBuffer.shutdown();
+        }
+    }
+
+    private class BufferInputStream extends InputStream {
+
+        private boolean endOfStream;
+        private boolean closed;
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+
+            final int read = sharedInputBuffer.read(b, off, len);
+            if (read == -1) {
+                endOfStream = true;
+                failIfInterrupted();
+            }
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return sharedInputBuffer.available();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            if (!endOfStream) {
+                // Abort the exchange, instead of draining the rest of the body from the socket
+                @Nullable final Future<HttpResponse> future = exchangeFuture;
+                if (future != null) {
+                    future.cancel(true);
+                }
+            }
+            sharedInputBuffer.close();
+        }
+
+        private void failIfInterrupted() throws IOException {
+            if (interrupted) {
+                final Exception exception = getException();
+                throw exception instanceof IOException ? (IOException) exception : new IOException("Response body was not received completely", exception);
+            }
+        }
+    }
+}
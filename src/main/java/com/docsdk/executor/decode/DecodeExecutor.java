@@ -0,0 +1,144 @@
+package com.docsdk.executor.decode;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of threads the asynchronous request executor extracts results on, so the IO reactor threads hand responses over instead of parsing them.
+ * <p>
+ * Responses wait in a queue of at most {@link #getMaxQueueSize()} for one of {@link #getThreads()} threads. Once the queue is full,
+ * further responses are rejected, failing their results with a {@link DecodeRejectedException}, rather than letting the queue grow without bound.
+ * With {@link #isCallerRunsWhenFull()}, the delivering thread decodes them itself instead, which slows the IO reactor down.
+ * {@link #getStatistics()} reports the time responses wait in the queue and the time spent decoding, to size the pool.
+ */
+public class DecodeExecutor implements Executor, Closeable {
+
+    public static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+
+    /**
+     * Number of threads decoding responses, idle ones are stopped after a minute
+     */
+    @Getter
+    private final int threads;
+
+    /**
+     * Maximum number of responses waiting for a thread
+     */
+    @Getter
+    private final int maxQueueSize;
+
+    /**
+     * Whether the delivering thread, e.g. an IO reactor thread, decodes a response itself once the queue is full, rather than rejecting it
+     */
+    @Getter
+    private final boolean callerRunsWhenFull;
+
+    private final ThreadPoolExecutor threadPoolExecutor;
+
+    private final LongAdder decoded = new LongAdder();
+    private final LongAdder decodedByCaller = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final LongAdder totalDecodeNanos = new LongAdder();
+    private final AtomicLong maxDecodeNanos = new AtomicLong();
+
+    @Builder
+    private DecodeExecutor(
+        final int threads, final int maxQueueSize, final boolean callerRunsWhenFull
+    ) {
+        if (threads < 1 || maxQueueSize < 1) {
+            throw new IllegalArgumentException("Invalid decode executor settings");
+        }
+
+        this.threads = threads;
+        this.maxQueueSize = maxQueueSize;
+        this.callerRunsWhenFull = callerRunsWhenFull;
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES, new ArrayBlockingQueue<>(maxQueueSize), runnable -> {
+            final Thread thread = new Thread(runnable, "docsdk-decode-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, (runnable, executor) -> {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Decode executor has been shut down");
+            }
+            if (!callerRunsWhenFull) {
+                rejected.increment();
+                throw new RejectedExecutionException("Decode queue is full");
+            }
+            decodedByCaller.increment();
+            runnable.run();
+        });
+        this.threadPoolExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    public static DecodeExecutor defaults() {
+        return DecodeExecutor.builder().build();
+    }
+
+    /**
+     * Decode a response on a thread of the pool, or, with {@link #isCallerRunsWhenFull()}, on the calling thread if the queue is full.
+     *
+     * @param runnable decoding of a response
+     * @throws RejectedExecutionException if the queue is full, unless {@link #isCallerRunsWhenFull()}, or the executor has been closed
+     */
+    @Override
+    public void execute(final Runnable runnable) {
+        final long enqueueNanos = System.nanoTime();
+        threadPoolExecutor.execute(() -> run(runnable, enqueueNanos));
+    }
+
+    /**
+     * @return {@link DecodeExecutorStatistics}
+     */
+    public DecodeExecutorStatistics getStatistics() {
+        return DecodeExecutorStatistics.builder().decoded(decoded.sum()).decodedByCaller(decodedByCaller.sum()).rejected(rejected.sum())
+            .totalQueueWaitTime(Duration.ofNanos(totalQueueWaitNanos.sum())).maxQueueWaitTime(Duration.ofNanos(maxQueueWaitNanos.get()))
+            .totalDecodeTime(Duration.ofNanos(totalDecodeNanos.sum())).maxDecodeTime(Duration.ofNanos(maxDecodeNanos.get()))
+            .queueDepth(threadPoolExecutor.getQueue().size()).activeThreads(threadPoolExecutor.getActiveCount()).build();
+    }
+
+    /**
+     * Stop accepting responses. The queued ones are still decoded, so their results complete.
+     */
+    @Override
+    public void close() {
+        threadPoolExecutor.shutdown();
+    }
+
+    private void run(final Runnable runnable, final long enqueueNanos) {
+        final long startNanos = System.nanoTime();
+        record(totalQueueWaitNanos, maxQueueWaitNanos, startNanos - enqueueNanos);
+        try {
+            runnable.run();
+        } finally {
+            decoded.increment();
+            record(totalDecodeNanos, maxDecodeNanos, System.nanoTime() - startNanos);
+        }
+    }
+
+    private static void record(final LongAdder total, final AtomicLong max, final long nanos) {
+        total.add(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    public static class DecodeExecutorBuilder {
+
+        private int threads = DEFAULT_THREADS;
+        private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+    }
+}
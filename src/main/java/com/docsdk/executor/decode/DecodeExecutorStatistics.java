@@ -0,0 +1,62 @@
+package com.docsdk.executor.decode;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the statistics of a {@link DecodeExecutor}
+ */
+@Getter
+@Builder
+@ToString
+public class DecodeExecutorStatistics {
+
+    /**
+     * Number of responses decoded, including the ones decoded by the delivering thread
+     */
+    private final long decoded;
+
+    /**
+     * Number of responses decoded by the delivering thread, e.g. an IO reactor thread, because the queue was full,
+     * only with {@link DecodeExecutor#isCallerRunsWhenFull()}
+     */
+    private final long decodedByCaller;
+
+    /**
+     * Number of responses rejected, because the queue was full
+     */
+    private final long rejected;
+
+    /**
+     * Total time, which the responses waited in the queue
+     */
+    private final Duration totalQueueWaitTime;
+
+    /**
+     * Longest time, which a response waited in the queue
+     */
+    private final Duration maxQueueWaitTime;
+
+    /**
+     * Total time spent decoding, including the listeners and callbacks notified on the decoding thread
+     */
+    private final Duration totalDecodeTime;
+
+    /**
+     * Longest time spent decoding a response
+     */
+    private final Duration maxDecodeTime;
+
+    /**
+     * Number of responses currently waiting in the queue
+     */
+    private final int queueDepth;
+
+    /**
+     * Number of threads currently decoding
+     */
+    private final int activeThreads;
+}
@@ -0,0 +1,13 @@
+package com.docsdk.executor.decode;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a response is not decoded, because the queue of the {@link DecodeExecutor} is full or the executor has been closed.
+ */
+public class DecodeRejectedException extends IOException {
+
+    public DecodeRejectedException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
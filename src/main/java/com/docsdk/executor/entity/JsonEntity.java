@@ -0,0 +1,60 @@
+package com.docsdk.executor.entity;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * JSON entity, which serializes its value straight to the output stream of the connection, instead of into a byte array first.
+ * <p>
+ * The content length is not known in advance, so the entity is sent chunked. {@link #getContent()} serializes the value into memory,
+ * it is only used by the async client and by callers, which inspect the entity.
+ */
+public class JsonEntity extends AbstractHttpEntity {
+
+    private final ObjectWriter objectWriter;
+    private final Object value;
+
+    public JsonEntity(final ObjectWriter objectWriter, final Object value) {
+        this.objectWriter = objectWriter;
+        this.value = value;
+
+        setContentType(ContentType.APPLICATION_JSON.toString());
+        setChunked(true);
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return new ByteArrayInputStream(objectWriter.writeValueAsBytes(value));
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        objectWriter.writeValue(outputStream, value);
+        outputStream.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
@@ -0,0 +1,263 @@
+package com.docsdk.executor.entity;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.FormBodyPartBuilder;
+import org.apache.http.entity.mime.MIME;
+import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.entity.mime.content.AbstractContentBody;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.FileContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Multipart form entity, which streams the uploaded file instead of buffering it in memory.
+ * <p>
+ * The form is rendered by {@link MultipartEntityBuilder} with a placeholder in place of the file, and split into a preamble and an epilogue,
+ * so {@link #getContent()} is a plain concatenation of the preamble, the file and the epilogue. This is what the async client needs,
+ * because it reads request entities via {@link #getContent()}, which {@link MultipartEntityBuilder} entities refuse to provide for large content.
+ * <p>
+ * Content length is known for {@link Path} content and the entity is repeatable, {@link InputStream} content is sent chunked.
+ * <p>
+ * The entity is also a {@link HttpAsyncContentProducer}, which the async client uses in place of {@link #getContent()}.
+ * {@link Path} content is then transferred from the file channel to the socket by the operating system ({@link FileContentEncoder}),
+ * without being copied through the heap.
+ */
+public class StreamingMultipartEntity extends AbstractHttpEntity implements HttpAsyncContentProducer {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final int DEFAULT_ASYNC_BUFFER_SIZE = 8 * 1024;
+
+    private final byte[] preamble;
+    private final byte[] epilogue;
+
+    private final Path path;
+    private final InputStream inputStream;
+    private final long length;
+
+    private ByteBuffer preambleByteBuffer;
+    private ByteBuffer epilogueByteBuffer;
+    private ReadableByteChannel readableByteChannel;
+    private ByteBuffer byteBuffer;
+    private long position;
+
+    public StreamingMultipartEntity(
+        final Map<String, String> parameters, @NotNull final String name, @NotNull final String filename, @NotNull final Path path
+    ) throws IOException {
+        this(parameters, name, filename, path, null, Files.size(path));
+    }
+
+    public StreamingMultipartEntity(
+        final Map<String, String> parameters, @NotNull final String name, @NotNull final String filename, @NotNull final InputStream inputStream
+    ) {
+        this(parameters, name, filename, null, inputStream, -1);
+    }
+
+    private StreamingMultipartEntity(
+        final Map<String, String> parameters, final String name, final String filename, final Path path, final InputStream inputStream, final long length
+    ) {
+        this.path = path;
+        this.inputStream = inputStream;
+        this.length = length;
+
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        final PlaceholderBody placeholderBody = new PlaceholderBody(filename, byteArrayOutputStream);
+
+        final MultipartEntityBuilder multipartEntityBuilder = MultipartEntityBuilder.create().setContentType(ContentType.MULTIPART_FORM_DATA);
+        parameters.forEach(multipartEntityBuilder::addTextBody);
+        final HttpEntity multipartHttpEntity = multipartEntityBuilder.addPart(FormBodyPartBuilder.create(name, placeholderBody).build()).build();
+
+        try {
+            multipartHttpEntity.writeTo(byteArrayOutputStream);
+        } catch (IOException e) {
+            // Writing to a byte array never fails
+            throw new IllegalStateException(e);
+        }
+
+        final byte[] form = byteArrayOutputStream.toByteArray();
+        this.preamble = Arrays.copyOfRange(form, 0, placeholderBody.getOffset());
+        this.epilogue = Arrays.copyOfRange(form, placeholderBody.getOffset(), form.length);
+
+        setContentType(multipartHttpEntity.getContentType());
+        setChunked(length < 0);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return path != null;
+    }
+
+    @Override
+    public long getContentLength() {
+        return length < 0 ? -1 : preamble.length + length + epilogue.length;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return new SequenceInputStream(Collections.enumeration(Arrays.asList(
+            new ByteArrayInputStream(preamble), openContent(), new ByteArrayInputStream(epilogue))));
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        outputStream.write(preamble);
+
+        try (final InputStream content = openContent()) {
+            final byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
+
+        outputStream.write(epilogue);
+        outputStream.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return path == null;
+    }
+
+    @Override
+    public void produceContent(final ContentEncoder contentEncoder, final IOControl ioControl) throws IOException {
+        if (preambleByteBuffer == null) {
+            preambleByteBuffer = ByteBuffer.wrap(preamble);
+            epilogueByteBuffer = ByteBuffer.wrap(epilogue);
+            readableByteChannel = path != null ? FileChannel.open(path, StandardOpenOption.READ) : Channels.newChannel(inputStream);
+            position = 0;
+        }
+
+        if (preambleByteBuffer.hasRemaining()) {
+            contentEncoder.write(preambleByteBuffer);
+            if (preambleByteBuffer.hasRemaining()) {
+                return;
+            }
+        }
+
+        if (readableByteChannel.isOpen()) {
+            if (!produceFileContent(contentEncoder)) {
+                return;
+            }
+            readableByteChannel.close();
+        }
+
+        contentEncoder.write(epilogueByteBuffer);
+        if (!epilogueByteBuffer.hasRemaining()) {
+            contentEncoder.complete();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Reset the state, so repeatable content can be produced once again
+        preambleByteBuffer = null;
+        byteBuffer = null;
+
+        if (readableByteChannel != null) {
+            readableByteChannel.close();
+            readableByteChannel = null;
+        }
+    }
+
+    /**
+     * Write the next portion of the file content.
+     *
+     * @return true, once the whole file content has been written
+     */
+    private boolean produceFileContent(final ContentEncoder contentEncoder) throws IOException {
+        if (readableByteChannel instanceof FileChannel && contentEncoder instanceof FileContentEncoder) {
+            final long transferred = ((FileContentEncoder) contentEncoder).transfer((FileChannel) readableByteChannel, position, Long.MAX_VALUE);
+            position += transferred;
+
+            if (position < length && transferred == 0 && position >= ((FileChannel) readableByteChannel).size()) {
+                throw new IOException("File " + path + " has been truncated during the upload");
+            }
+            return position >= length;
+        }
+
+        if (byteBuffer == null) {
+            byteBuffer = ByteBuffer.allocate(DEFAULT_ASYNC_BUFFER_SIZE);
+            byteBuffer.flip();
+        }
+
+        if (!byteBuffer.hasRemaining()) {
+            byteBuffer.clear();
+            final int read = readableByteChannel.read(byteBuffer);
+            byteBuffer.flip();
+
+            if (read == -1) {
+                return true;
+            }
+        }
+
+        contentEncoder.write(byteBuffer);
+        return false;
+    }
+
+    private InputStream openContent() throws IOException {
+        return path != null ? Files.newInputStream(path) : inputStream;
+    }
+
+    /**
+     * Body, which writes nothing, but remembers where the file content starts within the rendered form.
+     */
+    private static class PlaceholderBody extends AbstractContentBody {
+
+        private final String filename;
+        private final ByteArrayOutputStream byteArrayOutputStream;
+
+        private int offset = -1;
+
+        private PlaceholderBody(final String filename, final ByteArrayOutputStream byteArrayOutputStream) {
+            super(ContentType.DEFAULT_BINARY);
+
+            this.filename = filename;
+            this.byteArrayOutputStream = byteArrayOutputStream;
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public void writeTo(final OutputStream outputStream) {
+            offset = byteArrayOutputStream.size();
+        }
+
+        @Override
+        public String getTransferEncoding() {
+            return MIME.ENC_BINARY;
+        }
+
+        @Override
+        public long getContentLength() {
+            return -1;
+        }
+
+        private int getOffset() {
+            return offset;
+        }
+    }
+}
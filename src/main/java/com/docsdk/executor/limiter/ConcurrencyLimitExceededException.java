@@ -0,0 +1,13 @@
+package com.docsdk.executor.limiter;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a request is shed, because the concurrency limit has been reached and the queue of the {@link ConcurrencyLimiter} is full.
+ */
+public class ConcurrencyLimitExceededException extends IOException {
+
+    public ConcurrencyLimitExceededException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,268 @@
+package com.docsdk.executor.limiter;
+
+import com.docsdk.executor.retry.ExponentialBackoffRetryPolicy;
+import com.google.common.collect.ImmutableSet;
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.http.HttpStatus;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive limit of the requests in flight, in the spirit of TCP Vegas with an AIMD fallback.
+ * <p>
+ * The limit grows by about one per round trip while the latency stays close to the lowest latency seen, and the limit is actually used.
+ * It shrinks multiplicatively by {@link #getBackoffRatio()} when the latency grows beyond {@link #getLatencyTolerance()} times the lowest latency,
+ * and when a request is dropped, i.e. timed out or answered with one of {@link #getDropStatuses()}.
+ * The lowest latency is measured again every {@link #getProbeInterval()} samples, so the limit recovers if the server becomes permanently slower.
+ * <p>
+ * Requests over the limit wait in a queue, requests over {@link #getMaxQueueSize()} are shed with a {@link ConcurrencyLimitExceededException}.
+ * <p>
+ * The request executors do not pass the waits for tasks and jobs through the limiter, as their latency is the run time of the task or job
+ * and they would hold permits for as long.
+ */
+public class ConcurrencyLimiter {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+    public static final int DEFAULT_PROBE_INTERVAL = 1000;
+    public static final Set<Integer> DEFAULT_DROP_STATUSES = ImmutableSet.of(ExponentialBackoffRetryPolicy.SC_TOO_MANY_REQUESTS, HttpStatus.SC_SERVICE_UNAVAILABLE);
+
+    /**
+     * Lowest limit, even after many dropped requests
+     */
+    @Getter
+    private final int minLimit;
+
+    /**
+     * Highest limit, e.g. the size of the connection pool
+     */
+    @Getter
+    private final int maxLimit;
+
+    /**
+     * Factor, by which the limit shrinks on a dropped request or a latency increase
+     */
+    @Getter
+    private final double backoffRatio;
+
+    /**
+     * Factor of the lowest latency, up to which the latency counts as stable
+     */
+    @Getter
+    private final double latencyTolerance;
+
+    /**
+     * Maximum number of requests waiting for a permit, 0 sheds every request over the limit
+     */
+    @Getter
+    private final int maxQueueSize;
+
+    /**
+     * Number of samples, after which the lowest latency is measured again
+     */
+    @Getter
+    private final int probeInterval;
+
+    /**
+     * Response statuses, by which the server signals overload
+     */
+    @Getter
+    private final Set<Integer> dropStatuses;
+
+    private double estimatedLimit;
+    private int inFlight;
+    private long minRttNanos = Long.MAX_VALUE;
+    private long samples;
+
+    private final Deque<CompletableFuture<Permit>> queue = new ArrayDeque<>();
+    private final LongAdder shed = new LongAdder();
+
+    @Builder
+    private ConcurrencyLimiter(
+        final int initialLimit, final int minLimit, final int maxLimit, final double backoffRatio, final double latencyTolerance,
+        final int maxQueueSize, final int probeInterval, final Set<Integer> dropStatuses
+    ) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1 || latencyTolerance < 1 || maxQueueSize < 0 || probeInterval < 1) {
+            throw new IllegalArgumentException("Invalid concurrency limiter settings");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.maxQueueSize = maxQueueSize;
+        this.probeInterval = probeInterval;
+        this.dropStatuses = dropStatuses;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public static ConcurrencyLimiter defaults() {
+        return ConcurrencyLimiter.builder().build();
+    }
+
+    /**
+     * Get a permit to send a request, without blocking any thread.
+     * The permit must be released with exactly one of {@link Permit#onSuccess(long)}, {@link Permit#onDropped()} or {@link Permit#onIgnore()}.
+     *
+     * @return {@link CompletableFuture}, already completed if the limit has not been reached, completed exceptionally with
+     * {@link ConcurrencyLimitExceededException} if the queue is full. Cancelling the future gives up waiting.
+     */
+    public CompletableFuture<Permit> acquire() {
+        final CompletableFuture<Permit> permitFuture = new CompletableFuture<>();
+        synchronized (this) {
+            if (inFlight < getLimit()) {
+                inFlight++;
+                permitFuture.complete(new Permit());
+                return permitFuture;
+            }
+            if (queue.size() >= maxQueueSize) {
+                shed.increment();
+                permitFuture.completeExceptionally(new ConcurrencyLimitExceededException("Concurrency limit of " + getLimit()
+                    + " requests reached and " + queue.size() + " requests queued"));
+                return permitFuture;
+            }
+            queue.addLast(permitFuture);
+        }
+
+        permitFuture.whenComplete((permit, throwable) -> {
+            if (permitFuture.isCancelled()) {
+                synchronized (this) {
+                    queue.remove(permitFuture);
+                }
+            }
+        });
+        return permitFuture;
+    }
+
+    /**
+     * @return current limit of requests in flight
+     */
+    public synchronized int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    /**
+     * @return number of requests in flight
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return number of requests waiting for a permit
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return number of requests shed, because the queue was full
+     */
+    public long getShed() {
+        return shed.sum();
+    }
+
+    private void release(final long rttNanos, final boolean dropped) {
+        final List<CompletableFuture<Permit>> permitFutures = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            if (dropped) {
+                estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+            } else if (rttNanos > 0) {
+                update(rttNanos);
+            }
+
+            while (inFlight < getLimit() && !queue.isEmpty()) {
+                inFlight++;
+                permitFutures.add(queue.pollFirst());
+            }
+        }
+
+        // Complete outside of the lock, the requests are started by the callbacks
+        for (final CompletableFuture<Permit> permitFuture : permitFutures) {
+            final Permit permit = new Permit();
+            if (!permitFuture.complete(permit)) {
+                permit.onIgnore();
+            }
+        }
+    }
+
+    private void update(final long rttNanos) {
+        if (++samples % probeInterval == 0) {
+            minRttNanos = rttNanos;
+        } else {
+            minRttNanos = Math.min(minRttNanos, rttNanos);
+        }
+
+        if (rttNanos > minRttNanos * latencyTolerance) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+        } else if (inFlight + 1 >= estimatedLimit / 2) {
+            // Only grow a limit, which is actually used, so an idle client does not build up a burst
+            estimatedLimit = Math.min(maxLimit, estimatedLimit + 1 / estimatedLimit);
+        }
+    }
+
+    public static class ConcurrencyLimiterBuilder {
+
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+        private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+        private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+        private int probeInterval = DEFAULT_PROBE_INTERVAL;
+        private Set<Integer> dropStatuses = DEFAULT_DROP_STATUSES;
+    }
+
+    /**
+     * Permit of a request in flight
+     */
+    public class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        /**
+         * Release the permit of a request, which got a response in time.
+         *
+         * @param rttNanos round trip time of the request
+         */
+        public void onSuccess(final long rttNanos) {
+            if (released.compareAndSet(false, true)) {
+                release(rttNanos, false);
+            }
+        }
+
+        /**
+         * Release the permit of a request, which timed out or was rejected by the server because of its load.
+         */
+        public void onDropped() {
+            if (released.compareAndSet(false, true)) {
+                release(0, true);
+            }
+        }
+
+        /**
+         * Release the permit of a request, which tells nothing about the load of the server, e.g. because it failed locally or was cancelled.
+         */
+        public void onIgnore() {
+            if (released.compareAndSet(false, true)) {
+                release(0, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.docsdk.executor.limiter;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Rate of a token bucket: the sustained number of requests per second, and the burst, i.e. how many requests may start at once after a quiet period.
+ */
+@Getter
+@ToString
+public class RateLimit {
+
+    private final double permitsPerSecond;
+    private final int burst;
+
+    private RateLimit(final double permitsPerSecond, final int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be positive and burst must be at least 1, got " + permitsPerSecond + " and " + burst);
+        }
+
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    public static RateLimit of(final double permitsPerSecond, final int burst) {
+        return new RateLimit(permitsPerSecond, burst);
+    }
+
+    public static RateLimit perSecond(final double permitsPerSecond) {
+        return new RateLimit(permitsPerSecond, Math.max(1, (int) permitsPerSecond));
+    }
+
+    public static RateLimit perMinute(final double permitsPerMinute) {
+        return perSecond(permitsPerMinute / 60);
+    }
+}
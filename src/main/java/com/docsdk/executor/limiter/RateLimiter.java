@@ -0,0 +1,118 @@
+package com.docsdk.executor.limiter;
+
+import com.docsdk.executor.EndpointGroup;
+import lombok.Builder;
+import lombok.Singular;
+import org.apache.http.HttpRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.InterruptedIOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Client-side rate limiter with a token bucket per {@link EndpointGroup}, e.g. to keep polling from starving task creation.
+ * Requests over the limit queue for their permit instead of failing. Endpoint groups without a limit are not limited.
+ * <p>
+ * The limits of the API apply per API key, so share one instance between all request executors using the same key.
+ * <pre>{@code
+ * RateLimiter.builder()
+ *     .limit(EndpointGroup.POLLING, RateLimit.of(5, 10))
+ *     .limit(EndpointGroup.TASK_CREATION, RateLimit.perMinute(500))
+ *     .build();
+ * }</pre>
+ */
+public class RateLimiter {
+
+    private final Map<EndpointGroup, TokenBucket> tokenBuckets;
+
+    @Builder
+    private RateLimiter(@Singular final Map<EndpointGroup, RateLimit> limits) {
+        final Map<EndpointGroup, TokenBucket> tokenBuckets = new EnumMap<>(EndpointGroup.class);
+        limits.forEach((endpointGroup, rateLimit) -> tokenBuckets.put(endpointGroup, new TokenBucket(rateLimit)));
+        this.tokenBuckets = Collections.unmodifiableMap(tokenBuckets);
+    }
+
+    /**
+     * Wait for the permit to send the request, blocking the calling thread.
+     *
+     * @param httpRequest {@link HttpRequest}
+     * @throws InterruptedIOException if the thread has been interrupted while waiting
+     */
+    public void acquire(final HttpRequest httpRequest) throws InterruptedIOException {
+        @Nullable final TokenBucket tokenBucket = tokenBuckets.get(EndpointGroup.of(httpRequest));
+        if (tokenBucket == null) {
+            return;
+        }
+
+        final long waitNanos = tokenBucket.reserve(System.nanoTime());
+        if (waitNanos == 0) {
+            return;
+        }
+
+        try {
+            final long deadlineNanos = System.nanoTime() + waitNanos;
+            for (long remainingNanos = waitNanos; remainingNanos > 0; remainingNanos = deadlineNanos - System.nanoTime()) {
+                LockSupport.parkNanos(this, remainingNanos);
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the rate limit");
+                }
+            }
+        } finally {
+            tokenBucket.dequeue();
+        }
+    }
+
+    /**
+     * Get a future, which completes once the request may be sent, without blocking any thread.
+     * Cancelling the future gives up waiting.
+     *
+     * @param httpRequest              {@link HttpRequest}
+     * @param scheduledExecutorService {@link ScheduledExecutorService} completing the future
+     * @return {@link CompletableFuture}, already completed if the request may be sent right away
+     */
+    public CompletableFuture<Void> acquireAsync(final HttpRequest httpRequest, final ScheduledExecutorService scheduledExecutorService) {
+        @Nullable final TokenBucket tokenBucket = tokenBuckets.get(EndpointGroup.of(httpRequest));
+        if (tokenBucket == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final long waitNanos = tokenBucket.reserve(System.nanoTime());
+        if (waitNanos == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> permitFuture = new CompletableFuture<>();
+        try {
+            final ScheduledFuture<?> scheduledFuture = scheduledExecutorService.schedule(() -> permitFuture.complete(null), waitNanos, TimeUnit.NANOSECONDS);
+            permitFuture.whenComplete((result, throwable) -> {
+                tokenBucket.dequeue();
+                scheduledFuture.cancel(false);
+            });
+        } catch (RejectedExecutionException e) {
+            tokenBucket.dequeue();
+            permitFuture.completeExceptionally(e);
+        }
+        return permitFuture;
+    }
+
+    /**
+     * Get the statistics of an endpoint group.
+     *
+     * @param endpointGroup {@link EndpointGroup}
+     * @return {@link RateLimiterStatistics}, or null if the endpoint group is not limited
+     */
+    @Nullable
+    public RateLimiterStatistics getStatistics(final EndpointGroup endpointGroup) {
+        @Nullable final TokenBucket tokenBucket = tokenBuckets.get(endpointGroup);
+        return tokenBucket == null ? null : tokenBucket.getStatistics();
+    }
+}
@@ -0,0 +1,41 @@
+package com.docsdk.executor.limiter;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the statistics of a rate limited endpoint group
+ */
+@Getter
+@Builder
+@ToString
+public class RateLimiterStatistics {
+
+    /**
+     * Number of permits handed out, including the ones, which had to wait
+     */
+    private final long permits;
+
+    /**
+     * Number of permits, which had to wait
+     */
+    private final long delayedPermits;
+
+    /**
+     * Total time, which the permits waited
+     */
+    private final Duration totalWaitTime;
+
+    /**
+     * Longest time, which a permit waited
+     */
+    private final Duration maxWaitTime;
+
+    /**
+     * Number of requests currently waiting for their permit
+     */
+    private final int queueDepth;
+}
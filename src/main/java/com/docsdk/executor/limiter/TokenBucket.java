@@ -0,0 +1,64 @@
+package com.docsdk.executor.limiter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket, which queues instead of rejecting: every reservation succeeds and tells how long to wait for the permit.
+ * <p>
+ * Implemented as the generic cell rate algorithm, which tracks the theoretical arrival time of the next request instead of a token count.
+ */
+class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+
+    private long theoreticalArrivalNanos = Long.MIN_VALUE;
+
+    private final LongAdder permits = new LongAdder();
+    private final LongAdder delayedPermits = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    TokenBucket(final RateLimit rateLimit) {
+        this.intervalNanos = (long) (1_000_000_000L / rateLimit.getPermitsPerSecond());
+        this.burstToleranceNanos = intervalNanos * (rateLimit.getBurst() - 1);
+    }
+
+    /**
+     * Reserve a permit. A caller, which has to wait, is counted in the queue until it calls {@link #dequeue()}.
+     *
+     * @return nanoseconds to wait before using the permit, 0 if it can be used right away
+     */
+    long reserve(final long nowNanos) {
+        final long waitNanos;
+        synchronized (this) {
+            if (theoreticalArrivalNanos == Long.MIN_VALUE || theoreticalArrivalNanos - nowNanos < 0) {
+                theoreticalArrivalNanos = nowNanos;
+            }
+            waitNanos = Math.max(0, theoreticalArrivalNanos - burstToleranceNanos - nowNanos);
+            theoreticalArrivalNanos += intervalNanos;
+        }
+
+        permits.increment();
+        if (waitNanos > 0) {
+            delayedPermits.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulate(waitNanos);
+            queueDepth.incrementAndGet();
+        }
+        return waitNanos;
+    }
+
+    void dequeue() {
+        queueDepth.decrementAndGet();
+    }
+
+    RateLimiterStatistics getStatistics() {
+        return RateLimiterStatistics.builder().permits(permits.sum()).delayedPermits(delayedPermits.sum())
+            .totalWaitTime(Duration.ofNanos(totalWaitNanos.sum())).maxWaitTime(Duration.ofNanos(maxWaitNanos.get())).queueDepth(queueDepth.get()).build();
+    }
+}
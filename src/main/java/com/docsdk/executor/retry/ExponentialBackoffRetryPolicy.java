@@ -0,0 +1,165 @@
+package com.docsdk.executor.retry;
+
+import com.google.common.collect.ImmutableSet;
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.http.Header;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.jetbrains.annotations.Nullable;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries transient failures with exponentially growing, jittered delays, capped by {@link #getMaxDelay()}.
+ * <p>
+ * Only requests, which are safe to repeat, are retried: requests with idempotent methods, e.g. showing a task or a job,
+ * and other requests, e.g. creating a job, only when they carry an {@value #HEADER_IDEMPOTENCY_KEY} header.
+ * Requests with a non-repeatable entity, e.g. an upload from an input stream, are never retried.
+ * <p>
+ * A retryable response is one with a status from {@link #getRetryableStatuses()}. Its {@code Retry-After} header, in seconds or as a date,
+ * takes precedence over the backoff, the policy gives up if the server asks to wait longer than {@link #getMaxDelay()}.
+ * A retryable failure is an {@link IOException}, except for unknown hosts, SSL failures and interruptions other than timeouts.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final int SC_TOO_MANY_REQUESTS = 429;
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(500);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+    public static final double DEFAULT_MULTIPLIER = 2.0;
+    public static final double DEFAULT_JITTER = 0.5;
+    public static final Set<Integer> DEFAULT_RETRYABLE_STATUSES = ImmutableSet.of(SC_TOO_MANY_REQUESTS,
+        HttpStatus.SC_BAD_GATEWAY, HttpStatus.SC_SERVICE_UNAVAILABLE, HttpStatus.SC_GATEWAY_TIMEOUT);
+
+    private static final Set<String> IDEMPOTENT_METHODS = ImmutableSet.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "TRACE");
+
+    /**
+     * Maximum number of attempts of a request, including the first one
+     */
+    @Builder.Default
+    private final int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    /**
+     * Delay before the first retry, before jitter
+     */
+    @Builder.Default
+    private final Duration initialDelay = DEFAULT_INITIAL_DELAY;
+
+    /**
+     * Cap of the delay before any retry, including the one requested via {@code Retry-After}
+     */
+    @Builder.Default
+    private final Duration maxDelay = DEFAULT_MAX_DELAY;
+
+    /**
+     * Factor, by which the delay grows with every retry
+     */
+    @Builder.Default
+    private final double multiplier = DEFAULT_MULTIPLIER;
+
+    /**
+     * Fraction of the delay, which is randomized, so clients hitting the same limit do not retry in lockstep.
+     * 0 means no jitter, 1 means a random delay between 0 and the full backoff.
+     */
+    @Builder.Default
+    private final double jitter = DEFAULT_JITTER;
+
+    /**
+     * Response statuses, which are retried
+     */
+    @Builder.Default
+    private final Set<Integer> retryableStatuses = DEFAULT_RETRYABLE_STATUSES;
+
+    public static ExponentialBackoffRetryPolicy defaults() {
+        return ExponentialBackoffRetryPolicy.builder().build();
+    }
+
+    @Nullable
+    @Override
+    public Duration getRetryDelay(
+        final HttpRequest httpRequest, final int attempt, @Nullable final HttpResponse httpResponse, @Nullable final Exception exception
+    ) {
+        if (attempt >= maxAttempts || !isRepeatable(httpRequest)) {
+            return null;
+        }
+
+        if (exception != null) {
+            return isRetryable(exception) ? getBackoff(attempt) : null;
+        }
+
+        if (httpResponse == null || !retryableStatuses.contains(httpResponse.getStatusLine().getStatusCode())) {
+            return null;
+        }
+
+        @Nullable final Duration retryAfter = getRetryAfter(httpResponse);
+        if (retryAfter != null) {
+            return retryAfter.compareTo(maxDelay) > 0 ? null : retryAfter;
+        }
+        return getBackoff(attempt);
+    }
+
+    protected boolean isRepeatable(final HttpRequest httpRequest) {
+        if (httpRequest instanceof HttpEntityEnclosingRequest) {
+            final HttpEntityEnclosingRequest httpEntityEnclosingRequest = (HttpEntityEnclosingRequest) httpRequest;
+            if (httpEntityEnclosingRequest.getEntity() != null && !httpEntityEnclosingRequest.getEntity().isRepeatable()) {
+                return false;
+            }
+        }
+
+        return IDEMPOTENT_METHODS.contains(httpRequest.getRequestLine().getMethod()) || httpRequest.containsHeader(HEADER_IDEMPOTENCY_KEY);
+    }
+
+    protected boolean isRetryable(final Exception exception) {
+        if (!(exception instanceof IOException) || exception instanceof UnknownHostException || exception instanceof SSLException) {
+            return false;
+        }
+        return !(exception instanceof InterruptedIOException) || exception instanceof SocketTimeoutException
+            || exception instanceof ConnectTimeoutException;
+    }
+
+    protected Duration getBackoff(final int attempt) {
+        final double backoff = Math.min(maxDelay.toMillis(), initialDelay.toMillis() * Math.pow(multiplier, attempt - 1));
+        return Duration.ofMillis((long) (backoff * (1 - jitter * ThreadLocalRandom.current().nextDouble())));
+    }
+
+    /**
+     * @return delay requested by the {@code Retry-After} header, or null if there is none or it cannot be parsed
+     */
+    @Nullable
+    protected Duration getRetryAfter(final HttpResponse httpResponse) {
+        @Nullable final Header header = httpResponse.getFirstHeader(HttpHeaders.RETRY_AFTER);
+        if (header == null || header.getValue() == null) {
+            return null;
+        }
+
+        final String value = header.getValue().trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            @Nullable final Date date = DateUtils.parseDate(value);
+            if (date == null) {
+                return null;
+            }
+            final long millis = date.getTime() - System.currentTimeMillis();
+            return Duration.ofMillis(Math.max(0, millis));
+        }
+    }
+}
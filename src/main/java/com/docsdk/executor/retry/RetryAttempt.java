@@ -0,0 +1,52 @@
+package com.docsdk.executor.retry;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.http.HttpRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a single attempt of a request
+ */
+@Getter
+@Builder
+@ToString
+public class RetryAttempt {
+
+    private final HttpRequest httpRequest;
+
+    /**
+     * Number of the attempt, starting with 1
+     */
+    private final int attempt;
+
+    /**
+     * Status of the response, or null if the attempt failed
+     */
+    @Nullable
+    private final Integer status;
+
+    /**
+     * Failure of the attempt, or null if there is a response
+     */
+    @Nullable
+    private final Exception exception;
+
+    /**
+     * Time the attempt took
+     */
+    private final Duration duration;
+
+    /**
+     * Delay before the next attempt, or null if the request is not retried
+     */
+    @Nullable
+    private final Duration retryDelay;
+
+    public boolean isRetried() {
+        return retryDelay != null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.docsdk.executor.retry;
+
+/**
+ * Notified by a request executor about every attempt of a request, e.g. to collect metrics.
+ * Called from the thread, which completed the attempt, so implementations must be thread-safe and must not block.
+ */
+@FunctionalInterface
+public interface RetryListener {
+
+    RetryListener NONE = retryAttempt -> {
+    };
+
+    void onAttempt(RetryAttempt retryAttempt);
+}
@@ -0,0 +1,64 @@
+package com.docsdk.executor.retry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link RetryListener}, which counts requests, attempts and retries, e.g. to watch retry amplification.
+ */
+public class RetryMetrics implements RetryListener {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+
+    @Override
+    public void onAttempt(final RetryAttempt retryAttempt) {
+        if (retryAttempt.getAttempt() == 1) {
+            requests.increment();
+        }
+        attempts.increment();
+        if (retryAttempt.isRetried()) {
+            retries.increment();
+        }
+        if (retryAttempt.getException() != null) {
+            failedAttempts.increment();
+        }
+    }
+
+    /**
+     * @return number of requests, i.e. first attempts
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return number of attempts, including retries
+     */
+    public long getAttempts() {
+        return attempts.sum();
+    }
+
+    /**
+     * @return number of attempts, which were followed by a retry
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return number of attempts, which failed with an exception rather than a response
+     */
+    public long getFailedAttempts() {
+        return failedAttempts.sum();
+    }
+
+    /**
+     * @return attempts per request, 1.0 means no retries at all
+     */
+    public double getAmplification() {
+        final long requests = getRequests();
+        return requests == 0 ? 1.0 : (double) getAttempts() / requests;
+    }
+}
@@ -0,0 +1,29 @@
+package com.docsdk.executor.retry;
+
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Decides whether and when a request executor repeats a request after an attempt.
+ */
+@FunctionalInterface
+public interface RetryPolicy {
+
+    /**
+     * Never retry, every request is attempted exactly once
+     */
+    RetryPolicy NONE = (httpRequest, attempt, httpResponse, exception) -> null;
+
+    /**
+     * @param httpRequest  {@link HttpRequest} request, which has been attempted
+     * @param attempt      number of the attempt, starting with 1
+     * @param httpResponse {@link HttpResponse} response of the attempt, or null if it failed
+     * @param exception    {@link Exception} failure of the attempt, or null if there is a response
+     * @return delay before the next attempt, or null to give up and return the response or throw the exception
+     */
+    @Nullable
+    Duration getRetryDelay(HttpRequest httpRequest, int attempt, @Nullable HttpResponse httpResponse, @Nullable Exception exception);
+}
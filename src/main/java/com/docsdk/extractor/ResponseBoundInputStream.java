@@ -0,0 +1,53 @@
+package com.docsdk.extractor;
+
+import org.apache.http.HttpResponse;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream, which stays bound to the connection of the response it was taken from.
+ * <p>
+ * Closing the stream after it was read to the end returns the connection to the pool, closing it earlier closes the response,
+ * so the connection is discarded instead of draining the rest of a possibly huge body.
+ */
+public class ResponseBoundInputStream extends FilterInputStream {
+
+    private final HttpResponse httpResponse;
+
+    private boolean endOfStream;
+
+    public ResponseBoundInputStream(
+        final InputStream inputStream, final HttpResponse httpResponse
+    ) {
+        super(inputStream);
+
+        this.httpResponse = httpResponse;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        endOfStream = b == -1;
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int read = super.read(b, off, len);
+        endOfStream = read == -1;
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!endOfStream && httpResponse instanceof Closeable) {
+            // Shuts the connection down, the content stream is detached from it
+            ((Closeable) httpResponse).close();
+        } else {
+            super.close();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.docsdk.processor.response.ResponseProcessor;
 import com.docsdk.processor.response.successful.ContentResponseProcessor;
 import com.docsdk.processor.response.successful.InputStreamResponseProcessor;
 import com.docsdk.processor.response.successful.NoContentResponseProcessor;
+import com.docsdk.processor.response.successful.StreamingInputStreamResponseProcessor;
 import com.docsdk.resource.AbstractResource;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.ImmutableMap;
@@ -30,11 +31,13 @@ public class ResultExtractor {
         final ContentResponseProcessor contentResponseProcessor = new ContentResponseProcessor(objectMapperProvider);
         final NoContentResponseProcessor noContentResponseProcessor = new NoContentResponseProcessor();
         final InputStreamResponseProcessor inputStreamResponseProcessor = new InputStreamResponseProcessor();
+        final StreamingInputStreamResponseProcessor streamingInputStreamResponseProcessor = new StreamingInputStreamResponseProcessor();
 
         this.defaultResponseProcessor = new DefaultResponseProcessor();
         this.responseProcessors = ImmutableMap.<TypeReference<?>, ResponseProcessor>builder()
             .put(AbstractResource.VOID_TYPE_REFERENCE, noContentResponseProcessor)
             .put(AbstractResource.INPUT_STREAM_TYPE_REFERENCE, inputStreamResponseProcessor)
+            .put(AbstractResource.STREAMING_INPUT_STREAM_TYPE_REFERENCE, streamingInputStreamResponseProcessor)
 
             .put(AbstractResource.MAP_STRING_TO_OBJECT_TYPE_REFERENCE, contentResponseProcessor)
             .put(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE, contentResponseProcessor)
@@ -55,12 +58,16 @@ public class ResultExtractor {
         final Header[] headers = httpResponse.getAllHeaders();
         final HttpEntity httpEntity = Optional.ofNullable(httpResponse.getEntity()).orElse(new InputStreamEntity(EmptyInputStream.INSTANCE));
 
-        try (final InputStream inputStream = httpEntity.getContent()) {
-            if (status >= 200 && status <= 299) {
-                return responseProcessors.getOrDefault(typeReference, defaultResponseProcessor).process(status, headers, inputStream, typeReference);
-            }
+        final ResponseProcessor responseProcessor = status >= 200 && status <= 299
+            ? responseProcessors.getOrDefault(typeReference, defaultResponseProcessor) : defaultResponseProcessor;
+
+        if (responseProcessor.isStreaming()) {
+            // Leave the input stream open, it will be released by the caller
+            return responseProcessor.process(status, headers, new ResponseBoundInputStream(httpEntity.getContent(), httpResponse), typeReference);
+        }
 
-            return defaultResponseProcessor.process(status, headers, inputStream, typeReference);
+        try (final InputStream inputStream = httpEntity.getContent()) {
+            return responseProcessor.process(status, headers, inputStream, typeReference);
         }
     }
 }
@@ -0,0 +1,275 @@
+package com.docsdk.pagination;
+
+import com.docsdk.dto.response.Pageable;
+import com.docsdk.dto.result.Result;
+import com.docsdk.resource.params.Pagination;
+import com.docsdk.resource.params.converter.PaginationToNameValuePairsConverter;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the items of all pages of a list, loading the pages after the first one concurrently.
+ * <p>
+ * The first page tells the number of pages through its {@code last} link. The following pages are then requested by their number,
+ * at most {@code maxConcurrency} of them requested and not consumed yet at any time. Ordered, the items come in the order of the pages,
+ * unordered, the pages are consumed as they arrive. Without a {@code last} link, pages are requested ahead until one has no {@code next} link.
+ * <p>
+ * Failing to load a page, e.g. with a status other than 200, throws {@link UncheckedIOException} from {@link #hasNext()}.
+ * Not thread-safe, like any iterator. Close it to stop loading pages, when not iterating to the end.
+ *
+ * @param <T> item type
+ */
+public class FanOutPageIterator<T> implements Iterator<T>, Closeable {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+    public static final int DEFAULT_PER_PAGE = 100;
+
+    private static final PaginationToNameValuePairsConverter PAGINATION_CONVERTER = new PaginationToNameValuePairsConverter();
+
+    @Nullable
+    private final Pagination firstPagination;
+    private final PageRequestFactory pageRequestFactory;
+    private final Function<HttpUriRequest, CompletableFuture<Result<Pageable<T>>>> pageLoader;
+    private final int maxConcurrency;
+    private final boolean ordered;
+
+    /**
+     * Pages requested and not consumed yet, by page. Guarded by this.
+     */
+    private final Map<Integer, CompletableFuture<Pageable<T>>> pages = new HashMap<>();
+
+    /**
+     * Pages loaded, in the order they arrived, for unordered iteration
+     */
+    private final BlockingQueue<Integer> loadedPages = new LinkedBlockingQueue<>();
+
+    private int perPage;
+    private int nextRequestedPage;
+    private int nextConsumedPage;
+
+    /**
+     * Last page, {@link Integer#MAX_VALUE} while unknown. Guarded by this.
+     */
+    private int lastPage = Integer.MAX_VALUE;
+
+    private boolean started;
+    private boolean closed;
+
+    private Iterator<T> items = Collections.emptyIterator();
+
+    /**
+     * @param firstPagination    {@link Pagination} of the first page, null for the first page with the default page size
+     * @param pageRequestFactory creates the request of a page
+     * @param pageLoader         loads a page without blocking, e.g. {@code AbstractRequestExecutor.executeAsync}
+     * @param maxConcurrency     maximum number of pages requested and not consumed yet
+     * @param ordered            whether the items come in the order of the pages
+     */
+    public FanOutPageIterator(
+        @Nullable final Pagination firstPagination, final PageRequestFactory pageRequestFactory,
+        final Function<HttpUriRequest, CompletableFuture<Result<Pageable<T>>>> pageLoader, final int maxConcurrency, final boolean ordered
+    ) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency below 1");
+        }
+
+        this.firstPagination = firstPagination;
+        this.pageRequestFactory = pageRequestFactory;
+        this.pageLoader = pageLoader;
+        this.maxConcurrency = maxConcurrency;
+        this.ordered = ordered;
+    }
+
+    /**
+     * @return sequential {@link Stream} of the items, ordered if the iterator is, which closes the iterator when closed
+     */
+    public Stream<T> stream() {
+        final int characteristics = ordered ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, characteristics), false).onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            items = start().getData().iterator();
+        }
+
+        while (!items.hasNext()) {
+            @Nullable final Integer pageNumber = takePage();
+            if (pageNumber == null) {
+                return false;
+            }
+            @Nullable final CompletableFuture<Pageable<T>> page = getPage(pageNumber);
+            if (page != null) {
+                items = join(page).getData().iterator();
+                onPageConsumed(pageNumber);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return items.next();
+    }
+
+    /**
+     * Stop loading pages. Pages already loading are discarded.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        pages.values().forEach(page -> page.cancel(false));
+        pages.clear();
+        items = Collections.emptyIterator();
+    }
+
+    /**
+     * Load the first page, learn the page size and the last page from it and request the following pages
+     */
+    private Pageable<T> start() {
+        final Pageable<T> firstPage = join(load(firstPagination));
+
+        final Pageable.Meta meta = firstPage.getMeta();
+        final Pageable.Links links = firstPage.getLinks();
+        perPage = meta != null && meta.getPerPage() != null ? meta.getPerPage() : firstPagination != null ? firstPagination.getPerPage() : DEFAULT_PER_PAGE;
+        final int currentPage = meta != null && meta.getCurrentPage() != null ? meta.getCurrentPage() : firstPagination != null ? firstPagination.getPage() : 1;
+
+        synchronized (this) {
+            if (links == null || links.getNext() == null) {
+                lastPage = currentPage;
+            } else {
+                final Integer last = PAGINATION_CONVERTER.getPage(links.getLast());
+                lastPage = last != null ? last : Integer.MAX_VALUE;
+            }
+            nextRequestedPage = currentPage + 1;
+            nextConsumedPage = currentPage + 1;
+            requestPages();
+        }
+        return firstPage;
+    }
+
+    /**
+     * Request pages, until as many as allowed are requested and not consumed yet
+     */
+    private synchronized void requestPages() {
+        while (!closed && nextRequestedPage <= lastPage && pages.size() < maxConcurrency) {
+            final int pageNumber = nextRequestedPage++;
+            final CompletableFuture<Pageable<T>> page = load(new Pagination(perPage, pageNumber)).whenComplete((pageable, throwable) -> {
+                if (pageable != null && (pageable.getLinks() == null || pageable.getLinks().getNext() == null)) {
+                    onLastPage(pageNumber);
+                }
+                if (!ordered) {
+                    loadedPages.add(pageNumber);
+                }
+            });
+            pages.put(pageNumber, page);
+        }
+    }
+
+    private synchronized void onLastPage(final int pageNumber) {
+        if (pageNumber < lastPage) {
+            lastPage = pageNumber;
+            // Pages requested beyond the end are empty
+            pages.keySet().removeIf(requestedPage -> requestedPage > pageNumber);
+        }
+    }
+
+    /**
+     * Take the number of the next page to consume. The page stays requested until consumed, so that no more pages
+     * than allowed are loading or waiting to be consumed.
+     *
+     * @return page number, or null if all pages have been consumed
+     */
+    @Nullable
+    private Integer takePage() {
+        synchronized (this) {
+            if (closed || pages.isEmpty() && nextRequestedPage > lastPage) {
+                return null;
+            }
+            if (ordered) {
+                return nextConsumedPage <= lastPage ? nextConsumedPage++ : null;
+            }
+        }
+
+        try {
+            return loadedPages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for a page"));
+        }
+    }
+
+    /**
+     * @return page, or null if discarded as beyond the last page
+     */
+    @Nullable
+    private synchronized CompletableFuture<Pageable<T>> getPage(final int pageNumber) {
+        return pages.get(pageNumber);
+    }
+
+    /**
+     * Request the following pages in place of a consumed one
+     */
+    private synchronized void onPageConsumed(final int pageNumber) {
+        pages.remove(pageNumber);
+        requestPages();
+    }
+
+    private CompletableFuture<Pageable<T>> load(@Nullable final Pagination pagination) {
+        final HttpUriRequest httpUriRequest;
+        try {
+            httpUriRequest = pageRequestFactory.create(pagination);
+        } catch (IOException | URISyntaxException e) {
+            final CompletableFuture<Pageable<T>> page = new CompletableFuture<>();
+            page.completeExceptionally(e instanceof IOException ? e : new IOException(e));
+            return page;
+        }
+
+        return pageLoader.apply(httpUriRequest).thenApply(pageableResult -> {
+            if (pageableResult.getStatus() != HttpStatus.SC_OK || pageableResult.getBody() == null || pageableResult.getBody().getData() == null) {
+                throw new UncheckedIOException(new IOException("Listing page failed with status " + pageableResult.getStatus() + ": " + pageableResult.getMessage()));
+            }
+            return pageableResult.getBody();
+        });
+    }
+
+    private Pageable<T> join(final CompletableFuture<Pageable<T>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            close();
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw (UncheckedIOException) e.getCause();
+            }
+            if (e.getCause() instanceof IOException) {
+                throw new UncheckedIOException((IOException) e.getCause());
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.docsdk.pagination;
+
+import com.docsdk.dto.response.Pageable;
+import com.docsdk.dto.result.Result;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the items of all pages of a list, following the {@code next} link of each page.
+ * <p>
+ * Pages are loaded lazily, up to {@code prefetchDepth} pages ahead of the one being consumed: as soon as a page has been loaded,
+ * the next one is requested in the background, so consuming a page overlaps with loading the following ones.
+ * With a prefetch depth of 0, a page is only requested once the previous one has been consumed.
+ * <p>
+ * Failing to load a page, e.g. with a status other than 200, throws {@link UncheckedIOException} from {@link #hasNext()}.
+ * Not thread-safe, like any iterator. Close it to stop loading pages ahead, when not iterating to the end.
+ *
+ * @param <T> item type
+ */
+public class PageIterator<T> implements Iterator<T>, Closeable {
+
+    public static final int DEFAULT_PREFETCH_DEPTH = 1;
+
+    private final Function<HttpUriRequest, CompletableFuture<Result<Pageable<T>>>> pageLoader;
+    private final Function<String, HttpUriRequest> nextPageRequestFactory;
+    private final int prefetchDepth;
+
+    /**
+     * Pages requested but not consumed yet, in order. Guarded by this.
+     */
+    private final Deque<CompletableFuture<Pageable<T>>> pages = new ArrayDeque<>();
+
+    /**
+     * Request of the page after the last requested one, null while the last requested one is loading or there is none. Guarded by this.
+     */
+    @Nullable
+    private HttpUriRequest nextPageRequest;
+
+    private boolean closed;
+
+    private Iterator<T> items = Collections.emptyIterator();
+
+    /**
+     * @param firstPageRequest       request of the first page
+     * @param pageLoader             loads a page without blocking, e.g. {@code AbstractRequestExecutor.executeAsync}
+     * @param nextPageRequestFactory creates the request of a page from its link
+     * @param prefetchDepth          number of pages loaded ahead of the one being consumed
+     */
+    public PageIterator(
+        final HttpUriRequest firstPageRequest, final Function<HttpUriRequest, CompletableFuture<Result<Pageable<T>>>> pageLoader,
+        final Function<String, HttpUriRequest> nextPageRequestFactory, final int prefetchDepth
+    ) {
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("Negative prefetch depth");
+        }
+
+        this.pageLoader = pageLoader;
+        this.nextPageRequestFactory = nextPageRequestFactory;
+        this.prefetchDepth = prefetchDepth;
+        this.nextPageRequest = firstPageRequest;
+    }
+
+    /**
+     * @return sequential, ordered {@link Stream} of the items, which closes the iterator when closed
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!items.hasNext()) {
+            final CompletableFuture<Pageable<T>> page;
+            synchronized (this) {
+                if (pages.isEmpty()) {
+                    if (closed || nextPageRequest == null) {
+                        return false;
+                    }
+                    load();
+                }
+                page = pages.poll();
+                // Make room for the next page
+                loadAhead();
+            }
+
+            try {
+                items = page.join().getData().iterator();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw (UncheckedIOException) e.getCause();
+                }
+                if (e.getCause() instanceof IOException) {
+                    throw new UncheckedIOException((IOException) e.getCause());
+                }
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return items.next();
+    }
+
+    /**
+     * Stop loading pages ahead. Pages already loading are discarded.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        nextPageRequest = null;
+        pages.forEach(page -> page.cancel(false));
+        pages.clear();
+        items = Collections.emptyIterator();
+    }
+
+    private synchronized void loadAhead() {
+        if (!closed && nextPageRequest != null && pages.size() < prefetchDepth) {
+            load();
+        }
+    }
+
+    private synchronized void load() {
+        final HttpUriRequest httpUriRequest = nextPageRequest;
+        nextPageRequest = null;
+
+        // The next link is taken before the page is handed to the consumer, so it is known once the consumer has the page
+        final CompletableFuture<Pageable<T>> page = pageLoader.apply(httpUriRequest).thenApply(this::getPageable);
+        pages.add(page);
+        page.thenRun(this::loadAhead);
+    }
+
+    private Pageable<T> getPageable(final Result<Pageable<T>> pageableResult) {
+        if (pageableResult.getStatus() != HttpStatus.SC_OK || pageableResult.getBody() == null || pageableResult.getBody().getData() == null) {
+            throw new UncheckedIOException(new IOException("Listing page failed with status " + pageableResult.getStatus() + ": " + pageableResult.getMessage()));
+        }
+
+        final Pageable<T> pageable = pageableResult.getBody();
+        final String next = pageable.getLinks() == null ? null : pageable.getLinks().getNext();
+        if (next != null) {
+            synchronized (this) {
+                if (!closed) {
+                    nextPageRequest = nextPageRequestFactory.apply(next);
+                }
+            }
+        }
+        return pageable;
+    }
+}
@@ -0,0 +1,20 @@
+package com.docsdk.pagination;
+
+import com.docsdk.resource.params.Pagination;
+import org.apache.http.client.methods.HttpUriRequest;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+/**
+ * Creates the request of a page of a list, with the filters and includes of the list.
+ */
+@FunctionalInterface
+public interface PageRequestFactory {
+
+    /**
+     * @param pagination {@link Pagination} of the page
+     * @return {@link HttpUriRequest}
+     */
+    HttpUriRequest create(final Pagination pagination) throws IOException, URISyntaxException;
+}
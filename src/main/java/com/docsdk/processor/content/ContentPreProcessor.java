@@ -1,9 +1,15 @@
 package com.docsdk.processor.content;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import java.io.IOException;
-import java.io.InputStream;
 
 public interface ContentPreProcessor {
 
-    String preProcess(final InputStream inputStream) throws IOException;
+    /**
+     * Advance the parser to the value, which is bound to the result body.
+     *
+     * @return the parser, positioned at the first token of the value, or before the content to bind all of it
+     */
+    JsonParser preProcess(final JsonParser jsonParser) throws IOException;
 }
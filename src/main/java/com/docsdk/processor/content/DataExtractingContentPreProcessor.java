@@ -1,23 +1,35 @@
 package com.docsdk.processor.content;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import java.io.IOException;
-import java.io.InputStream;
 
+/**
+ * Unwraps the {@code {"data": ...}} envelope while streaming, so only the "data" value is bound, regardless of the order of fields
+ * and of whitespace, and the content is never read into a string.
+ */
 public class DataExtractingContentPreProcessor implements ContentPreProcessor {
 
     private static final String DATA = "data";
 
-    private final DefaultContentPreProcessor defaultContentPreProcessor;
+    @Override
+    public JsonParser preProcess(final JsonParser jsonParser) throws IOException {
+        if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(jsonParser, "Expected an object with a \"" + DATA + "\" field");
+        }
 
-    public DataExtractingContentPreProcessor() {
-        this.defaultContentPreProcessor = new DefaultContentPreProcessor();
-    }
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = jsonParser.getCurrentName();
+            jsonParser.nextToken();
 
-    @Override
-    public String preProcess(final InputStream inputStream) throws IOException {
-        final String rawString = defaultContentPreProcessor.preProcess(inputStream);
+            if (DATA.equals(fieldName)) {
+                return jsonParser;
+            }
+            jsonParser.skipChildren();
+        }
 
-        // Get rid of "data" part
-        return rawString.substring(8, rawString.length() - 1);
+        throw new JsonParseException(jsonParser, "Expected an object with a \"" + DATA + "\" field");
     }
 }
@@ -1,22 +1,11 @@
 package com.docsdk.processor.content;
 
-import com.google.common.base.Charsets;
-import com.google.common.io.ByteSource;
-
-import java.io.IOException;
-import java.io.InputStream;
+import com.fasterxml.jackson.core.JsonParser;
 
 public class DefaultContentPreProcessor implements ContentPreProcessor {
 
     @Override
-    public String preProcess(final InputStream inputStream) throws IOException {
-        final ByteSource byteSource = new ByteSource() {
-            @Override
-            public InputStream openStream() {
-                return inputStream;
-            }
-        };
-
-        return byteSource.asCharSource(Charsets.UTF_8).read();
+    public JsonParser preProcess(final JsonParser jsonParser) {
+        return jsonParser;
     }
 }
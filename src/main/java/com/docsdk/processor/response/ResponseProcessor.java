@@ -12,4 +12,14 @@ public interface ResponseProcessor {
     <T> Result<T> process(
         final int status, final Header[] headers, final InputStream inputStream, final TypeReference<T> typeReference
     ) throws IOException;
+
+    /**
+     * Streaming processors hand the content input stream over to the result, so it stays bound to the connection
+     * and it is up to the caller to close it
+     *
+     * @return true, if the content input stream must not be closed after processing
+     */
+    default boolean isStreaming() {
+        return false;
+    }
 }
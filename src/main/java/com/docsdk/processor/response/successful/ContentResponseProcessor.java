@@ -7,6 +7,7 @@ import com.docsdk.processor.content.DataExtractingContentPreProcessor;
 import com.docsdk.processor.content.DefaultContentPreProcessor;
 import com.docsdk.processor.response.ResponseProcessor;
 import com.docsdk.resource.AbstractResource;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.ImmutableMap;
 import org.apache.http.Header;
@@ -41,9 +42,13 @@ public class ContentResponseProcessor implements ResponseProcessor {
     public <T> Result<T> process(
         final int status, final Header[] headers, final InputStream inputStream, final TypeReference<T> typeReference
     ) throws IOException {
-        final String string = contentPreProcessors.getOrDefault(typeReference, defaultContentPreProcessor).preProcess(inputStream);
+        final T body;
+        try (final JsonParser jsonParser = objectMapperProvider.provide().getFactory().createParser(inputStream)) {
+            body = objectMapperProvider.provideReader(typeReference).readValue(
+                contentPreProcessors.getOrDefault(typeReference, defaultContentPreProcessor).preProcess(jsonParser));
+        }
 
         return Result.<T>builder().status(status).headers(Arrays.stream(headers).collect(Collectors.toMap(Header::getName, Header::getValue, (v1, v2) -> v1 + ", " + v2)))
-            .message("").body(objectMapperProvider.provide().readValue(string, typeReference)).build();
+            .message("").body(body).build();
     }
 }
@@ -0,0 +1,27 @@
+package com.docsdk.processor.response.successful;
+
+import com.docsdk.dto.result.Result;
+import com.docsdk.processor.response.ResponseProcessor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.apache.http.Header;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class StreamingInputStreamResponseProcessor implements ResponseProcessor {
+
+    @Override
+    public <T> Result<T> process(
+        final int status, final Header[] headers, final InputStream inputStream, final TypeReference<T> typeReference
+    ) throws IOException {
+        return Result.<T>builder().headers(Arrays.stream(headers).collect(Collectors.toMap(Header::getName, Header::getValue, (v1, v2) -> v1 + ", " + v2)))
+            .message("").body((T) inputStream).status(status).build();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return true;
+    }
+}
@@ -0,0 +1,171 @@
+package com.docsdk.reactive;
+
+import com.docsdk.dto.response.Pageable;
+import com.docsdk.dto.result.Result;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Publishes the items of all pages of a list, following the {@code next} link of each page.
+ * <p>
+ * Pages are loaded on demand: a page is only requested once the items of the previous one have all been published
+ * and the subscriber asks for more, so at most one page is held per subscription. Loading a page does not block,
+ * the items are published from the thread completing the page, or from the one signalling demand.
+ * <p>
+ * Failing to load a page, e.g. with a status other than 200, fails the subscription with {@link IOException}.
+ * Each subscription lists the pages from the first one.
+ *
+ * @param <T> item type
+ */
+public class PagePublisher<T> implements Publisher<T> {
+
+    private final HttpUriRequest firstPageRequest;
+    private final Function<HttpUriRequest, CompletableFuture<Result<Pageable<T>>>> pageLoader;
+    private final Function<String, HttpUriRequest> nextPageRequestFactory;
+
+    /**
+     * @param firstPageRequest       request of the first page
+     * @param pageLoader             loads a page without blocking, e.g. {@code AbstractRequestExecutor.executeAsync}
+     * @param nextPageRequestFactory creates the request of a page from its link
+     */
+    public PagePublisher(
+        final HttpUriRequest firstPageRequest, final Function<HttpUriRequest, CompletableFuture<Result<Pageable<T>>>> pageLoader,
+        final Function<String, HttpUriRequest> nextPageRequestFactory
+    ) {
+        this.firstPageRequest = firstPageRequest;
+        this.pageLoader = pageLoader;
+        this.nextPageRequestFactory = nextPageRequestFactory;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        final PageSubscription pageSubscription = new PageSubscription(subscriber);
+        subscriber.onSubscribe(pageSubscription);
+    }
+
+    private class PageSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+
+        /**
+         * Number of drain calls pending, only the caller raising it from 0 drains, so signals are never concurrent
+         */
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+
+        /**
+         * Items of the last loaded page, not published yet
+         */
+        private final Queue<T> items = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Request of the next page, null while a page is loading or there is none
+         */
+        @Nullable
+        private volatile HttpUriRequest nextPageRequest;
+
+        @Nullable
+        private volatile CompletableFuture<Result<Pageable<T>>> loadingPage;
+
+        @Nullable
+        private volatile Throwable failure;
+
+        private volatile boolean cancelled;
+
+        /**
+         * Terminal signal sent, only accessed while draining
+         */
+        private boolean terminated;
+
+        private PageSubscription(final Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.nextPageRequest = firstPageRequest;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                failure = Subscriptions.nonPositiveRequest(n);
+            } else {
+                Subscriptions.request(demand, n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            nextPageRequest = null;
+
+            @Nullable final CompletableFuture<Result<Pageable<T>>> page = loadingPage;
+            if (page != null) {
+                page.cancel(false);
+            }
+        }
+
+        private void drain() {
+            if (pendingDrains.getAndIncrement() != 0) {
+                return;
+            }
+
+            do {
+                while (!cancelled && !terminated) {
+                    @Nullable final Throwable throwable = failure;
+                    if (throwable != null) {
+                        terminated = true;
+                        items.clear();
+                        subscriber.onError(throwable);
+                    } else if (!items.isEmpty()) {
+                        if (demand.get() == 0) {
+                            break;
+                        }
+                        Subscriptions.produced(demand);
+                        subscriber.onNext(items.poll());
+                    } else if (loadingPage == null && nextPageRequest == null) {
+                        terminated = true;
+                        subscriber.onComplete();
+                    } else {
+                        if (loadingPage == null && demand.get() > 0) {
+                            load();
+                        }
+                        break;
+                    }
+                }
+            } while (pendingDrains.decrementAndGet() != 0);
+        }
+
+        private void load() {
+            final HttpUriRequest httpUriRequest = nextPageRequest;
+            nextPageRequest = null;
+
+            final CompletableFuture<Result<Pageable<T>>> page = pageLoader.apply(httpUriRequest);
+            loadingPage = page;
+            page.whenComplete((pageableResult, throwable) -> {
+                if (throwable != null) {
+                    failure = Subscriptions.unwrap(throwable);
+                } else if (pageableResult.getStatus() != HttpStatus.SC_OK || pageableResult.getBody() == null || pageableResult.getBody().getData() == null) {
+                    failure = new IOException("Listing page failed with status " + pageableResult.getStatus() + ": " + pageableResult.getMessage());
+                } else {
+                    final Pageable<T> pageable = pageableResult.getBody();
+                    items.addAll(pageable.getData());
+
+                    @Nullable final String next = pageable.getLinks() == null ? null : pageable.getLinks().getNext();
+                    if (next != null && !cancelled) {
+                        nextPageRequest = nextPageRequestFactory.apply(next);
+                    }
+                }
+                loadingPage = null;
+                drain();
+            });
+        }
+    }
+}
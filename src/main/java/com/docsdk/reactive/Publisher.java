@@ -0,0 +1,21 @@
+package com.docsdk.reactive;
+
+/**
+ * Provider of a potentially unbounded number of items, published according to the demand received from its subscribers.
+ * <p>
+ * Mirrors {@code org.reactivestreams.Publisher} method for method, so the SDK does not depend on Reactive Streams,
+ * while adapting to it, e.g. to Project Reactor or RxJava, takes a method reference per interface.
+ *
+ * @param <T> item type
+ */
+@FunctionalInterface
+public interface Publisher<T> {
+
+    /**
+     * Request the publisher to start publishing to the subscriber, once it signals demand through its {@link Subscription}.
+     * Each call starts a new, independent subscription.
+     *
+     * @param subscriber {@link Subscriber}
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+}
@@ -0,0 +1,101 @@
+package com.docsdk.reactive;
+
+import com.docsdk.dto.result.AsyncResult;
+import com.docsdk.dto.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes the single result of an async request, e.g. of {@code tasks().wait(taskId)}.
+ * <p>
+ * The request is sent once the subscriber signals demand, and the result is published from the thread receiving the response,
+ * without blocking. Each subscription sends the request anew. Failing to send or execute the request fails the subscription.
+ *
+ * @param <T> body type
+ */
+public class ResultPublisher<T> implements Publisher<Result<T>> {
+
+    private final AsyncResultSupplier<T> asyncResultSupplier;
+
+    /**
+     * @param asyncResultSupplier sends the request, e.g. {@code () -> asyncDocSDKClient.tasks().wait(taskId)}
+     */
+    public ResultPublisher(final AsyncResultSupplier<T> asyncResultSupplier) {
+        this.asyncResultSupplier = asyncResultSupplier;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super Result<T>> subscriber) {
+        subscriber.onSubscribe(new ResultSubscription(subscriber));
+    }
+
+    @FunctionalInterface
+    public interface AsyncResultSupplier<T> {
+
+        AsyncResult<T> get() throws IOException, URISyntaxException;
+    }
+
+    private class ResultSubscription implements Subscription {
+
+        private final Subscriber<? super Result<T>> subscriber;
+        private final AtomicBoolean requested = new AtomicBoolean();
+
+        @Nullable
+        private volatile CompletableFuture<Result<T>> resultFuture;
+
+        private volatile boolean cancelled;
+
+        private ResultSubscription(final Subscriber<? super Result<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (!requested.compareAndSet(false, true) || cancelled) {
+                return;
+            }
+            if (n <= 0) {
+                subscriber.onError(Subscriptions.nonPositiveRequest(n));
+                return;
+            }
+
+            final CompletableFuture<Result<T>> future;
+            try {
+                future = asyncResultSupplier.get().toCompletionStage().toCompletableFuture();
+            } catch (IOException | URISyntaxException | RuntimeException e) {
+                subscriber.onError(e);
+                return;
+            }
+
+            resultFuture = future;
+            future.whenComplete((result, throwable) -> {
+                if (cancelled) {
+                    return;
+                }
+                if (throwable != null) {
+                    subscriber.onError(Subscriptions.unwrap(throwable));
+                } else {
+                    subscriber.onNext(result);
+                    subscriber.onComplete();
+                }
+            });
+        }
+
+        /**
+         * Stop the publication. The request may still complete, its result is discarded.
+         */
+        @Override
+        public void cancel() {
+            cancelled = true;
+
+            @Nullable final CompletableFuture<Result<T>> future = resultFuture;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.docsdk.reactive;
+
+/**
+ * Receiver of the items of a {@link Publisher}, mirroring {@code org.reactivestreams.Subscriber}.
+ * <p>
+ * Signals are never concurrent, and may come from IO reactor threads, so they should not block.
+ *
+ * @param <T> item type
+ */
+public interface Subscriber<T> {
+
+    /**
+     * Invoked first, no item is published until demand is signalled through {@link Subscription#request(long)}.
+     *
+     * @param subscription {@link Subscription}
+     */
+    void onSubscribe(Subscription subscription);
+
+    void onNext(T item);
+
+    /**
+     * Terminal failure, no further signals follow.
+     *
+     * @param throwable {@link Throwable}
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Terminal success, no further signals follow.
+     */
+    void onComplete();
+}
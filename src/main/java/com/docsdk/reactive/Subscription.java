@@ -0,0 +1,21 @@
+package com.docsdk.reactive;
+
+/**
+ * Link between a {@link Publisher} and one of its {@link Subscriber}s, mirroring {@code org.reactivestreams.Subscription}.
+ * Both methods may be called from any thread, also from within the signals of the subscriber.
+ */
+public interface Subscription {
+
+    /**
+     * Signal demand for more items. Demands add up, {@link Long#MAX_VALUE} means unbounded.
+     * A demand that is not positive fails the subscription with {@link IllegalArgumentException}.
+     *
+     * @param n number of items
+     */
+    void request(long n);
+
+    /**
+     * Stop publishing and release the resources of the subscription, e.g. abort the exchange in flight.
+     */
+    void cancel();
+}
@@ -0,0 +1,51 @@
+package com.docsdk.reactive;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Demand accounting shared by the publishers of the SDK
+ */
+public final class Subscriptions {
+
+    private Subscriptions() {
+    }
+
+    /**
+     * Add demand, capped at {@link Long#MAX_VALUE}, which stands for unbounded demand
+     *
+     * @param demand outstanding demand
+     * @param n      positive demand to add
+     */
+    public static void request(final AtomicLong demand, final long n) {
+        demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+    }
+
+    /**
+     * Take one item off the demand, unless it is unbounded
+     *
+     * @param demand outstanding demand
+     */
+    public static void produced(final AtomicLong demand) {
+        demand.getAndUpdate(current -> current == Long.MAX_VALUE ? current : current - 1);
+    }
+
+    /**
+     * @param n requested demand
+     * @return exception a subscription fails with, for a demand which is not positive
+     */
+    public static IllegalArgumentException nonPositiveRequest(final long n) {
+        return new IllegalArgumentException("Non-positive request " + n);
+    }
+
+    /**
+     * @param throwable failure of a future
+     * @return failure the subscription fails with, without the wrappers added by {@link CompletableFuture} and {@link UncheckedIOException}
+     */
+    public static Throwable unwrap(final Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        return cause instanceof UncheckedIOException && cause.getCause() != null ? cause.getCause() : cause;
+    }
+}
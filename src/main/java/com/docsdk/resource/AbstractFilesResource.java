@@ -3,6 +3,7 @@ package com.docsdk.resource;
 import com.docsdk.client.mapper.ObjectMapperProvider;
 import com.docsdk.client.setttings.SettingsProvider;
 import com.docsdk.dto.result.AbstractResult;
+import com.docsdk.dto.result.Result;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.client.utils.URIBuilder;
@@ -12,8 +13,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
-public abstract class AbstractFilesResource<ISAR extends AbstractResult<InputStream>> extends AbstractResource {
+public abstract class AbstractFilesResource<ISAR extends AbstractResult<InputStream>, PAR extends AbstractResult<Path>> extends AbstractResource {
 
     public AbstractFilesResource(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider
@@ -22,7 +26,8 @@ public abstract class AbstractFilesResource<ISAR extends AbstractResult<InputStr
     }
 
     /**
-     * Download file
+     * Download file. The whole file is buffered in memory before the result is returned, which suits small files only.
+     * For large files, use {@link #stream(String)} to read it from the connection, or {@link #download(String, Path)} to write it straight to a file.
      *
      * @param path path to file
      * @return IS
@@ -33,6 +38,31 @@ public abstract class AbstractFilesResource<ISAR extends AbstractResult<InputStr
         @NotNull final String path
     ) throws IOException, URISyntaxException;
 
+    /**
+     * Download file, streaming it from the connection. The input stream must be closed in order to release the connection
+     *
+     * @param path path to file
+     * @return IS
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public abstract ISAR stream(
+        @NotNull final String path
+    ) throws IOException, URISyntaxException;
+
+    /**
+     * Download file straight into the destination file, without holding it in memory
+     *
+     * @param path        path to file
+     * @param destination {@link Path} destination file, existing file is replaced
+     * @return P
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public abstract PAR download(
+        @NotNull final String path, @NotNull final Path destination
+    ) throws IOException, URISyntaxException;
+
     protected HttpUriRequest getDownloadHttpUriRequest(
         @NotNull final String path
     ) throws URISyntaxException {
@@ -40,4 +70,28 @@ public abstract class AbstractFilesResource<ISAR extends AbstractResult<InputStr
 
         return RequestBuilder.get().setUri(uri).build();
     }
+
+    protected Result<Path> copyToPath(
+        final Result<InputStream> inputStreamResult, final Path destination
+    ) throws IOException {
+        if (inputStreamResult.getBody() == null) {
+            return Result.<Path>builder().status(inputStreamResult.getStatus()).headers(inputStreamResult.getHeaders()).message(inputStreamResult.getMessage()).build();
+        }
+
+        try (final InputStream inputStream = inputStreamResult.getBody()) {
+            Files.copy(inputStream, destination, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        return Result.<Path>builder().status(inputStreamResult.getStatus()).headers(inputStreamResult.getHeaders()).message("").body(destination).build();
+    }
+
+    protected Result<Path> toPathResult(
+        final Result<Void> voidResult, final Path destination
+    ) {
+        if (voidResult.getStatus() >= 200 && voidResult.getStatus() <= 299) {
+            return Result.<Path>builder().status(voidResult.getStatus()).headers(voidResult.getHeaders()).message("").body(destination).build();
+        }
+
+        return Result.<Path>builder().status(voidResult.getStatus()).headers(voidResult.getHeaders()).message(voidResult.getMessage()).build();
+    }
 }
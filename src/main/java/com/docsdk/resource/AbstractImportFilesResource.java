@@ -11,15 +11,11 @@ import com.docsdk.dto.request.UploadImportRequest;
 import com.docsdk.dto.request.UrlImportRequest;
 import com.docsdk.dto.response.TaskResponse;
 import com.docsdk.dto.result.AbstractResult;
+import com.docsdk.executor.entity.StreamingMultipartEntity;
 import com.google.common.collect.ImmutableList;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
-import org.apache.http.entity.BufferedHttpEntity;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.mime.FormBodyPartBuilder;
-import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.entity.mime.content.InputStreamBody;
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MimeType;
 import org.apache.tika.mime.MimeTypeException;
@@ -28,7 +24,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -46,6 +41,8 @@ public abstract class AbstractImportFilesResource<TRAR extends AbstractResult<Ta
     public static final String PATH_SEGMENT_OPENSTACK = "openstack";
     public static final String PATH_SEGMENT_SFTP = "sftp";
 
+    public static final String PART_NAME_FILE = "form";
+
     private final Tika tika;
 
     public AbstractImportFilesResource(
@@ -302,16 +299,18 @@ public abstract class AbstractImportFilesResource<TRAR extends AbstractResult<Ta
     protected HttpEntity getMultipartHttpEntity(
         final TaskResponse.Result.Form uploadImportResponseResultForm, final File file
     ) throws IOException {
-        // We still need to convert File to InputStream here, because if we don't, then async client will fail with ContentTooLongException if we do not
-        return getMultipartHttpEntity(uploadImportResponseResultForm, file.getName(), new FileInputStream(file));
+        // Streamed straight from the file with a known content length, so neither client buffers it in memory
+        return new StreamingMultipartEntity(uploadImportResponseResultForm.getParameters(), PART_NAME_FILE, file.getName(), file.toPath());
     }
 
     protected HttpEntity getMultipartHttpEntity(
         final TaskResponse.Result.Form uploadImportResponseResultForm, final InputStream inputStream
     ) throws IOException {
         try {
-            final MimeType mimeType = MimeTypes.getDefaultMimeTypes().forName(tika.detect(inputStream));
-            return getMultipartHttpEntity(uploadImportResponseResultForm, "file" + mimeType.getExtension(), inputStream);
+            // Tika reads the beginning of the stream and resets it afterwards, which requires mark support
+            final InputStream markableInputStream = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+            final MimeType mimeType = MimeTypes.getDefaultMimeTypes().forName(tika.detect(markableInputStream));
+            return getMultipartHttpEntity(uploadImportResponseResultForm, "file" + mimeType.getExtension(), markableInputStream);
         } catch (MimeTypeException e) {
             throw new IOException(e);
         }
@@ -321,9 +320,7 @@ public abstract class AbstractImportFilesResource<TRAR extends AbstractResult<Ta
         final TaskResponse.Result.Form uploadImportResponseResultForm,
         @NotNull final String filename, final InputStream inputStream
     ) throws IOException {
-        final MultipartEntityBuilder multipartEntityBuilder = MultipartEntityBuilder.create().setContentType(ContentType.MULTIPART_FORM_DATA);
-        uploadImportResponseResultForm.getParameters().forEach(multipartEntityBuilder::addTextBody);
-        return new BufferedHttpEntity(multipartEntityBuilder.addPart(
-            FormBodyPartBuilder.create("form", new InputStreamBody(new BufferedInputStream(inputStream), filename)).build()).build());
+        // Length of the stream is unknown, so it is sent using chunked transfer encoding
+        return new StreamingMultipartEntity(uploadImportResponseResultForm.getParameters(), PART_NAME_FILE, filename, inputStream);
     }
 }
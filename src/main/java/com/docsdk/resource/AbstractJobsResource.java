@@ -6,6 +6,11 @@ import com.docsdk.dto.request.TaskRequest;
 import com.docsdk.dto.response.JobResponse;
 import com.docsdk.dto.response.Pageable;
 import com.docsdk.dto.result.AbstractResult;
+import com.docsdk.executor.AbstractRequestExecutor;
+import com.docsdk.executor.retry.ExponentialBackoffRetryPolicy;
+import com.docsdk.pagination.FanOutPageIterator;
+import com.docsdk.pagination.PageIterator;
+import com.docsdk.reactive.PagePublisher;
 import com.docsdk.resource.params.Filter;
 import com.docsdk.resource.params.Include;
 import com.docsdk.resource.params.Pagination;
@@ -26,7 +31,6 @@ import org.jetbrains.annotations.Nullable;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -86,18 +90,40 @@ public abstract class AbstractJobsResource<JRAR extends AbstractResult<JobRespon
         @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag
     ) throws IOException, URISyntaxException;
 
+    /**
+     * Create a job with one ore more tasks. Requires the task.write scope.
+     * <p>
+     * The request carries an idempotency key, so the default retry policy retries it on transient failures,
+     * while the server recognizes the repeated request and creates the job only once.
+     *
+     * @param tasks          The tasks of the job, see {@link #create(Map)}.
+     * @param tag            An arbitrary string to identify the job.
+     * @param idempotencyKey A unique key of this job creation, e.g. a random UUID, sent as {@value ExponentialBackoffRetryPolicy#HEADER_IDEMPOTENCY_KEY} header.
+     * @return {@link JRAR}
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public abstract JRAR create(
+        @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag, @NotNull final String idempotencyKey
+    ) throws IOException, URISyntaxException;
+
     protected HttpUriRequest getCreateHttpUriRequest(
         @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag
     ) throws IOException, URISyntaxException {
-        final Map<String, Object> tasksAsMap = new HashMap<>();
-        for (Map.Entry<String, TaskRequest> entry : tasks.entrySet()) {
-            tasksAsMap.put(entry.getKey(), requestToMap(entry.getValue()));
-        }
+        return getCreateHttpUriRequest(tasks, tag, null);
+    }
 
+    protected HttpUriRequest getCreateHttpUriRequest(
+        @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag, @Nullable final String idempotencyKey
+    ) throws IOException, URISyntaxException {
         final URI uri = getUri(ImmutableList.of(PATH_SEGMENT_JOBS));
-        final HttpEntity httpEntity = getHttpEntity(ImmutableMap.of("tasks", tasksAsMap, "tag", tag));
+        final HttpEntity httpEntity = getHttpEntity(ImmutableMap.of("tasks", tasks, "tag", tag));
 
-        return getHttpUriRequest(HttpPost.class, uri, httpEntity);
+        final HttpUriRequest httpUriRequest = getHttpUriRequest(HttpPost.class, uri, httpEntity);
+        if (idempotencyKey != null) {
+            httpUriRequest.setHeader(ExponentialBackoffRetryPolicy.HEADER_IDEMPOTENCY_KEY, idempotencyKey);
+        }
+        return httpUriRequest;
     }
 
     /**
@@ -214,6 +240,73 @@ public abstract class AbstractJobsResource<JRAR extends AbstractResult<JobRespon
         return getHttpUriRequest(HttpGet.class, uri);
     }
 
+    /**
+     * List all jobs, following the pages while they are consumed. Requires the task.read scope.
+     *
+     * @param filters (optional) Filters, see {@link #list(Map, List, Pagination)}
+     * @return {@link PageIterator} over all jobs, also as {@link PageIterator#stream()}
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public PageIterator<JobResponse> listAll(
+        @NotNull final Map<Filter, String> filters
+    ) throws IOException, URISyntaxException {
+        return listAll(filters, ImmutableList.of(), null, PageIterator.DEFAULT_PREFETCH_DEPTH);
+    }
+
+    /**
+     * List all jobs, following the pages while they are consumed. Requires the task.read scope.
+     *
+     * @param filters       (optional) Filters:
+     *                      - status - The result will be filtered to include only jobs with a specific status (processing, finished or error).
+     *                      - tag - The result will be filtered to include only jobs with a tag.
+     * @param includes      (optional) Include tasks in the result.
+     * @param pagination    (optional) Pagination of the first page, e.g. to list more jobs per page.
+     * @param prefetchDepth Number of pages loaded ahead of the one being consumed.
+     * @return {@link PageIterator} over all jobs, also as {@link PageIterator#stream()}
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public PageIterator<JobResponse> listAll(
+        @NotNull final Map<Filter, String> filters, @NotNull final List<Include> includes, @Nullable final Pagination pagination, final int prefetchDepth
+    ) throws IOException, URISyntaxException {
+        return getPageIterator(getAbstractRequestExecutor(), getListHttpUriRequest(filters, includes, pagination), JOB_RESPONSE_PAGEABLE_TYPE_REFERENCE, prefetchDepth);
+    }
+
+    /**
+     * Publish all jobs, loading each page once the subscriber asks for more jobs. Requires the task.read scope.
+     *
+     * @param filters    (optional) Filters, see {@link #list(Map, List, Pagination)}
+     * @param includes   (optional) Include tasks in the result.
+     * @param pagination (optional) Pagination of the first page, e.g. to list more jobs per page.
+     * @return {@link PagePublisher} of all jobs
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public PagePublisher<JobResponse> publishAll(
+        @NotNull final Map<Filter, String> filters, @NotNull final List<Include> includes, @Nullable final Pagination pagination
+    ) throws IOException, URISyntaxException {
+        return getPagePublisher(getAbstractRequestExecutor(), getListHttpUriRequest(filters, includes, pagination), JOB_RESPONSE_PAGEABLE_TYPE_REFERENCE);
+    }
+
+    /**
+     * List all jobs, loading the pages after the first one concurrently, as told by its last link. Requires the task.read scope.
+     *
+     * @param filters        (optional) Filters, see {@link #list(Map, List, Pagination)}
+     * @param includes       (optional) Include tasks in the result.
+     * @param pagination     (optional) Pagination of the first page, its page size applies to all pages.
+     * @param maxConcurrency Maximum number of pages requested and not consumed yet.
+     * @param ordered        Whether the jobs come in the order of the pages, or as soon as their page arrived.
+     * @return {@link FanOutPageIterator} over all jobs, also as {@link FanOutPageIterator#stream()}
+     */
+    public FanOutPageIterator<JobResponse> listAllParallel(
+        @NotNull final Map<Filter, String> filters, @NotNull final List<Include> includes, @Nullable final Pagination pagination,
+        final int maxConcurrency, final boolean ordered
+    ) {
+        return getFanOutPageIterator(getAbstractRequestExecutor(), pagination, pagePagination -> getListHttpUriRequest(filters, includes, pagePagination),
+            JOB_RESPONSE_PAGEABLE_TYPE_REFERENCE, maxConcurrency, ordered);
+    }
+
     /**
      * Delete a job, including all tasks and data. Requires the task.write scope.
      * Jobs are deleted automatically 24 hours after they have ended.
@@ -234,4 +327,9 @@ public abstract class AbstractJobsResource<JRAR extends AbstractResult<JobRespon
 
         return getHttpUriRequest(HttpDelete.class, uri);
     }
+
+    /**
+     * @return request executor of the client, e.g. to load the pages of {@code listAll}
+     */
+    protected abstract AbstractRequestExecutor<?, ?> getAbstractRequestExecutor();
 }
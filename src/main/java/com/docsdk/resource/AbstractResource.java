@@ -8,8 +8,15 @@ import com.docsdk.dto.response.OperationResponse;
 import com.docsdk.dto.response.Pageable;
 import com.docsdk.dto.response.TaskResponse;
 import com.docsdk.dto.response.UserResponse;
+import com.docsdk.dto.response.WebhookEventResponse;
 import com.docsdk.dto.response.WebhookResponse;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.docsdk.executor.AbstractRequestExecutor;
+import com.docsdk.executor.entity.JsonEntity;
+import com.docsdk.pagination.FanOutPageIterator;
+import com.docsdk.pagination.PageIterator;
+import com.docsdk.pagination.PageRequestFactory;
+import com.docsdk.reactive.PagePublisher;
+import com.docsdk.resource.params.Pagination;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -28,8 +35,6 @@ import org.apache.http.client.methods.HttpTrace;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.client.utils.URIBuilder;
-import org.apache.http.entity.ByteArrayEntity;
-import org.apache.http.entity.ContentType;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.Closeable;
@@ -51,12 +56,14 @@ public abstract class AbstractResource implements Closeable {
 
     public static final TypeReference<Void> VOID_TYPE_REFERENCE = new TypeReference<Void>() {};
     public static final TypeReference<InputStream> INPUT_STREAM_TYPE_REFERENCE = new TypeReference<InputStream>() {};
+    public static final TypeReference<InputStream> STREAMING_INPUT_STREAM_TYPE_REFERENCE = new TypeReference<InputStream>() {};
     public static final TypeReference<Map<String, Object>> MAP_STRING_TO_OBJECT_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
 
     public static final TypeReference<TaskResponse> TASK_RESPONSE_TYPE_REFERENCE = new TypeReference<TaskResponse>() {};
     public static final TypeReference<JobResponse> JOB_RESPONSE_TYPE_REFERENCE = new TypeReference<JobResponse>() {};
     public static final TypeReference<UserResponse> USER_RESPONSE_TYPE_REFERENCE = new TypeReference<UserResponse>() {};
     public static final TypeReference<WebhookResponse> WEBHOOKS_RESPONSE_TYPE_REFERENCE = new TypeReference<WebhookResponse>() {};
+    public static final TypeReference<WebhookEventResponse> WEBHOOK_EVENT_RESPONSE_TYPE_REFERENCE = new TypeReference<WebhookEventResponse>() {};
 
     public static final TypeReference<Pageable<OperationResponse>> OPERATION_RESPONSE_PAGEABLE_TYPE_REFERENCE = new TypeReference<Pageable<OperationResponse>>() {};
     public static final TypeReference<Pageable<TaskResponse>> TASK_RESPONSE_PAGEABLE_TYPE_REFERENCE = new TypeReference<Pageable<TaskResponse>>() {};
@@ -107,14 +114,14 @@ public abstract class AbstractResource implements Closeable {
 
     protected HttpEntity getHttpEntity(
         final Request request
-    ) throws JsonProcessingException {
-        return getHttpEntity(requestToMap(request));
+    ) {
+        return new JsonEntity(objectMapperProvider.provideWriter(), request);
     }
 
     protected HttpEntity getHttpEntity(
         final Map<String, Object> map
-    ) throws JsonProcessingException {
-        return new ByteArrayEntity(objectMapperProvider.provide().writeValueAsBytes(map), ContentType.APPLICATION_JSON);
+    ) {
+        return new JsonEntity(objectMapperProvider.provideWriter(), map);
     }
 
     protected HttpUriRequest getHttpUriRequest(
@@ -129,4 +136,62 @@ public abstract class AbstractResource implements Closeable {
         return requestBuilderProviders.get(httpRequestBaseClass).get().setUri(uri).setEntity(httpEntity)
             .setHeader(HEADER_USER_AGENT, VALUE_USER_AGENT).setHeader(HEADER_AUTHORIZATION, BEARER + " " + settingsProvider.getApiKey()).build();
     }
+
+    /**
+     * Iterate over the items of all pages of a list, starting with the given page and following the next link of each page.
+     *
+     * @param abstractRequestExecutor {@link AbstractRequestExecutor} loading the pages
+     * @param firstPageHttpUriRequest request of the first page
+     * @param typeReference           page type reference
+     * @param prefetchDepth           number of pages loaded ahead of the one being consumed
+     * @return {@link PageIterator}
+     */
+    protected <T> PageIterator<T> getPageIterator(
+        final AbstractRequestExecutor<?, ?> abstractRequestExecutor, final HttpUriRequest firstPageHttpUriRequest,
+        final TypeReference<Pageable<T>> typeReference, final int prefetchDepth
+    ) {
+        return new PageIterator<>(firstPageHttpUriRequest, httpUriRequest -> abstractRequestExecutor.executeAsync(httpUriRequest, typeReference),
+            next -> getHttpUriRequest(HttpGet.class, URI.create(next)), prefetchDepth);
+    }
+
+    /**
+     * Iterate over the items of all pages of a list, loading the pages after the first one concurrently.
+     *
+     * @param abstractRequestExecutor {@link AbstractRequestExecutor} loading the pages
+     * @param firstPagination         {@link Pagination} of the first page, if any
+     * @param pageRequestFactory      creates the request of a page
+     * @param typeReference           page type reference
+     * @param maxConcurrency          maximum number of pages requested and not consumed yet
+     * @param ordered                 whether the items come in the order of the pages
+     * @return {@link FanOutPageIterator}
+     */
+    protected <T> FanOutPageIterator<T> getFanOutPageIterator(
+        final AbstractRequestExecutor<?, ?> abstractRequestExecutor, @Nullable final Pagination firstPagination, final PageRequestFactory pageRequestFactory,
+        final TypeReference<Pageable<T>> typeReference, final int maxConcurrency, final boolean ordered
+    ) {
+        return new FanOutPageIterator<>(firstPagination, pageRequestFactory,
+            httpUriRequest -> abstractRequestExecutor.executeAsync(httpUriRequest, typeReference), maxConcurrency, ordered);
+    }
+
+    /**
+     * Publish the items of all pages of a list, starting with the given page and loading each following page once the subscriber asks for more items.
+     *
+     * @param abstractRequestExecutor {@link AbstractRequestExecutor} loading the pages
+     * @param firstPageHttpUriRequest request of the first page
+     * @param typeReference           page type reference
+     * @return {@link PagePublisher}
+     */
+    protected <T> PagePublisher<T> getPagePublisher(
+        final AbstractRequestExecutor<?, ?> abstractRequestExecutor, final HttpUriRequest firstPageHttpUriRequest, final TypeReference<Pageable<T>> typeReference
+    ) {
+        return new PagePublisher<>(firstPageHttpUriRequest, httpUriRequest -> abstractRequestExecutor.executeAsync(httpUriRequest, typeReference),
+            next -> getHttpUriRequest(HttpGet.class, URI.create(next)));
+    }
+
+    /**
+     * Resources are lightweight views over the request executor of their client, which owns and closes it, so there is nothing to close here.
+     */
+    @Override
+    public void close() {
+    }
 }
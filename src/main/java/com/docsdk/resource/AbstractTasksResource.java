@@ -7,6 +7,10 @@ import com.docsdk.dto.response.OperationResponse;
 import com.docsdk.dto.response.Pageable;
 import com.docsdk.dto.response.TaskResponse;
 import com.docsdk.dto.result.AbstractResult;
+import com.docsdk.executor.AbstractRequestExecutor;
+import com.docsdk.pagination.FanOutPageIterator;
+import com.docsdk.pagination.PageIterator;
+import com.docsdk.reactive.PagePublisher;
 import com.docsdk.resource.params.Filter;
 import com.docsdk.resource.params.Include;
 import com.docsdk.resource.params.Pagination;
@@ -224,6 +228,71 @@ public abstract class AbstractTasksResource<TRAR extends AbstractResult<TaskResp
         return getHttpUriRequest(HttpGet.class, uri);
     }
 
+    /**
+     * List all tasks, following the pages while they are consumed. Requires the task.read scope.
+     *
+     * @param filters (optional) Filters, see {@link #list(Map, List, Pagination)}
+     * @return {@link PageIterator} over all tasks, also as {@link PageIterator#stream()}
+     * @throws URISyntaxException
+     */
+    public PageIterator<TaskResponse> listAll(
+        @NotNull final Map<Filter, String> filters
+    ) throws URISyntaxException {
+        return listAll(filters, ImmutableList.of(), null, PageIterator.DEFAULT_PREFETCH_DEPTH);
+    }
+
+    /**
+     * List all tasks, following the pages while they are consumed. Requires the task.read scope.
+     *
+     * @param filters       (optional) Filters:
+     *                   - job_id - The result will be filtered to include only tasks for a specific Job ID.
+     *                   - status - The result will be filtered to include only tasks with a specific status (waiting, processing, finished or error).
+     *                   - operation - Filter result to only include tasks of with a matching operation (for example convert or import/s3).
+     * @param includes      (optional) Include retries and/or depends_on_tasks in the result.
+     * @param pagination    (optional) Pagination of the first page, e.g. to list more tasks per page.
+     * @param prefetchDepth Number of pages loaded ahead of the one being consumed.
+     * @return {@link PageIterator} over all tasks, also as {@link PageIterator#stream()}
+     * @throws URISyntaxException
+     */
+    public PageIterator<TaskResponse> listAll(
+        @NotNull final Map<Filter, String> filters, @NotNull final List<Include> includes, @Nullable final Pagination pagination, final int prefetchDepth
+    ) throws URISyntaxException {
+        return getPageIterator(getAbstractRequestExecutor(), getListHttpUriRequest(filters, includes, pagination), TASK_RESPONSE_PAGEABLE_TYPE_REFERENCE, prefetchDepth);
+    }
+
+    /**
+     * Publish all tasks, loading each page once the subscriber asks for more tasks. Requires the task.read scope.
+     *
+     * @param filters    (optional) Filters, see {@link #list(Map, List, Pagination)}
+     * @param includes   (optional) Include retries and/or depends_on_tasks in the result.
+     * @param pagination (optional) Pagination of the first page, e.g. to list more tasks per page.
+     * @return {@link PagePublisher} of all tasks
+     * @throws URISyntaxException
+     */
+    public PagePublisher<TaskResponse> publishAll(
+        @NotNull final Map<Filter, String> filters, @NotNull final List<Include> includes, @Nullable final Pagination pagination
+    ) throws URISyntaxException {
+        return getPagePublisher(getAbstractRequestExecutor(), getListHttpUriRequest(filters, includes, pagination), TASK_RESPONSE_PAGEABLE_TYPE_REFERENCE);
+    }
+
+    /**
+     * List all tasks, loading the pages after the first one concurrently, as told by its last link. Requires the task.read scope.
+     *
+     * @param filters        (optional) Filters, see {@link #list(Map, List, Pagination)}
+     * @param includes       (optional) Include retries and/or depends_on_tasks in the result.
+     * @param pagination     (optional) Pagination of the first page, its page size applies to all pages.
+     * @param maxConcurrency Maximum number of pages requested and not consumed yet.
+     * @param ordered        Whether the tasks come in the order of the pages, or as soon as their page arrived.
+     * @return {@link FanOutPageIterator} over all tasks, also as {@link FanOutPageIterator#stream()}
+     */
+    public FanOutPageIterator<TaskResponse> listAllParallel(
+        @NotNull final Map<Filter, String> filters, @NotNull final List<Include> includes, @Nullable final Pagination pagination,
+        final int maxConcurrency, final boolean ordered
+    ) {
+        return getFanOutPageIterator(getAbstractRequestExecutor(), pagination, pagePagination -> getListHttpUriRequest(filters, includes, pagePagination),
+            TASK_RESPONSE_PAGEABLE_TYPE_REFERENCE, maxConcurrency, ordered);
+    }
+
     /**
      * Cancel a task that is in status waiting or processing. Requires the task.write scope.
      *
@@ -360,6 +429,23 @@ public abstract class AbstractTasksResource<TRAR extends AbstractResult<TaskResp
         return getHttpUriRequest(HttpGet.class, uri);
     }
 
+    /**
+     * List all possible operations, following the pages while they are consumed.
+     *
+     * @param filters       (optional) Filters, see {@link #operations(Map, List, Boolean)}
+     * @param includes      (optional) Include options and/or engine_versions in the result.
+     * @param alternative   (optional) Include alternative conversion types.
+     * @param prefetchDepth Number of pages loaded ahead of the one being consumed.
+     * @return {@link PageIterator} over all operations, also as {@link PageIterator#stream()}
+     * @throws URISyntaxException
+     */
+    public PageIterator<OperationResponse> listAllOperations(
+        @NotNull final Map<Filter, String> filters, @NotNull final List<Include> includes, @Nullable final Boolean alternative, final int prefetchDepth
+    ) throws URISyntaxException {
+        return getPageIterator(getAbstractRequestExecutor(), getOperationsHttpUriRequest(filters, includes, alternative),
+            OPERATION_RESPONSE_PAGEABLE_TYPE_REFERENCE, prefetchDepth);
+    }
+
     /**
      * Create a task to convert one input file from input_format to output_format. Requires the task.write scope.
      *
@@ -520,15 +606,8 @@ public abstract class AbstractTasksResource<TRAR extends AbstractResult<TaskResp
             @NotNull final GetMetadataTaskRequest getMetadataTaskRequest
     ) throws IOException, URISyntaxException;
 
-
-    @Override
-    public void close() throws IOException {
-        abstractConvertFilesResource.close();
-        abstractOptimizeFilesResource.close();
-        abstractCaptureWebsitesResource.close();
-        abstractMergeFilesResource.close();
-        abstractCreateArchivesResource.close();
-        abstractExecuteCommandsResource.close();
-        abstractCreateThumbnailsResource.close();
-    }
+    /**
+     * @return request executor of the client, e.g. to load the pages of {@code listAll}
+     */
+    protected abstract AbstractRequestExecutor<?, ?> getAbstractRequestExecutor();
 }
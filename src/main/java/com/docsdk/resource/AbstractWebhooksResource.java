@@ -6,12 +6,14 @@ import com.docsdk.dto.request.WebhookRequest;
 import com.docsdk.dto.response.Pageable;
 import com.docsdk.dto.response.WebhookResponse;
 import com.docsdk.dto.result.AbstractResult;
+import com.docsdk.executor.AbstractRequestExecutor;
+import com.docsdk.pagination.PageIterator;
 import com.docsdk.resource.params.Filter;
 import com.docsdk.resource.params.Pagination;
 import com.docsdk.resource.params.converter.FiltersToNameValuePairsConverter;
 import com.docsdk.resource.params.converter.PaginationToNameValuePairsConverter;
+import com.docsdk.webhook.WebhookSignatureVerifier;
 import com.google.common.collect.ImmutableList;
-import org.apache.commons.codec.binary.Hex;
 import org.apache.http.HttpEntity;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.methods.HttpDelete;
@@ -21,11 +23,10 @@ import org.apache.http.client.methods.HttpUriRequest;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
@@ -41,6 +42,8 @@ public abstract class AbstractWebhooksResource<WRAR extends AbstractResult<Webho
     private final FiltersToNameValuePairsConverter filtersToNameValuePairsConverter;
     private final PaginationToNameValuePairsConverter paginationToNameValuePairsConverter;
 
+    private volatile WebhookSignatureVerifier webhookSignatureVerifier;
+
     public AbstractWebhooksResource(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider
     ) {
@@ -121,6 +124,22 @@ public abstract class AbstractWebhooksResource<WRAR extends AbstractResult<Webho
         return getHttpUriRequest(HttpGet.class, uri);
     }
 
+    /**
+     * List all webhooks, following the pages while they are consumed. Requires the webhook.read scope.
+     *
+     * @param filters       (optional) Filters:
+     *                      - url - The result will be filtered to include only webhooks with a specific URL.
+     * @param pagination    (optional) Pagination of the first page, e.g. to list more webhooks per page.
+     * @param prefetchDepth Number of pages loaded ahead of the one being consumed.
+     * @return {@link PageIterator} over all webhooks, also as {@link PageIterator#stream()}
+     * @throws URISyntaxException
+     */
+    public PageIterator<WebhookResponse> listAll(
+        @NotNull final Map<Filter, String> filters, @Nullable final Pagination pagination, final int prefetchDepth
+    ) throws URISyntaxException {
+        return getPageIterator(getAbstractRequestExecutor(), getListHttpUriRequest(filters, pagination), WEBHOOKS_RESPONSE_PAGEABLE_TYPE_REFERENCE, prefetchDepth);
+    }
+
     /**
      * Delete a webhook. Requires the webhook.write scope.
      *
@@ -150,10 +169,35 @@ public abstract class AbstractWebhooksResource<WRAR extends AbstractResult<Webho
     public boolean verify(
         @NotNull final String payload, @NotNull final String signature
     ) throws InvalidKeyException, NoSuchAlgorithmException {
-        final Mac mac = Mac.getInstance(HMAC_SHA256);
-        final SecretKeySpec secretKeySpec = new SecretKeySpec(getSettingsProvider().getWebhookSigningSecret().getBytes(), HMAC_SHA256);
-        mac.init(secretKeySpec);
+        return verify(payload.getBytes(StandardCharsets.UTF_8), signature);
+    }
+
+    /**
+     * Verify webhook signature of the raw request body
+     *
+     * @param payload   payload, as received
+     * @param signature signature
+     * @return whether the signature matches
+     */
+    public boolean verify(
+        @NotNull final byte[] payload, @NotNull final String signature
+    ) throws InvalidKeyException, NoSuchAlgorithmException {
+        return getWebhookSignatureVerifier().verify(payload, signature);
+    }
 
-        return signature.equals(Hex.encodeHexString(mac.doFinal(payload.getBytes())));
+    /**
+     * @return {@link WebhookSignatureVerifier} for the signing secret of the settings, created on first use
+     */
+    public WebhookSignatureVerifier getWebhookSignatureVerifier() throws InvalidKeyException, NoSuchAlgorithmException {
+        // Created at most a few times under contention, every instance is equivalent
+        if (webhookSignatureVerifier == null) {
+            webhookSignatureVerifier = WebhookSignatureVerifier.of(getSettingsProvider().getWebhookSigningSecret());
+        }
+        return webhookSignatureVerifier;
     }
+
+    /**
+     * @return request executor of the client, e.g. to load the pages of {@code listAll}
+     */
+    protected abstract AbstractRequestExecutor<?, ?> getAbstractRequestExecutor();
 }
@@ -33,9 +33,4 @@ public class AsyncCaptureWebsitesResource extends AbstractCaptureWebsitesResourc
     ) throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getCaptureHttpUriRequest(captureWebsitesTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-    }
 }
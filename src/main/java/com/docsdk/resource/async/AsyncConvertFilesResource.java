@@ -69,9 +69,4 @@ public class AsyncConvertFilesResource extends AbstractConvertFilesResource<
     ) throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getConvertFormatsHttpUriRequest(filters, includes, alternative), OPERATION_RESPONSE_PAGEABLE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-    }
 }
@@ -33,9 +33,4 @@ public class AsyncCreateArchivesResource extends AbstractCreateArchivesResource<
     ) throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getArchiveHttpUriRequest(createArchivesTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-    }
 }
@@ -33,9 +33,4 @@ public class AsyncCreateThumbnailsResource extends AbstractCreateThumbnailsResou
     ) throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getThumbnailHttpUriRequest(createThumbnailsTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-    }
 }
@@ -33,9 +33,4 @@ public class AsyncExecuteCommandsResource extends AbstractExecuteCommandsResourc
     ) throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getCommandHttpUriRequest(executeCommandsTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-    }
 }
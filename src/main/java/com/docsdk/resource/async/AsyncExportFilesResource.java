@@ -73,9 +73,4 @@ public class AsyncExportFilesResource extends AbstractExportFilesResource<AsyncR
     ) throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getSftpStorageHttpUriRequest(sftpExportRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-    }
 }
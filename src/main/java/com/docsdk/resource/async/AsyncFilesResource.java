@@ -3,7 +3,9 @@ package com.docsdk.resource.async;
 import com.docsdk.client.mapper.ObjectMapperProvider;
 import com.docsdk.client.setttings.SettingsProvider;
 import com.docsdk.dto.result.AsyncResult;
+import com.docsdk.dto.result.MappedAsyncResult;
 import com.docsdk.executor.AsyncRequestExecutor;
+import com.docsdk.reactive.Publisher;
 import com.docsdk.resource.AbstractFilesResource;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -11,9 +13,11 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 
 @Slf4j
-public class AsyncFilesResource extends AbstractFilesResource<AsyncResult<InputStream>> {
+public class AsyncFilesResource extends AbstractFilesResource<AsyncResult<InputStream>, AsyncResult<Path>> {
 
     private final AsyncRequestExecutor asyncRequestExecutor;
 
@@ -34,7 +38,32 @@ public class AsyncFilesResource extends AbstractFilesResource<AsyncResult<InputS
     }
 
     @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
+    public AsyncResult<InputStream> stream(
+        @NotNull final String path
+    ) throws IOException, URISyntaxException {
+        return asyncRequestExecutor.stream(getDownloadHttpUriRequest(path));
+    }
+
+    @Override
+    public AsyncResult<Path> download(
+        @NotNull final String path, @NotNull final Path destination
+    ) throws IOException, URISyntaxException {
+        final AsyncResult<Void> voidAsyncResult = asyncRequestExecutor.download(getDownloadHttpUriRequest(path), destination);
+
+        return MappedAsyncResult.<Void, Path>builder().asyncResult(voidAsyncResult).resultMapper(voidResult -> toPathResult(voidResult, destination)).build();
+    }
+
+    /**
+     * Publish the file as {@link ByteBuffer} chunks, read from the connection only as fast as the subscriber asks for them.
+     * The download starts with each subscription.
+     *
+     * @param path file url
+     * @return {@link Publisher}
+     * @throws URISyntaxException
+     */
+    public Publisher<ByteBuffer> publish(
+        @NotNull final String path
+    ) throws URISyntaxException {
+        return asyncRequestExecutor.publish(getDownloadHttpUriRequest(path));
     }
 }
@@ -33,9 +33,4 @@ public class AsyncGetMetadataResource extends AbstractGetMetadataResource<AsyncR
     ) throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getMetadataHttpUriRequest(getMetadataTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-    }
 }
@@ -29,7 +29,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.concurrent.ExecutionException;
 
 @Slf4j
 public class AsyncImportFilesResource extends AbstractImportFilesResource<AsyncResult<TaskResponse>> {
@@ -87,9 +86,7 @@ public class AsyncImportFilesResource extends AbstractImportFilesResource<AsyncR
     public AsyncResult<TaskResponse> upload(
         @NotNull final AsyncResult<TaskResponse> TaskResponseAsyncResult, @NotNull final File file
     ) throws IOException, URISyntaxException {
-        try {
-            final Result<TaskResponse> TaskResponseResult = TaskResponseAsyncResult.get();
-
+        return TaskResponseAsyncResult.thenCompose(TaskResponseResult -> {
             if (HttpStatus.SC_CREATED == TaskResponseResult.getStatus()) {
                 final TaskResponse taskResponse = TaskResponseResult.getBody();
 
@@ -98,24 +95,18 @@ public class AsyncImportFilesResource extends AbstractImportFilesResource<AsyncR
                 return CompletedAsyncResult.<TaskResponse>builder().result(Result.<TaskResponse>builder()
                     .status(TaskResponseResult.getStatus()).message(TaskResponseResult.getMessage()).build()).build();
             }
-        } catch (InterruptedException | ExecutionException e) {
-            throw new IOException(e);
-        }
+        });
     }
 
     @Override
     public AsyncResult<TaskResponse> upload(
         @NotNull final String taskId, @NotNull final TaskResponse.Result.Form taskResponseResultForm, @NotNull final File file
     ) throws IOException, URISyntaxException {
-        try {
-            final URI multipartUri = new URI(taskResponseResultForm.getUrl());
-            final HttpEntity multipartHttpEntity = getMultipartHttpEntity(taskResponseResultForm, file);
-            final HttpUriRequest multipartHttpUriRequest = getHttpUriRequest(HttpPost.class, multipartUri, multipartHttpEntity);
+        final URI multipartUri = new URI(taskResponseResultForm.getUrl());
+        final HttpEntity multipartHttpEntity = getMultipartHttpEntity(taskResponseResultForm, file);
+        final HttpUriRequest multipartHttpUriRequest = getHttpUriRequest(HttpPost.class, multipartUri, multipartHttpEntity);
 
-            return uploadPostProcess(taskId, asyncRequestExecutor.execute(multipartHttpUriRequest, VOID_TYPE_REFERENCE));
-        } catch (InterruptedException | ExecutionException e) {
-            throw new IOException(e);
-        }
+        return uploadPostProcess(taskId, asyncRequestExecutor.execute(multipartHttpUriRequest, VOID_TYPE_REFERENCE));
     }
 
     @Override
@@ -129,9 +120,7 @@ public class AsyncImportFilesResource extends AbstractImportFilesResource<AsyncR
     public AsyncResult<TaskResponse> upload(
         @NotNull final AsyncResult<TaskResponse> TaskResponseAsyncResult, @NotNull final InputStream inputStream
     ) throws IOException, URISyntaxException {
-        try {
-            final Result<TaskResponse> TaskResponseResult = TaskResponseAsyncResult.get();
-
+        return TaskResponseAsyncResult.thenCompose(TaskResponseResult -> {
             if (HttpStatus.SC_CREATED == TaskResponseResult.getStatus()) {
                 final TaskResponse taskResponse = TaskResponseResult.getBody();
 
@@ -140,50 +129,46 @@ public class AsyncImportFilesResource extends AbstractImportFilesResource<AsyncR
                 return CompletedAsyncResult.<TaskResponse>builder().result(Result.<TaskResponse>builder()
                     .status(TaskResponseResult.getStatus()).message(TaskResponseResult.getMessage()).build()).build();
             }
-        } catch (InterruptedException | ExecutionException e) {
-            throw new IOException(e);
-        }
+        });
     }
 
     @Override
     public AsyncResult<TaskResponse> upload(
         @NotNull final String taskId, @NotNull final TaskResponse.Result.Form taskResponseResultForm, @NotNull final InputStream inputStream
     ) throws IOException, URISyntaxException {
-        try {
-            final URI multipartUri = new URI(taskResponseResultForm.getUrl());
-            final HttpEntity multipartHttpEntity = getMultipartHttpEntity(taskResponseResultForm, inputStream);
-            final HttpUriRequest multipartHttpUriRequest = getHttpUriRequest(HttpPost.class, multipartUri, multipartHttpEntity);
+        final URI multipartUri = new URI(taskResponseResultForm.getUrl());
+        final HttpEntity multipartHttpEntity = getMultipartHttpEntity(taskResponseResultForm, inputStream);
+        final HttpUriRequest multipartHttpUriRequest = getHttpUriRequest(HttpPost.class, multipartUri, multipartHttpEntity);
 
-            return uploadPostProcess(taskId, asyncRequestExecutor.execute(multipartHttpUriRequest, VOID_TYPE_REFERENCE));
-        } catch (InterruptedException | ExecutionException e) {
-            throw new IOException(e);
-        }
+        return uploadPostProcess(taskId, asyncRequestExecutor.execute(multipartHttpUriRequest, VOID_TYPE_REFERENCE));
     }
 
+    /**
+     * Chain the redirect and the task lookup onto the multipart request, so no thread is blocked while the upload is in flight
+     */
     private AsyncResult<TaskResponse> uploadPostProcess(
         final String taskId, final AsyncResult<Void> multipartVoidAsyncResult
-    ) throws IOException, URISyntaxException, InterruptedException, ExecutionException {
-        final Result<Void> multipartVoidResult = multipartVoidAsyncResult.get();
-
-        if (HttpStatus.SC_CREATED == multipartVoidResult.getStatus()) {
-            return asyncTasksResource.show(taskId);
-        } else if (HttpStatus.SC_SEE_OTHER == multipartVoidResult.getStatus()) {
-            final URI redirectUri = new URI(multipartVoidResult.getHeaders().get("Location"));
-            final HttpUriRequest redirectHttpUriRequest = getHttpUriRequest(HttpGet.class, redirectUri);
-
-            final AsyncResult<Void> redirectVoidAsyncResult = asyncRequestExecutor.execute(redirectHttpUriRequest, VOID_TYPE_REFERENCE);
-            final Result<Void> redirectVoidResult = redirectVoidAsyncResult.get();
-
-            if (HttpStatus.SC_CREATED == redirectVoidResult.getStatus()) {
+    ) {
+        return multipartVoidAsyncResult.thenCompose(multipartVoidResult -> {
+            if (HttpStatus.SC_CREATED == multipartVoidResult.getStatus()) {
                 return asyncTasksResource.show(taskId);
+            } else if (HttpStatus.SC_SEE_OTHER == multipartVoidResult.getStatus()) {
+                final URI redirectUri = new URI(multipartVoidResult.getHeaders().get("Location"));
+                final HttpUriRequest redirectHttpUriRequest = getHttpUriRequest(HttpGet.class, redirectUri);
+
+                return asyncRequestExecutor.execute(redirectHttpUriRequest, VOID_TYPE_REFERENCE).thenCompose(redirectVoidResult -> {
+                    if (HttpStatus.SC_CREATED == redirectVoidResult.getStatus()) {
+                        return asyncTasksResource.show(taskId);
+                    } else {
+                        return CompletedAsyncResult.<TaskResponse>builder().result(Result.<TaskResponse>builder()
+                            .status(redirectVoidResult.getStatus()).message(redirectVoidResult.getMessage()).build()).build();
+                    }
+                });
             } else {
                 return CompletedAsyncResult.<TaskResponse>builder().result(Result.<TaskResponse>builder()
-                    .status(redirectVoidResult.getStatus()).message(redirectVoidResult.getMessage()).build()).build();
+                    .status(multipartVoidResult.getStatus()).message(multipartVoidResult.getMessage()).build()).build();
             }
-        } else {
-            return CompletedAsyncResult.<TaskResponse>builder().result(Result.<TaskResponse>builder()
-                .status(multipartVoidResult.getStatus()).message(multipartVoidResult.getMessage()).build()).build();
-        }
+        });
     }
 
     @Override
@@ -220,10 +205,4 @@ public class AsyncImportFilesResource extends AbstractImportFilesResource<AsyncR
     ) throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getSftpHttpUriRequest(sftpImportRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-        asyncTasksResource.close();
-    }
 }
@@ -7,6 +7,7 @@ import com.docsdk.dto.response.JobResponse;
 import com.docsdk.dto.response.Pageable;
 import com.docsdk.dto.result.AsyncResult;
 import com.docsdk.executor.AsyncRequestExecutor;
+import com.docsdk.reactive.ResultPublisher;
 import com.docsdk.resource.AbstractJobsResource;
 import com.docsdk.resource.params.Filter;
 import com.docsdk.resource.params.Include;
@@ -52,6 +53,13 @@ public class AsyncJobsResource extends AbstractJobsResource<
         return asyncRequestExecutor.execute(getCreateHttpUriRequest(tasks, tag), JOB_RESPONSE_TYPE_REFERENCE);
     }
 
+    @Override
+    public AsyncResult<JobResponse> create(
+        @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag, @NotNull final String idempotencyKey
+    ) throws IOException, URISyntaxException {
+        return asyncRequestExecutor.execute(getCreateHttpUriRequest(tasks, tag, idempotencyKey), JOB_RESPONSE_TYPE_REFERENCE);
+    }
+
     @Override
     public AsyncResult<JobResponse> show(
         @NotNull final String jobId
@@ -66,6 +74,18 @@ public class AsyncJobsResource extends AbstractJobsResource<
         return asyncRequestExecutor.execute(getWaitHttpUriRequest(jobId), JOB_RESPONSE_TYPE_REFERENCE);
     }
 
+    /**
+     * Publish the job once it has ended, waiting for it on the server. The wait request is sent once the subscriber asks for the result.
+     *
+     * @param jobId job id
+     * @return {@link ResultPublisher}
+     */
+    public ResultPublisher<JobResponse> publishWait(
+        @NotNull final String jobId
+    ) {
+        return new ResultPublisher<>(() -> wait(jobId));
+    }
+
     @Override
     public AsyncResult<Pageable<JobResponse>> list() throws IOException, URISyntaxException {
         return list(ImmutableMap.of());
@@ -100,7 +120,7 @@ public class AsyncJobsResource extends AbstractJobsResource<
     }
 
     @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
+    protected AsyncRequestExecutor getAbstractRequestExecutor() {
+        return asyncRequestExecutor;
     }
 }
@@ -33,9 +33,4 @@ public class AsyncMergeFilesResource extends AbstractMergeFilesResource<AsyncRes
     ) throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getMergeHttpUriRequest(mergeFilesTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-    }
 }
@@ -33,9 +33,4 @@ public class AsyncOptimizeFilesResource extends AbstractOptimizeFilesResource<As
     ) throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getOptimizeHttpUriRequest(optimizeFilesTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-    }
 }
@@ -8,6 +8,7 @@ import com.docsdk.dto.response.Pageable;
 import com.docsdk.dto.response.TaskResponse;
 import com.docsdk.dto.result.AsyncResult;
 import com.docsdk.executor.AsyncRequestExecutor;
+import com.docsdk.reactive.ResultPublisher;
 import com.docsdk.resource.AbstractTasksResource;
 import com.docsdk.resource.params.Filter;
 import com.docsdk.resource.params.Include;
@@ -60,6 +61,18 @@ public class AsyncTasksResource extends AbstractTasksResource<AsyncResult<TaskRe
         return asyncRequestExecutor.execute(getWaitHttpUriRequest(taskId), TASK_RESPONSE_TYPE_REFERENCE);
     }
 
+    /**
+     * Publish the task once it has ended, waiting for it on the server. The wait request is sent once the subscriber asks for the result.
+     *
+     * @param taskId task id
+     * @return {@link ResultPublisher}
+     */
+    public ResultPublisher<TaskResponse> publishWait(
+        @NotNull final String taskId
+    ) {
+        return new ResultPublisher<>(() -> wait(taskId));
+    }
+
     public AsyncResult<Pageable<TaskResponse>> list() throws IOException, URISyntaxException {
         return list(ImmutableMap.of());
     }
@@ -207,8 +220,7 @@ public class AsyncTasksResource extends AbstractTasksResource<AsyncResult<TaskRe
     }
 
     @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-        super.close();
+    protected AsyncRequestExecutor getAbstractRequestExecutor() {
+        return asyncRequestExecutor;
     }
 }
@@ -29,9 +29,4 @@ public class AsyncUsersResource extends AbstractUsersResource<AsyncResult<UserRe
     public AsyncResult<UserResponse> me() throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getMeHttpUriRequest(), USER_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
-    }
 }
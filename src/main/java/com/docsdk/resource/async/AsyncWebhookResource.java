@@ -66,7 +66,7 @@ public class AsyncWebhookResource extends AbstractWebhooksResource<
     }
 
     @Override
-    public void close() throws IOException {
-        asyncRequestExecutor.close();
+    protected AsyncRequestExecutor getAbstractRequestExecutor() {
+        return asyncRequestExecutor;
     }
 }
@@ -3,9 +3,12 @@ package com.docsdk.resource.params.converter;
 import com.docsdk.resource.params.Pagination;
 import com.google.common.collect.ImmutableList;
 import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.http.message.BasicNameValuePair;
 import org.jetbrains.annotations.Nullable;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +25,25 @@ public class PaginationToNameValuePairsConverter implements Converter<Pagination
                 new BasicNameValuePair(PARAMETER_PAGE, String.valueOf(paginationNotNull.getPage()))
             )).orElse(ImmutableList.of());
     }
+
+    /**
+     * Read the page of a pagination link, e.g. of {@code links.last}, the inverse of {@link #convert(Pagination)}.
+     *
+     * @param link pagination link
+     * @return page, or null if the link has no valid page parameter
+     */
+    @Nullable
+    public Integer getPage(@Nullable final String link) {
+        if (link == null) {
+            return null;
+        }
+
+        try {
+            return URLEncodedUtils.parse(URI.create(link), StandardCharsets.UTF_8).stream().filter(nameValuePair -> PARAMETER_PAGE.equals(nameValuePair.getName()))
+                .findFirst().map(nameValuePair -> Integer.valueOf(nameValuePair.getValue())).orElse(null);
+        } catch (IllegalArgumentException e) {
+            // Malformed link or page, NumberFormatException included
+            return null;
+        }
+    }
 }
@@ -33,9 +33,4 @@ public class CaptureWebsitesResource extends AbstractCaptureWebsitesResource<Res
     ) throws IOException, URISyntaxException {
         return requestExecutor.execute(getCaptureHttpUriRequest(captureWebsitesTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-    }
 }
@@ -69,9 +69,4 @@ public class ConvertFilesResource extends AbstractConvertFilesResource<
     ) throws IOException, URISyntaxException {
         return requestExecutor.execute(getConvertFormatsHttpUriRequest(filters, includes, alternative), OPERATION_RESPONSE_PAGEABLE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-    }
 }
@@ -33,9 +33,4 @@ public class CreateArchivesResource extends AbstractCreateArchivesResource<Resul
     ) throws IOException, URISyntaxException {
         return requestExecutor.execute(getArchiveHttpUriRequest(createArchivesTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-    }
 }
@@ -33,9 +33,4 @@ public class CreateThumbnailsResource extends AbstractCreateThumbnailsResource<R
     ) throws IOException, URISyntaxException {
         return requestExecutor.execute(getThumbnailHttpUriRequest(createThumbnailsTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-    }
 }
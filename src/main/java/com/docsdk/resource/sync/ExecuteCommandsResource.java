@@ -37,9 +37,4 @@ public class ExecuteCommandsResource extends AbstractExecuteCommandsResource<Res
     ) throws IOException, URISyntaxException {
         return requestExecutor.execute(getCommandHttpUriRequest(executeCommandsTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-    }
 }
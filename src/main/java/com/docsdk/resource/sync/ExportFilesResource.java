@@ -73,9 +73,4 @@ public class ExportFilesResource extends AbstractExportFilesResource<Result<Task
     ) throws IOException, URISyntaxException {
         return requestExecutor.execute(getSftpStorageHttpUriRequest(sftpExportRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-    }
 }
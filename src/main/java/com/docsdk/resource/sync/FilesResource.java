@@ -11,9 +11,10 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
 
 @Slf4j
-public class FilesResource extends AbstractFilesResource<Result<InputStream>> {
+public class FilesResource extends AbstractFilesResource<Result<InputStream>, Result<Path>> {
 
     private final RequestExecutor requestExecutor;
 
@@ -34,7 +35,16 @@ public class FilesResource extends AbstractFilesResource<Result<InputStream>> {
     }
 
     @Override
-    public void close() throws IOException {
-        requestExecutor.close();
+    public Result<InputStream> stream(
+        @NotNull final String path
+    ) throws IOException, URISyntaxException {
+        return requestExecutor.execute(getDownloadHttpUriRequest(path), STREAMING_INPUT_STREAM_TYPE_REFERENCE);
+    }
+
+    @Override
+    public Result<Path> download(
+        @NotNull final String path, @NotNull final Path destination
+    ) throws IOException, URISyntaxException {
+        return copyToPath(stream(path), destination);
     }
 }
@@ -33,9 +33,4 @@ public class GetMetadataResource extends AbstractGetMetadataResource<Result<Task
     ) throws IOException, URISyntaxException {
         return requestExecutor.execute(getMetadataHttpUriRequest(getMetadataTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-    }
 }
@@ -194,10 +194,4 @@ public class ImportFilesResource extends AbstractImportFilesResource<Result<Task
     ) throws IOException, URISyntaxException {
         return requestExecutor.execute(getSftpHttpUriRequest(sftpImportRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-        tasksResource.close();
-    }
 }
@@ -51,6 +51,13 @@ public class JobsResource extends AbstractJobsResource<
         return requestExecutor.execute(getCreateHttpUriRequest(tasks, tag), JOB_RESPONSE_TYPE_REFERENCE);
     }
 
+    @Override
+    public Result<JobResponse> create(
+        @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag, @NotNull final String idempotencyKey
+    ) throws IOException, URISyntaxException {
+        return requestExecutor.execute(getCreateHttpUriRequest(tasks, tag, idempotencyKey), JOB_RESPONSE_TYPE_REFERENCE);
+    }
+
     @Override
     public Result<JobResponse> show(
         @NotNull final String jobId
@@ -99,7 +106,7 @@ public class JobsResource extends AbstractJobsResource<
     }
 
     @Override
-    public void close() throws IOException {
-        requestExecutor.close();
+    protected RequestExecutor getAbstractRequestExecutor() {
+        return requestExecutor;
     }
 }
@@ -33,9 +33,4 @@ public class MergeFilesResource extends AbstractMergeFilesResource<Result<TaskRe
     ) throws IOException, URISyntaxException {
         return requestExecutor.execute(getMergeHttpUriRequest(mergeFilesTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-    }
 }
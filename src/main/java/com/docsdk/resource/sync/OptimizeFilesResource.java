@@ -33,9 +33,4 @@ public class OptimizeFilesResource extends AbstractOptimizeFilesResource<Result<
     ) throws IOException, URISyntaxException {
         return requestExecutor.execute(getOptimizeHttpUriRequest(optimizeFilesTaskRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-    }
 }
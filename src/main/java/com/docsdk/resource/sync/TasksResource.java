@@ -209,8 +209,7 @@ public class TasksResource extends AbstractTasksResource<Result<TaskResponse>,
     }
 
     @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-        super.close();
+    protected RequestExecutor getAbstractRequestExecutor() {
+        return requestExecutor;
     }
 }
@@ -29,9 +29,4 @@ public class UsersResource extends AbstractUsersResource<Result<UserResponse>> {
     public Result<UserResponse> me() throws IOException, URISyntaxException {
         return requestExecutor.execute(getMeHttpUriRequest(), USER_RESPONSE_TYPE_REFERENCE);
     }
-
-    @Override
-    public void close() throws IOException {
-        requestExecutor.close();
-    }
 }
@@ -66,7 +66,7 @@ public class WebhookResource extends AbstractWebhooksResource<
     }
 
     @Override
-    public void close() throws IOException {
-        requestExecutor.close();
+    protected RequestExecutor getAbstractRequestExecutor() {
+        return requestExecutor;
     }
 }
@@ -0,0 +1,455 @@
+package com.docsdk.tracker;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.dto.Status;
+import com.docsdk.dto.response.JobResponse;
+import com.docsdk.dto.response.Pageable;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.dto.result.AsyncResult;
+import com.docsdk.dto.result.Result;
+import com.docsdk.resource.params.Filter;
+import com.docsdk.resource.params.Pagination;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks the completion of many tasks and jobs at once, instead of holding a thread and a connection per {@code tasks().wait(...)} or {@code jobs().wait(...)}.
+ * <p>
+ * Registered tasks and jobs are resolved by listing the recently finished and failed ones, i.e. with {@code filter[status]}, a page of
+ * {@link #getPerPage()} per call, following up to {@link #getMaxPages()} pages. All polling runs on a single scheduler thread,
+ * the calls themselves are sent by the asynchronous client without blocking it.
+ * <p>
+ * On a busy account, a task or job may end and drop out of the listed pages between two polls. So once a listing reaches {@link #getMaxPages()},
+ * the due ones still pending are looked up directly: tasks of a known job by listing the tasks of the job with {@code filter[job_id]},
+ * the others one by one with {@code show}.
+ * <p>
+ * Each task or job is polled in an interval growing with its age: {@link #getAgeFactor()} times the time since its registration,
+ * between {@link #getMinInterval()} and {@link #getMaxInterval()}, so short conversions resolve quickly while long encodings cost few calls.
+ * <p>
+ * The returned futures complete on the scheduler thread, use the async variants of their methods for long running work.
+ * A task or job, which ended with an error, completes its future normally, check its status.
+ */
+@Slf4j
+public class CompletionTracker implements Closeable {
+
+    public static final Duration DEFAULT_MIN_INTERVAL = Duration.ofSeconds(1);
+    public static final Duration DEFAULT_MAX_INTERVAL = Duration.ofSeconds(30);
+    public static final double DEFAULT_AGE_FACTOR = 0.1;
+    public static final int DEFAULT_PER_PAGE = 100;
+    public static final int DEFAULT_MAX_PAGES = 5;
+
+    private static final List<Status> COMPLETED_STATUSES = ImmutableList.of(Status.FINISHED, Status.ERROR);
+
+    private final AsyncDocSDKClient asyncDocSDKClient;
+
+    /**
+     * Shortest interval between two polls of a task or job, also the interval of the scheduler
+     */
+    @Getter
+    private final Duration minInterval;
+
+    /**
+     * Longest interval between two polls of a task or job
+     */
+    @Getter
+    private final Duration maxInterval;
+
+    /**
+     * Share of the age of a task or job, after which it is polled again
+     */
+    @Getter
+    private final double ageFactor;
+
+    /**
+     * Number of tasks or jobs listed per call
+     */
+    @Getter
+    private final int perPage;
+
+    /**
+     * Maximum number of pages listed per status and poll
+     */
+    @Getter
+    private final int maxPages;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private final Tracked<TaskResponse> tasks;
+    private final Tracked<JobResponse> jobs;
+
+    private final LongAdder listCalls = new LongAdder();
+    private final LongAdder showCalls = new LongAdder();
+
+    /**
+     * Whether a poll is in flight, only accessed by the scheduler thread
+     */
+    private boolean polling;
+
+    @Builder
+    private CompletionTracker(
+        final AsyncDocSDKClient asyncDocSDKClient, final Duration minInterval, final Duration maxInterval,
+        final double ageFactor, final int perPage, final int maxPages
+    ) {
+        if (minInterval.isNegative() || minInterval.isZero() || maxInterval.compareTo(minInterval) < 0 || perPage < 1 || maxPages < 1) {
+            throw new IllegalArgumentException("Invalid completion tracker settings");
+        }
+
+        this.asyncDocSDKClient = asyncDocSDKClient;
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.ageFactor = ageFactor;
+        this.perPage = perPage;
+        this.maxPages = maxPages;
+
+        this.tasks = new Tracked<>(TaskResponse::getId, TaskResponse::getStatus, (filters, pagination) ->
+            asyncDocSDKClient.tasks().list(filters, ImmutableList.of(), pagination), taskId -> asyncDocSDKClient.tasks().show(taskId));
+        this.jobs = new Tracked<>(JobResponse::getId, JobResponse::getStatus, (filters, pagination) ->
+            asyncDocSDKClient.jobs().list(filters, ImmutableList.of(), pagination), jobId -> asyncDocSDKClient.jobs().show(jobId));
+
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "docsdk-completion-tracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduledExecutorService.scheduleWithFixedDelay(this::poll, minInterval.toMillis(), minInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Track the completion of a task.
+     *
+     * @param taskId task id
+     * @return {@link CompletableFuture}, which completes once the task has finished or failed. Cancelling it stops tracking the task.
+     */
+    public CompletableFuture<TaskResponse> trackTask(final String taskId) {
+        return tasks.register(taskId, null);
+    }
+
+    /**
+     * Track the completion of a task of a known job. Should the task drop out of the listed pages, it is looked up among the tasks of its job,
+     * so the tasks of one job cost one call rather than one each.
+     *
+     * @param taskId task id
+     * @param jobId  id of the job of the task
+     * @return {@link CompletableFuture}, which completes once the task has finished or failed. Cancelling it stops tracking the task.
+     */
+    public CompletableFuture<TaskResponse> trackTask(final String taskId, final String jobId) {
+        return tasks.register(taskId, jobId);
+    }
+
+    /**
+     * Track the completion of a job.
+     *
+     * @param jobId job id
+     * @return {@link CompletableFuture}, which completes once the job has finished or failed. Cancelling it stops tracking the job.
+     */
+    public CompletableFuture<JobResponse> trackJob(final String jobId) {
+        return jobs.register(jobId, null);
+    }
+
+    /**
+     * @return number of tracked tasks, which have not completed yet
+     */
+    public int getPendingTasks() {
+        return tasks.pending.size();
+    }
+
+    /**
+     * @return number of tracked jobs, which have not completed yet
+     */
+    public int getPendingJobs() {
+        return jobs.pending.size();
+    }
+
+    /**
+     * @return number of list calls sent so far
+     */
+    public long getListCalls() {
+        return listCalls.sum();
+    }
+
+    /**
+     * @return number of show calls sent so far, to look up tasks and jobs missing from the listed pages
+     */
+    public long getShowCalls() {
+        return showCalls.sum();
+    }
+
+    /**
+     * Stop polling and cancel the futures of all pending tasks and jobs.
+     */
+    @Override
+    public void close() {
+        scheduledExecutorService.shutdownNow();
+        tasks.cancelAll();
+        jobs.cancelAll();
+    }
+
+    private void poll() {
+        if (polling) {
+            return;
+        }
+
+        final long nowNanos = System.nanoTime();
+        final List<Entry<TaskResponse>> dueTasks = tasks.getDue(nowNanos);
+        final List<Entry<JobResponse>> dueJobs = jobs.getDue(nowNanos);
+        if (dueTasks.isEmpty() && dueJobs.isEmpty()) {
+            return;
+        }
+
+        polling = true;
+        tasks.poll(dueTasks).thenCompose(ignored -> jobs.poll(dueJobs)).whenCompleteAsync((ignored, throwable) -> {
+            if (throwable != null) {
+                log.warn("Polling tracked tasks and jobs failed", throwable);
+            }
+
+            final long polledNanos = System.nanoTime();
+            tasks.reschedule(dueTasks, polledNanos);
+            jobs.reschedule(dueJobs, polledNanos);
+            polling = false;
+        }, scheduledExecutorService);
+    }
+
+    private long getIntervalNanos(final long ageNanos) {
+        return Math.max(minInterval.toNanos(), Math.min(maxInterval.toNanos(), (long) (ageNanos * ageFactor)));
+    }
+
+    public static class CompletionTrackerBuilder {
+
+        private Duration minInterval = DEFAULT_MIN_INTERVAL;
+        private Duration maxInterval = DEFAULT_MAX_INTERVAL;
+        private double ageFactor = DEFAULT_AGE_FACTOR;
+        private int perPage = DEFAULT_PER_PAGE;
+        private int maxPages = DEFAULT_MAX_PAGES;
+    }
+
+    @FunctionalInterface
+    private interface Lister<R> {
+
+        AsyncResult<Pageable<R>> list(final Map<Filter, String> filters, final Pagination pagination) throws IOException, URISyntaxException;
+    }
+
+    @FunctionalInterface
+    private interface Shower<R> {
+
+        AsyncResult<R> show(final String id) throws IOException, URISyntaxException;
+    }
+
+    private static class Entry<R> {
+
+        private final String id;
+
+        /**
+         * Id of the job of a task, if known
+         */
+        @Nullable
+        private final String jobId;
+
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private final long registeredNanos = System.nanoTime();
+
+        /**
+         * Only accessed by the scheduler thread
+         */
+        private long nextPollNanos = registeredNanos;
+
+        private Entry(final String id, @Nullable final String jobId) {
+            this.id = id;
+            this.jobId = jobId;
+        }
+    }
+
+    /**
+     * Tracked tasks or jobs
+     */
+    private class Tracked<R> {
+
+        private final Map<String, Entry<R>> pending = new ConcurrentHashMap<>();
+        private final Function<R, String> idFunction;
+        private final Function<R, Status> statusFunction;
+        private final Lister<R> lister;
+        private final Shower<R> shower;
+
+        private Tracked(final Function<R, String> idFunction, final Function<R, Status> statusFunction, final Lister<R> lister, final Shower<R> shower) {
+            this.idFunction = idFunction;
+            this.statusFunction = statusFunction;
+            this.lister = lister;
+            this.shower = shower;
+        }
+
+        private CompletableFuture<R> register(final String id, @Nullable final String jobId) {
+            final Entry<R> entry = pending.computeIfAbsent(id, key -> new Entry<>(key, jobId));
+            // Completed entries are removed before their future is completed, cancelled ones once cancelled
+            entry.future.whenComplete((response, throwable) -> pending.remove(id, entry));
+            return entry.future;
+        }
+
+        private List<Entry<R>> getDue(final long nowNanos) {
+            final List<Entry<R>> due = new ArrayList<>();
+            for (final Entry<R> entry : pending.values()) {
+                if (nowNanos - entry.nextPollNanos >= 0) {
+                    due.add(entry);
+                }
+            }
+            return due;
+        }
+
+        private CompletableFuture<Void> poll(final List<Entry<R>> due) {
+            CompletableFuture<Void> completableFuture = CompletableFuture.completedFuture(null);
+            if (due.isEmpty()) {
+                return completableFuture;
+            }
+
+            final AtomicBoolean truncated = new AtomicBoolean();
+            for (final Status status : COMPLETED_STATUSES) {
+                completableFuture = completableFuture.thenCompose(ignored -> list(due, status, 1, truncated));
+            }
+            return completableFuture.thenCompose(ignored -> truncated.get() ? lookUp(due) : CompletableFuture.completedFuture(null));
+        }
+
+        /**
+         * List a page of tasks or jobs with the status, resolve the pending ones and follow the next page while due ones are left.
+         * Flags the listing as truncated, if due ones are left after {@link #getMaxPages()}.
+         */
+        private CompletableFuture<Void> list(final Collection<Entry<R>> due, final Status status, final int page, final AtomicBoolean truncated) {
+            final AsyncResult<Pageable<R>> pageableAsyncResult;
+            try {
+                pageableAsyncResult = lister.list(ImmutableMap.of(Filter.STATUS, status.getLabel()), new Pagination(perPage, page));
+            } catch (IOException | URISyntaxException e) {
+                final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+                completableFuture.completeExceptionally(e);
+                return completableFuture;
+            }
+            listCalls.increment();
+
+            return pageableAsyncResult.toCompletionStage().toCompletableFuture().thenComposeAsync(pageableResult -> {
+                final List<R> responses = getResponses(pageableResult);
+                responses.forEach(this::complete);
+
+                final boolean dueLeft = due.stream().anyMatch(entry -> !entry.future.isDone());
+                if (dueLeft && responses.size() >= perPage) {
+                    if (page < maxPages) {
+                        return list(due, status, page + 1, truncated);
+                    }
+                    truncated.set(true);
+                }
+                return CompletableFuture.completedFuture(null);
+            }, scheduledExecutorService);
+        }
+
+        /**
+         * Look up the due tasks or jobs still pending after a truncated listing, as they may have ended before the listed ones.
+         * Tasks of a known job are looked up with one call per job, the others with one call each.
+         */
+        private CompletableFuture<Void> lookUp(final List<Entry<R>> due) {
+            final List<Entry<R>> pendingDue = due.stream().filter(entry -> !entry.future.isDone()).collect(Collectors.toList());
+
+            final List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
+            pendingDue.stream().filter(entry -> entry.jobId != null).collect(Collectors.groupingBy(entry -> entry.jobId))
+                .forEach((jobId, entries) -> completableFutures.add(listJob(jobId, entries)));
+            pendingDue.stream().filter(entry -> entry.jobId == null).forEach(entry -> completableFutures.add(show(entry)));
+            return CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture<?>[0]));
+        }
+
+        /**
+         * List the tasks of a job with {@code filter[job_id]} and resolve the ended ones. Tracked tasks beyond the first page are shown one by one.
+         */
+        private CompletableFuture<Void> listJob(final String jobId, final List<Entry<R>> entries) {
+            final AsyncResult<Pageable<R>> pageableAsyncResult;
+            try {
+                pageableAsyncResult = lister.list(ImmutableMap.of(Filter.JOB_ID, jobId), new Pagination(perPage, 1));
+            } catch (IOException | URISyntaxException e) {
+                final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+                completableFuture.completeExceptionally(e);
+                return completableFuture;
+            }
+            listCalls.increment();
+
+            return pageableAsyncResult.toCompletionStage().toCompletableFuture().thenComposeAsync(pageableResult -> {
+                final Set<String> listedIds = new HashSet<>();
+                for (final R response : getResponses(pageableResult)) {
+                    listedIds.add(idFunction.apply(response));
+                    completeIfEnded(response);
+                }
+
+                return CompletableFuture.allOf(entries.stream().filter(entry -> !listedIds.contains(entry.id)).map(this::show).toArray(CompletableFuture<?>[]::new));
+            }, scheduledExecutorService);
+        }
+
+        private CompletableFuture<Void> show(final Entry<R> entry) {
+            final AsyncResult<R> asyncResult;
+            try {
+                asyncResult = shower.show(entry.id);
+            } catch (IOException | URISyntaxException e) {
+                final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+                completableFuture.completeExceptionally(e);
+                return completableFuture;
+            }
+            showCalls.increment();
+
+            return asyncResult.toCompletionStage().toCompletableFuture().thenAcceptAsync(result -> {
+                if (result.getStatus() != HttpStatus.SC_OK || result.getBody() == null) {
+                    log.warn("Showing tracked task or job {} failed with status {}: {}", entry.id, result.getStatus(), result.getMessage());
+                    return;
+                }
+                completeIfEnded(result.getBody());
+            }, scheduledExecutorService);
+        }
+
+        private void completeIfEnded(final R response) {
+            if (COMPLETED_STATUSES.contains(statusFunction.apply(response))) {
+                complete(response);
+            }
+        }
+
+        private void complete(final R response) {
+            final String id = idFunction.apply(response);
+            final Entry<R> entry = pending.get(id);
+            if (entry != null && pending.remove(id, entry)) {
+                entry.future.complete(response);
+            }
+        }
+
+        private List<R> getResponses(final Result<Pageable<R>> pageableResult) {
+            if (pageableResult.getStatus() != HttpStatus.SC_OK || pageableResult.getBody() == null || pageableResult.getBody().getData() == null) {
+                log.warn("Listing tracked tasks or jobs failed with status {}: {}", pageableResult.getStatus(), pageableResult.getMessage());
+                return ImmutableList.of();
+            }
+            return pageableResult.getBody().getData();
+        }
+
+        private void reschedule(final List<Entry<R>> due, final long nowNanos) {
+            for (final Entry<R> entry : due) {
+                entry.nextPollNanos = nowNanos + getIntervalNanos(nowNanos - entry.registeredNanos);
+            }
+        }
+
+        private void cancelAll() {
+            pending.values().forEach(entry -> entry.future.cancel(false));
+        }
+    }
+}
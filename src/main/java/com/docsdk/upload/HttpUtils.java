@@ -8,7 +8,7 @@ import java.util.Map;
 
 public class HttpUtils {
 
-    public static synchronized String get(String host, String path, Map<String, String> headers, Map<String, String> querys) {
+    public static String get(String host, String path, Map<String, String> headers, Map<String, String> querys) {
 
         try {
             String url = buildUrl(host, path, querys);
@@ -33,8 +33,8 @@ public class HttpUtils {
         }
     }
 
-    public static synchronized String post(String host, String path, Map<String, String> headers,
-                                           Map<String, String> querys, InputStream inStream, String mimeType) {
+    public static String post(String host, String path, Map<String, String> headers,
+                              Map<String, String> querys, InputStream inStream, String mimeType) {
 
         try {
             String url = buildUrl(host, path, querys);
@@ -0,0 +1,32 @@
+package com.docsdk.webhook;
+
+/**
+ * Outcome of dispatching a webhook payload, mapped to the status a receiver answers with.
+ */
+public enum WebhookDispatchResult {
+
+    /**
+     * Queued for its handlers
+     */
+    ACCEPTED,
+
+    /**
+     * Delivered before within the deduplication window, not handled again
+     */
+    DUPLICATE,
+
+    /**
+     * Signature missing or not matching, the sender should not retry
+     */
+    INVALID_SIGNATURE,
+
+    /**
+     * Not a webhook event, the sender should not retry
+     */
+    MALFORMED,
+
+    /**
+     * Handlers have fallen behind and the queue is full, the sender should retry later
+     */
+    REJECTED
+}
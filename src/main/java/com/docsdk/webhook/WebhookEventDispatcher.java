@@ -0,0 +1,288 @@
+package com.docsdk.webhook;
+
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.Event;
+import com.docsdk.dto.response.WebhookEventResponse;
+import com.docsdk.resource.AbstractResource;
+import com.docsdk.resource.AbstractWebhooksResource;
+import com.google.common.cache.CacheBuilder;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verifies and parses webhook payloads and dispatches the events to the handlers registered for them.
+ * <p>
+ * Events are handled by {@link #getParallelism()} workers, each with a queue of {@link #getQueueCapacity()} events. All events of a job
+ * go to the same worker, so they are handled in the order they were received. Once the queue of a worker is full, payloads are
+ * {@link WebhookDispatchResult#REJECTED}, so the sender retries them later instead of the receiver buffering without bound.
+ * <p>
+ * Webhooks are delivered at least once. An event already dispatched for the same job within {@link #getDeduplicationWindow()}
+ * is a {@link WebhookDispatchResult#DUPLICATE} and not handled again.
+ */
+@Slf4j
+public class WebhookEventDispatcher implements Closeable {
+
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    public static final Duration DEFAULT_DEDUPLICATION_WINDOW = Duration.ofMinutes(5);
+    public static final int DEFAULT_MAX_DEDUPLICATED_EVENTS = 100_000;
+
+    /**
+     * Resource verifying signatures with the signing secret of its settings, unless a {@link WebhookSignatureVerifier} is given
+     */
+    @Nullable
+    private final AbstractWebhooksResource<?, ?, ?> webhooksResource;
+
+    /**
+     * {@link WebhookSignatureVerifier}, e.g. for several signing secrets while rotating them
+     */
+    @Nullable
+    private final WebhookSignatureVerifier webhookSignatureVerifier;
+
+    private final ObjectMapperProvider objectMapperProvider;
+
+    /**
+     * Number of workers handling events
+     */
+    @Getter
+    private final int parallelism;
+
+    /**
+     * Number of events queued per worker, before payloads are rejected
+     */
+    @Getter
+    private final int queueCapacity;
+
+    /**
+     * Time, during which a redelivered event is recognized as duplicate
+     */
+    @Getter
+    private final Duration deduplicationWindow;
+
+    private final ThreadPoolExecutor[] workers;
+    private final ConcurrentMap<String, Boolean> dispatchedEvents;
+    private final Map<Event, List<WebhookEventHandler>> webhookEventHandlers = new EnumMap<>(Event.class);
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @Builder
+    private WebhookEventDispatcher(
+        @Nullable final AbstractWebhooksResource<?, ?, ?> webhooksResource, @Nullable final WebhookSignatureVerifier webhookSignatureVerifier,
+        final ObjectMapperProvider objectMapperProvider, final int parallelism, final int queueCapacity,
+        final Duration deduplicationWindow, final int maxDeduplicatedEvents
+    ) {
+        if (webhooksResource == null && webhookSignatureVerifier == null) {
+            throw new IllegalArgumentException("Neither webhooks resource nor signature verifier given");
+        }
+        if (parallelism < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Invalid webhook event dispatcher settings");
+        }
+
+        this.webhooksResource = webhooksResource;
+        this.webhookSignatureVerifier = webhookSignatureVerifier;
+        this.objectMapperProvider = objectMapperProvider;
+        this.parallelism = parallelism;
+        this.queueCapacity = queueCapacity;
+        this.deduplicationWindow = deduplicationWindow;
+
+        this.dispatchedEvents = CacheBuilder.newBuilder().expireAfterWrite(deduplicationWindow.toMillis(), TimeUnit.MILLISECONDS)
+            .maximumSize(maxDeduplicatedEvents).<String, Boolean>build().asMap();
+
+        for (final Event event : Event.values()) {
+            webhookEventHandlers.put(event, new CopyOnWriteArrayList<>());
+        }
+
+        this.workers = new ThreadPoolExecutor[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            final String name = "docsdk-webhook-worker-" + i;
+            workers[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                final Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Register a handler for an event.
+     *
+     * @param event               {@link Event}
+     * @param webhookEventHandler {@link WebhookEventHandler}
+     */
+    public void addHandler(
+        @NotNull final Event event, @NotNull final WebhookEventHandler webhookEventHandler
+    ) {
+        webhookEventHandlers.get(event).add(webhookEventHandler);
+    }
+
+    /**
+     * Register a handler for all events.
+     *
+     * @param webhookEventHandler {@link WebhookEventHandler}
+     */
+    public void addHandler(
+        @NotNull final WebhookEventHandler webhookEventHandler
+    ) {
+        for (final Event event : Event.values()) {
+            addHandler(event, webhookEventHandler);
+        }
+    }
+
+    /**
+     * Verify, parse and dispatch a webhook payload.
+     *
+     * @param payload   payload, as received
+     * @param signature signature, from the {@value WebhookReceiver#HEADER_SIGNATURE} header
+     * @return {@link WebhookDispatchResult}
+     */
+    public WebhookDispatchResult dispatch(
+        @NotNull final byte[] payload, @Nullable final String signature
+    ) throws GeneralSecurityException {
+        if (signature == null || !getWebhookSignatureVerifier().verify(payload, signature)) {
+            return WebhookDispatchResult.INVALID_SIGNATURE;
+        }
+
+        final WebhookEventResponse webhookEventResponse;
+        try {
+            webhookEventResponse = objectMapperProvider.provideReader(AbstractResource.WEBHOOK_EVENT_RESPONSE_TYPE_REFERENCE).readValue(payload);
+        } catch (IOException e) {
+            log.warn("Could not parse webhook event", e);
+            return WebhookDispatchResult.MALFORMED;
+        }
+
+        return dispatch(webhookEventResponse);
+    }
+
+    /**
+     * Dispatch a webhook event, which has been verified and parsed before.
+     *
+     * @param webhookEventResponse {@link WebhookEventResponse}
+     * @return {@link WebhookDispatchResult}
+     */
+    public WebhookDispatchResult dispatch(
+        @NotNull final WebhookEventResponse webhookEventResponse
+    ) {
+        if (webhookEventResponse.getEvent() == null) {
+            return WebhookDispatchResult.MALFORMED;
+        }
+
+        final String jobId = webhookEventResponse.getJob() == null ? null : webhookEventResponse.getJob().getId();
+        final String deduplicationKey = jobId == null ? null : webhookEventResponse.getEvent().getLabel() + "/" + jobId;
+        if (deduplicationKey != null && dispatchedEvents.putIfAbsent(deduplicationKey, Boolean.TRUE) != null) {
+            duplicates.increment();
+            return WebhookDispatchResult.DUPLICATE;
+        }
+
+        try {
+            getWorker(jobId).execute(() -> handle(webhookEventResponse));
+        } catch (RejectedExecutionException e) {
+            // Forget the event, so its redelivery is handled
+            if (deduplicationKey != null) {
+                dispatchedEvents.remove(deduplicationKey);
+            }
+            rejected.increment();
+            return WebhookDispatchResult.REJECTED;
+        }
+
+        dispatched.increment();
+        return WebhookDispatchResult.ACCEPTED;
+    }
+
+    /**
+     * @return number of events dispatched to the workers
+     */
+    public long getDispatched() {
+        return dispatched.sum();
+    }
+
+    /**
+     * @return number of redelivered events not dispatched again
+     */
+    public long getDuplicates() {
+        return duplicates.sum();
+    }
+
+    /**
+     * @return number of events rejected, as the queue of their worker was full
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return number of handlers, which have thrown
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * @return number of events queued, over all workers
+     */
+    public int getQueueDepth() {
+        int queueDepth = 0;
+        for (final ThreadPoolExecutor worker : workers) {
+            queueDepth += worker.getQueue().size();
+        }
+        return queueDepth;
+    }
+
+    /**
+     * Stop accepting events. Queued events are still handled.
+     */
+    @Override
+    public void close() {
+        for (final ThreadPoolExecutor worker : workers) {
+            worker.shutdown();
+        }
+    }
+
+    private WebhookSignatureVerifier getWebhookSignatureVerifier() throws GeneralSecurityException {
+        return webhookSignatureVerifier != null ? webhookSignatureVerifier : webhooksResource.getWebhookSignatureVerifier();
+    }
+
+    private ThreadPoolExecutor getWorker(@Nullable final String jobId) {
+        return workers[jobId == null ? 0 : Math.floorMod(jobId.hashCode(), workers.length)];
+    }
+
+    private void handle(final WebhookEventResponse webhookEventResponse) {
+        for (final WebhookEventHandler webhookEventHandler : webhookEventHandlers.get(webhookEventResponse.getEvent())) {
+            try {
+                webhookEventHandler.onEvent(webhookEventResponse);
+            } catch (Exception e) {
+                log.error("Webhook event handler failed on {}", webhookEventResponse.getEvent(), e);
+                failed.increment();
+            }
+        }
+    }
+
+    public static class WebhookEventDispatcherBuilder {
+
+        private ObjectMapperProvider objectMapperProvider = new ObjectMapperProvider();
+        private int parallelism = DEFAULT_PARALLELISM;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private Duration deduplicationWindow = DEFAULT_DEDUPLICATION_WINDOW;
+        private int maxDeduplicatedEvents = DEFAULT_MAX_DEDUPLICATED_EVENTS;
+    }
+}
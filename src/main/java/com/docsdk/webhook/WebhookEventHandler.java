@@ -0,0 +1,19 @@
+package com.docsdk.webhook;
+
+import com.docsdk.dto.response.WebhookEventResponse;
+
+/**
+ * Handles webhook events dispatched by a {@link WebhookEventDispatcher}.
+ * <p>
+ * Events of the same job are handled one after another, in the order they were received, events of different jobs in parallel.
+ */
+@FunctionalInterface
+public interface WebhookEventHandler {
+
+    /**
+     * Handle an event. Exceptions are logged and counted, they do not stop other handlers.
+     *
+     * @param webhookEventResponse {@link WebhookEventResponse}
+     */
+    void onEvent(final WebhookEventResponse webhookEventResponse) throws Exception;
+}
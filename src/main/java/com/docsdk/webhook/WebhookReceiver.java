@@ -0,0 +1,241 @@
+package com.docsdk.webhook;
+
+import com.docsdk.dto.Event;
+import com.docsdk.dto.response.JobResponse;
+import com.docsdk.dto.response.WebhookEventResponse;
+import com.docsdk.resource.AbstractWebhooksResource;
+import com.docsdk.tracker.CompletionTracker;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpPost;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded receiver of webhook events, built on the HTTP server of the JDK, which completes the futures of pending jobs as their events arrive.
+ * <p>
+ * Every request must carry a valid {@value #HEADER_SIGNATURE} header, i.e. the HMAC-SHA256 of its body with the signing secret of the webhook,
+ * otherwise it is rejected with 401. Events are passed to a {@link WebhookEventDispatcher}, while its handlers fall behind they are rejected
+ * with 503, so they are delivered again later. {@link Event#JOB_FINISHED} and {@link Event#JOB_FAILED} events complete the future of their job.
+ * <p>
+ * Webhooks are delivered at least once, but may be late or missed, e.g. while the receiver is unreachable. With a {@link CompletionTracker},
+ * jobs without an event after {@link #getFallbackDelay()} are handed over to it and polled until they complete.
+ * Register jobs right after creating them, so their events cannot arrive before.
+ */
+@Slf4j
+public class WebhookReceiver implements Closeable {
+
+    public static final String HEADER_SIGNATURE = "DocSDK-Signature";
+
+    public static final String DEFAULT_PATH = "/";
+    public static final Duration DEFAULT_FALLBACK_DELAY = Duration.ofMinutes(1);
+
+    /**
+     * {@link WebhookEventDispatcher} verifying, parsing and dispatching the events
+     */
+    @Getter
+    private final WebhookEventDispatcher webhookEventDispatcher;
+    private final boolean webhookEventDispatcherOwned;
+
+    /**
+     * {@link CompletionTracker} polling the jobs without an event, if any
+     */
+    @Nullable
+    private final CompletionTracker completionTracker;
+
+    /**
+     * Delay after which a job without an event is handed over to the {@link CompletionTracker}
+     */
+    @Getter
+    private final Duration fallbackDelay;
+
+    private final HttpServer httpServer;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private final Map<String, CompletableFuture<JobResponse>> pendingJobs = new ConcurrentHashMap<>();
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @Builder
+    private WebhookReceiver(
+        @Nullable final WebhookEventDispatcher webhookEventDispatcher,
+        @Nullable final AbstractWebhooksResource<?, ?, ?> webhooksResource, @Nullable final WebhookSignatureVerifier webhookSignatureVerifier,
+        final InetSocketAddress address, final String path, @Nullable final CompletionTracker completionTracker, final Duration fallbackDelay
+    ) throws IOException {
+        this.webhookEventDispatcherOwned = webhookEventDispatcher == null;
+        this.webhookEventDispatcher = webhookEventDispatcherOwned
+            ? WebhookEventDispatcher.builder().webhooksResource(webhooksResource).webhookSignatureVerifier(webhookSignatureVerifier).build()
+            : webhookEventDispatcher;
+        this.webhookEventDispatcher.addHandler(Event.JOB_FINISHED, this::onJobCompleted);
+        this.webhookEventDispatcher.addHandler(Event.JOB_FAILED, this::onJobCompleted);
+        this.completionTracker = completionTracker;
+        this.fallbackDelay = fallbackDelay;
+
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "docsdk-webhook-receiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.httpServer = HttpServer.create(address, 0);
+        this.httpServer.createContext(path, this::handle);
+        this.httpServer.start();
+    }
+
+    /**
+     * @return address the receiver listens on, e.g. to find the port chosen for port 0
+     */
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    /**
+     * Await the completion of a job through its webhook event.
+     *
+     * @param jobId job id
+     * @return {@link CompletableFuture}, which completes with the job of its {@link Event#JOB_FINISHED} or {@link Event#JOB_FAILED} event,
+     * or as polled by the {@link CompletionTracker}. Cancelling it stops awaiting the job.
+     */
+    public CompletableFuture<JobResponse> awaitJob(final String jobId) {
+        final CompletableFuture<JobResponse> jobResponseFuture = pendingJobs.computeIfAbsent(jobId, id -> {
+            final CompletableFuture<JobResponse> completableFuture = new CompletableFuture<>();
+            if (completionTracker != null) {
+                scheduledExecutorService.schedule(() -> fallBack(id, completableFuture), fallbackDelay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return completableFuture;
+        });
+        jobResponseFuture.whenComplete((jobResponse, throwable) -> pendingJobs.remove(jobId, jobResponseFuture));
+        return jobResponseFuture;
+    }
+
+    /**
+     * @return number of jobs awaited, which have not completed yet
+     */
+    public int getPendingJobs() {
+        return pendingJobs.size();
+    }
+
+    /**
+     * @return number of events received with a valid signature
+     */
+    public long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     * @return number of requests rejected, e.g. for an invalid signature
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Stop the server and cancel the futures of all pending jobs.
+     */
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        if (webhookEventDispatcherOwned) {
+            webhookEventDispatcher.close();
+        }
+        scheduledExecutorService.shutdownNow();
+        pendingJobs.values().forEach(jobResponseFuture -> jobResponseFuture.cancel(false));
+    }
+
+    private void fallBack(final String jobId, final CompletableFuture<JobResponse> jobResponseFuture) {
+        if (jobResponseFuture.isDone()) {
+            return;
+        }
+
+        log.debug("No event for job {} within {}, polling it", jobId, fallbackDelay);
+        final CompletableFuture<JobResponse> trackedJobResponseFuture = completionTracker.trackJob(jobId);
+        trackedJobResponseFuture.whenComplete((jobResponse, throwable) -> {
+            if (throwable == null) {
+                jobResponseFuture.complete(jobResponse);
+            }
+        });
+        jobResponseFuture.whenComplete((jobResponse, throwable) -> trackedJobResponseFuture.cancel(false));
+    }
+
+    private void handle(final HttpExchange httpExchange) throws IOException {
+        try {
+            if (!HttpPost.METHOD_NAME.equals(httpExchange.getRequestMethod())) {
+                respond(httpExchange, HttpStatus.SC_METHOD_NOT_ALLOWED);
+                return;
+            }
+
+            final byte[] payload;
+            try (final InputStream inputStream = httpExchange.getRequestBody()) {
+                payload = ByteStreams.toByteArray(inputStream);
+            }
+
+            final WebhookDispatchResult webhookDispatchResult = webhookEventDispatcher.dispatch(payload,
+                httpExchange.getRequestHeaders().getFirst(HEADER_SIGNATURE));
+            switch (webhookDispatchResult) {
+                case ACCEPTED:
+                case DUPLICATE:
+                    received.increment();
+                    respond(httpExchange, HttpStatus.SC_NO_CONTENT);
+                    break;
+                case INVALID_SIGNATURE:
+                    rejected.increment();
+                    respond(httpExchange, HttpStatus.SC_UNAUTHORIZED);
+                    break;
+                case MALFORMED:
+                    rejected.increment();
+                    respond(httpExchange, HttpStatus.SC_BAD_REQUEST);
+                    break;
+                default:
+                    rejected.increment();
+                    respond(httpExchange, HttpStatus.SC_SERVICE_UNAVAILABLE);
+            }
+        } catch (GeneralSecurityException e) {
+            log.error("Could not verify webhook signature", e);
+            respond(httpExchange, HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        } finally {
+            httpExchange.close();
+        }
+    }
+
+    private void onJobCompleted(final WebhookEventResponse webhookEventResponse) {
+        final JobResponse jobResponse = webhookEventResponse.getJob();
+        if (jobResponse == null || jobResponse.getId() == null) {
+            return;
+        }
+
+        final CompletableFuture<JobResponse> jobResponseFuture = pendingJobs.remove(jobResponse.getId());
+        if (jobResponseFuture != null) {
+            jobResponseFuture.complete(jobResponse);
+        }
+    }
+
+    private static void respond(final HttpExchange httpExchange, final int status) throws IOException {
+        httpExchange.sendResponseHeaders(status, -1);
+    }
+
+    public static class WebhookReceiverBuilder {
+
+        private InetSocketAddress address = new InetSocketAddress(0);
+        private String path = DEFAULT_PATH;
+        private Duration fallbackDelay = DEFAULT_FALLBACK_DELAY;
+    }
+}
@@ -0,0 +1,215 @@
+package com.docsdk.webhook;
+
+import com.docsdk.resource.AbstractWebhooksResource;
+import com.google.common.collect.ImmutableList;
+import org.jetbrains.annotations.NotNull;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Thread-safe verifier of webhook signatures, i.e. the hex encoded HMAC-SHA256 of the payload with a signing secret.
+ * <p>
+ * The {@link Mac}s are initialized once and cloned per thread, and each thread reuses its buffers, so verifying allocates nothing.
+ * Signatures are decoded and compared as bytes in constant time. Payloads are verified exactly as received, without decoding them.
+ * <p>
+ * To rotate the signing secret, verify against both the old and the new one until all webhooks are signed with the new one.
+ */
+public class WebhookSignatureVerifier {
+
+    private final List<SecretKeySpec> secretKeySpecs;
+    private final List<Mac> macs;
+    private final int macLength;
+    private final ThreadLocal<ThreadState> threadStates;
+
+    /**
+     * @param signingSecrets signing secrets, of which any may have signed a payload
+     * @throws NoSuchAlgorithmException if HMAC-SHA256 is not available
+     * @throws InvalidKeyException      if a signing secret is not a valid key
+     */
+    public WebhookSignatureVerifier(
+        @NotNull final Collection<String> signingSecrets
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        if (signingSecrets.isEmpty()) {
+            throw new IllegalArgumentException("No signing secret");
+        }
+
+        final ImmutableList.Builder<SecretKeySpec> secretKeySpecsBuilder = ImmutableList.builder();
+        final ImmutableList.Builder<Mac> macsBuilder = ImmutableList.builder();
+        for (final String signingSecret : signingSecrets) {
+            final SecretKeySpec secretKeySpec = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), AbstractWebhooksResource.HMAC_SHA256);
+            final Mac mac = Mac.getInstance(AbstractWebhooksResource.HMAC_SHA256);
+            mac.init(secretKeySpec);
+            secretKeySpecsBuilder.add(secretKeySpec);
+            macsBuilder.add(mac);
+        }
+        this.secretKeySpecs = secretKeySpecsBuilder.build();
+        this.macs = macsBuilder.build();
+        this.macLength = macs.get(0).getMacLength();
+        this.threadStates = ThreadLocal.withInitial(ThreadState::new);
+    }
+
+    /**
+     * @param signingSecrets signing secrets, of which any may have signed a payload
+     * @return {@link WebhookSignatureVerifier}
+     */
+    public static WebhookSignatureVerifier of(
+        @NotNull final String... signingSecrets
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        return new WebhookSignatureVerifier(Arrays.asList(signingSecrets));
+    }
+
+    /**
+     * Verify webhook signature
+     *
+     * @param payload   payload, as received
+     * @param signature hex encoded signature
+     * @return whether any signing secret signed the payload
+     */
+    public boolean verify(
+        @NotNull final byte[] payload, @NotNull final CharSequence signature
+    ) {
+        return verify(payload, 0, payload.length, signature);
+    }
+
+    /**
+     * Verify webhook signature
+     *
+     * @param payload   buffer holding the payload, as received
+     * @param offset    offset of the payload in the buffer
+     * @param length    length of the payload
+     * @param signature hex encoded signature
+     * @return whether any signing secret signed the payload
+     */
+    public boolean verify(
+        @NotNull final byte[] payload, final int offset, final int length, @NotNull final CharSequence signature
+    ) {
+        final ThreadState threadState = threadStates.get();
+        if (!threadState.decode(signature)) {
+            return false;
+        }
+
+        boolean verified = false;
+        for (final Mac mac : threadState.macs) {
+            mac.update(payload, offset, length);
+            verified |= threadState.matches(mac);
+        }
+        return verified;
+    }
+
+    /**
+     * Verify webhook signature. The position of the buffer is left unchanged.
+     *
+     * @param payload   payload, between the position and the limit of the buffer
+     * @param signature hex encoded signature
+     * @return whether any signing secret signed the payload
+     */
+    public boolean verify(
+        @NotNull final ByteBuffer payload, @NotNull final CharSequence signature
+    ) {
+        final ThreadState threadState = threadStates.get();
+        if (!threadState.decode(signature)) {
+            return false;
+        }
+
+        final int position = payload.position();
+        boolean verified = false;
+        for (final Mac mac : threadState.macs) {
+            mac.update(payload);
+            payload.position(position);
+            verified |= threadState.matches(mac);
+        }
+        return verified;
+    }
+
+    private static int digit(final char character) {
+        if (character >= '0' && character <= '9') {
+            return character - '0';
+        }
+        if (character >= 'a' && character <= 'f') {
+            return character - 'a' + 10;
+        }
+        if (character >= 'A' && character <= 'F') {
+            return character - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * {@link Mac}s and buffers of a thread
+     */
+    private class ThreadState {
+
+        private final Mac[] macs;
+        private final byte[] signature = new byte[macLength];
+        private final byte[] digest = new byte[macLength];
+
+        private ThreadState() {
+            this.macs = new Mac[WebhookSignatureVerifier.this.macs.size()];
+            for (int i = 0; i < macs.length; i++) {
+                macs[i] = copy(WebhookSignatureVerifier.this.macs.get(i), secretKeySpecs.get(i));
+            }
+        }
+
+        /**
+         * Decode the hex encoded signature into the buffer
+         *
+         * @return whether the signature is well-formed
+         */
+        private boolean decode(final CharSequence hexSignature) {
+            if (hexSignature.length() != macLength * 2) {
+                return false;
+            }
+
+            int invalid = 0;
+            for (int i = 0; i < macLength; i++) {
+                final int high = digit(hexSignature.charAt(2 * i));
+                final int low = digit(hexSignature.charAt(2 * i + 1));
+                invalid |= high | low;
+                signature[i] = (byte) ((high << 4) | low);
+            }
+            return invalid >= 0;
+        }
+
+        /**
+         * Finish the digest and compare it with the decoded signature in constant time
+         */
+        private boolean matches(final Mac mac) {
+            try {
+                mac.doFinal(digest, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException(e);
+            }
+
+            int difference = 0;
+            for (int i = 0; i < macLength; i++) {
+                difference |= digest[i] ^ signature[i];
+            }
+            return difference == 0;
+        }
+
+        private Mac copy(final Mac mac, final SecretKeySpec secretKeySpec) {
+            try {
+                return (Mac) mac.clone();
+            } catch (CloneNotSupportedException e) {
+                // Not every provider supports cloning, initialize a new instance with the same key instead
+                try {
+                    final Mac copy = Mac.getInstance(mac.getAlgorithm(), mac.getProvider());
+                    copy.init(secretKeySpec);
+                    return copy;
+                } catch (GeneralSecurityException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        }
+    }
+}
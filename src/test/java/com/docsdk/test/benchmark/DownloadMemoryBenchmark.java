@@ -0,0 +1,109 @@
+package com.docsdk.test.benchmark;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.client.setttings.StringSettingsProvider;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpServer;
+import com.pivovarit.function.ThrowingRunnable;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the peak heap use of buffered and streaming downloads for growing file sizes.
+ * <p>
+ * Run with a fixed heap, e.g. {@code -Xmx1g}, from the test classpath:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.docsdk.test.benchmark.DownloadMemoryBenchmark}
+ */
+public class DownloadMemoryBenchmark {
+
+    private static final int[] FILE_SIZES_MB = {16, 64, 256};
+    private static final int MB = 1024 * 1024;
+
+    public static void main(final String[] args) throws Exception {
+        final HttpServer httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/", httpExchange -> {
+            final long size = Long.parseLong(httpExchange.getRequestURI().getPath().substring(1)) * MB;
+            final byte[] chunk = new byte[64 * 1024];
+            Arrays.fill(chunk, (byte) 'x');
+
+            httpExchange.sendResponseHeaders(200, size);
+            try (final OutputStream outputStream = httpExchange.getResponseBody()) {
+                for (long written = 0; written < size; written += chunk.length) {
+                    outputStream.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+                }
+            } catch (Exception ignored) {
+                // Client went away
+            }
+        });
+        httpServer.start();
+
+        final String url = "http://localhost:" + httpServer.getAddress().getPort() + "/";
+        final StringSettingsProvider settingsProvider = new StringSettingsProvider("api-key", "webhook-signing-secret", false);
+        final Path destination = Files.createTempFile("docsdk-download-benchmark", ".bin");
+
+        try (final DocSDKClient docSDKClient = new DocSDKClient(settingsProvider);
+             final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider)) {
+
+            System.out.printf("%-28s %10s %16s%n", "mode", "size (MB)", "peak heap (MB)");
+            for (final int size : FILE_SIZES_MB) {
+                measureBuffered("sync download (buffered)", size, () -> ByteStreams.exhaust(docSDKClient.files().download(url + size).getBody()));
+                measure("sync stream", size, () -> {
+                    try (final InputStream inputStream = docSDKClient.files().stream(url + size).getBody()) {
+                        ByteStreams.exhaust(inputStream);
+                    }
+                });
+                measure("sync download to path", size, () -> docSDKClient.files().download(url + size, destination));
+                measureBuffered("async download (buffered)", size, () -> ByteStreams.exhaust(asyncDocSDKClient.files().download(url + size).get().getBody()));
+                measure("async stream", size, () -> {
+                    try (final InputStream inputStream = asyncDocSDKClient.files().stream(url + size).get().getBody()) {
+                        ByteStreams.exhaust(inputStream);
+                    }
+                });
+                measure("async download to path", size, () -> asyncDocSDKClient.files().download(url + size, destination).get());
+            }
+        } finally {
+            Files.deleteIfExists(destination);
+            httpServer.stop(0);
+        }
+    }
+
+    private static void measureBuffered(final String mode, final int size, final ThrowingRunnable<Exception> download) {
+        // A buffered download, which runs out of heap on the IO reactor, would take the async client down with it
+        if (2L * size * MB > Runtime.getRuntime().maxMemory()) {
+            System.out.printf("%-28s %10d %16s%n", mode, size, "skipped (> heap)");
+        } else {
+            measure(mode, size, download);
+        }
+    }
+
+    private static void measure(final String mode, final int size, final ThrowingRunnable<Exception> download) {
+        final List<MemoryPoolMXBean> heapMemoryPoolMXBeans = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(memoryPoolMXBean -> memoryPoolMXBean.getType() == MemoryType.HEAP).collect(Collectors.toList());
+
+        System.gc();
+        heapMemoryPoolMXBeans.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        String peak;
+        try {
+            download.run();
+            peak = String.valueOf(heapMemoryPoolMXBeans.stream().mapToLong(memoryPoolMXBean -> memoryPoolMXBean.getPeakUsage().getUsed()).sum() / MB);
+        } catch (OutOfMemoryError e) {
+            peak = "OOM";
+        } catch (Exception e) {
+            peak = "failed: " + e;
+        }
+
+        System.out.printf("%-28s %10d %16s%n", mode, size, peak);
+    }
+}
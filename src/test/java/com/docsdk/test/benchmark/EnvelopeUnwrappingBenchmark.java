@@ -0,0 +1,89 @@
+package com.docsdk.test.benchmark;
+
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.response.JobResponse;
+import com.docsdk.processor.response.successful.ContentResponseProcessor;
+import com.docsdk.resource.AbstractResource;
+import com.google.common.base.Charsets;
+import com.google.common.io.ByteSource;
+import org.apache.http.Header;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares time and allocation of unwrapping the {@code {"data": ...}} envelope of a large {@link JobResponse},
+ * by reading the content into a string and cutting the envelope off (as before), and by streaming it via {@link ContentResponseProcessor}.
+ * <p>
+ * Run with the GC profiler, see {@code gc.alloc.rate.norm} for bytes allocated per operation:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.docsdk.test.benchmark.EnvelopeUnwrappingBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvelopeUnwrappingBenchmark {
+
+    @Param({"10", "1000"})
+    public int tasks;
+
+    private ObjectMapperProvider objectMapperProvider;
+    private ContentResponseProcessor contentResponseProcessor;
+    private byte[] content;
+
+    @Setup
+    public void setup() {
+        objectMapperProvider = new ObjectMapperProvider();
+        contentResponseProcessor = new ContentResponseProcessor(objectMapperProvider);
+
+        final StringBuilder stringBuilder = new StringBuilder("{\"data\":{\"id\":\"job-id\",\"tag\":\"benchmark\",\"status\":\"finished\",\"tasks\":[");
+        for (int task = 0; task < tasks; task++) {
+            stringBuilder.append(task > 0 ? "," : "").append("{\"id\":\"task-").append(task).append("\",\"name\":\"convert-").append(task)
+                .append("\",\"job_id\":\"job-id\",\"operation\":\"convert\",\"status\":\"finished\",\"credits\":1,")
+                .append("\"created_at\":\"2020-04-09T12:00:00+00:00\",\"ended_at\":\"2020-04-09T12:00:05+00:00\",")
+                .append("\"result\":{\"files\":[{\"filename\":\"file-").append(task).append(".pdf\",\"url\":\"https://storage.docsdk.com/tasks/")
+                .append(task).append("/file.pdf\"}]}}");
+        }
+        content = stringBuilder.append("],\"links\":{\"self\":\"https://api.docsdk.com/v2/jobs/job-id\"}}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public JobResponse substring() throws Exception {
+        final InputStream inputStream = new ByteArrayInputStream(content);
+        final String rawString = new ByteSource() {
+            @Override
+            public InputStream openStream() {
+                return inputStream;
+            }
+        }.asCharSource(Charsets.UTF_8).read();
+
+        return objectMapperProvider.provideReader(AbstractResource.JOB_RESPONSE_TYPE_REFERENCE).readValue(rawString.substring(8, rawString.length() - 1));
+    }
+
+    @Benchmark
+    public JobResponse streaming() throws Exception {
+        return contentResponseProcessor.process(200, new Header[0], new ByteArrayInputStream(content), AbstractResource.JOB_RESPONSE_TYPE_REFERENCE).getBody();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(EnvelopeUnwrappingBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+    }
+}
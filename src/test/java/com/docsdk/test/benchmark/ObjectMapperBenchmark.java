@@ -0,0 +1,97 @@
+package com.docsdk.test.benchmark;
+
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.request.ConvertFilesTaskRequest;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.resource.AbstractResource;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures per-call cost of serializing a request and deserializing a task response,
+ * with an {@link ObjectMapperProvider} which builds a new mapper on every call (as before) and with the caching one.
+ * <p>
+ * Serialization mirrors {@code AbstractResource.getHttpEntity(Request)}, deserialization mirrors {@code ContentResponseProcessor}.
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.docsdk.test.benchmark.ObjectMapperBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectMapperBenchmark {
+
+    private static final String TASK_RESPONSE = "{\"id\":\"4c80f1ae-5b3a-43d5-bb58-1a5c4eb4e46b\",\"job_id\":\"c677ccf7-d8d8-4b2a-8b3e-4d6a0b6c6e9f\","
+        + "\"operation\":\"convert\",\"status\":\"finished\",\"message\":null,\"code\":null,\"credits\":1,"
+        + "\"created_at\":\"2020-04-09T12:00:00+00:00\",\"started_at\":\"2020-04-09T12:00:01+00:00\",\"ended_at\":\"2020-04-09T12:00:05+00:00\","
+        + "\"depends_on_task_ids\":[\"6df0920a-7042-4e87-be52-f38a0a8a2e2f\"],\"engine\":\"office\",\"engine_version\":\"2019\","
+        + "\"result\":{\"files\":[{\"filename\":\"file.pdf\",\"url\":\"https://storage.docsdk.com/tasks/4c80f1ae/file.pdf\"}]}}";
+
+    @Param({"uncached", "cached"})
+    public String provider;
+
+    private ObjectMapperProvider objectMapperProvider;
+    private ConvertFilesTaskRequest convertFilesTaskRequest;
+
+    @Setup
+    public void setup() {
+        objectMapperProvider = "cached".equals(provider) ? new ObjectMapperProvider() : new UncachedObjectMapperProvider();
+        convertFilesTaskRequest = new ConvertFilesTaskRequest().setInput("import-my-file").setInputFormat("docx").setOutputFormat("pdf")
+            .setEngine("office").setFilename("file.pdf");
+    }
+
+    @Benchmark
+    public byte[] serializeRequest() throws Exception {
+        final Map<String, Object> map = objectMapperProvider.provide().convertValue(convertFilesTaskRequest, AbstractResource.MAP_STRING_TO_OBJECT_TYPE_REFERENCE);
+        return objectMapperProvider.provideWriter().writeValueAsBytes(map);
+    }
+
+    @Benchmark
+    public TaskResponse deserializeResponse() throws Exception {
+        return objectMapperProvider.provideReader(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE).readValue(TASK_RESPONSE);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(ObjectMapperBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Builds a new mapper on every call, like {@link ObjectMapperProvider} used to.
+     */
+    private static class UncachedObjectMapperProvider extends ObjectMapperProvider {
+
+        @Override
+        public ObjectMapper provide() {
+            return createObjectMapper();
+        }
+
+        @Override
+        public ObjectReader provideReader(final TypeReference<?> typeReference) {
+            return provide().readerFor(typeReference);
+        }
+
+        @Override
+        public ObjectWriter provideWriter() {
+            return provide().writer();
+        }
+    }
+}
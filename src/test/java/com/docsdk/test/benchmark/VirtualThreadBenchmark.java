@@ -0,0 +1,175 @@
+package com.docsdk.test.benchmark;
+
+import com.docsdk.bulk.BulkExecutor;
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.client.http.ConnectionPoolSettings;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.client.setttings.SettingsProvider;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.executor.VirtualThreads;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the time to run many concurrent pipelines, each showing a task and waiting for it, against a local server answering after a delay.
+ * The blocking client runs them with {@link BulkExecutor} on a thread per pipeline (virtual on JDK 21 or later, otherwise platform threads
+ * created on demand) and on a fixed pool of platform threads, the async client chains them without blocking.
+ * All clients share the same connection pool size, so the difference is the cost of the threads waiting for the responses.
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.docsdk.test.benchmark.VirtualThreadBenchmark}, run on JDK 21 for virtual threads
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    private static final int CONNECTIONS = 200;
+    private static final long DELAY_MILLIS = 10;
+
+    @Param({"THREAD_PER_PIPELINE", "PLATFORM_POOL", "ASYNC"})
+    public String mode;
+
+    @Param({"10000"})
+    public int pipelines;
+
+    private HttpServer httpServer;
+    private ScheduledExecutorService responseScheduler;
+
+    private List<String> taskIds;
+
+    private DocSDKClient docSDKClient;
+    private AsyncDocSDKClient asyncDocSDKClient;
+    private ExecutorService platformExecutorService;
+    private BulkExecutor bulkExecutor;
+
+    @Setup
+    public void setup() throws Exception {
+        responseScheduler = Executors.newScheduledThreadPool(4);
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), CONNECTIONS);
+        // Respond after the delay from the scheduler, so the server holds no thread per waiting request
+        httpServer.createContext("/v2/tasks", httpExchange -> responseScheduler.schedule(() -> respond(httpExchange), DELAY_MILLIS, TimeUnit.MILLISECONDS));
+        httpServer.start();
+
+        final String url = "http://localhost:" + httpServer.getAddress().getPort();
+        final SettingsProvider settingsProvider = new SettingsProvider() {
+
+            @Override
+            public String getApiKey() {
+                return "api-key";
+            }
+
+            @Override
+            public String getApiUrl() {
+                return url;
+            }
+
+            @Override
+            public String getWebhookSigningSecret() {
+                return "webhook-signing-secret";
+            }
+        };
+        final ConnectionPoolSettings connectionPoolSettings = ConnectionPoolSettings.builder().defaultMaxPerRoute(CONNECTIONS).maxTotal(CONNECTIONS).build();
+
+        taskIds = IntStream.range(0, pipelines).mapToObj(i -> "task-" + i).collect(Collectors.toList());
+        switch (mode) {
+            case "THREAD_PER_PIPELINE":
+                docSDKClient = new DocSDKClient(settingsProvider, new ObjectMapperProvider(), connectionPoolSettings);
+                bulkExecutor = BulkExecutor.builder().docSDKClient(docSDKClient).build();
+                System.out.println("Virtual threads " + (VirtualThreads.isAvailable() ? "available" : "not available"));
+                break;
+            case "PLATFORM_POOL":
+                docSDKClient = new DocSDKClient(settingsProvider, new ObjectMapperProvider(), connectionPoolSettings);
+                platformExecutorService = Executors.newFixedThreadPool(CONNECTIONS);
+                bulkExecutor = BulkExecutor.builder().docSDKClient(docSDKClient).executorService(platformExecutorService).build();
+                break;
+            default:
+                asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider(), connectionPoolSettings);
+        }
+    }
+
+    @Benchmark
+    public int pipelines() throws Exception {
+        if (bulkExecutor != null) {
+            return bulkExecutor.invokeAll(taskIds, (client, taskId) -> {
+                client.tasks().show(taskId);
+                return client.tasks().wait(taskId).getBody();
+            }).size();
+        }
+
+        final List<CompletableFuture<TaskResponse>> taskResponseFutures = new ArrayList<>(pipelines);
+        for (final String taskId : taskIds) {
+            taskResponseFutures.add(asyncDocSDKClient.tasks().show(taskId).thenCompose(result -> asyncDocSDKClient.tasks().wait(taskId))
+                .toCompletionStage().toCompletableFuture().thenApply(result -> result.getBody()));
+        }
+        CompletableFuture.allOf(taskResponseFutures.toArray(new CompletableFuture<?>[0])).join();
+        return taskResponseFutures.size();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (bulkExecutor != null) {
+            bulkExecutor.close();
+        }
+        if (platformExecutorService != null) {
+            platformExecutorService.shutdownNow();
+        }
+        if (docSDKClient != null) {
+            docSDKClient.close();
+        }
+        if (asyncDocSDKClient != null) {
+            asyncDocSDKClient.close();
+        }
+        httpServer.stop(0);
+        responseScheduler.shutdownNow();
+    }
+
+    private static void respond(final HttpExchange httpExchange) {
+        final String path = httpExchange.getRequestURI().getPath();
+        final String taskId = path.substring("/v2/tasks/".length()).replace("/wait", "");
+        final byte[] body = ("{\"data\":{\"id\":\"" + taskId + "\",\"status\":\"finished\"}}").getBytes(StandardCharsets.UTF_8);
+        try {
+            httpExchange.sendResponseHeaders(HttpStatus.SC_OK, body.length);
+            try (final OutputStream outputStream = httpExchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        } catch (IOException e) {
+            httpExchange.close();
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(VirtualThreadBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.docsdk.test.benchmark;
+
+import com.docsdk.resource.AbstractWebhooksResource;
+import com.docsdk.webhook.WebhookDispatchResult;
+import com.docsdk.webhook.WebhookEventDispatcher;
+import com.docsdk.webhook.WebhookSignatureVerifier;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the throughput of verifying, parsing and dispatching synthetic signed job events to a handler, as the receiver does per request.
+ * Deduplication is disabled, so the payloads, signed once up front, can be dispatched over and over.
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.docsdk.test.benchmark.WebhookDispatchBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class WebhookDispatchBenchmark {
+
+    private static final String SIGNING_SECRET = "signing-secret";
+    private static final int PAYLOADS = 1024;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private final byte[][] payloads = new byte[PAYLOADS][];
+    private final String[] signatures = new String[PAYLOADS];
+    private final AtomicInteger index = new AtomicInteger();
+    private final LongAdder handled = new LongAdder();
+
+    private WebhookEventDispatcher webhookEventDispatcher;
+
+    @Setup
+    public void setup() throws Exception {
+        final Mac mac = Mac.getInstance(AbstractWebhooksResource.HMAC_SHA256);
+        mac.init(new SecretKeySpec(SIGNING_SECRET.getBytes(StandardCharsets.UTF_8), AbstractWebhooksResource.HMAC_SHA256));
+        for (int i = 0; i < PAYLOADS; i++) {
+            payloads[i] = ("{\"event\":\"job.finished\",\"job\":{\"id\":\"job-" + i + "\",\"tag\":\"benchmark\",\"status\":\"finished\","
+                + "\"created_at\":\"2020-04-09T12:00:00+00:00\",\"ended_at\":\"2020-04-09T12:00:05+00:00\",\"tasks\":[{\"id\":\"task-" + i
+                + "\",\"operation\":\"convert\",\"status\":\"finished\"}]}}").getBytes(StandardCharsets.UTF_8);
+            signatures[i] = Hex.encodeHexString(mac.doFinal(payloads[i]));
+        }
+
+        webhookEventDispatcher = WebhookEventDispatcher.builder().webhookSignatureVerifier(WebhookSignatureVerifier.of(SIGNING_SECRET))
+            .parallelism(parallelism).queueCapacity(10_000).deduplicationWindow(Duration.ZERO).build();
+        webhookEventDispatcher.addHandler(webhookEventResponse -> handled.increment());
+    }
+
+    @Benchmark
+    public WebhookDispatchResult dispatch() throws Exception {
+        final int i = Math.floorMod(index.getAndIncrement(), PAYLOADS);
+        final WebhookDispatchResult webhookDispatchResult = webhookEventDispatcher.dispatch(payloads[i], signatures[i]);
+        if (webhookDispatchResult == WebhookDispatchResult.REJECTED) {
+            // Let the workers catch up, as a sender would retry later
+            Thread.yield();
+        }
+        return webhookDispatchResult;
+    }
+
+    @TearDown
+    public void tearDown() {
+        webhookEventDispatcher.close();
+        System.out.println("Handled " + handled.sum() + ", rejected " + webhookEventDispatcher.getRejected());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(WebhookDispatchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
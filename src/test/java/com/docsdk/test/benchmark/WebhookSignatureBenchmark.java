@@ -0,0 +1,93 @@
+package com.docsdk.test.benchmark;
+
+import com.docsdk.resource.AbstractWebhooksResource;
+import com.docsdk.webhook.WebhookSignatureVerifier;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures per-call cost of verifying a webhook signature, creating a {@link Mac} and hex encoding the digest on every call (as before)
+ * and with the {@link WebhookSignatureVerifier}. Run with {@code -prof gc} to compare the allocations per call as well.
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.docsdk.test.benchmark.WebhookSignatureBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class WebhookSignatureBenchmark {
+
+    private static final String SIGNING_SECRET = "signing-secret";
+
+    @Param({"1024", "16384"})
+    public int payloadSize;
+
+    private byte[] payload;
+    private String payloadString;
+    private ByteBuffer directPayload;
+    private String signature;
+    private WebhookSignatureVerifier webhookSignatureVerifier;
+
+    @Setup
+    public void setup() throws Exception {
+        payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'a');
+        payloadString = new String(payload, StandardCharsets.UTF_8);
+        directPayload = ByteBuffer.allocateDirect(payloadSize);
+        directPayload.put(payload).flip();
+
+        final Mac mac = Mac.getInstance(AbstractWebhooksResource.HMAC_SHA256);
+        mac.init(new SecretKeySpec(SIGNING_SECRET.getBytes(StandardCharsets.UTF_8), AbstractWebhooksResource.HMAC_SHA256));
+        signature = Hex.encodeHexString(mac.doFinal(payload));
+        webhookSignatureVerifier = WebhookSignatureVerifier.of(SIGNING_SECRET);
+    }
+
+    /**
+     * Like {@code AbstractWebhooksResource.verify} used to
+     */
+    @Benchmark
+    public boolean perCallMac() throws Exception {
+        final Mac mac = Mac.getInstance(AbstractWebhooksResource.HMAC_SHA256);
+        final SecretKeySpec secretKeySpec = new SecretKeySpec(SIGNING_SECRET.getBytes(), AbstractWebhooksResource.HMAC_SHA256);
+        mac.init(secretKeySpec);
+
+        return signature.equals(Hex.encodeHexString(mac.doFinal(payloadString.getBytes())));
+    }
+
+    @Benchmark
+    public boolean verifierBytes() {
+        return webhookSignatureVerifier.verify(payload, signature);
+    }
+
+    @Benchmark
+    public boolean verifierDirectByteBuffer() {
+        // Each thread verifies its own view, as the verifier moves and restores the position
+        return webhookSignatureVerifier.verify(directPayload.duplicate(), signature);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(WebhookSignatureBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,184 @@
+package com.docsdk.test.benchmark;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.setttings.StringSettingsProvider;
+import com.docsdk.executor.entity.StreamingMultipartEntity;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.pivovarit.function.ThrowingRunnable;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Compares CPU time, heap allocation and GC activity of zero-copy async uploads and downloads with the copying path.
+ * <p>
+ * Uploads send the same {@link StreamingMultipartEntity} once as is, so the client transfers the file via {@link org.apache.http.nio.FileContentEncoder},
+ * and once wrapped, so the client copies it through the heap via {@link HttpEntity#getContent()}.
+ * Downloads compare {@code files().download(url, path)} with copying {@code files().stream(url)} into the file.
+ * <p>
+ * Only client threads are measured, the in-process server threads are excluded. The file size in MB defaults to 1024 and can be passed as the first argument:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.docsdk.test.benchmark.ZeroCopyBenchmark -Dexec.args=1024}
+ */
+public class ZeroCopyBenchmark {
+
+    private static final String SERVER_THREAD_NAME = "benchmark-server";
+    private static final long MB = 1024 * 1024;
+
+    public static void main(final String[] args) throws Exception {
+        final long size = (args.length > 0 ? Long.parseLong(args[0]) : 1024) * MB;
+        final Path source = Files.createTempFile("docsdk-zero-copy-benchmark-source", ".bin");
+        final Path destination = Files.createTempFile("docsdk-zero-copy-benchmark-destination", ".bin");
+        writeFile(source, size);
+
+        final ExecutorService serverExecutorService = Executors.newCachedThreadPool(runnable -> new Thread(runnable, SERVER_THREAD_NAME));
+        final HttpServer httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.setExecutor(serverExecutorService);
+        httpServer.createContext("/upload", httpExchange -> {
+            try (final InputStream inputStream = httpExchange.getRequestBody()) {
+                ByteStreams.exhaust(inputStream);
+            }
+            httpExchange.sendResponseHeaders(201, -1);
+            httpExchange.close();
+        });
+        httpServer.createContext("/download", httpExchange -> {
+            httpExchange.sendResponseHeaders(200, size);
+            try (final OutputStream outputStream = httpExchange.getResponseBody()) {
+                Files.copy(source, outputStream);
+            } catch (Exception ignored) {
+                // Client went away
+            }
+        });
+        httpServer.start();
+
+        final String url = "http://localhost:" + httpServer.getAddress().getPort();
+        final Map<String, String> parameters = ImmutableMap.of("expires", "expires", "signature", "signature");
+        final StringSettingsProvider settingsProvider = new StringSettingsProvider("api-key", "webhook-signing-secret", false);
+
+        try (final CloseableHttpAsyncClient closeableHttpAsyncClient = HttpAsyncClients.createDefault();
+             final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider)) {
+            closeableHttpAsyncClient.start();
+
+            System.out.printf("%-26s %10s %14s %16s %10s %14s%n", "mode", "size (MB)", "cpu time (ms)", "allocated (MB)", "gc count", "gc time (ms)");
+            for (int round = 0; round < 2; round++) {
+                // The first round warms up the JIT
+                final boolean print = round > 0;
+
+                measure(print, "upload (copying)", size, () -> upload(closeableHttpAsyncClient, url,
+                    new HttpEntityWrapper(new StreamingMultipartEntity(parameters, "form", "file.bin", source))));
+                measure(print, "upload (zero-copy)", size, () -> upload(closeableHttpAsyncClient, url,
+                    new StreamingMultipartEntity(parameters, "form", "file.bin", source)));
+                measure(print, "download (copying)", size, () -> {
+                    try (final InputStream inputStream = asyncDocSDKClient.files().stream(url + "/download").get().getBody()) {
+                        Files.copy(inputStream, destination, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                });
+                measure(print, "download (zero-copy)", size, () -> asyncDocSDKClient.files().download(url + "/download", destination).get());
+            }
+        } finally {
+            httpServer.stop(0);
+            serverExecutorService.shutdownNow();
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(destination);
+        }
+    }
+
+    private static void upload(final CloseableHttpAsyncClient closeableHttpAsyncClient, final String url, final HttpEntity httpEntity) throws Exception {
+        final HttpPost httpPost = new HttpPost(url + "/upload");
+        httpPost.setEntity(httpEntity);
+
+        final int status = closeableHttpAsyncClient.execute(httpPost, null).get().getStatusLine().getStatusCode();
+        if (status != 201) {
+            throw new IllegalStateException("Unexpected status " + status);
+        }
+    }
+
+    private static void writeFile(final Path path, final long size) throws Exception {
+        final byte[] chunk = new byte[(int) MB];
+        Arrays.fill(chunk, (byte) 'x');
+
+        try (final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            for (long written = 0; written < size; written += chunk.length) {
+                fileChannel.write(ByteBuffer.wrap(chunk, 0, (int) Math.min(chunk.length, size - written)));
+            }
+        }
+    }
+
+    private static void measure(final boolean print, final String mode, final long size, final ThrowingRunnable<Exception> transfer) {
+        System.gc();
+
+        final Map<Long, long[]> before = sampleThreads();
+        final long[] gcBefore = sampleGc();
+
+        String failure = null;
+        try {
+            transfer.run();
+        } catch (Exception e) {
+            failure = e.toString();
+        }
+
+        final Map<Long, long[]> after = sampleThreads();
+        final long[] gcAfter = sampleGc();
+
+        long cpuTime = 0;
+        long allocated = 0;
+        for (final Map.Entry<Long, long[]> entry : after.entrySet()) {
+            final long[] initial = before.getOrDefault(entry.getKey(), new long[2]);
+            cpuTime += entry.getValue()[0] - initial[0];
+            allocated += entry.getValue()[1] - initial[1];
+        }
+
+        if (!print) {
+            return;
+        }
+        if (failure != null) {
+            System.out.printf("%-26s %10d failed: %s%n", mode, size / MB, failure);
+        } else {
+            System.out.printf("%-26s %10d %14d %16d %10d %14d%n", mode, size / MB, cpuTime / 1_000_000, allocated / MB,
+                gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+        }
+    }
+
+    /**
+     * @return cpu time in ns and allocated bytes of every live client thread, by thread id
+     */
+    private static Map<Long, long[]> sampleThreads() {
+        final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final Map<Long, long[]> samples = new HashMap<>();
+
+        Thread.getAllStackTraces().keySet().stream().filter(thread -> !thread.getName().startsWith(SERVER_THREAD_NAME)).forEach(thread ->
+            samples.put(thread.getId(), new long[]{threadMXBean.getThreadCpuTime(thread.getId()), threadMXBean.getThreadAllocatedBytes(thread.getId())}));
+
+        return samples;
+    }
+
+    private static long[] sampleGc() {
+        long count = 0;
+        long time = 0;
+        for (final GarbageCollectorMXBean garbageCollectorMXBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += garbageCollectorMXBean.getCollectionCount();
+            time += garbageCollectorMXBean.getCollectionTime();
+        }
+        return new long[]{count, time};
+    }
+}
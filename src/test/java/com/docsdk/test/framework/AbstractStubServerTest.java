@@ -0,0 +1,82 @@
+package com.docsdk.test.framework;
+
+import com.docsdk.client.setttings.SettingsProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.mockito.Mock;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Base of the unit tests against a stub API, served by the embedded HTTP server of the JDK on a free local port.
+ * Subclasses register their handlers in {@link #stub(HttpServer)}, the {@link #settingsProvider} points the clients at the server.
+ * Requests are handled concurrently, each on a thread of its own.
+ */
+public abstract class AbstractStubServerTest extends AbstractTest {
+
+    @Mock
+    protected SettingsProvider settingsProvider;
+
+    protected HttpServer httpServer;
+
+    private ExecutorService httpServerExecutorService;
+
+    @Before
+    public void startStubServer() throws IOException {
+        httpServerExecutorService = Executors.newCachedThreadPool();
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 100);
+        httpServer.setExecutor(httpServerExecutorService);
+        stub(httpServer);
+        httpServer.start();
+
+        when(settingsProvider.getApiKey()).thenReturn(API_KEY);
+        when(settingsProvider.getApiUrl()).thenReturn(getStubServerUrl());
+    }
+
+    /**
+     * Register the handlers of the stub API, before the server is started.
+     *
+     * @param httpServer {@link HttpServer}
+     */
+    protected abstract void stub(final HttpServer httpServer);
+
+    /**
+     * @return URL of the stub server, without a trailing slash
+     */
+    protected String getStubServerUrl() {
+        return "http://localhost:" + httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Send a response with the body and close the exchange.
+     *
+     * @param httpExchange {@link HttpExchange}
+     * @param status       HTTP status
+     * @param body         body, e.g. JSON
+     */
+    protected static void respond(final HttpExchange httpExchange, final int status, final byte[] body) throws IOException {
+        httpExchange.sendResponseHeaders(status, body.length);
+        try (final OutputStream outputStream = httpExchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    protected static void respond(final HttpExchange httpExchange, final int status, final String body) throws IOException {
+        respond(httpExchange, status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @After
+    public void stopStubServer() {
+        httpServer.stop(0);
+        httpServerExecutorService.shutdownNow();
+    }
+}
@@ -11,7 +11,7 @@ import com.docsdk.dto.request.SftpExportRequest;
 import com.docsdk.dto.request.UrlExportRequest;
 import com.docsdk.dto.response.TaskResponse;
 import com.docsdk.dto.result.AsyncResult;
-import com.docsdk.dto.result.FutureAsyncResult;
+import com.docsdk.dto.result.CompletableAsyncResult;
 import com.docsdk.executor.AsyncRequestExecutor;
 import com.docsdk.resource.AbstractResource;
 import com.docsdk.test.framework.AbstractTest;
@@ -25,10 +25,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
-import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,7 +48,7 @@ public class AsyncExportsUnitTest extends AbstractTest {
     @Mock
     private AsyncRequestExecutor asyncRequestExecutor;
 
-    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    @Spy
     private ObjectMapperProvider objectMapperProvider;
 
     @Captor
@@ -67,7 +67,7 @@ public class AsyncExportsUnitTest extends AbstractTest {
     @Test
     public void export_url() throws Exception {
         final UrlExportRequest expectedUrlExportRequest = new UrlExportRequest().setInput("export-url-input");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.exportUsing().url(expectedUrlExportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -93,7 +93,7 @@ public class AsyncExportsUnitTest extends AbstractTest {
     @Test
     public void export_s3() throws Exception {
         final S3ExportRequest expectedS3ExportRequest = new S3ExportRequest().setInput("export-s3-input");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.exportUsing().s3(expectedS3ExportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -119,7 +119,7 @@ public class AsyncExportsUnitTest extends AbstractTest {
     @Test
     public void export_azureBlob() throws Exception {
         final AzureBlobExportRequest expectedAzureBlobExportRequest = new AzureBlobExportRequest().setInput("export-azure-blob-input");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.exportUsing().azureBlob(expectedAzureBlobExportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -145,7 +145,7 @@ public class AsyncExportsUnitTest extends AbstractTest {
     @Test
     public void export_googleCloudStorage() throws Exception {
         final GoogleCloudStorageExportRequest expectedGoogleCloudStorageExportRequest = new GoogleCloudStorageExportRequest().setBucket("export-google-cloud-storage-bucket");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.exportUsing().googleCloudStorage(expectedGoogleCloudStorageExportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -171,7 +171,7 @@ public class AsyncExportsUnitTest extends AbstractTest {
     @Test
     public void export_openStack() throws Exception {
         final OpenStackExportRequest expectedOpenStackExportRequest = new OpenStackExportRequest().setContainer("export-open-stack-container");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.exportUsing().openStack(expectedOpenStackExportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -197,7 +197,7 @@ public class AsyncExportsUnitTest extends AbstractTest {
     @Test
     public void export_sftp() throws Exception {
         final SftpExportRequest expectedSftpExportRequest = new SftpExportRequest().setInput("export-sftp-input");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.exportUsing().sftp(expectedSftpExportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -12,8 +12,8 @@ import com.docsdk.dto.request.UploadImportRequest;
 import com.docsdk.dto.request.UrlImportRequest;
 import com.docsdk.dto.response.TaskResponse;
 import com.docsdk.dto.result.AsyncResult;
+import com.docsdk.dto.result.CompletableAsyncResult;
 import com.docsdk.dto.result.CompletedAsyncResult;
-import com.docsdk.dto.result.FutureAsyncResult;
 import com.docsdk.dto.result.Result;
 import com.docsdk.executor.AsyncRequestExecutor;
 import com.docsdk.resource.AbstractResource;
@@ -31,14 +31,15 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
-import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -57,7 +58,7 @@ public class AsyncImportsUnitTest extends AbstractTest {
     @Mock
     private AsyncRequestExecutor asyncRequestExecutor;
 
-    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    @Spy
     private ObjectMapperProvider objectMapperProvider;
 
     @Mock
@@ -79,7 +80,7 @@ public class AsyncImportsUnitTest extends AbstractTest {
     @Test
     public void import_url() throws Exception {
         final UrlImportRequest expectedUrlImportRequest = new UrlImportRequest().setFilename("import-url-filename");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.importUsing().url(expectedUrlImportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -105,7 +106,7 @@ public class AsyncImportsUnitTest extends AbstractTest {
     @Test
     public void import_upload_noImmediateUpload() throws Exception {
         final UploadImportRequest expectedUploadImportRequest = new UploadImportRequest().setRedirect("import-upload-redirect");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.importUsing().upload(expectedUploadImportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -135,7 +136,8 @@ public class AsyncImportsUnitTest extends AbstractTest {
             "max-file-size", "max-file-size", "redirect", "redirect", "signature", "signature");
         final TaskResponse taskResponse = new TaskResponse().setId("import-upload-task-id").setResult(
             new TaskResponse.Result().setForm(new TaskResponse.Result.Form().setUrl("import-upload-task-result-form-url").setParameters(parameters)));
-        final AsyncResult<TaskResponse> showTaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final Result<TaskResponse> showTaskResponseResult = Result.<TaskResponse>builder().status(HttpStatus.SC_OK).body(taskResponse).build();
+        final AsyncResult<TaskResponse> showTaskResponseAsyncResult = CompletedAsyncResult.<TaskResponse>builder().result(showTaskResponseResult).build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)))
             .thenReturn(CompletedAsyncResult.<TaskResponse>builder().result(
                 Result.<TaskResponse>builder().status(HttpStatus.SC_CREATED).body(taskResponse).build()).build())
@@ -143,7 +145,8 @@ public class AsyncImportsUnitTest extends AbstractTest {
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.VOID_TYPE_REFERENCE))).thenReturn(
             CompletedAsyncResult.<Void>builder().result(Result.<Void>builder().status(HttpStatus.SC_CREATED).build()).build());
 
-        assertThat(asyncDocSDKClient.importUsing().upload(expectedUploadImportRequest, inputStream)).isEqualTo(showTaskResponseAsyncResult);
+        // The upload chain is composed without blocking, so the result of the last request is handed over, rather than its instance
+        assertThat(asyncDocSDKClient.importUsing().upload(expectedUploadImportRequest, inputStream).get()).isEqualTo(showTaskResponseResult);
         verify(asyncRequestExecutor, times(2)).execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE));
         verify(asyncRequestExecutor, times(1)).execute(httpUriRequestArgumentCaptor.capture(), eq(AbstractResource.VOID_TYPE_REFERENCE));
 
@@ -159,10 +162,36 @@ public class AsyncImportsUnitTest extends AbstractTest {
             assertThat(AbstractResource.VALUE_USER_AGENT).isEqualTo(header.getValue()));
     }
 
+    @Test
+    public void import_upload_immediateUpload_doesNotBlock() throws Exception {
+        final Map<String, String> parameters = ImmutableMap.of("signature", "signature");
+        final TaskResponse taskResponse = new TaskResponse().setId("import-upload-task-id").setResult(
+            new TaskResponse.Result().setForm(new TaskResponse.Result.Form().setUrl("import-upload-task-result-form-url").setParameters(parameters)));
+        final CompletableFuture<Result<TaskResponse>> uploadTaskResponseFuture = new CompletableFuture<>();
+        final Result<TaskResponse> showTaskResponseResult = Result.<TaskResponse>builder().status(HttpStatus.SC_OK).body(taskResponse).build();
+        when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)))
+            .thenReturn(CompletableAsyncResult.<TaskResponse>builder().completableFuture(uploadTaskResponseFuture).build())
+            .thenReturn(CompletedAsyncResult.<TaskResponse>builder().result(showTaskResponseResult).build());
+        when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.VOID_TYPE_REFERENCE))).thenReturn(
+            CompletedAsyncResult.<Void>builder().result(Result.<Void>builder().status(HttpStatus.SC_CREATED).build()).build());
+
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = asyncDocSDKClient.importUsing().upload(new UploadImportRequest(), inputStream);
+
+        // Nothing is sent, until the upload task has been created
+        assertThat(taskResponseAsyncResult.toCompletionStage().toCompletableFuture()).isNotDone();
+        verify(asyncRequestExecutor, times(0)).execute(any(HttpUriRequest.class), eq(AbstractResource.VOID_TYPE_REFERENCE));
+
+        uploadTaskResponseFuture.complete(Result.<TaskResponse>builder().status(HttpStatus.SC_CREATED).body(taskResponse).build());
+
+        assertThat(taskResponseAsyncResult.toCompletionStage().toCompletableFuture()).isCompletedWithValue(showTaskResponseResult);
+        verify(asyncRequestExecutor, times(1)).execute(any(HttpUriRequest.class), eq(AbstractResource.VOID_TYPE_REFERENCE));
+        verify(asyncRequestExecutor, times(2)).execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE));
+    }
+
     @Test
     public void import_s3() throws Exception {
         final S3ImportRequest expectedS3ImportRequest = new S3ImportRequest().setBucket("import-s3-bucket");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.importUsing().s3(expectedS3ImportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -188,7 +217,7 @@ public class AsyncImportsUnitTest extends AbstractTest {
     @Test
     public void import_azureBlob() throws Exception {
         final AzureBlobImportRequest expectedAzureBlobImportRequest = new AzureBlobImportRequest().setStorageAccount("import-azure-blob-storage-account");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.importUsing().azureBlob(expectedAzureBlobImportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -214,7 +243,7 @@ public class AsyncImportsUnitTest extends AbstractTest {
     @Test
     public void import_googleCloudStorage() throws Exception {
         final GoogleCloudStorageImportRequest expectedGoogleCloudStorageImportRequest = new GoogleCloudStorageImportRequest().setBucket("import-google-cloud-storage-bucket");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.importUsing().googleCloudStorage(expectedGoogleCloudStorageImportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -240,7 +269,7 @@ public class AsyncImportsUnitTest extends AbstractTest {
     @Test
     public void import_openStack() throws Exception {
         final OpenStackImportRequest expectedOpenStackImportRequest = new OpenStackImportRequest().setContainer("import-open-stack-container");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.importUsing().openStack(expectedOpenStackImportRequest)).isEqualTo(TaskResponseAsyncResult);
@@ -266,7 +295,7 @@ public class AsyncImportsUnitTest extends AbstractTest {
     @Test
     public void import_sftp() throws Exception {
         final SftpImportRequest expectedSftpImportRequest = new SftpImportRequest().setFilename("import-sftp-filename");
-        final AsyncResult<TaskResponse> TaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> TaskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(TaskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.importUsing().sftp(expectedSftpImportRequest)).isEqualTo(TaskResponseAsyncResult);
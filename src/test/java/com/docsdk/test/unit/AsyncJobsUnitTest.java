@@ -11,7 +11,7 @@ import com.docsdk.dto.request.TaskRequest;
 import com.docsdk.dto.response.JobResponse;
 import com.docsdk.dto.response.Pageable;
 import com.docsdk.dto.result.AsyncResult;
-import com.docsdk.dto.result.FutureAsyncResult;
+import com.docsdk.dto.result.CompletableAsyncResult;
 import com.docsdk.executor.AsyncRequestExecutor;
 import com.docsdk.resource.AbstractResource;
 import com.docsdk.resource.params.Filter;
@@ -35,10 +35,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
-import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.IOException;
@@ -65,7 +65,7 @@ public class AsyncJobsUnitTest extends AbstractTest {
     @Mock
     private AsyncRequestExecutor asyncRequestExecutor;
 
-    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    @Spy
     private ObjectMapperProvider objectMapperProvider;
 
     @Captor
@@ -89,7 +89,7 @@ public class AsyncJobsUnitTest extends AbstractTest {
             "execute-commands", new ExecuteCommandsTaskRequest().setInput("execute-commands-task-input"),
             "merge-files", new MergeFilesTaskRequest().setInput("merge-files-task-input")
         );
-        final AsyncResult<JobResponse> jobResponseAsyncResult = FutureAsyncResult.<JobResponse>builder().build();
+        final AsyncResult<JobResponse> jobResponseAsyncResult = CompletableAsyncResult.<JobResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.JOB_RESPONSE_TYPE_REFERENCE))).thenReturn(jobResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.jobs().create(tasks)).isEqualTo(jobResponseAsyncResult);
@@ -109,10 +109,10 @@ public class AsyncJobsUnitTest extends AbstractTest {
             };
 
             final String request = ThrowingSupplier.unchecked(() -> byteSource.asCharSource(Charsets.UTF_8).read()).get();
-            assertThat(request).isEqualTo("{\"tasks\":{\"merge-files\":{\"input\":[\"merge-files-task-input\"],\"operation\":\"merge\"}," +
-                "\"capture-website\":{\"url\":\"capture-website-task-url\",\"output_format\":\"pdf\",\"operation\":\"capture-website\"," +
-                "\"zoom\":1.3},\"execute-commands\":{\"input\":[\"execute-commands-task-input\"],\"operation\":\"command\"},\"convert-files\":" +
-                "{\"input\":[\"convert-files-task-input\"],\"operation\":\"convert\",\"width\":100,\"height\":100}},\"tag\":\"\"}");
+            assertThat(request).isEqualTo("{\"tasks\":{\"capture-website\":{\"url\":\"capture-website-task-url\",\"output_format\":\"pdf\",\"operation\":\"capture-website\"," +
+                "\"zoom\":1.3},\"convert-files\":{\"input\":[\"convert-files-task-input\"],\"operation\":\"convert\",\"width\":100,\"height\":100}," +
+                "\"execute-commands\":{\"input\":[\"execute-commands-task-input\"],\"operation\":\"command\"}," +
+                "\"merge-files\":{\"input\":[\"merge-files-task-input\"],\"operation\":\"merge\"}},\"tag\":\"\"}");
         });
         assertThat(httpUriRequest.getHeaders(AbstractResource.HEADER_AUTHORIZATION)).hasSize(1).allSatisfy(header ->
             assertThat(VALUE_AUTHORIZATION).isEqualTo(header.getValue()));
@@ -122,7 +122,7 @@ public class AsyncJobsUnitTest extends AbstractTest {
 
     @Test
     public void jobs_show() throws Exception {
-        final AsyncResult<JobResponse> jobResponseAsyncResult = FutureAsyncResult.<JobResponse>builder().build();
+        final AsyncResult<JobResponse> jobResponseAsyncResult = CompletableAsyncResult.<JobResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.JOB_RESPONSE_TYPE_REFERENCE))).thenReturn(jobResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.jobs().show(JOB_ID)).isEqualTo(jobResponseAsyncResult);
@@ -142,7 +142,7 @@ public class AsyncJobsUnitTest extends AbstractTest {
 
     @Test
     public void jobs_wait() throws Exception {
-        final AsyncResult<JobResponse> jobResponseAsyncResult = FutureAsyncResult.<JobResponse>builder().build();
+        final AsyncResult<JobResponse> jobResponseAsyncResult = CompletableAsyncResult.<JobResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.JOB_RESPONSE_TYPE_REFERENCE))).thenReturn(jobResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.jobs().wait(JOB_ID)).isEqualTo(jobResponseAsyncResult);
@@ -162,7 +162,7 @@ public class AsyncJobsUnitTest extends AbstractTest {
 
     @Test
     public void jobs_list_noQueryString() throws Exception {
-        final AsyncResult<Pageable<JobResponse>> jobResponsePageableAsyncResult = FutureAsyncResult.<Pageable<JobResponse>>builder().build();
+        final AsyncResult<Pageable<JobResponse>> jobResponsePageableAsyncResult = CompletableAsyncResult.<Pageable<JobResponse>>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.JOB_RESPONSE_PAGEABLE_TYPE_REFERENCE))).thenReturn(jobResponsePageableAsyncResult);
 
         assertThat(asyncDocSDKClient.jobs().list()).isEqualTo(jobResponsePageableAsyncResult);
@@ -182,7 +182,7 @@ public class AsyncJobsUnitTest extends AbstractTest {
 
     @Test
     public void jobs_list_queryString() throws Exception {
-        final AsyncResult<Pageable<JobResponse>> jobResponsePageableAsyncResult = FutureAsyncResult.<Pageable<JobResponse>>builder().build();
+        final AsyncResult<Pageable<JobResponse>> jobResponsePageableAsyncResult = CompletableAsyncResult.<Pageable<JobResponse>>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.JOB_RESPONSE_PAGEABLE_TYPE_REFERENCE))).thenReturn(jobResponsePageableAsyncResult);
 
         final Map<Filter, String> filters = ImmutableMap.of(Filter.STATUS, "status", Filter.TAG, "tag");
@@ -207,7 +207,7 @@ public class AsyncJobsUnitTest extends AbstractTest {
 
     @Test
     public void jobs_delete() throws Exception {
-        final AsyncResult<Void> voidAsyncResult = FutureAsyncResult.<Void>builder().build();
+        final AsyncResult<Void> voidAsyncResult = CompletableAsyncResult.<Void>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.VOID_TYPE_REFERENCE))).thenReturn(voidAsyncResult);
 
         assertThat(asyncDocSDKClient.jobs().delete(JOB_ID)).isEqualTo(voidAsyncResult);
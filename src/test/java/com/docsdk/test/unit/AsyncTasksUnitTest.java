@@ -8,7 +8,7 @@ import com.docsdk.dto.response.OperationResponse;
 import com.docsdk.dto.response.Pageable;
 import com.docsdk.dto.response.TaskResponse;
 import com.docsdk.dto.result.AsyncResult;
-import com.docsdk.dto.result.FutureAsyncResult;
+import com.docsdk.dto.result.CompletableAsyncResult;
 import com.docsdk.executor.AsyncRequestExecutor;
 import com.docsdk.resource.AbstractResource;
 import com.docsdk.resource.params.Filter;
@@ -30,10 +30,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
-import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.List;
@@ -58,7 +58,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
     @Mock
     private AsyncRequestExecutor asyncRequestExecutor;
 
-    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    @Spy
     private ObjectMapperProvider objectMapperProvider;
 
     @Captor
@@ -76,7 +76,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_show_noIncludes() throws Exception {
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().show(TASK_ID)).isEqualTo(taskResponseAsyncResult);
@@ -96,7 +96,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_show_includes() throws Exception {
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         final List<Include> includes = ImmutableList.of(Include.RETRIES, Include.DEPENDS_ON_TASKS, Include.PAYLOAD);
@@ -119,7 +119,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_wait() throws Exception {
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().wait(TASK_ID)).isEqualTo(taskResponseAsyncResult);
@@ -139,7 +139,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_list_noQueryString() throws Exception {
-        final AsyncResult<Pageable<TaskResponse>> taskResponsePageableAsyncResult = FutureAsyncResult.<Pageable<TaskResponse>>builder().build();
+        final AsyncResult<Pageable<TaskResponse>> taskResponsePageableAsyncResult = CompletableAsyncResult.<Pageable<TaskResponse>>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_PAGEABLE_TYPE_REFERENCE))).thenReturn(taskResponsePageableAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().list()).isEqualTo(taskResponsePageableAsyncResult);
@@ -159,7 +159,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_list_queryString() throws Exception {
-        final AsyncResult<Pageable<TaskResponse>> taskResponsePageableAsyncResult = FutureAsyncResult.<Pageable<TaskResponse>>builder().build();
+        final AsyncResult<Pageable<TaskResponse>> taskResponsePageableAsyncResult = CompletableAsyncResult.<Pageable<TaskResponse>>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_PAGEABLE_TYPE_REFERENCE))).thenReturn(taskResponsePageableAsyncResult);
 
         final Map<Filter, String> filters = ImmutableMap.of(Filter.JOB_ID, "job-id", Filter.STATUS, "status");
@@ -184,7 +184,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_cancel() throws Exception {
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().cancel(TASK_ID)).isEqualTo(taskResponseAsyncResult);
@@ -204,7 +204,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_retry() throws Exception {
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().retry(TASK_ID)).isEqualTo(taskResponseAsyncResult);
@@ -224,7 +224,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_delete() throws Exception {
-        final AsyncResult<Void> voidAsyncResult = FutureAsyncResult.<Void>builder().build();
+        final AsyncResult<Void> voidAsyncResult = CompletableAsyncResult.<Void>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.VOID_TYPE_REFERENCE))).thenReturn(voidAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().delete(TASK_ID)).isEqualTo(voidAsyncResult);
@@ -244,7 +244,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_operations_noQueryString() throws Exception {
-        final AsyncResult<Pageable<OperationResponse>> pageableOperationResponseAsyncResult = FutureAsyncResult.<Pageable<OperationResponse>>builder().build();
+        final AsyncResult<Pageable<OperationResponse>> pageableOperationResponseAsyncResult = CompletableAsyncResult.<Pageable<OperationResponse>>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.OPERATION_RESPONSE_PAGEABLE_TYPE_REFERENCE)))
             .thenReturn(pageableOperationResponseAsyncResult);
 
@@ -265,7 +265,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_operations_queryString() throws Exception {
-        final AsyncResult<Pageable<OperationResponse>> operationResponsePageableAsyncResult = FutureAsyncResult.<Pageable<OperationResponse>>builder().build();
+        final AsyncResult<Pageable<OperationResponse>> operationResponsePageableAsyncResult = CompletableAsyncResult.<Pageable<OperationResponse>>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.OPERATION_RESPONSE_PAGEABLE_TYPE_REFERENCE)))
             .thenReturn(operationResponsePageableAsyncResult);
 
@@ -295,7 +295,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
     @Test
     public void tasks_convert() throws Exception {
         final ConvertFilesTaskRequest expectedConvertFilesTaskRequest = new ConvertFilesTaskRequest().setInput("convert-files-task-input");
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().convert(expectedConvertFilesTaskRequest)).isEqualTo(taskResponseAsyncResult);
@@ -319,7 +319,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_convertFormats_noQueryString() throws Exception {
-        final AsyncResult<Pageable<OperationResponse>> operationResponsePageableAsyncResult = FutureAsyncResult.<Pageable<OperationResponse>>builder().build();
+        final AsyncResult<Pageable<OperationResponse>> operationResponsePageableAsyncResult = CompletableAsyncResult.<Pageable<OperationResponse>>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.OPERATION_RESPONSE_PAGEABLE_TYPE_REFERENCE)))
             .thenReturn(operationResponsePageableAsyncResult);
 
@@ -340,7 +340,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
 
     @Test
     public void tasks_convertFormats_queryString() throws Exception {
-        final AsyncResult<Pageable<OperationResponse>> operationResponsePageableAsyncResult = FutureAsyncResult.<Pageable<OperationResponse>>builder().build();
+        final AsyncResult<Pageable<OperationResponse>> operationResponsePageableAsyncResult = CompletableAsyncResult.<Pageable<OperationResponse>>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.OPERATION_RESPONSE_PAGEABLE_TYPE_REFERENCE)))
             .thenReturn(operationResponsePageableAsyncResult);
 
@@ -369,7 +369,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
     @Test
     public void tasks_optimize() throws Exception {
         final OptimizeFilesTaskRequest expectedOptimizeFilesTaskRequest = new OptimizeFilesTaskRequest().setInput("optimize-files-task-input");
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().optimize(expectedOptimizeFilesTaskRequest)).isEqualTo(taskResponseAsyncResult);
@@ -394,7 +394,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
     @Test
     public void tasks_capture() throws Exception {
         final CaptureWebsitesTaskRequest expectedCaptureWebsitesTaskRequest = new CaptureWebsitesTaskRequest().setUrl("capture-websites-task-url");
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().capture(expectedCaptureWebsitesTaskRequest)).isEqualTo(taskResponseAsyncResult);
@@ -419,7 +419,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
     @Test
     public void tasks_merge() throws Exception {
         final MergeFilesTaskRequest expectedMergeFilesTaskRequest = new MergeFilesTaskRequest().setInput("merge-files-task-input");
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().merge(expectedMergeFilesTaskRequest)).isEqualTo(taskResponseAsyncResult);
@@ -444,7 +444,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
     @Test
     public void tasks_archive() throws Exception {
         final CreateArchivesTaskRequest expectedCreateArchivesTaskRequest = new CreateArchivesTaskRequest().setInput("create-archives-task-input");
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().archive(expectedCreateArchivesTaskRequest)).isEqualTo(taskResponseAsyncResult);
@@ -469,7 +469,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
     @Test
     public void tasks_command() throws Exception {
         final ExecuteCommandsTaskRequest expectedExecuteCommandsTaskRequest = new ExecuteCommandsTaskRequest().setInput("execute-commands-task-input");
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().command(expectedExecuteCommandsTaskRequest)).isEqualTo(taskResponseAsyncResult);
@@ -495,7 +495,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
     @Test
     public void tasks_thumbnail() throws Exception {
         final CreateThumbnailsTaskRequest expectedCreateThumbnailsTaskRequest = new CreateThumbnailsTaskRequest().setInput("execute-commands-task-input");
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().thumbnail(expectedCreateThumbnailsTaskRequest)).isEqualTo(taskResponseAsyncResult);
@@ -522,7 +522,7 @@ public class AsyncTasksUnitTest extends AbstractTest {
     @Test
     public void tasks_metadata() throws Exception {
         final GetMetadataTaskRequest expectedGetMetadataTaskRequest = new GetMetadataTaskRequest().setInput("execute-commands-task-input");
-        final AsyncResult<TaskResponse> taskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableAsyncResult.<TaskResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.tasks().metadata(expectedGetMetadataTaskRequest)).isEqualTo(taskResponseAsyncResult);
@@ -8,7 +8,7 @@ import com.docsdk.dto.response.Pageable;
 import com.docsdk.dto.response.UserResponse;
 import com.docsdk.dto.response.WebhookResponse;
 import com.docsdk.dto.result.AsyncResult;
-import com.docsdk.dto.result.FutureAsyncResult;
+import com.docsdk.dto.result.CompletableAsyncResult;
 import com.docsdk.executor.AsyncRequestExecutor;
 import com.docsdk.resource.AbstractResource;
 import com.docsdk.resource.params.Filter;
@@ -28,10 +28,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
-import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Map;
@@ -55,7 +55,7 @@ public class AsyncWebhooksUnitTest extends AbstractTest {
     @Mock
     private AsyncRequestExecutor asyncRequestExecutor;
 
-    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    @Spy
     private ObjectMapperProvider objectMapperProvider;
 
     @Captor
@@ -73,7 +73,7 @@ public class AsyncWebhooksUnitTest extends AbstractTest {
 
     @Test
     public void users_me() throws Exception {
-        final AsyncResult<UserResponse> userResponseAsyncResult = FutureAsyncResult.<UserResponse>builder().build();
+        final AsyncResult<UserResponse> userResponseAsyncResult = CompletableAsyncResult.<UserResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.USER_RESPONSE_TYPE_REFERENCE))).thenReturn(userResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.users().me()).isEqualTo(userResponseAsyncResult);
@@ -94,7 +94,7 @@ public class AsyncWebhooksUnitTest extends AbstractTest {
     @Test
     public void webhooks_create() throws Exception {
         final WebhookRequest expectedWebhookRequest = new WebhookRequest().setUrl("webhooks-url");
-        final AsyncResult<WebhookResponse> webhookResponseAsyncResult = FutureAsyncResult.<WebhookResponse>builder().build();
+        final AsyncResult<WebhookResponse> webhookResponseAsyncResult = CompletableAsyncResult.<WebhookResponse>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.WEBHOOKS_RESPONSE_TYPE_REFERENCE))).thenReturn(webhookResponseAsyncResult);
 
         assertThat(asyncDocSDKClient.webhooks().create(expectedWebhookRequest)).isEqualTo(webhookResponseAsyncResult);
@@ -119,7 +119,7 @@ public class AsyncWebhooksUnitTest extends AbstractTest {
 
     @Test
     public void webhooks_list_noQueryString() throws Exception {
-        final AsyncResult<Pageable<WebhookResponse>> webhookResponsePageableAsyncResult = FutureAsyncResult.<Pageable<WebhookResponse>>builder().build();
+        final AsyncResult<Pageable<WebhookResponse>> webhookResponsePageableAsyncResult = CompletableAsyncResult.<Pageable<WebhookResponse>>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.WEBHOOKS_RESPONSE_PAGEABLE_TYPE_REFERENCE))).thenReturn(webhookResponsePageableAsyncResult);
 
         assertThat(asyncDocSDKClient.webhooks().list()).isEqualTo(webhookResponsePageableAsyncResult);
@@ -139,7 +139,7 @@ public class AsyncWebhooksUnitTest extends AbstractTest {
 
     @Test
     public void webhooks_list_queryString() throws Exception {
-        final AsyncResult<Pageable<WebhookResponse>> webhookResponsePageableAsyncResult = FutureAsyncResult.<Pageable<WebhookResponse>>builder().build();
+        final AsyncResult<Pageable<WebhookResponse>> webhookResponsePageableAsyncResult = CompletableAsyncResult.<Pageable<WebhookResponse>>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.WEBHOOKS_RESPONSE_PAGEABLE_TYPE_REFERENCE))).thenReturn(webhookResponsePageableAsyncResult);
 
         final Map<Filter, String> filters = ImmutableMap.of(Filter.URL, "url");
@@ -162,7 +162,7 @@ public class AsyncWebhooksUnitTest extends AbstractTest {
 
     @Test
     public void webhooks_delete() throws Exception {
-        final AsyncResult<Void> voidAsyncResult = FutureAsyncResult.<Void>builder().build();
+        final AsyncResult<Void> voidAsyncResult = CompletableAsyncResult.<Void>builder().build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.VOID_TYPE_REFERENCE))).thenReturn(voidAsyncResult);
 
         assertThat(asyncDocSDKClient.webhooks().delete(WEBHOOK_ID)).isEqualTo(voidAsyncResult);
@@ -0,0 +1,183 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.bulk.BulkExecutor;
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.executor.VirtualThreads;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.google.common.collect.ImmutableList;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class BulkExecutorUnitTest extends AbstractStubServerTest {
+
+    private static final int PIPELINES = 100;
+    private static final long DELAY_MILLIS = 50;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private DocSDKClient docSDKClient;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/v2/tasks", httpExchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            final String taskId = httpExchange.getRequestURI().getPath().substring("/v2/tasks/".length());
+            respond(httpExchange, HttpStatus.SC_OK, "{\"data\":{\"id\":\"" + taskId + "\",\"status\":\"finished\"}}");
+        });
+    }
+
+    @Before
+    public void before() throws Exception {
+        docSDKClient = new DocSDKClient(settingsProvider, new ObjectMapperProvider());
+    }
+
+    @Test
+    public void invokeAll_runsPipelinesConcurrently() throws Exception {
+        final List<String> taskIds = IntStream.range(0, PIPELINES).mapToObj(i -> "task-" + i).collect(Collectors.toList());
+
+        try (final BulkExecutor bulkExecutor = BulkExecutor.builder().docSDKClient(docSDKClient).build()) {
+            final long startMillis = System.currentTimeMillis();
+            final List<String> outputs = bulkExecutor.invokeAll(taskIds, (client, taskId) -> client.tasks().show(taskId).getBody().getId());
+
+            assertThat(outputs).containsExactlyElementsOf(taskIds);
+            assertThat(bulkExecutor.getCompleted()).isEqualTo(PIPELINES);
+            assertThat(bulkExecutor.getRunning()).isZero();
+            // Bounded by the connection pool rather than run one after another
+            assertThat(maxInFlight.get()).isGreaterThan(1);
+            assertThat(System.currentTimeMillis() - startMillis).isLessThan(PIPELINES * DELAY_MILLIS / 2);
+        }
+    }
+
+    @Test
+    public void invokeAll_maxConcurrency() throws Exception {
+        final List<String> taskIds = IntStream.range(0, 20).mapToObj(i -> "task-" + i).collect(Collectors.toList());
+
+        try (final BulkExecutor bulkExecutor = BulkExecutor.builder().docSDKClient(docSDKClient).maxConcurrency(3).build()) {
+            bulkExecutor.invokeAll(taskIds, (client, taskId) -> client.tasks().show(taskId).getBody());
+
+            assertThat(maxInFlight.get()).isBetween(1, 3);
+        }
+    }
+
+    @Test
+    public void submitAll_maxConcurrency_boundsThreads() throws Exception {
+        final List<Integer> inputs = IntStream.range(0, PIPELINES).boxed().collect(Collectors.toList());
+        final long threadsBefore = bulkThreads();
+        final AtomicInteger maxThreads = new AtomicInteger();
+
+        try (final BulkExecutor bulkExecutor = BulkExecutor.builder().docSDKClient(docSDKClient).maxConcurrency(2).build()) {
+            final List<CompletableFuture<Integer>> outputFutures = bulkExecutor.submitAll(inputs, (client, input) -> {
+                maxThreads.accumulateAndGet((int) bulkThreads(), Math::max);
+                Thread.sleep(5);
+                return input;
+            });
+            maxThreads.accumulateAndGet((int) bulkThreads(), Math::max);
+            CompletableFuture.allOf(outputFutures.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+
+            // Virtual threads are not listed, platform ones are bounded by the max concurrency rather than started per pipeline
+            assertThat(maxThreads.get()).isLessThanOrEqualTo((int) threadsBefore + 2);
+            assertThat(bulkExecutor.getCompleted()).isEqualTo(PIPELINES);
+        }
+    }
+
+    @Test
+    public void invokeAll_failingPipeline() {
+        final List<Integer> inputs = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+        try (final BulkExecutor bulkExecutor = BulkExecutor.builder().docSDKClient(docSDKClient).build()) {
+            assertThatThrownBy(() -> bulkExecutor.invokeAll(inputs, (client, input) -> {
+                if (input == 7) {
+                    throw new IOException("Pipeline failed");
+                }
+                return input;
+            })).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IOException.class);
+
+            assertThat(bulkExecutor.getFailed()).isEqualTo(1);
+            assertThat(bulkExecutor.getCompleted()).isEqualTo(9);
+        }
+    }
+
+    @Test
+    public void invokeAll_pipelineThrowingError() {
+        try (final BulkExecutor bulkExecutor = BulkExecutor.builder().docSDKClient(docSDKClient).build()) {
+            assertThatThrownBy(() -> bulkExecutor.invokeAll(ImmutableList.of(1, 2), (client, input) -> {
+                throw new AssertionError("Pipeline failed");
+            })).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(AssertionError.class);
+
+            assertThat(bulkExecutor.getFailed()).isEqualTo(2);
+            assertThat(bulkExecutor.getRunning()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void close_failsPendingPipelines() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final BulkExecutor bulkExecutor = BulkExecutor.builder().docSDKClient(docSDKClient).maxConcurrency(1).build();
+        final List<CompletableFuture<Integer>> outputFutures = bulkExecutor.submitAll(ImmutableList.of(1, 2, 3), (client, input) -> {
+            started.countDown();
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            return input;
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        bulkExecutor.close();
+
+        for (final CompletableFuture<Integer> outputFuture : outputFutures) {
+            assertThatThrownBy(() -> outputFuture.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        }
+        assertThat(bulkExecutor.getFailed()).isEqualTo(3);
+    }
+
+    @Test
+    public void virtualThreads_threadFactory() throws Exception {
+        final AtomicInteger ran = new AtomicInteger();
+        final Thread thread = VirtualThreads.threadFactory("docsdk-test").newThread(ran::incrementAndGet);
+        thread.start();
+        thread.join();
+
+        assertThat(thread.getName()).isEqualTo("docsdk-test-0");
+        assertThat(ran).hasValue(1);
+        assertThat(thread.isDaemon()).isTrue();
+    }
+
+    private static long bulkThreads() {
+        return Thread.getAllStackTraces().keySet().stream().filter(thread -> thread.getName().startsWith("docsdk-bulk-")).count();
+    }
+
+    @After
+    public void after() throws Exception {
+        docSDKClient.close();
+    }
+}
@@ -0,0 +1,192 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.client.http.AsyncCloseableHttpClientProvider;
+import com.docsdk.client.http.CloseableHttpClientProvider;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.request.ConvertFilesTaskRequest;
+import com.docsdk.executor.AsyncRequestExecutor;
+import com.docsdk.executor.EndpointGroup;
+import com.docsdk.executor.RequestExecutor;
+import com.docsdk.executor.RequestExecutorSettings;
+import com.docsdk.executor.breaker.CircuitBreaker;
+import com.docsdk.executor.breaker.CircuitBreakerMetrics;
+import com.docsdk.executor.breaker.CircuitBreakerOpenException;
+import com.docsdk.executor.breaker.CircuitBreakerState;
+import com.docsdk.executor.retry.RetryPolicy;
+import com.docsdk.extractor.ResultExtractor;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class CircuitBreakerUnitTest extends AbstractStubServerTest {
+
+    private static final Duration WAIT_DURATION_IN_OPEN_STATE = Duration.ofMillis(200);
+
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private final AtomicInteger latencyMillis = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private CircuitBreakerMetrics circuitBreakerMetrics;
+    private CircuitBreaker circuitBreaker;
+    private RequestExecutor requestExecutor;
+    private AsyncRequestExecutor asyncRequestExecutor;
+    private DocSDKClient docSDKClient;
+    private AsyncDocSDKClient asyncDocSDKClient;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/v2", httpExchange -> {
+            requests.incrementAndGet();
+            try (final InputStream inputStream = httpExchange.getRequestBody()) {
+                ByteStreams.exhaust(inputStream);
+                Thread.sleep(latencyMillis.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (failing.get()) {
+                httpExchange.sendResponseHeaders(HttpStatus.SC_SERVICE_UNAVAILABLE, -1);
+                httpExchange.close();
+                return;
+            }
+
+            respond(httpExchange, HttpStatus.SC_OK, "{\"data\":{\"id\":\"id\"}}");
+        });
+    }
+
+    @Before
+    public void before() throws Exception {
+        circuitBreakerMetrics = new CircuitBreakerMetrics();
+        circuitBreaker = CircuitBreaker.builder().slidingWindowSize(4).minimumNumberOfCalls(4).permittedCallsInHalfOpenState(1)
+            .slowCallDuration(Duration.ofMillis(50)).slowCallRateThreshold(0.5)
+            .waitDurationInOpenState(WAIT_DURATION_IN_OPEN_STATE).circuitBreakerListener(circuitBreakerMetrics).build();
+
+        final ObjectMapperProvider objectMapperProvider = new ObjectMapperProvider();
+        final RequestExecutorSettings requestExecutorSettings = RequestExecutorSettings.builder().retryPolicy(RetryPolicy.NONE).circuitBreaker(circuitBreaker).build();
+        requestExecutor = new RequestExecutor(new ResultExtractor(objectMapperProvider), new CloseableHttpClientProvider(), requestExecutorSettings);
+        asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(objectMapperProvider), new AsyncCloseableHttpClientProvider(), requestExecutorSettings);
+        docSDKClient = new DocSDKClient(settingsProvider, objectMapperProvider, requestExecutor);
+        asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, objectMapperProvider, asyncRequestExecutor);
+    }
+
+    @Test
+    public void tasks_show_failsFastWhileOpen() throws Exception {
+        failing.set(true);
+        for (int i = 0; i < 4; i++) {
+            assertThat(docSDKClient.tasks().show("id").getStatus()).isEqualTo(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        }
+
+        assertThat(circuitBreaker.getState(EndpointGroup.POLLING)).isEqualTo(CircuitBreakerState.OPEN);
+        assertThatThrownBy(() -> docSDKClient.tasks().show("id")).isInstanceOf(CircuitBreakerOpenException.class)
+            .extracting("endpointGroup").isEqualTo(EndpointGroup.POLLING);
+        assertThat(requests).hasValue(4);
+        assertThat(circuitBreaker.getNotPermittedCalls(EndpointGroup.POLLING)).isEqualTo(1);
+        assertThat(circuitBreakerMetrics.getOpened()).isEqualTo(1);
+
+        // Other endpoint groups are not affected
+        assertThat(circuitBreaker.getState(EndpointGroup.TASK_CREATION)).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(docSDKClient.tasks().convert(new ConvertFilesTaskRequest()).getStatus()).isEqualTo(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        assertThat(requests).hasValue(5);
+    }
+
+    @Test
+    public void tasks_show_closesAfterSuccessfulTrial() throws Exception {
+        failing.set(true);
+        for (int i = 0; i < 4; i++) {
+            docSDKClient.tasks().show("id");
+        }
+        assertThat(circuitBreaker.getState(EndpointGroup.POLLING)).isEqualTo(CircuitBreakerState.OPEN);
+
+        failing.set(false);
+        Thread.sleep(WAIT_DURATION_IN_OPEN_STATE.toMillis() + 50);
+
+        assertThat(docSDKClient.tasks().show("id").getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(circuitBreaker.getState(EndpointGroup.POLLING)).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(circuitBreakerMetrics.getHalfOpened()).isEqualTo(1);
+        assertThat(circuitBreakerMetrics.getClosed()).isEqualTo(1);
+    }
+
+    @Test
+    public void tasks_show_opensAgainAfterFailedTrial() throws Exception {
+        failing.set(true);
+        for (int i = 0; i < 4; i++) {
+            docSDKClient.tasks().show("id");
+        }
+        Thread.sleep(WAIT_DURATION_IN_OPEN_STATE.toMillis() + 50);
+
+        assertThat(docSDKClient.tasks().show("id").getStatus()).isEqualTo(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        assertThat(circuitBreaker.getState(EndpointGroup.POLLING)).isEqualTo(CircuitBreakerState.OPEN);
+        assertThat(circuitBreakerMetrics.getOpened()).isEqualTo(2);
+        assertThatThrownBy(() -> docSDKClient.tasks().show("id")).isInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    public void tasks_show_opensOnSlowCalls() throws Exception {
+        latencyMillis.set(60);
+        for (int i = 0; i < 4; i++) {
+            assertThat(docSDKClient.tasks().show("id").getStatus()).isEqualTo(HttpStatus.SC_OK);
+        }
+
+        assertThat(circuitBreaker.getState(EndpointGroup.POLLING)).isEqualTo(CircuitBreakerState.OPEN);
+    }
+
+    @Test
+    public void tasks_wait_notCountedAsSlow() throws Exception {
+        latencyMillis.set(60);
+        for (int i = 0; i < 4; i++) {
+            assertThat(docSDKClient.tasks().wait("id").getStatus()).isEqualTo(HttpStatus.SC_OK);
+            assertThat(asyncDocSDKClient.jobs().wait("id").get().getStatus()).isEqualTo(HttpStatus.SC_OK);
+        }
+
+        assertThat(circuitBreaker.getState(EndpointGroup.POLLING)).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    public void tasks_wait_opensOnFailures() throws Exception {
+        failing.set(true);
+        for (int i = 0; i < 4; i++) {
+            assertThat(docSDKClient.tasks().wait("id").getStatus()).isEqualTo(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        }
+
+        assertThat(circuitBreaker.getState(EndpointGroup.POLLING)).isEqualTo(CircuitBreakerState.OPEN);
+    }
+
+    @Test
+    public void asyncTasks_show_failsFastWhileOpen() throws Exception {
+        failing.set(true);
+        for (int i = 0; i < 4; i++) {
+            assertThat(asyncDocSDKClient.tasks().show("id").get().getStatus()).isEqualTo(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        }
+
+        assertThatThrownBy(() -> asyncDocSDKClient.tasks().show("id").get()).isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(requests).hasValue(4);
+    }
+
+    @After
+    public void after() throws Exception {
+        requestExecutor.close();
+        asyncRequestExecutor.close();
+    }
+}
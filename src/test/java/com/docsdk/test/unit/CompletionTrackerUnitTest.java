@@ -0,0 +1,182 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.Status;
+import com.docsdk.dto.response.JobResponse;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.docsdk.tracker.CompletionTracker;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class CompletionTrackerUnitTest extends AbstractStubServerTest {
+
+    private final Map<String, String> taskStatuses = new ConcurrentHashMap<>();
+    private final Map<String, String> jobStatuses = new ConcurrentHashMap<>();
+    private final Map<String, String> taskJobIds = new ConcurrentHashMap<>();
+
+    private AsyncDocSDKClient asyncDocSDKClient;
+    private CompletionTracker completionTracker;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/v2/tasks", httpExchange -> handle(httpExchange, "/v2/tasks", taskStatuses));
+        httpServer.createContext("/v2/jobs", httpExchange -> handle(httpExchange, "/v2/jobs", jobStatuses));
+    }
+
+    @Before
+    public void before() throws Exception {
+        asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider());
+    }
+
+    @Test
+    public void trackTask_completedOnceFinished() throws Exception {
+        completionTracker = completionTracker(100);
+        taskStatuses.put("task-1", Status.PROCESSING.getLabel());
+        taskStatuses.put("task-2", Status.PROCESSING.getLabel());
+
+        final CompletableFuture<TaskResponse> task1 = completionTracker.trackTask("task-1");
+        final CompletableFuture<TaskResponse> task2 = completionTracker.trackTask("task-2");
+        assertThat(completionTracker.getPendingTasks()).isEqualTo(2);
+
+        taskStatuses.put("task-1", Status.FINISHED.getLabel());
+        assertThat(task1.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(Status.FINISHED);
+        assertThat(task2).isNotDone();
+
+        taskStatuses.put("task-2", Status.ERROR.getLabel());
+        assertThat(task2.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(Status.ERROR);
+        assertThat(completionTracker.getPendingTasks()).isEqualTo(0);
+    }
+
+    @Test
+    public void trackJob_manyResolvedByFewListCalls() throws Exception {
+        completionTracker = completionTracker(10);
+        for (int i = 0; i < 30; i++) {
+            jobStatuses.put("job-" + i, Status.PROCESSING.getLabel());
+        }
+
+        final List<CompletableFuture<JobResponse>> jobs = jobStatuses.keySet().stream().map(completionTracker::trackJob).collect(Collectors.toList());
+        jobStatuses.replaceAll((id, status) -> Status.FINISHED.getLabel());
+
+        CompletableFuture.allOf(jobs.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertThat(completionTracker.getPendingJobs()).isEqualTo(0);
+        // Three pages of finished jobs, at most one more page per poll before they have finished
+        assertThat(completionTracker.getListCalls()).isLessThan(30);
+    }
+
+    @Test
+    public void trackTask_beyondMaxPages_shown() throws Exception {
+        completionTracker = CompletionTracker.builder().asyncDocSDKClient(asyncDocSDKClient)
+            .minInterval(Duration.ofMillis(20)).maxInterval(Duration.ofMillis(200)).perPage(10).maxPages(1).build();
+        // Sorted before the tracked task, so the finished listing never reaches it
+        for (int i = 0; i < 30; i++) {
+            taskStatuses.put("task-0-" + i, Status.FINISHED.getLabel());
+        }
+        taskStatuses.put("task-1", Status.PROCESSING.getLabel());
+
+        final CompletableFuture<TaskResponse> task1 = completionTracker.trackTask("task-1");
+        taskStatuses.put("task-1", Status.FINISHED.getLabel());
+
+        assertThat(task1.get(5, TimeUnit.SECONDS).getId()).isEqualTo("task-1");
+        assertThat(completionTracker.getShowCalls()).isGreaterThan(0);
+    }
+
+    @Test
+    public void trackTask_beyondMaxPages_listedByJob() throws Exception {
+        completionTracker = CompletionTracker.builder().asyncDocSDKClient(asyncDocSDKClient)
+            .minInterval(Duration.ofMillis(20)).maxInterval(Duration.ofMillis(200)).perPage(10).maxPages(1).build();
+        for (int i = 0; i < 30; i++) {
+            taskStatuses.put("task-0-" + i, Status.FINISHED.getLabel());
+        }
+        taskStatuses.put("task-1", Status.PROCESSING.getLabel());
+        taskStatuses.put("task-2", Status.PROCESSING.getLabel());
+        taskJobIds.put("task-1", "job-1");
+        taskJobIds.put("task-2", "job-1");
+
+        final CompletableFuture<TaskResponse> task1 = completionTracker.trackTask("task-1", "job-1");
+        final CompletableFuture<TaskResponse> task2 = completionTracker.trackTask("task-2", "job-1");
+        taskStatuses.put("task-1", Status.FINISHED.getLabel());
+        taskStatuses.put("task-2", Status.ERROR.getLabel());
+
+        assertThat(task1.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(Status.FINISHED);
+        assertThat(task2.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(Status.ERROR);
+        assertThat(completionTracker.getShowCalls()).isEqualTo(0);
+    }
+
+    @Test
+    public void trackTask_cancelled() throws Exception {
+        completionTracker = completionTracker(100);
+        taskStatuses.put("task-1", Status.WAITING.getLabel());
+
+        final CompletableFuture<TaskResponse> task1 = completionTracker.trackTask("task-1");
+        assertThat(task1.cancel(false)).isTrue();
+        assertThat(completionTracker.getPendingTasks()).isEqualTo(0);
+
+        final CompletableFuture<TaskResponse> task2 = completionTracker.trackTask("task-1");
+        completionTracker.close();
+        assertThat(task2).isCancelled();
+    }
+
+    private CompletionTracker completionTracker(final int perPage) {
+        return CompletionTracker.builder().asyncDocSDKClient(asyncDocSDKClient)
+            .minInterval(Duration.ofMillis(20)).maxInterval(Duration.ofMillis(200)).perPage(perPage).build();
+    }
+
+    private void handle(final HttpExchange httpExchange, final String context, final Map<String, String> statuses) throws IOException {
+        final String path = httpExchange.getRequestURI().getPath();
+        if (path.startsWith(context + "/")) {
+            final String id = path.substring(context.length() + 1);
+            respond(httpExchange, HttpStatus.SC_OK, "{\"data\":" + response(id, statuses) + "}");
+            return;
+        }
+
+        final Map<String, String> parameters = URLEncodedUtils.parse(httpExchange.getRequestURI(), StandardCharsets.UTF_8).stream()
+            .collect(Collectors.toMap(NameValuePair::getName, NameValuePair::getValue));
+        final int perPage = Integer.parseInt(parameters.get("per_page"));
+        final int page = Integer.parseInt(parameters.get("page"));
+
+        final String data = statuses.entrySet().stream()
+            .filter(entry -> !parameters.containsKey("filter[status]") || entry.getValue().equals(parameters.get("filter[status]")))
+            .filter(entry -> !parameters.containsKey("filter[job_id]") || parameters.get("filter[job_id]").equals(taskJobIds.get(entry.getKey())))
+            .map(Map.Entry::getKey).sorted().skip((long) perPage * (page - 1)).limit(perPage)
+            .map(id -> response(id, statuses)).collect(Collectors.joining(","));
+        respond(httpExchange, HttpStatus.SC_OK, "{\"data\":[" + data + "]}");
+    }
+
+    private String response(final String id, final Map<String, String> statuses) {
+        return "{\"id\":\"" + id + "\",\"status\":\"" + statuses.get(id) + "\"}";
+    }
+
+    @After
+    public void after() throws Exception {
+        if (completionTracker != null) {
+            completionTracker.close();
+        }
+        asyncDocSDKClient.close();
+    }
+}
@@ -0,0 +1,193 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.http.AsyncCloseableHttpClientProvider;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.dto.result.AsyncResult;
+import com.docsdk.executor.AsyncRequestExecutor;
+import com.docsdk.executor.RequestExecutorSettings;
+import com.docsdk.executor.limiter.ConcurrencyLimitExceededException;
+import com.docsdk.executor.limiter.ConcurrencyLimiter;
+import com.docsdk.executor.retry.RetryPolicy;
+import com.docsdk.extractor.ResultExtractor;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ConcurrencyLimiterUnitTest extends AbstractStubServerTest {
+
+    private final AtomicInteger latencyMillis = new AtomicInteger();
+    private final AtomicInteger waitLatencyMillis = new AtomicInteger();
+    private final AtomicInteger overloaded = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private ObjectMapperProvider objectMapperProvider;
+    private AsyncRequestExecutor asyncRequestExecutor;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/v2", httpExchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try (final InputStream inputStream = httpExchange.getRequestBody()) {
+                ByteStreams.exhaust(inputStream);
+                Thread.sleep(httpExchange.getRequestURI().getPath().endsWith("/wait") ? waitLatencyMillis.get() : latencyMillis.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            if (overloaded.getAndDecrement() > 0) {
+                httpExchange.sendResponseHeaders(HttpStatus.SC_SERVICE_UNAVAILABLE, -1);
+                httpExchange.close();
+                return;
+            }
+
+            respond(httpExchange, HttpStatus.SC_OK, "{\"data\":{\"id\":\"id\"}}");
+        });
+    }
+
+    @Before
+    public void before() throws Exception {
+        objectMapperProvider = new ObjectMapperProvider();
+    }
+
+    @Test
+    public void limit_growsWhileLatencyIsStable() throws Exception {
+        latencyMillis.set(20);
+        final ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder().initialLimit(2).latencyTolerance(10).build();
+        final AsyncDocSDKClient asyncDocSDKClient = asyncDocSDKClient(concurrencyLimiter);
+
+        final List<AsyncResult<TaskResponse>> taskResponseAsyncResults = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            taskResponseAsyncResults.add(asyncDocSDKClient.tasks().show("id"));
+        }
+        for (final AsyncResult<TaskResponse> taskResponseAsyncResult : taskResponseAsyncResults) {
+            assertThat(taskResponseAsyncResult.get().getStatus()).isEqualTo(HttpStatus.SC_OK);
+        }
+
+        assertThat(concurrencyLimiter.getLimit()).isGreaterThan(2);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(concurrencyLimiter.getLimit());
+        assertThat(concurrencyLimiter.getInFlight()).isEqualTo(0);
+        assertThat(concurrencyLimiter.getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void limit_shrinksOnOverload() throws Exception {
+        overloaded.set(5);
+        final ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder().initialLimit(10).build();
+        final AsyncDocSDKClient asyncDocSDKClient = asyncDocSDKClient(concurrencyLimiter);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(asyncDocSDKClient.tasks().show("id").get().getStatus()).isEqualTo(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        }
+
+        assertThat(concurrencyLimiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    public void limit_shrinksOnLatencyIncrease() {
+        final ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder().initialLimit(10).build();
+
+        for (int i = 0; i < 20; i++) {
+            concurrencyLimiter.acquire().join().onSuccess(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertThat(concurrencyLimiter.getLimit()).isEqualTo(10);
+
+        for (int i = 0; i < 5; i++) {
+            concurrencyLimiter.acquire().join().onSuccess(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        assertThat(concurrencyLimiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    public void limit_unchangedBySlowWaits() throws Exception {
+        latencyMillis.set(10);
+        waitLatencyMillis.set(200);
+        final ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder().initialLimit(10).build();
+        final AsyncDocSDKClient asyncDocSDKClient = asyncDocSDKClient(concurrencyLimiter);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(asyncDocSDKClient.tasks().show("id").get().getStatus()).isEqualTo(HttpStatus.SC_OK);
+        }
+        final int limit = concurrencyLimiter.getLimit();
+
+        for (int i = 0; i < 5; i++) {
+            final AsyncResult<TaskResponse> waitAsyncResult = asyncDocSDKClient.tasks().wait("id");
+            assertThat(concurrencyLimiter.getInFlight()).isEqualTo(0);
+            assertThat(waitAsyncResult.get().getStatus()).isEqualTo(HttpStatus.SC_OK);
+        }
+
+        assertThat(concurrencyLimiter.getLimit()).isEqualTo(limit);
+    }
+
+    @Test
+    public void requests_shedBeyondQueue() throws Exception {
+        latencyMillis.set(200);
+        final ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder().initialLimit(1).maxLimit(1).maxQueueSize(1).build();
+        final AsyncDocSDKClient asyncDocSDKClient = asyncDocSDKClient(concurrencyLimiter);
+
+        final AsyncResult<TaskResponse> inFlightAsyncResult = asyncDocSDKClient.tasks().show("id");
+        final AsyncResult<TaskResponse> queuedAsyncResult = asyncDocSDKClient.tasks().show("id");
+        final AsyncResult<TaskResponse> shedAsyncResult = asyncDocSDKClient.tasks().show("id");
+
+        assertThat(concurrencyLimiter.getQueueDepth()).isEqualTo(1);
+        assertThatThrownBy(shedAsyncResult::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(inFlightAsyncResult.get().getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(queuedAsyncResult.get().getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(maxInFlight).hasValue(1);
+        assertThat(concurrencyLimiter.getShed()).isEqualTo(1);
+    }
+
+    @Test
+    public void acquire_cancelledWhileQueued() {
+        final ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder().initialLimit(1).maxLimit(1).build();
+
+        final ConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire().join();
+        final CompletableFuture<ConcurrencyLimiter.Permit> permitFuture = concurrencyLimiter.acquire();
+        assertThat(permitFuture).isNotDone();
+
+        permitFuture.cancel(false);
+        assertThat(concurrencyLimiter.getQueueDepth()).isEqualTo(0);
+
+        permit.onIgnore();
+        permit.onIgnore();
+        assertThat(concurrencyLimiter.getInFlight()).isEqualTo(0);
+    }
+
+    private AsyncDocSDKClient asyncDocSDKClient(final ConcurrencyLimiter concurrencyLimiter) throws Exception {
+        asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(objectMapperProvider), new AsyncCloseableHttpClientProvider(),
+            RequestExecutorSettings.builder().retryPolicy(RetryPolicy.NONE).concurrencyLimiter(concurrencyLimiter).build());
+        return new AsyncDocSDKClient(settingsProvider, objectMapperProvider, asyncRequestExecutor);
+    }
+
+    @After
+    public void after() throws Exception {
+        if (asyncRequestExecutor != null) {
+            asyncRequestExecutor.close();
+        }
+    }
+}
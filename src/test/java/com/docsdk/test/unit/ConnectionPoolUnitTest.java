@@ -0,0 +1,187 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.client.http.CloseableHttpClientProvider;
+import com.docsdk.client.http.ConnectionPoolSettings;
+import com.docsdk.client.http.KeepAliveHeaderStrategy;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.executor.ConnectionLane;
+import com.docsdk.executor.RequestExecutor;
+import com.docsdk.extractor.ResultExtractor;
+import com.docsdk.resource.AbstractResource;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ConnectionPoolUnitTest extends AbstractStubServerTest {
+
+    private static final ConnectionPoolSettings CONNECTION_POOL_SETTINGS = ConnectionPoolSettings.builder().defaultMaxPerRoute(7).maxTotal(11)
+        .idleEvictionInterval(Duration.ofMillis(50)).maxIdleTime(Duration.ofMillis(200)).build();
+
+    private String url;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/file", httpExchange -> {
+            // Large enough not to fit into the client buffers, so a streamed response keeps its connection leased
+            final byte[] body = new byte[4 * 1024 * 1024];
+            httpExchange.sendResponseHeaders(HttpStatus.SC_OK, body.length);
+            try (final OutputStream outputStream = httpExchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        httpServer.createContext("/v2", httpExchange -> respond(httpExchange, HttpStatus.SC_OK, "{\"data\":{\"id\":\"id\"}}"));
+    }
+
+    @Before
+    public void before() throws Exception {
+        url = getStubServerUrl() + "/file";
+    }
+
+    @Test
+    public void keepAliveHeaderStrategy() {
+        final KeepAliveHeaderStrategy keepAliveHeaderStrategy = new KeepAliveHeaderStrategy(Duration.ofSeconds(30));
+
+        final BasicHttpResponse withHeader = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        withHeader.addHeader("Keep-Alive", "timeout=5, max=100");
+        assertThat(keepAliveHeaderStrategy.getKeepAliveDuration(withHeader, new BasicHttpContext())).isEqualTo(5000);
+
+        final BasicHttpResponse withoutHeader = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        assertThat(keepAliveHeaderStrategy.getKeepAliveDuration(withoutHeader, new BasicHttpContext())).isEqualTo(30000);
+    }
+
+    @Test
+    public void client_poolStats_idleEviction() throws Exception {
+        try (final DocSDKClient docSDKClient = new DocSDKClient(settingsProvider, CONNECTION_POOL_SETTINGS)) {
+            assertThat(docSDKClient.getPoolStats().getMax()).isEqualTo(11);
+
+            try (final InputStream inputStream = docSDKClient.files().stream(url).getBody()) {
+                assertThat(docSDKClient.getPoolStats().getLeased()).isEqualTo(1);
+                ByteStreams.exhaust(inputStream);
+            }
+            assertThat(docSDKClient.getPoolStats().getLeased()).isEqualTo(0);
+            assertThat(docSDKClient.getPoolStats().getAvailable()).isEqualTo(1);
+
+            awaitEviction(docSDKClient::getPoolStats);
+        }
+    }
+
+    @Test
+    public void asyncClient_poolStats_idleEviction() throws Exception {
+        try (final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, CONNECTION_POOL_SETTINGS)) {
+            assertThat(asyncDocSDKClient.getPoolStats().getMax()).isEqualTo(11);
+
+            try (final InputStream inputStream = asyncDocSDKClient.files().stream(url).get().getBody()) {
+                assertThat(asyncDocSDKClient.getPoolStats().getLeased()).isEqualTo(1);
+                ByteStreams.exhaust(inputStream);
+            }
+            assertThat(asyncDocSDKClient.files().download(url).get().getStatus()).isEqualTo(HttpStatus.SC_OK);
+            // The streamed exchange may still be releasing its connection, while the download leases another one
+            assertThat(asyncDocSDKClient.getPoolStats().getAvailable()).isPositive();
+
+            awaitEviction(asyncDocSDKClient::getPoolStats);
+        }
+    }
+
+    @Test
+    public void clients_sharedRequestExecutor_notClosedByClients() throws Exception {
+        final ObjectMapperProvider objectMapperProvider = new ObjectMapperProvider();
+
+        try (final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(objectMapperProvider), new CloseableHttpClientProvider(CONNECTION_POOL_SETTINGS))) {
+            final DocSDKClient firstDocSDKClient = new DocSDKClient(settingsProvider, objectMapperProvider, requestExecutor);
+            final DocSDKClient secondDocSDKClient = new DocSDKClient(settingsProvider, objectMapperProvider, requestExecutor);
+
+            firstDocSDKClient.close();
+
+            try (final InputStream inputStream = secondDocSDKClient.files().stream(url).getBody()) {
+                assertThat(secondDocSDKClient.getPoolStats().getLeased()).isEqualTo(1);
+                ByteStreams.exhaust(inputStream);
+            }
+            assertThat(firstDocSDKClient.getPoolStats().getAvailable()).isEqualTo(1);
+
+            secondDocSDKClient.close();
+        }
+    }
+
+    @Test
+    public void client_closesOnlyOwnRequestExecutor() throws Exception {
+        final RequestExecutor requestExecutor = mock(RequestExecutor.class);
+
+        new DocSDKClient(settingsProvider, new ObjectMapperProvider(), requestExecutor).close();
+        verify(requestExecutor, never()).close();
+
+        final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, CONNECTION_POOL_SETTINGS);
+        asyncDocSDKClient.close();
+        assertThatThrownBy(() -> asyncDocSDKClient.files().download(url).get()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void clients_connectionLanes_transfersDoNotStarvePolling() throws Exception {
+        final ConnectionPoolSettings controlConnectionPoolSettings = ConnectionPoolSettings.builder().defaultMaxPerRoute(1).maxTotal(1)
+            .connectionRequestTimeout(Duration.ofSeconds(2)).build();
+        final ConnectionPoolSettings dataConnectionPoolSettings = ConnectionPoolSettings.builder().defaultMaxPerRoute(1).maxTotal(1).build();
+
+        try (final DocSDKClient docSDKClient = new DocSDKClient(settingsProvider, new ObjectMapperProvider(), controlConnectionPoolSettings, dataConnectionPoolSettings)) {
+            try (final InputStream inputStream = docSDKClient.files().stream(url).getBody()) {
+                assertThat(docSDKClient.tasks().show("id").getStatus()).isEqualTo(HttpStatus.SC_OK);
+                assertThat(docSDKClient.getPoolStats(ConnectionLane.DATA).getLeased()).isEqualTo(1);
+                assertThat(docSDKClient.getPoolStats(ConnectionLane.CONTROL).getLeased()).isEqualTo(0);
+                ByteStreams.exhaust(inputStream);
+            }
+        }
+
+        try (final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider(), controlConnectionPoolSettings, dataConnectionPoolSettings)) {
+            try (final InputStream inputStream = asyncDocSDKClient.files().stream(url).get().getBody()) {
+                assertThat(asyncDocSDKClient.tasks().show("id").get().getStatus()).isEqualTo(HttpStatus.SC_OK);
+                assertThat(asyncDocSDKClient.getPoolStats(ConnectionLane.DATA).getLeased()).isEqualTo(1);
+                ByteStreams.exhaust(inputStream);
+            }
+        }
+    }
+
+    @Test
+    public void connectionLane_of() {
+        final HttpGet showHttpGet = new HttpGet("https://api.docsdk.com/v2/tasks/id");
+
+        assertThat(ConnectionLane.of(showHttpGet, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)).isEqualTo(ConnectionLane.CONTROL);
+        assertThat(ConnectionLane.of(new HttpPost("https://api.docsdk.com/v2/jobs"), AbstractResource.JOB_RESPONSE_TYPE_REFERENCE)).isEqualTo(ConnectionLane.CONTROL);
+        assertThat(ConnectionLane.of(new HttpPost("https://storage.docsdk.com/tasks/id"), AbstractResource.VOID_TYPE_REFERENCE)).isEqualTo(ConnectionLane.DATA);
+        assertThat(ConnectionLane.of(showHttpGet, AbstractResource.STREAMING_INPUT_STREAM_TYPE_REFERENCE)).isEqualTo(ConnectionLane.DATA);
+        assertThat(ConnectionLane.of(showHttpGet, null)).isEqualTo(ConnectionLane.DATA);
+    }
+
+    private void awaitEviction(final Supplier<PoolStats> poolStatsSupplier) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (poolStatsSupplier.get().getAvailable() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(poolStatsSupplier.get().getAvailable()).isEqualTo(0);
+    }
+}
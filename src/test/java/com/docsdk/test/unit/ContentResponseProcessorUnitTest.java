@@ -0,0 +1,73 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.response.JobResponse;
+import com.docsdk.dto.response.Pageable;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.dto.result.Result;
+import com.docsdk.processor.response.successful.ContentResponseProcessor;
+import com.docsdk.resource.AbstractResource;
+import com.docsdk.test.framework.AbstractTest;
+import com.docsdk.test.framework.UnitTest;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.apache.http.Header;
+import org.apache.http.HttpStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+public class ContentResponseProcessorUnitTest extends AbstractTest {
+
+    private ContentResponseProcessor contentResponseProcessor;
+
+    @Before
+    public void before() {
+        contentResponseProcessor = new ContentResponseProcessor(new ObjectMapperProvider());
+    }
+
+    @Test
+    public void process_dataEnvelope_reorderedFieldsAndWhitespace() throws Exception {
+        final String content = "{\n  \"links\": {\"self\": \"https://api.docsdk.com/v2/tasks/task-id\"},\n"
+            + "  \"meta\": {\"nested\": [1, {\"data\": \"not this one\"}]},\n  \"data\" : {\"id\": \"task-id\", \"job_id\": \"job-id\"}\n}\n";
+
+        final Result<TaskResponse> taskResponseResult = contentResponseProcessor.process(HttpStatus.SC_OK, new Header[0],
+            toInputStream(content), AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+
+        assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+        assertThat(taskResponseResult.getBody().getJobId()).isEqualTo("job-id");
+    }
+
+    @Test
+    public void process_dataEnvelope_null() throws Exception {
+        final Result<JobResponse> jobResponseResult = contentResponseProcessor.process(HttpStatus.SC_OK, new Header[0],
+            toInputStream("{\"data\":null}"), AbstractResource.JOB_RESPONSE_TYPE_REFERENCE);
+
+        assertThat(jobResponseResult.getBody()).isNull();
+    }
+
+    @Test
+    public void process_dataEnvelope_missing() {
+        assertThatThrownBy(() -> contentResponseProcessor.process(HttpStatus.SC_OK, new Header[0],
+            toInputStream("{\"id\":\"task-id\"}"), AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)).isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    public void process_withoutEnvelope() throws Exception {
+        final Result<Pageable<TaskResponse>> taskResponsePageableResult = contentResponseProcessor.process(HttpStatus.SC_OK, new Header[0],
+            toInputStream("{\"data\":[{\"id\":\"task-id\"}],\"links\":{},\"meta\":{}}"), AbstractResource.TASK_RESPONSE_PAGEABLE_TYPE_REFERENCE);
+
+        assertThat(taskResponsePageableResult.getBody().getData()).extracting(TaskResponse::getId).containsExactly("task-id");
+    }
+
+    private InputStream toInputStream(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,211 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.http.AsyncCloseableHttpClientProvider;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.dto.result.Result;
+import com.docsdk.executor.AsyncRequestExecutor;
+import com.docsdk.executor.RequestExecutorSettings;
+import com.docsdk.executor.ResultListener;
+import com.docsdk.executor.decode.DecodeExecutor;
+import com.docsdk.executor.decode.DecodeExecutorStatistics;
+import com.docsdk.executor.decode.DecodeRejectedException;
+import com.docsdk.extractor.ResultExtractor;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpStatus;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class DecodeExecutorUnitTest extends AbstractStubServerTest {
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/v2/tasks", httpExchange -> respond(httpExchange, HttpStatus.SC_OK, "{\"data\":{\"id\":\"id\"}}"));
+    }
+
+    @Test
+    public void execute_statistics() throws Exception {
+        try (final DecodeExecutor decodeExecutor = DecodeExecutor.builder().threads(1).build()) {
+            final CountDownLatch countDownLatch = new CountDownLatch(5);
+            for (int i = 0; i < 5; i++) {
+                decodeExecutor.execute(() -> {
+                    sleep(20);
+                    countDownLatch.countDown();
+                });
+            }
+            assertThat(countDownLatch.await(5, TimeUnit.SECONDS)).isTrue();
+
+            final DecodeExecutorStatistics decodeExecutorStatistics = awaitDecoded(decodeExecutor::getStatistics, 5);
+            assertThat(decodeExecutorStatistics.getDecodedByCaller()).isZero();
+            assertThat(decodeExecutorStatistics.getTotalDecodeTime()).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+            assertThat(decodeExecutorStatistics.getMaxDecodeTime()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+            // The last one waited for the four before it on the single thread
+            assertThat(decodeExecutorStatistics.getMaxQueueWaitTime()).isGreaterThanOrEqualTo(Duration.ofMillis(60));
+            assertThat(decodeExecutorStatistics.getQueueDepth()).isZero();
+        }
+    }
+
+    @Test
+    public void execute_queueFull_rejected() {
+        try (final DecodeExecutor decodeExecutor = DecodeExecutor.builder().threads(1).maxQueueSize(1).build()) {
+            final CountDownLatch blockingLatch = new CountDownLatch(1);
+            decodeExecutor.execute(() -> await(blockingLatch));
+            decodeExecutor.execute(() -> {
+            });
+
+            assertThatThrownBy(() -> decodeExecutor.execute(() -> {
+            })).isInstanceOf(RejectedExecutionException.class);
+            assertThat(decodeExecutor.getStatistics().getRejected()).isEqualTo(1);
+            assertThat(decodeExecutor.getStatistics().getDecodedByCaller()).isZero();
+            blockingLatch.countDown();
+        }
+    }
+
+    @Test
+    public void execute_queueFull_callerRuns() {
+        try (final DecodeExecutor decodeExecutor = DecodeExecutor.builder().threads(1).maxQueueSize(1).callerRunsWhenFull(true).build()) {
+            final CountDownLatch blockingLatch = new CountDownLatch(1);
+            decodeExecutor.execute(() -> await(blockingLatch));
+            decodeExecutor.execute(() -> {
+            });
+
+            final CompletableFuture<Thread> threadFuture = new CompletableFuture<>();
+            decodeExecutor.execute(() -> threadFuture.complete(Thread.currentThread()));
+
+            assertThat(threadFuture.getNow(null)).isSameAs(Thread.currentThread());
+            assertThat(decodeExecutor.getStatistics().getDecodedByCaller()).isEqualTo(1);
+            assertThat(decodeExecutor.getStatistics().getRejected()).isZero();
+            assertThat(decodeExecutor.getStatistics().getQueueDepth()).isEqualTo(1);
+            blockingLatch.countDown();
+        }
+    }
+
+    @Test
+    public void execute_closed() {
+        final DecodeExecutor decodeExecutor = DecodeExecutor.defaults();
+        decodeExecutor.close();
+
+        assertThatThrownBy(() -> decodeExecutor.execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void asyncRequestExecutor_defaultDecodeExecutor() throws Exception {
+        final CompletableFuture<String> threadNameFuture = new CompletableFuture<>();
+        final RequestExecutorSettings requestExecutorSettings = RequestExecutorSettings.builder().resultListener(new ResultListener() {
+
+            @Override
+            public void onResult(final HttpRequest httpRequest, final Result<?> result) {
+                threadNameFuture.complete(Thread.currentThread().getName());
+            }
+        }).build();
+
+        try (final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()),
+            new AsyncCloseableHttpClientProvider(), requestExecutorSettings);
+             final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider(), asyncRequestExecutor)) {
+
+            assertThat(asyncDocSDKClient.tasks().show("id").get().getBody().getId()).isEqualTo("id");
+
+            assertThat(threadNameFuture.get(5, TimeUnit.SECONDS)).startsWith("docsdk-decode-");
+            assertThat(awaitDecoded(asyncRequestExecutor::getDecodeExecutorStatistics, 1).getDecoded()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void asyncRequestExecutor_queueFull_resultFailed() throws Exception {
+        final CountDownLatch decodingLatch = new CountDownLatch(1);
+        final CountDownLatch blockingLatch = new CountDownLatch(1);
+        final DecodeExecutor decodeExecutor = DecodeExecutor.builder().threads(1).maxQueueSize(1).build();
+        final RequestExecutorSettings requestExecutorSettings = RequestExecutorSettings.builder().resultListener(new ResultListener() {
+
+            @Override
+            public void onResult(final HttpRequest httpRequest, final Result<?> result) {
+                decodingLatch.countDown();
+                await(blockingLatch);
+            }
+        }).decodeExecutor(decodeExecutor).build();
+
+        try (final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()),
+            new AsyncCloseableHttpClientProvider(), requestExecutorSettings);
+             final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider(), asyncRequestExecutor)) {
+
+            // The first response blocks the single decoding thread, the second one fills the queue
+            final CompletableFuture<Result<TaskResponse>> first = asyncDocSDKClient.tasks().show("id").toCompletionStage().toCompletableFuture();
+            assertThat(decodingLatch.await(5, TimeUnit.SECONDS)).isTrue();
+            final CompletableFuture<Result<TaskResponse>> second = asyncDocSDKClient.tasks().show("id").toCompletionStage().toCompletableFuture();
+            for (int i = 0; i < 100 && asyncRequestExecutor.getDecodeExecutorStatistics().getQueueDepth() < 1; i++) {
+                sleep(10);
+            }
+
+            final Throwable throwable = catchThrowable(() -> asyncDocSDKClient.tasks().show("id").toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS));
+            assertThat(throwable).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(UncheckedIOException.class);
+            assertThat(throwable.getCause().getCause()).isInstanceOf(DecodeRejectedException.class);
+            assertThat(asyncRequestExecutor.getDecodeExecutorStatistics().getRejected()).isEqualTo(1);
+
+            blockingLatch.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS).getBody().getId()).isEqualTo("id");
+            assertThat(second.get(5, TimeUnit.SECONDS).getBody().getId()).isEqualTo("id");
+        } finally {
+            blockingLatch.countDown();
+            decodeExecutor.close();
+        }
+    }
+
+    @Test
+    public void asyncRequestExecutor_customDecodeExecutor() throws Exception {
+        try (final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()),
+            new AsyncCloseableHttpClientProvider(), RequestExecutorSettings.builder().decodeExecutor(Runnable::run).build())) {
+
+            assertThat(asyncRequestExecutor.getDecodeExecutorStatistics()).isNull();
+        }
+    }
+
+    /**
+     * Statistics are recorded once a task has returned, which may be just after it signalled the test
+     */
+    private static DecodeExecutorStatistics awaitDecoded(final Supplier<DecodeExecutorStatistics> statisticsSupplier, final long decoded) {
+        DecodeExecutorStatistics decodeExecutorStatistics = statisticsSupplier.get();
+        for (int i = 0; i < 100 && decodeExecutorStatistics.getDecoded() < decoded; i++) {
+            sleep(10);
+            decodeExecutorStatistics = statisticsSupplier.get();
+        }
+        return decodeExecutorStatistics;
+    }
+
+    private static void await(final CountDownLatch countDownLatch) {
+        try {
+            countDownLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.dto.result.Result;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class DownloadsUnitTest extends AbstractStubServerTest {
+
+    private static final int FILE_SIZE = 4 * 1024 * 1024;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private byte[] file;
+
+    private DocSDKClient docSDKClient;
+    private AsyncDocSDKClient asyncDocSDKClient;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/file", httpExchange -> {
+            httpExchange.sendResponseHeaders(HttpStatus.SC_OK, file.length);
+            try (final OutputStream outputStream = httpExchange.getResponseBody()) {
+                outputStream.write(file);
+            } catch (Exception ignored) {
+                // Client closed the stream before reading all of it
+            }
+        });
+        httpServer.createContext("/missing", httpExchange -> {
+            final byte[] message = "not found".getBytes();
+            httpExchange.sendResponseHeaders(HttpStatus.SC_NOT_FOUND, message.length);
+            try (final OutputStream outputStream = httpExchange.getResponseBody()) {
+                outputStream.write(message);
+            }
+        });
+    }
+
+    @Before
+    public void before() throws Exception {
+        file = new byte[FILE_SIZE];
+        new Random(42).nextBytes(file);
+
+        docSDKClient = new DocSDKClient(settingsProvider);
+        asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider);
+    }
+
+    @Test
+    public void files_stream() throws Exception {
+        final Result<InputStream> inputStreamResult = docSDKClient.files().stream(getStubServerUrl() + "/file");
+
+        assertThat(inputStreamResult.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        try (final InputStream inputStream = inputStreamResult.getBody()) {
+            assertThat(ByteStreams.toByteArray(inputStream)).isEqualTo(file);
+        }
+    }
+
+    @Test
+    public void files_stream_closeEarly() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            try (final InputStream inputStream = docSDKClient.files().stream(getStubServerUrl() + "/file").getBody()) {
+                assertThat(inputStream.read(new byte[1024])).isPositive();
+            }
+        }
+
+        // Connections of streams closed before their end must not be leaked
+        try (final InputStream inputStream = docSDKClient.files().stream(getStubServerUrl() + "/file").getBody()) {
+            assertThat(ByteStreams.toByteArray(inputStream)).isEqualTo(file);
+        }
+    }
+
+    @Test
+    public void files_downloadToPath() throws Exception {
+        final Path destination = temporaryFolder.getRoot().toPath().resolve("file");
+        final Result<Path> pathResult = docSDKClient.files().download(getStubServerUrl() + "/file", destination);
+
+        assertThat(pathResult.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(pathResult.getBody()).isEqualTo(destination);
+        assertThat(Files.readAllBytes(destination)).isEqualTo(file);
+    }
+
+    @Test
+    public void files_downloadToPath_notFound() throws Exception {
+        final Path destination = temporaryFolder.getRoot().toPath().resolve("file");
+        final Result<Path> pathResult = docSDKClient.files().download(getStubServerUrl() + "/missing", destination);
+
+        assertThat(pathResult.getStatus()).isEqualTo(HttpStatus.SC_NOT_FOUND);
+        assertThat(pathResult.getMessage()).isEqualTo("not found");
+        assertThat(pathResult.getBody()).isNull();
+    }
+
+    @Test
+    public void asyncFiles_stream() throws Exception {
+        final Result<InputStream> inputStreamResult = asyncDocSDKClient.files().stream(getStubServerUrl() + "/file").get();
+
+        assertThat(inputStreamResult.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        try (final InputStream inputStream = inputStreamResult.getBody()) {
+            assertThat(ByteStreams.toByteArray(inputStream)).isEqualTo(file);
+        }
+    }
+
+    @Test
+    public void asyncFiles_stream_closeEarly() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            try (final InputStream inputStream = asyncDocSDKClient.files().stream(getStubServerUrl() + "/file").get().getBody()) {
+                assertThat(inputStream.read(new byte[1024])).isPositive();
+            }
+        }
+
+        try (final InputStream inputStream = asyncDocSDKClient.files().stream(getStubServerUrl() + "/file").get().getBody()) {
+            assertThat(ByteStreams.toByteArray(inputStream)).isEqualTo(file);
+        }
+    }
+
+    @Test
+    public void asyncFiles_downloadToPath() throws Exception {
+        final Path destination = temporaryFolder.getRoot().toPath().resolve("file");
+        final Result<Path> pathResult = asyncDocSDKClient.files().download(getStubServerUrl() + "/file", destination).get();
+
+        assertThat(pathResult.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(pathResult.getBody()).isEqualTo(destination);
+        assertThat(Files.readAllBytes(destination)).isEqualTo(file);
+    }
+
+    @Test
+    public void asyncFiles_downloadToPath_notFound() throws Exception {
+        final Path destination = temporaryFolder.getRoot().toPath().resolve("file");
+        final Result<Path> pathResult = asyncDocSDKClient.files().download(getStubServerUrl() + "/missing", destination).get();
+
+        assertThat(pathResult.getStatus()).isEqualTo(HttpStatus.SC_NOT_FOUND);
+        assertThat(pathResult.getMessage()).isEqualTo("not found");
+        assertThat(pathResult.getBody()).isNull();
+    }
+
+    @After
+    public void after() throws Exception {
+        docSDKClient.close();
+        asyncDocSDKClient.close();
+    }
+}
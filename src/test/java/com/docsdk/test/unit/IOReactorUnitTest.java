@@ -0,0 +1,112 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.http.AsyncCloseableHttpClientProvider;
+import com.docsdk.client.http.ConnectionPoolSettings;
+import com.docsdk.client.http.IOReactorSettings;
+import com.docsdk.client.http.SharedIOReactor;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.executor.AsyncRequestExecutor;
+import com.docsdk.extractor.ResultExtractor;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class IOReactorUnitTest extends AbstractStubServerTest {
+
+    private static final String IO_DISPATCHER_THREAD_NAME = "I/O dispatcher";
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/v2/tasks", httpExchange -> respond(httpExchange, HttpStatus.SC_OK, "{\"data\":{\"id\":\"id\"}}"));
+    }
+
+    @Test
+    public void provide_ioThreadCount() throws Exception {
+        final IOReactorSettings ioReactorSettings = IOReactorSettings.builder().ioThreadCount(3).selectInterval(Duration.ofMillis(500))
+            .soKeepAlive(true).sndBufSize(64 * 1024).rcvBufSize(64 * 1024).build();
+        final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider = new AsyncCloseableHttpClientProvider(ConnectionPoolSettings.defaults(), ioReactorSettings);
+
+        final Set<Thread> ioDispatcherThreads = getIoDispatcherThreads();
+        try (final CloseableHttpAsyncClient closeableHttpAsyncClient = asyncCloseableHttpClientProvider.provide()) {
+            final Set<Thread> newIoDispatcherThreads = awaitNewIoDispatcherThreads(ioDispatcherThreads, 3);
+
+            assertThat(newIoDispatcherThreads).hasSize(3);
+            assertThat(asyncCloseableHttpClientProvider.getIoReactorSettings()).isSameAs(ioReactorSettings);
+        }
+    }
+
+    @Test
+    public void sharedIOReactor_sharedByClients() throws Exception {
+        final Set<Thread> ioDispatcherThreads = getIoDispatcherThreads();
+        try (final SharedIOReactor sharedIOReactor = new SharedIOReactor(ConnectionPoolSettings.defaults(), IOReactorSettings.builder().ioThreadCount(2).build())) {
+            final AsyncRequestExecutor firstAsyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()),
+                new AsyncCloseableHttpClientProvider(sharedIOReactor));
+            final AsyncRequestExecutor secondAsyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()),
+                new AsyncCloseableHttpClientProvider(sharedIOReactor));
+            final AsyncDocSDKClient firstAsyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider(), firstAsyncRequestExecutor);
+            final AsyncDocSDKClient secondAsyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider(), secondAsyncRequestExecutor);
+
+            assertThat(firstAsyncDocSDKClient.tasks().show("id").get().getBody().getId()).isEqualTo("id");
+            assertThat(secondAsyncDocSDKClient.tasks().show("id").get().getBody().getId()).isEqualTo("id");
+
+            // Both executors dispatch on the threads of the shared reactor and lease from its pool
+            assertThat(awaitNewIoDispatcherThreads(ioDispatcherThreads, 2)).hasSize(2);
+            assertThat(firstAsyncRequestExecutor.getPoolStats().getAvailable()).isEqualTo(sharedIOReactor.getPoolStats().getAvailable());
+            assertThat(sharedIOReactor.getPoolStats().getLeased()).isZero();
+
+            // Closing one executor leaves the shared reactor running for the others
+            firstAsyncRequestExecutor.close();
+            assertThat(secondAsyncDocSDKClient.tasks().show("id").get().getBody().getId()).isEqualTo("id");
+            secondAsyncRequestExecutor.close();
+        }
+    }
+
+    @Test
+    public void sharedIOReactor_closed() throws Exception {
+        final SharedIOReactor sharedIOReactor = new SharedIOReactor();
+        try (final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()),
+            new AsyncCloseableHttpClientProvider(sharedIOReactor))) {
+            final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider(), asyncRequestExecutor);
+            sharedIOReactor.close();
+
+            assertThatThrownBy(() -> asyncDocSDKClient.tasks().show("id").get()).isInstanceOfAny(ExecutionException.class, IllegalStateException.class);
+        }
+    }
+
+    private static Set<Thread> getIoDispatcherThreads() {
+        return Thread.getAllStackTraces().keySet().stream().filter(thread -> thread.getName().startsWith(IO_DISPATCHER_THREAD_NAME)).collect(Collectors.toSet());
+    }
+
+    /**
+     * The reactor starts its dispatcher threads from a thread of its own, so they may show up just after the client has been provided
+     */
+    private static Set<Thread> awaitNewIoDispatcherThreads(final Set<Thread> previousIoDispatcherThreads, final int count) throws InterruptedException {
+        Set<Thread> newIoDispatcherThreads = getNewIoDispatcherThreads(previousIoDispatcherThreads);
+        for (int i = 0; i < 100 && newIoDispatcherThreads.size() < count; i++) {
+            Thread.sleep(10);
+            newIoDispatcherThreads = getNewIoDispatcherThreads(previousIoDispatcherThreads);
+        }
+        return newIoDispatcherThreads;
+    }
+
+    private static Set<Thread> getNewIoDispatcherThreads(final Set<Thread> previousIoDispatcherThreads) {
+        return getIoDispatcherThreads().stream().filter(thread -> !previousIoDispatcherThreads.contains(thread)).collect(Collectors.toSet());
+    }
+}
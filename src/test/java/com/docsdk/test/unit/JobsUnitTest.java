@@ -34,10 +34,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
-import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.IOException;
@@ -64,7 +64,7 @@ public class JobsUnitTest extends AbstractTest {
     @Mock
     private RequestExecutor requestExecutor;
 
-    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    @Spy
     private ObjectMapperProvider objectMapperProvider;
 
     @Captor
@@ -108,10 +108,10 @@ public class JobsUnitTest extends AbstractTest {
             };
 
             final String request = ThrowingSupplier.unchecked(() -> byteSource.asCharSource(Charsets.UTF_8).read()).get();
-            assertThat(request).isEqualTo("{\"tasks\":{\"merge-files\":{\"input\":[\"merge-files-task-input\"],\"operation\":\"merge\"}," +
-                "\"capture-website\":{\"url\":\"capture-website-task-url\",\"output_format\":\"pdf\",\"operation\":\"capture-website\"," +
-                "\"zoom\":1.3},\"execute-commands\":{\"input\":[\"execute-commands-task-input\"],\"operation\":\"command\"},\"convert-files\":" +
-                "{\"input\":[\"convert-files-task-input\"],\"operation\":\"convert\",\"width\":100,\"height\":100}},\"tag\":\"\"}");
+            assertThat(request).isEqualTo("{\"tasks\":{\"capture-website\":{\"url\":\"capture-website-task-url\",\"output_format\":\"pdf\",\"operation\":\"capture-website\"," +
+                "\"zoom\":1.3},\"convert-files\":{\"input\":[\"convert-files-task-input\"],\"operation\":\"convert\",\"width\":100,\"height\":100}," +
+                "\"execute-commands\":{\"input\":[\"execute-commands-task-input\"],\"operation\":\"command\"}," +
+                "\"merge-files\":{\"input\":[\"merge-files-task-input\"],\"operation\":\"merge\"}},\"tag\":\"\"}");
         });
         assertThat(httpUriRequest.getHeaders(AbstractResource.HEADER_AUTHORIZATION)).hasSize(1).allSatisfy(header ->
             assertThat(VALUE_AUTHORIZATION).isEqualTo(header.getValue()));
@@ -0,0 +1,236 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.response.JobResponse;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.pagination.PageIterator;
+import com.docsdk.resource.params.Filter;
+import com.docsdk.resource.params.Pagination;
+import com.docsdk.resource.params.converter.PaginationToNameValuePairsConverter;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class PaginationUnitTest extends AbstractStubServerTest {
+
+    private static final int PAGES = 5;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile int failingPage;
+    private volatile boolean lastLink = true;
+    private volatile long delayMillis;
+
+    private DocSDKClient docSDKClient;
+    private AsyncDocSDKClient asyncDocSDKClient;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/v2/tasks", httpExchange -> page(httpExchange, "tasks"));
+        httpServer.createContext("/v2/jobs", httpExchange -> page(httpExchange, "jobs"));
+    }
+
+    @Before
+    public void before() throws Exception {
+        docSDKClient = new DocSDKClient(settingsProvider, new ObjectMapperProvider());
+        asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider());
+    }
+
+    @Test
+    public void tasks_listAll() throws Exception {
+        final List<String> ids = docSDKClient.tasks().listAll(ImmutableMap.of(Filter.STATUS, "finished")).stream()
+            .map(TaskResponse::getId).collect(Collectors.toList());
+
+        assertThat(ids).containsExactlyElementsOf(expectedIds());
+        assertThat(requests).hasValue(PAGES);
+    }
+
+    @Test
+    public void asyncJobs_listAll() throws Exception {
+        final List<String> ids = asyncDocSDKClient.jobs().listAll(ImmutableMap.of(), ImmutableList.of(), new Pagination(3, 1), 3).stream()
+            .map(JobResponse::getId).collect(Collectors.toList());
+
+        assertThat(ids).containsExactlyElementsOf(expectedIds());
+        assertThat(requests).hasValue(PAGES);
+    }
+
+    @Test
+    public void tasks_listAll_prefetchesAhead() throws Exception {
+        try (final PageIterator<TaskResponse> pageIterator = docSDKClient.tasks().listAll(ImmutableMap.of(), ImmutableList.of(), null, 2)) {
+            assertThat(requests).hasValue(0);
+
+            // Consuming the first page, the next two are loaded meanwhile
+            assertThat(pageIterator.next().getId()).isEqualTo("1-1");
+            awaitRequests(3);
+            Thread.sleep(100);
+            assertThat(requests).hasValue(3);
+        }
+    }
+
+    @Test
+    public void tasks_listAll_withoutPrefetch() throws Exception {
+        try (final PageIterator<TaskResponse> pageIterator = docSDKClient.tasks().listAll(ImmutableMap.of(), ImmutableList.of(), null, 0)) {
+            assertThat(pageIterator.next().getId()).isEqualTo("1-1");
+            Thread.sleep(100);
+            assertThat(requests).hasValue(1);
+
+            pageIterator.next();
+            pageIterator.next();
+            assertThat(pageIterator.next().getId()).isEqualTo("2-1");
+            assertThat(requests).hasValue(2);
+        }
+    }
+
+    @Test
+    public void tasks_listAll_failingPage() throws Exception {
+        failingPage = 2;
+
+        final PageIterator<TaskResponse> pageIterator = docSDKClient.tasks().listAll(ImmutableMap.of());
+        for (int i = 0; i < 3; i++) {
+            pageIterator.next();
+        }
+
+        assertThatThrownBy(pageIterator::hasNext).isInstanceOf(UncheckedIOException.class).hasMessageContaining("500");
+        assertThat(pageIterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void tasks_listAllParallel_ordered() throws Exception {
+        delayMillis = 50;
+
+        final List<String> ids = docSDKClient.tasks().listAllParallel(ImmutableMap.of(), ImmutableList.of(), new Pagination(3, 1), 3, true).stream()
+            .map(TaskResponse::getId).collect(Collectors.toList());
+
+        assertThat(ids).containsExactlyElementsOf(expectedIds());
+        assertThat(requests).hasValue(PAGES);
+        assertThat(maxInFlight.get()).isBetween(2, 3);
+    }
+
+    @Test
+    public void asyncJobs_listAllParallel_unordered() throws Exception {
+        delayMillis = 20;
+
+        final List<String> ids = asyncDocSDKClient.jobs().listAllParallel(ImmutableMap.of(), ImmutableList.of(), null, 4, false).stream()
+            .map(JobResponse::getId).collect(Collectors.toList());
+
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(expectedIds());
+        assertThat(requests).hasValue(PAGES);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void tasks_listAllParallel_withoutLastLink() throws Exception {
+        lastLink = false;
+
+        final List<String> ids = docSDKClient.tasks().listAllParallel(ImmutableMap.of(), ImmutableList.of(), null, 2, true).stream()
+            .map(TaskResponse::getId).collect(Collectors.toList());
+
+        assertThat(ids).containsExactlyElementsOf(expectedIds());
+        // Pages requested ahead beyond the last one
+        assertThat(requests.get()).isBetween(PAGES, PAGES + 2);
+    }
+
+    @Test
+    public void tasks_listAllParallel_failingPage() throws Exception {
+        failingPage = 3;
+
+        assertThatThrownBy(() -> docSDKClient.tasks().listAllParallel(ImmutableMap.of(), ImmutableList.of(), null, 2, true).stream().count())
+            .isInstanceOf(UncheckedIOException.class).hasMessageContaining("500");
+    }
+
+    @Test
+    public void paginationConverter_getPage() {
+        final PaginationToNameValuePairsConverter paginationToNameValuePairsConverter = new PaginationToNameValuePairsConverter();
+
+        assertThat(paginationToNameValuePairsConverter.getPage(getStubServerUrl() + "/v2/tasks?per_page=3&page=7")).isEqualTo(7);
+        assertThat(paginationToNameValuePairsConverter.getPage(getStubServerUrl() + "/v2/tasks?per_page=3")).isNull();
+        assertThat(paginationToNameValuePairsConverter.getPage(getStubServerUrl() + "/v2/tasks?page=last")).isNull();
+        assertThat(paginationToNameValuePairsConverter.getPage(null)).isNull();
+    }
+
+    private void awaitRequests(final int expected) throws InterruptedException {
+        for (int i = 0; i < 500 && requests.get() < expected; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<String> expectedIds() {
+        return IntStream.rangeClosed(1, PAGES).boxed().flatMap(page -> IntStream.rangeClosed(1, 3).mapToObj(item -> page + "-" + item))
+            .collect(Collectors.toList());
+    }
+
+    private void page(final HttpExchange httpExchange, final String resource) throws IOException {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Before responding, as the client may request the next page as soon as it has the response
+            inFlight.decrementAndGet();
+        }
+        respond(httpExchange, resource);
+    }
+
+    private void respond(final HttpExchange httpExchange, final String resource) throws IOException {
+        final Map<String, String> parameters = URLEncodedUtils.parse(httpExchange.getRequestURI(), StandardCharsets.UTF_8).stream()
+            .collect(Collectors.toMap(NameValuePair::getName, NameValuePair::getValue));
+        final int page = Integer.parseInt(parameters.getOrDefault("page", "1"));
+
+        if (page == failingPage) {
+            httpExchange.sendResponseHeaders(HttpStatus.SC_INTERNAL_SERVER_ERROR, -1);
+            httpExchange.close();
+            return;
+        }
+
+        // Pages beyond the last one are empty
+        final String data = page > PAGES ? "" : IntStream.rangeClosed(1, 3).mapToObj(item -> "{\"id\":\"" + page + "-" + item + "\"}")
+            .collect(Collectors.joining(","));
+        final String next = page < PAGES ? "\"" + getStubServerUrl() + "/v2/" + resource + "?per_page=3&page=" + (page + 1) + "\"" : "null";
+        final String last = lastLink ? "\"" + getStubServerUrl() + "/v2/" + resource + "?per_page=3&page=" + PAGES + "\"" : "null";
+        final byte[] body = ("{\"data\":[" + data + "],\"links\":{\"next\":" + next + ",\"last\":" + last + "},"
+            + "\"meta\":{\"current_page\":" + page + ",\"per_page\":3}}").getBytes(StandardCharsets.UTF_8);
+
+        httpExchange.sendResponseHeaders(HttpStatus.SC_OK, body.length);
+        try (final OutputStream outputStream = httpExchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    @After
+    public void after() throws Exception {
+        docSDKClient.close();
+        asyncDocSDKClient.close();
+    }
+}
@@ -0,0 +1,202 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.client.http.AsyncCloseableHttpClientProvider;
+import com.docsdk.client.http.CloseableHttpClientProvider;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.dto.result.AsyncResult;
+import com.docsdk.executor.AsyncRequestExecutor;
+import com.docsdk.executor.EndpointGroup;
+import com.docsdk.executor.RequestExecutor;
+import com.docsdk.executor.RequestExecutorSettings;
+import com.docsdk.executor.limiter.RateLimit;
+import com.docsdk.executor.limiter.RateLimiter;
+import com.docsdk.executor.limiter.RateLimiterStatistics;
+import com.docsdk.extractor.ResultExtractor;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class RateLimiterUnitTest extends AbstractStubServerTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private ObjectMapperProvider objectMapperProvider;
+    private RequestExecutor requestExecutor;
+    private AsyncRequestExecutor asyncRequestExecutor;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/v2", httpExchange -> {
+            requests.incrementAndGet();
+            try (final InputStream inputStream = httpExchange.getRequestBody()) {
+                ByteStreams.exhaust(inputStream);
+            }
+
+            respond(httpExchange, HttpStatus.SC_OK, "{\"data\":{\"id\":\"id\"}}");
+        });
+    }
+
+    @Before
+    public void before() throws Exception {
+        objectMapperProvider = new ObjectMapperProvider();
+    }
+
+    @Test
+    public void endpointGroup_of() {
+        final String apiUrl = "https://api.docsdk.com/v2/";
+
+        assertThat(EndpointGroup.of(new HttpGet(apiUrl + "tasks/id"))).isEqualTo(EndpointGroup.POLLING);
+        assertThat(EndpointGroup.of(new HttpGet(apiUrl + "tasks/id/wait"))).isEqualTo(EndpointGroup.POLLING);
+        assertThat(EndpointGroup.of(new HttpGet(apiUrl + "jobs/id/wait"))).isEqualTo(EndpointGroup.POLLING);
+        assertThat(EndpointGroup.of(new HttpPost(apiUrl + "jobs"))).isEqualTo(EndpointGroup.TASK_CREATION);
+        assertThat(EndpointGroup.of(new HttpPost(apiUrl + "convert"))).isEqualTo(EndpointGroup.TASK_CREATION);
+        assertThat(EndpointGroup.of(new HttpPost(apiUrl + "import/url"))).isEqualTo(EndpointGroup.TASK_CREATION);
+        assertThat(EndpointGroup.of(new HttpPost(apiUrl + "tasks/id/retry"))).isEqualTo(EndpointGroup.TASK_CREATION);
+        assertThat(EndpointGroup.of(new HttpPost("https://storage.docsdk.com/tasks/id"))).isEqualTo(EndpointGroup.FILE_TRANSFER);
+        assertThat(EndpointGroup.of(new HttpPut("https://storage.docsdk.com/upload"))).isEqualTo(EndpointGroup.FILE_TRANSFER);
+        assertThat(EndpointGroup.of(new HttpGet("https://storage.docsdk.com/tasks/id/file.pdf"))).isEqualTo(EndpointGroup.FILE_TRANSFER);
+        assertThat(EndpointGroup.of(new HttpGet(apiUrl + "tasks"))).isEqualTo(EndpointGroup.OTHER);
+        assertThat(EndpointGroup.of(new HttpPost(apiUrl + "tasks/id/cancel"))).isEqualTo(EndpointGroup.OTHER);
+        assertThat(EndpointGroup.of(new HttpPost(apiUrl + "webhooks"))).isEqualTo(EndpointGroup.OTHER);
+        assertThat(EndpointGroup.of(new HttpDelete(apiUrl + "tasks/id"))).isEqualTo(EndpointGroup.OTHER);
+    }
+
+    @Test
+    public void acquire_queuedBeyondBurst() throws Exception {
+        // Measured from creating the bucket, as it refills from then on
+        final long startNanos = System.nanoTime();
+        final RateLimiter rateLimiter = RateLimiter.builder().limit(EndpointGroup.POLLING, RateLimit.of(20, 2)).build();
+        final HttpGet httpGet = new HttpGet("https://api.docsdk.com/v2/tasks/id");
+
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.acquire(httpGet);
+        }
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        // Two permits within the burst, two more 50 ms apart
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(95));
+
+        final RateLimiterStatistics rateLimiterStatistics = rateLimiter.getStatistics(EndpointGroup.POLLING);
+        assertThat(rateLimiterStatistics.getPermits()).isEqualTo(4);
+        assertThat(rateLimiterStatistics.getDelayedPermits()).isEqualTo(2);
+        // Each wait is reserved from the time of its request, so time passed since creating the bucket shortens the waits on a loaded machine
+        assertThat(rateLimiterStatistics.getTotalWaitTime()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(rateLimiterStatistics.getMaxWaitTime()).isGreaterThanOrEqualTo(Duration.ofMillis(25));
+        assertThat(rateLimiterStatistics.getQueueDepth()).isEqualTo(0);
+        assertThat(rateLimiter.getStatistics(EndpointGroup.TASK_CREATION)).isNull();
+    }
+
+    @Test
+    public void tasks_show_rateLimited() throws Exception {
+        final RateLimiter rateLimiter = RateLimiter.builder().limit(EndpointGroup.POLLING, RateLimit.of(5, 1)).build();
+        final DocSDKClient docSDKClient = new DocSDKClient(settingsProvider, objectMapperProvider, requestExecutor(rateLimiter));
+
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            assertThat(docSDKClient.tasks().show("id").getStatus()).isEqualTo(HttpStatus.SC_OK);
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isGreaterThanOrEqualTo(Duration.ofMillis(390));
+        assertThat(requests).hasValue(3);
+        assertThat(rateLimiter.getStatistics(EndpointGroup.POLLING).getPermits()).isEqualTo(3);
+    }
+
+    @Test
+    public void tasks_delete_notLimitedByPolling() throws Exception {
+        final RateLimiter rateLimiter = RateLimiter.builder().limit(EndpointGroup.POLLING, RateLimit.of(0.1, 1)).build();
+        final DocSDKClient docSDKClient = new DocSDKClient(settingsProvider, objectMapperProvider, requestExecutor(rateLimiter));
+
+        assertThat(docSDKClient.tasks().show("id").getStatus()).isEqualTo(HttpStatus.SC_OK);
+        for (int i = 0; i < 3; i++) {
+            assertThat(docSDKClient.tasks().delete("id").getStatus()).isEqualTo(HttpStatus.SC_OK);
+        }
+
+        assertThat(requests).hasValue(4);
+        assertThat(rateLimiter.getStatistics(EndpointGroup.POLLING).getDelayedPermits()).isEqualTo(0);
+    }
+
+    @Test
+    public void asyncTasks_show_delayedWithoutBlocking() throws Exception {
+        final RateLimiter rateLimiter = RateLimiter.builder().limit(EndpointGroup.POLLING, RateLimit.of(4, 1)).build();
+        final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, objectMapperProvider, asyncRequestExecutor(rateLimiter));
+
+        assertThat(asyncDocSDKClient.tasks().show("id").get().getStatus()).isEqualTo(HttpStatus.SC_OK);
+
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = asyncDocSDKClient.tasks().show("id");
+        assertThat(taskResponseAsyncResult.toCompletionStage().toCompletableFuture().isDone()).isFalse();
+        assertThat(rateLimiter.getStatistics(EndpointGroup.POLLING).getQueueDepth()).isEqualTo(1);
+
+        assertThat(taskResponseAsyncResult.get().getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(requests).hasValue(2);
+        assertThat(rateLimiter.getStatistics(EndpointGroup.POLLING).getQueueDepth()).isEqualTo(0);
+        assertThat(rateLimiter.getStatistics(EndpointGroup.POLLING).getMaxWaitTime()).isGreaterThan(Duration.ofMillis(100));
+    }
+
+    @Test
+    public void acquireAsync_cancelledWhileQueued() throws Exception {
+        final RateLimiter rateLimiter = RateLimiter.builder().limit(EndpointGroup.POLLING, RateLimit.of(0.1, 1)).build();
+        final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+        final HttpGet httpGet = new HttpGet("https://api.docsdk.com/v2/tasks/id");
+
+        try {
+            assertThat(rateLimiter.acquireAsync(httpGet, scheduledExecutorService)).isDone();
+
+            final CompletableFuture<Void> permitFuture = rateLimiter.acquireAsync(httpGet, scheduledExecutorService);
+            assertThat(permitFuture).isNotDone();
+            assertThat(rateLimiter.getStatistics(EndpointGroup.POLLING).getQueueDepth()).isEqualTo(1);
+
+            assertThat(permitFuture.cancel(false)).isTrue();
+            assertThat(rateLimiter.getStatistics(EndpointGroup.POLLING).getQueueDepth()).isEqualTo(0);
+        } finally {
+            scheduledExecutorService.shutdownNow();
+        }
+    }
+
+    private RequestExecutor requestExecutor(final RateLimiter rateLimiter) throws Exception {
+        requestExecutor = new RequestExecutor(new ResultExtractor(objectMapperProvider), new CloseableHttpClientProvider(),
+            RequestExecutorSettings.builder().rateLimiter(rateLimiter).build());
+        return requestExecutor;
+    }
+
+    private AsyncRequestExecutor asyncRequestExecutor(final RateLimiter rateLimiter) throws Exception {
+        asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(objectMapperProvider), new AsyncCloseableHttpClientProvider(),
+            RequestExecutorSettings.builder().rateLimiter(rateLimiter).build());
+        return asyncRequestExecutor;
+    }
+
+    @After
+    public void after() throws Exception {
+        if (requestExecutor != null) {
+            requestExecutor.close();
+        }
+        if (asyncRequestExecutor != null) {
+            asyncRequestExecutor.close();
+        }
+    }
+}
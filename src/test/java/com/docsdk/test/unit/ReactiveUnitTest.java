@@ -0,0 +1,233 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.response.JobResponse;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.dto.result.Result;
+import com.docsdk.reactive.Publisher;
+import com.docsdk.reactive.Subscriber;
+import com.docsdk.reactive.Subscription;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ReactiveUnitTest extends AbstractStubServerTest {
+
+    private static final int PAGES = 5;
+    private static final int FILE_SIZE = 64 * 1024 * 1024;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicLong written = new AtomicLong();
+
+    private AsyncDocSDKClient asyncDocSDKClient;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/v2/tasks", httpExchange -> {
+            requests.incrementAndGet();
+            if (httpExchange.getRequestURI().getPath().endsWith("/wait")) {
+                respond(httpExchange, HttpStatus.SC_OK, "{\"data\":{\"id\":\"task-id\",\"status\":\"finished\"}}".getBytes(StandardCharsets.UTF_8));
+            } else {
+                page(httpExchange, "tasks");
+            }
+        });
+        httpServer.createContext("/v2/jobs", httpExchange -> {
+            requests.incrementAndGet();
+            page(httpExchange, "jobs");
+        });
+        httpServer.createContext("/files/large", this::file);
+        httpServer.createContext("/files/missing", httpExchange -> respond(httpExchange, HttpStatus.SC_NOT_FOUND, "{}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Before
+    public void before() throws Exception {
+        asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider());
+    }
+
+    @Test
+    public void asyncTasks_publishAll_loadsPagesOnDemand() throws Exception {
+        final RecordingSubscriber<TaskResponse> subscriber = new RecordingSubscriber<>();
+        asyncDocSDKClient.tasks().publishAll(ImmutableMap.of(), ImmutableList.of(), null).subscribe(subscriber);
+        assertThat(requests).hasValue(0);
+
+        subscriber.subscription.request(2);
+        subscriber.awaitItems(2);
+        Thread.sleep(100);
+        assertThat(subscriber.items).hasSize(2);
+        assertThat(requests).hasValue(1);
+
+        // The rest of the first page and the first item of the second one
+        subscriber.subscription.request(2);
+        subscriber.awaitItems(4);
+        assertThat(requests).hasValue(2);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.completion.get(10, TimeUnit.SECONDS);
+
+        assertThat(subscriber.items.stream().map(TaskResponse::getId)).containsExactlyElementsOf(expectedIds());
+        assertThat(requests).hasValue(PAGES);
+    }
+
+    @Test
+    public void asyncJobs_publishAll_cancel() throws Exception {
+        final RecordingSubscriber<JobResponse> subscriber = new RecordingSubscriber<>();
+        asyncDocSDKClient.jobs().publishAll(ImmutableMap.of(), ImmutableList.of(), null).subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+        subscriber.awaitItems(3);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(3);
+        Thread.sleep(100);
+
+        assertThat(subscriber.items).hasSize(3);
+        assertThat(subscriber.completion).isNotDone();
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    public void asyncTasks_publishWait() throws Exception {
+        final RecordingSubscriber<Result<TaskResponse>> subscriber = new RecordingSubscriber<>();
+        asyncDocSDKClient.tasks().publishWait("task-id").subscribe(subscriber);
+        Thread.sleep(100);
+        assertThat(requests).hasValue(0);
+
+        subscriber.subscription.request(1);
+        subscriber.completion.get(10, TimeUnit.SECONDS);
+
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(subscriber.items.get(0).getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(subscriber.items.get(0).getBody().getId()).isEqualTo("task-id");
+    }
+
+    @Test
+    public void asyncFiles_publish_readsOnDemand() throws Exception {
+        final Publisher<ByteBuffer> publisher = asyncDocSDKClient.files().publish(getStubServerUrl() + "/files/large");
+        final RecordingSubscriber<ByteBuffer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.awaitItems(1);
+        Thread.sleep(300);
+
+        // Without demand the connection is not read, so the server is stuck once the socket buffers are full
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(written.get()).isLessThan(FILE_SIZE);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.completion.get(30, TimeUnit.SECONDS);
+
+        assertThat(subscriber.items.stream().mapToLong(ByteBuffer::remaining).sum()).isEqualTo(FILE_SIZE);
+        assertThat(written).hasValue(FILE_SIZE);
+    }
+
+    @Test
+    public void asyncFiles_publish_notFound() throws Exception {
+        final RecordingSubscriber<ByteBuffer> subscriber = new RecordingSubscriber<>();
+        asyncDocSDKClient.files().publish(getStubServerUrl() + "/files/missing").subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.failure.get(10, TimeUnit.SECONDS)).isInstanceOf(HttpResponseException.class);
+        assertThat(((HttpResponseException) subscriber.failure.get()).getStatusCode()).isEqualTo(HttpStatus.SC_NOT_FOUND);
+        assertThat(subscriber.items).isEmpty();
+    }
+
+    private List<String> expectedIds() {
+        return IntStream.rangeClosed(1, PAGES).boxed()
+            .flatMap(page -> IntStream.rangeClosed(1, 3).mapToObj(item -> page + "-" + item)).collect(Collectors.toList());
+    }
+
+    private void page(final HttpExchange httpExchange, final String resource) throws IOException {
+        final Map<String, String> parameters = URLEncodedUtils.parse(httpExchange.getRequestURI(), StandardCharsets.UTF_8).stream()
+            .collect(Collectors.toMap(NameValuePair::getName, NameValuePair::getValue));
+        final int page = Integer.parseInt(parameters.getOrDefault("page", "1"));
+
+        final String data = IntStream.rangeClosed(1, 3).mapToObj(item -> "{\"id\":\"" + page + "-" + item + "\"}").collect(Collectors.joining(","));
+        final String next = page < PAGES ? "\"" + getStubServerUrl() + "/v2/" + resource + "?page=" + (page + 1) + "\"" : "null";
+        respond(httpExchange, HttpStatus.SC_OK, ("{\"data\":[" + data + "],\"links\":{\"next\":" + next + "},\"meta\":{\"current_page\":" + page + "}}")
+            .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void file(final HttpExchange httpExchange) throws IOException {
+        final byte[] chunk = new byte[64 * 1024];
+        httpExchange.sendResponseHeaders(HttpStatus.SC_OK, FILE_SIZE);
+        try (final OutputStream outputStream = httpExchange.getResponseBody()) {
+            for (int i = 0; i < FILE_SIZE / chunk.length; i++) {
+                outputStream.write(chunk);
+                written.addAndGet(chunk.length);
+            }
+        }
+    }
+
+    private static class RecordingSubscriber<T> implements Subscriber<T> {
+
+        private final List<T> items = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        private volatile Subscription subscription;
+
+        @Override
+        public void onSubscribe(final Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            failure.complete(throwable);
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+
+        private void awaitItems(final int count) throws InterruptedException {
+            final long deadline = System.currentTimeMillis() + 10000;
+            while (items.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    @After
+    public void after() throws Exception {
+        asyncDocSDKClient.close();
+    }
+}
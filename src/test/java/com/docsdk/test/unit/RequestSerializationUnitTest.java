@@ -0,0 +1,51 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.request.ConvertFilesTaskRequest;
+import com.docsdk.dto.request.TaskRequest;
+import com.docsdk.executor.entity.JsonEntity;
+import com.docsdk.test.framework.AbstractTest;
+import com.docsdk.test.framework.UnitTest;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+public class RequestSerializationUnitTest extends AbstractTest {
+
+    private final ObjectMapperProvider objectMapperProvider = new ObjectMapperProvider();
+
+    @Test
+    public void request_properties_fieldsTakePrecedence() throws Exception {
+        final ConvertFilesTaskRequest convertFilesTaskRequest = new ConvertFilesTaskRequest().setInput("input").setOutputFormat("pdf")
+            .set("output_format", "png").set("pages", ImmutableMap.of("from", 1, "to", 2));
+
+        assertThat(objectMapperProvider.provideWriter().writeValueAsString(convertFilesTaskRequest)).isEqualTo("{\"input\":[\"input\"],"
+            + "\"output_format\":\"pdf\",\"operation\":\"convert\",\"pages\":{\"from\":1,\"to\":2}}");
+    }
+
+    @Test
+    public void jsonEntity_writeToMatchesContent() throws Exception {
+        final Map<String, TaskRequest> tasks = ImmutableMap.of("convert", new ConvertFilesTaskRequest().setInput("input").set("width", 100));
+        final JsonEntity jsonEntity = new JsonEntity(objectMapperProvider.provideWriter(), ImmutableMap.of("tasks", tasks, "tag", "tag"));
+
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        jsonEntity.writeTo(byteArrayOutputStream);
+
+        assertThat(jsonEntity.isRepeatable()).isTrue();
+        assertThat(jsonEntity.getContentType().getValue()).startsWith("application/json");
+        assertThat(new String(byteArrayOutputStream.toByteArray(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"tasks\":{\"convert\":{\"input\":[\"input\"],\"operation\":\"convert\",\"width\":100}},\"tag\":\"tag\"}");
+        try (final InputStream inputStream = jsonEntity.getContent()) {
+            assertThat(ByteStreams.toByteArray(inputStream)).isEqualTo(byteArrayOutputStream.toByteArray());
+        }
+    }
+}
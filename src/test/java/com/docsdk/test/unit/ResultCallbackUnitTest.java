@@ -0,0 +1,243 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.client.http.AsyncCloseableHttpClientProvider;
+import com.docsdk.client.http.CloseableHttpClientProvider;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.dto.result.AsyncResult;
+import com.docsdk.dto.result.Result;
+import com.docsdk.executor.AsyncRequestExecutor;
+import com.docsdk.executor.RequestExecutor;
+import com.docsdk.executor.RequestExecutorSettings;
+import com.docsdk.executor.ResultListener;
+import com.docsdk.executor.retry.RetryPolicy;
+import com.docsdk.extractor.ResultExtractor;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.concurrent.FutureCallback;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ResultCallbackUnitTest extends AbstractStubServerTest {
+
+    private static final String DECODE_THREAD_NAME = "decode";
+
+    private ExecutorService decodeExecutorService;
+
+    private final List<String> resultListenerEvents = new CopyOnWriteArrayList<>();
+    private final List<String> responseCallbackEvents = new CopyOnWriteArrayList<>();
+
+    private RequestExecutorSettings requestExecutorSettings;
+    private FutureCallback<HttpResponse> httpResponseFutureCallback;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/v2/tasks", httpExchange -> {
+            final boolean missing = httpExchange.getRequestURI().getPath().endsWith("missing");
+            respond(httpExchange, missing ? HttpStatus.SC_NOT_FOUND : HttpStatus.SC_OK, missing ? "{\"message\":\"Not found\"}" : "{\"data\":{\"id\":\"id\"}}");
+        });
+    }
+
+    @Before
+    public void before() throws Exception {
+        decodeExecutorService = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, DECODE_THREAD_NAME));
+        requestExecutorSettings = RequestExecutorSettings.builder().retryPolicy(RetryPolicy.NONE).decodeExecutor(decodeExecutorService)
+            .resultListener(new ResultListener() {
+
+                @Override
+                public void onResult(final HttpRequest httpRequest, final Result<?> result) {
+                    resultListenerEvents.add("result " + result.getStatus() + " " + Thread.currentThread().getName());
+                }
+
+                @Override
+                public void onFailure(final HttpRequest httpRequest, final Throwable throwable) {
+                    resultListenerEvents.add("failure " + throwable.getClass().getSimpleName());
+                }
+            }).build();
+        httpResponseFutureCallback = new FutureCallback<HttpResponse>() {
+
+            @Override
+            public void completed(final HttpResponse httpResponse) {
+                responseCallbackEvents.add("completed " + httpResponse.getStatusLine().getStatusCode());
+            }
+
+            @Override
+            public void failed(final Exception exception) {
+                responseCallbackEvents.add("failed " + exception.getClass().getSimpleName());
+            }
+
+            @Override
+            public void cancelled() {
+                responseCallbackEvents.add("cancelled");
+            }
+        };
+    }
+
+    @Test
+    public void async_tasks_show_pushedToCallbacks() throws Exception {
+        try (final AsyncRequestExecutor asyncRequestExecutor = createAsyncRequestExecutor();
+             final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider(), asyncRequestExecutor)) {
+
+            final CompletableFuture<String> callbackFuture = new CompletableFuture<>();
+            final AsyncResult<TaskResponse> taskResponseAsyncResult = asyncDocSDKClient.tasks().show("id").whenComplete(new AsyncResult.ResultCallback<TaskResponse>() {
+
+                @Override
+                public void onResult(final Result<TaskResponse> result) {
+                    callbackFuture.complete(result.getBody().getId() + " " + Thread.currentThread().getName());
+                }
+
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    callbackFuture.completeExceptionally(throwable);
+                }
+            });
+
+            // Extracted on the decode executor, never on the IO reactor
+            assertThat(callbackFuture.get(5, TimeUnit.SECONDS)).isEqualTo("id " + DECODE_THREAD_NAME);
+            assertThat(taskResponseAsyncResult.get().getBody().getId()).isEqualTo("id");
+            assertThat(resultListenerEvents).containsExactly("result 200 " + DECODE_THREAD_NAME);
+            assertThat(responseCallbackEvents).containsExactly("completed 200");
+        }
+    }
+
+    @Test
+    public void async_tasks_show_unsuccessfulPushedAsResult() throws Exception {
+        try (final AsyncRequestExecutor asyncRequestExecutor = createAsyncRequestExecutor();
+             final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider(), asyncRequestExecutor)) {
+
+            final Result<TaskResponse> taskResponseResult = asyncDocSDKClient.tasks().show("missing").get();
+
+            assertThat(taskResponseResult.getStatus()).isEqualTo(HttpStatus.SC_NOT_FOUND);
+            assertThat(resultListenerEvents).containsExactly("result 404 " + DECODE_THREAD_NAME);
+            assertThat(responseCallbackEvents).containsExactly("completed 404");
+        }
+    }
+
+    @Test
+    public void async_tasks_show_failurePushedToCallbacks() throws Exception {
+        httpServer.stop(0);
+
+        try (final AsyncRequestExecutor asyncRequestExecutor = createAsyncRequestExecutor();
+             final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider(), asyncRequestExecutor)) {
+
+            final CompletableFuture<Throwable> failureFuture = new CompletableFuture<>();
+            asyncDocSDKClient.tasks().show("id").whenComplete(new AsyncResult.ResultCallback<TaskResponse>() {
+
+                @Override
+                public void onResult(final Result<TaskResponse> result) {
+                    failureFuture.complete(null);
+                }
+
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    failureFuture.complete(throwable);
+                }
+            });
+
+            assertThat(failureFuture.get(5, TimeUnit.SECONDS)).isInstanceOf(IOException.class);
+            assertThat(resultListenerEvents).hasSize(1).allSatisfy(event -> assertThat(event).startsWith("failure"));
+            assertThat(responseCallbackEvents).hasSize(1).allSatisfy(event -> assertThat(event).startsWith("failed"));
+        }
+    }
+
+    @Test
+    public void async_tasks_show_extractionErrorPushedToCallbacks() throws Exception {
+        final ResultExtractor resultExtractor = new ResultExtractor(new ObjectMapperProvider()) {
+
+            @Override
+            public <T> Result<T> extract(final HttpResponse httpResponse, final TypeReference<T> typeReference) {
+                throw new AssertionError("Extraction failed");
+            }
+        };
+
+        try (final AsyncRequestExecutor asyncRequestExecutor = createAsyncRequestExecutor(resultExtractor);
+             final AsyncDocSDKClient asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider(), asyncRequestExecutor)) {
+
+            assertThatThrownBy(() -> asyncDocSDKClient.tasks().show("id").toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCauseInstanceOf(AssertionError.class);
+            assertThat(resultListenerEvents).containsExactly("failure AssertionError");
+            assertThat(responseCallbackEvents).containsExactly("failed ExecutionException");
+        }
+    }
+
+    @Test
+    public void async_download_pushedToCallbacks() throws Exception {
+        final Path path = Files.createTempFile("docsdk", null);
+        try (final AsyncRequestExecutor asyncRequestExecutor = createAsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()))) {
+            asyncRequestExecutor.download(new HttpGet(settingsProvider.getApiUrl() + "/v2/tasks/id"), path).get();
+
+            assertThat(path).hasContent("{\"data\":{\"id\":\"id\"}}");
+            assertThat(resultListenerEvents).containsExactly("result 200 " + DECODE_THREAD_NAME);
+            assertThat(responseCallbackEvents).containsExactly("completed 200");
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void async_stream_pushedToCallbacks() throws Exception {
+        try (final AsyncRequestExecutor asyncRequestExecutor = createAsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()));
+             final InputStream inputStream = asyncRequestExecutor.stream(new HttpGet(settingsProvider.getApiUrl() + "/v2/tasks/id")).get().getBody()) {
+
+            assertThat(inputStream).hasContent("{\"data\":{\"id\":\"id\"}}");
+            assertThat(resultListenerEvents).containsExactly("result 200 " + DECODE_THREAD_NAME);
+            assertThat(responseCallbackEvents).containsExactly("completed 200");
+        }
+    }
+
+    @Test
+    public void tasks_show_notifiesResultListener() throws Exception {
+        try (final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), new CloseableHttpClientProvider(), requestExecutorSettings);
+             final DocSDKClient docSDKClient = new DocSDKClient(settingsProvider, new ObjectMapperProvider(), requestExecutor)) {
+
+            docSDKClient.tasks().show("id");
+
+            // The synchronous executor extracts and notifies on the calling thread
+            assertThat(resultListenerEvents).containsExactly("result 200 " + Thread.currentThread().getName());
+        }
+    }
+
+    private AsyncRequestExecutor createAsyncRequestExecutor() throws IOException {
+        return createAsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()));
+    }
+
+    private AsyncRequestExecutor createAsyncRequestExecutor(final ResultExtractor resultExtractor) throws IOException {
+        final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider = new AsyncCloseableHttpClientProvider();
+        return new AsyncRequestExecutor(resultExtractor, asyncCloseableHttpClientProvider, asyncCloseableHttpClientProvider,
+            requestExecutorSettings, httpResponseFutureCallback);
+    }
+
+    @After
+    public void after() {
+        decodeExecutorService.shutdownNow();
+    }
+}
@@ -0,0 +1,187 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.client.http.AsyncCloseableHttpClientProvider;
+import com.docsdk.client.http.CloseableHttpClientProvider;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.request.ConvertFilesTaskRequest;
+import com.docsdk.dto.response.JobResponse;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.dto.result.Result;
+import com.docsdk.executor.AsyncRequestExecutor;
+import com.docsdk.executor.RequestExecutor;
+import com.docsdk.executor.retry.ExponentialBackoffRetryPolicy;
+import com.docsdk.executor.retry.RetryMetrics;
+import com.docsdk.extractor.ResultExtractor;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class RetryUnitTest extends AbstractStubServerTest {
+
+    private static final ExponentialBackoffRetryPolicy RETRY_POLICY = ExponentialBackoffRetryPolicy.builder()
+        .initialDelay(Duration.ofMillis(10)).maxDelay(Duration.ofSeconds(2)).build();
+
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private RetryMetrics retryMetrics;
+    private RequestExecutor requestExecutor;
+    private AsyncRequestExecutor asyncRequestExecutor;
+    private DocSDKClient docSDKClient;
+    private AsyncDocSDKClient asyncDocSDKClient;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/v2", httpExchange -> {
+            requests.incrementAndGet();
+            try (final InputStream inputStream = httpExchange.getRequestBody()) {
+                ByteStreams.exhaust(inputStream);
+            }
+
+            if (failures.getAndDecrement() > 0) {
+                httpExchange.getResponseHeaders().add("Retry-After", "0");
+                httpExchange.sendResponseHeaders(HttpStatus.SC_SERVICE_UNAVAILABLE, -1);
+                httpExchange.close();
+                return;
+            }
+
+            respond(httpExchange, HttpStatus.SC_OK, "{\"data\":{\"id\":\"id\"}}");
+        });
+    }
+
+    @Before
+    public void before() throws Exception {
+        final ObjectMapperProvider objectMapperProvider = new ObjectMapperProvider();
+        retryMetrics = new RetryMetrics();
+        requestExecutor = new RequestExecutor(new ResultExtractor(objectMapperProvider), new CloseableHttpClientProvider(), RETRY_POLICY, retryMetrics);
+        asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(objectMapperProvider), new AsyncCloseableHttpClientProvider(), RETRY_POLICY, retryMetrics);
+        docSDKClient = new DocSDKClient(settingsProvider, objectMapperProvider, requestExecutor);
+        asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, objectMapperProvider, asyncRequestExecutor);
+    }
+
+    @Test
+    public void tasks_show_retried() throws Exception {
+        failures.set(2);
+
+        final Result<TaskResponse> taskResponseResult = docSDKClient.tasks().show("id");
+
+        assertThat(taskResponseResult.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(taskResponseResult.getBody().getId()).isEqualTo("id");
+        assertThat(requests).hasValue(3);
+        assertThat(retryMetrics.getRequests()).isEqualTo(1);
+        assertThat(retryMetrics.getRetries()).isEqualTo(2);
+        assertThat(retryMetrics.getAmplification()).isEqualTo(3.0);
+    }
+
+    @Test
+    public void tasks_show_givesUpAfterMaxAttempts() throws Exception {
+        failures.set(5);
+
+        assertThat(docSDKClient.tasks().show("id").getStatus()).isEqualTo(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        assertThat(requests).hasValue(RETRY_POLICY.getMaxAttempts());
+    }
+
+    @Test
+    public void jobs_create_notRetriedWithoutIdempotencyKey() throws Exception {
+        failures.set(1);
+
+        assertThat(docSDKClient.jobs().create(ImmutableMap.of("convert", new ConvertFilesTaskRequest())).getStatus())
+            .isEqualTo(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    public void jobs_create_retriedWithIdempotencyKey() throws Exception {
+        failures.set(1);
+
+        final Result<JobResponse> jobResponseResult = docSDKClient.jobs().create(ImmutableMap.of("convert", new ConvertFilesTaskRequest()), "", "key");
+
+        assertThat(jobResponseResult.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    public void asyncTasks_show_retried() throws Exception {
+        failures.set(2);
+
+        final Result<TaskResponse> taskResponseResult = asyncDocSDKClient.tasks().show("id").get();
+
+        assertThat(taskResponseResult.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(requests).hasValue(3);
+        assertThat(retryMetrics.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    public void asyncJobs_create_retriedWithIdempotencyKey() throws Exception {
+        failures.set(1);
+
+        assertThat(asyncDocSDKClient.jobs().create(ImmutableMap.of("convert", new ConvertFilesTaskRequest()), "", "key").get().getStatus())
+            .isEqualTo(HttpStatus.SC_OK);
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    public void retryPolicy_retryDelay() {
+        final HttpGet httpGet = new HttpGet(getStubServerUrl());
+        final HttpPost httpPost = new HttpPost(getStubServerUrl());
+        final HttpPost nonRepeatableHttpPost = new HttpPost(getStubServerUrl());
+        nonRepeatableHttpPost.setHeader(ExponentialBackoffRetryPolicy.HEADER_IDEMPOTENCY_KEY, "key");
+        nonRepeatableHttpPost.setEntity(new InputStreamEntity(new ByteArrayInputStream(new byte[0])));
+
+        final BasicHttpResponse tooManyRequests = new BasicHttpResponse(HttpVersion.HTTP_1_1, ExponentialBackoffRetryPolicy.SC_TOO_MANY_REQUESTS, "");
+        final BasicHttpResponse retryAfterSeconds = new BasicHttpResponse(HttpVersion.HTTP_1_1, ExponentialBackoffRetryPolicy.SC_TOO_MANY_REQUESTS, "");
+        retryAfterSeconds.addHeader("Retry-After", "1");
+        final BasicHttpResponse retryAfterDate = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_SERVICE_UNAVAILABLE, "");
+        retryAfterDate.addHeader("Retry-After", DateUtils.formatDate(new Date(System.currentTimeMillis() + 60_000)));
+        final BasicHttpResponse notFound = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_NOT_FOUND, "");
+
+        assertThat(RETRY_POLICY.getRetryDelay(httpGet, 1, tooManyRequests, null)).isBetween(Duration.ofMillis(5), Duration.ofMillis(10));
+        assertThat(RETRY_POLICY.getRetryDelay(httpGet, 2, tooManyRequests, null)).isBetween(Duration.ofMillis(10), Duration.ofMillis(20));
+        assertThat(RETRY_POLICY.getRetryDelay(httpGet, 1, retryAfterSeconds, null)).isEqualTo(Duration.ofSeconds(1));
+        // Asked to wait longer than the cap
+        assertThat(RETRY_POLICY.getRetryDelay(httpGet, 1, retryAfterDate, null)).isNull();
+        assertThat(RETRY_POLICY.getRetryDelay(httpGet, 1, notFound, null)).isNull();
+        assertThat(RETRY_POLICY.getRetryDelay(httpGet, 3, tooManyRequests, null)).isNull();
+
+        assertThat(RETRY_POLICY.getRetryDelay(httpGet, 1, null, new IOException("Connection reset"))).isNotNull();
+        assertThat(RETRY_POLICY.getRetryDelay(httpGet, 1, null, new UnknownHostException())).isNull();
+
+        assertThat(RETRY_POLICY.getRetryDelay(httpPost, 1, tooManyRequests, null)).isNull();
+        assertThat(RETRY_POLICY.getRetryDelay(nonRepeatableHttpPost, 1, tooManyRequests, null)).isNull();
+    }
+
+    @After
+    public void after() throws Exception {
+        requestExecutor.close();
+        asyncRequestExecutor.close();
+    }
+}
@@ -0,0 +1,148 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.DocSDKClient;
+import com.docsdk.dto.response.TaskResponse;
+import com.docsdk.dto.result.Result;
+import com.docsdk.executor.entity.StreamingMultipartEntity;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.google.common.primitives.Bytes;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class UploadsUnitTest extends AbstractStubServerTest {
+
+    private static final int FILE_SIZE = 4 * 1024 * 1024;
+    private static final String TASK_ID = "import-upload-task-id";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private byte[] content;
+    private File file;
+    private TaskResponse.Result.Form form;
+
+    private volatile byte[] uploadedBody;
+    private volatile String uploadedContentLength;
+    private volatile String uploadedTransferEncoding;
+
+    private DocSDKClient docSDKClient;
+    private AsyncDocSDKClient asyncDocSDKClient;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        httpServer.createContext("/upload", httpExchange -> {
+            uploadedContentLength = httpExchange.getRequestHeaders().getFirst("Content-Length");
+            uploadedTransferEncoding = httpExchange.getRequestHeaders().getFirst("Transfer-Encoding");
+            try (final InputStream inputStream = httpExchange.getRequestBody()) {
+                uploadedBody = ByteStreams.toByteArray(inputStream);
+            }
+            httpExchange.sendResponseHeaders(HttpStatus.SC_CREATED, -1);
+            httpExchange.close();
+        });
+        httpServer.createContext("/v2/tasks/" + TASK_ID, httpExchange -> respond(httpExchange, HttpStatus.SC_OK, "{\"data\":{\"id\":\"" + TASK_ID + "\"}}"));
+    }
+
+    @Before
+    public void before() throws Exception {
+        content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        file = temporaryFolder.newFile("upload.bin");
+        Files.write(file.toPath(), content);
+
+        final Map<String, String> parameters = ImmutableMap.of("expires", "expires-value", "signature", "signature-value");
+        form = new TaskResponse.Result.Form().setUrl(getStubServerUrl() + "/upload").setParameters(parameters);
+
+        docSDKClient = new DocSDKClient(settingsProvider);
+        asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider);
+    }
+
+    @Test
+    public void import_upload_file() throws Exception {
+        final Result<TaskResponse> taskResponseResult = docSDKClient.importUsing().upload(TASK_ID, form, file);
+
+        assertThat(taskResponseResult.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(taskResponseResult.getBody().getId()).isEqualTo(TASK_ID);
+        assertUploaded("upload.bin");
+        assertThat(uploadedContentLength).isEqualTo(String.valueOf(uploadedBody.length));
+    }
+
+    @Test
+    public void import_upload_inputStream() throws Exception {
+        final Result<TaskResponse> taskResponseResult = docSDKClient.importUsing().upload(TASK_ID, form, new ByteArrayInputStream(content));
+
+        assertThat(taskResponseResult.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertUploaded("file");
+        assertThat(uploadedTransferEncoding).isEqualToIgnoringCase("chunked");
+    }
+
+    @Test
+    public void asyncImport_upload_file() throws Exception {
+        final Result<TaskResponse> taskResponseResult = asyncDocSDKClient.importUsing().upload(TASK_ID, form, file).get();
+
+        assertThat(taskResponseResult.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(taskResponseResult.getBody().getId()).isEqualTo(TASK_ID);
+        assertUploaded("upload.bin");
+        assertThat(uploadedContentLength).isEqualTo(String.valueOf(uploadedBody.length));
+    }
+
+    @Test
+    public void asyncImport_upload_inputStream() throws Exception {
+        final Result<TaskResponse> taskResponseResult = asyncDocSDKClient.importUsing().upload(TASK_ID, form, new ByteArrayInputStream(content)).get();
+
+        assertThat(taskResponseResult.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertUploaded("file");
+        assertThat(uploadedTransferEncoding).isEqualToIgnoringCase("chunked");
+    }
+
+    @Test
+    public void streamingMultipartEntity_contentMatchesWriteTo() throws Exception {
+        final StreamingMultipartEntity streamingMultipartEntity = new StreamingMultipartEntity(form.getParameters(), "form", "upload.bin", file.toPath());
+
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        streamingMultipartEntity.writeTo(byteArrayOutputStream);
+
+        assertThat(streamingMultipartEntity.isRepeatable()).isTrue();
+        assertThat(streamingMultipartEntity.getContentLength()).isEqualTo(byteArrayOutputStream.size());
+        try (final InputStream inputStream = streamingMultipartEntity.getContent()) {
+            assertThat(ByteStreams.toByteArray(inputStream)).isEqualTo(byteArrayOutputStream.toByteArray());
+        }
+    }
+
+    private void assertUploaded(final String filename) {
+        final String head = new String(uploadedBody, 0, 1024);
+
+        assertThat(head).contains("name=\"expires\"").contains("expires-value").contains("name=\"signature\"").contains("signature-value");
+        assertThat(head).contains("name=\"form\"").contains("filename=\"" + filename);
+        assertThat(Bytes.indexOf(uploadedBody, content)).isPositive();
+    }
+
+    @After
+    public void after() throws Exception {
+        docSDKClient.close();
+        asyncDocSDKClient.close();
+    }
+}
@@ -0,0 +1,154 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.dto.Event;
+import com.docsdk.resource.AbstractWebhooksResource;
+import com.docsdk.test.framework.AbstractTest;
+import com.docsdk.test.framework.UnitTest;
+import com.docsdk.webhook.WebhookDispatchResult;
+import com.docsdk.webhook.WebhookEventDispatcher;
+import com.docsdk.webhook.WebhookSignatureVerifier;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class WebhookEventDispatcherUnitTest extends AbstractTest {
+
+    private static final String SIGNING_SECRET = "signing-secret";
+
+    private WebhookEventDispatcher webhookEventDispatcher;
+
+    @Before
+    public void before() throws Exception {
+        webhookEventDispatcher = WebhookEventDispatcher.builder().webhookSignatureVerifier(WebhookSignatureVerifier.of(SIGNING_SECRET))
+            .parallelism(4).queueCapacity(100).build();
+    }
+
+    @Test
+    public void dispatch_orderedPerJob() throws Exception {
+        final Map<String, List<Event>> events = new ConcurrentHashMap<>();
+        final CountDownLatch countDownLatch = new CountDownLatch(40);
+        webhookEventDispatcher.addHandler(webhookEventResponse -> {
+            events.computeIfAbsent(webhookEventResponse.getJob().getId(), id -> new CopyOnWriteArrayList<>()).add(webhookEventResponse.getEvent());
+            countDownLatch.countDown();
+        });
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(dispatch(event("job.created", "job-" + i))).isEqualTo(WebhookDispatchResult.ACCEPTED);
+        }
+        for (int i = 0; i < 20; i++) {
+            assertThat(dispatch(event("job.finished", "job-" + i))).isEqualTo(WebhookDispatchResult.ACCEPTED);
+        }
+
+        assertThat(countDownLatch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(events).hasSize(20);
+        assertThat(events.values()).allSatisfy(jobEvents -> assertThat(jobEvents).containsExactly(Event.JOB_CREATED, Event.JOB_FINISHED));
+        assertThat(webhookEventDispatcher.getDispatched()).isEqualTo(40);
+    }
+
+    @Test
+    public void dispatch_duplicateSkipped() throws Exception {
+        final CountDownLatch countDownLatch = new CountDownLatch(1);
+        webhookEventDispatcher.addHandler(Event.JOB_FINISHED, webhookEventResponse -> countDownLatch.countDown());
+
+        assertThat(dispatch(event("job.finished", "job"))).isEqualTo(WebhookDispatchResult.ACCEPTED);
+        assertThat(dispatch(event("job.finished", "job"))).isEqualTo(WebhookDispatchResult.DUPLICATE);
+        assertThat(dispatch(event("job.failed", "job"))).isEqualTo(WebhookDispatchResult.ACCEPTED);
+
+        assertThat(countDownLatch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(webhookEventDispatcher.getDuplicates()).isEqualTo(1);
+    }
+
+    @Test
+    public void dispatch_rejectedWhileHandlersBehind() throws Exception {
+        webhookEventDispatcher.close();
+        webhookEventDispatcher = WebhookEventDispatcher.builder().webhookSignatureVerifier(WebhookSignatureVerifier.of(SIGNING_SECRET))
+            .parallelism(1).queueCapacity(1).build();
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch handled = new CountDownLatch(3);
+        webhookEventDispatcher.addHandler(webhookEventResponse -> {
+            started.countDown();
+            release.await();
+            handled.countDown();
+        });
+
+        assertThat(dispatch(event("job.finished", "job-1"))).isEqualTo(WebhookDispatchResult.ACCEPTED);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatch(event("job.finished", "job-2"))).isEqualTo(WebhookDispatchResult.ACCEPTED);
+        assertThat(webhookEventDispatcher.getQueueDepth()).isEqualTo(1);
+        assertThat(dispatch(event("job.finished", "job-3"))).isEqualTo(WebhookDispatchResult.REJECTED);
+
+        release.countDown();
+        // Redelivered once the queue has room again, not deduplicated
+        while (webhookEventDispatcher.getQueueDepth() > 0) {
+            Thread.sleep(10);
+        }
+        assertThat(dispatch(event("job.finished", "job-3"))).isEqualTo(WebhookDispatchResult.ACCEPTED);
+
+        assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(webhookEventDispatcher.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    public void dispatch_invalidPayloads() throws Exception {
+        final byte[] payload = event("job.finished", "job");
+
+        assertThat(webhookEventDispatcher.dispatch(payload, null)).isEqualTo(WebhookDispatchResult.INVALID_SIGNATURE);
+        assertThat(webhookEventDispatcher.dispatch(payload, sign("other".getBytes(StandardCharsets.UTF_8)))).isEqualTo(WebhookDispatchResult.INVALID_SIGNATURE);
+        assertThat(dispatch("not json".getBytes(StandardCharsets.UTF_8))).isEqualTo(WebhookDispatchResult.MALFORMED);
+        assertThat(dispatch("{}".getBytes(StandardCharsets.UTF_8))).isEqualTo(WebhookDispatchResult.MALFORMED);
+        assertThat(webhookEventDispatcher.getDispatched()).isEqualTo(0);
+    }
+
+    @Test
+    public void dispatch_failingHandlerCounted() throws Exception {
+        final CountDownLatch countDownLatch = new CountDownLatch(1);
+        webhookEventDispatcher.addHandler(Event.JOB_FAILED, webhookEventResponse -> {
+            throw new IllegalStateException("Handler failed");
+        });
+        webhookEventDispatcher.addHandler(Event.JOB_FAILED, webhookEventResponse -> countDownLatch.countDown());
+
+        assertThat(dispatch(event("job.failed", "job"))).isEqualTo(WebhookDispatchResult.ACCEPTED);
+
+        assertThat(countDownLatch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(webhookEventDispatcher.getFailed()).isEqualTo(1);
+    }
+
+    private WebhookDispatchResult dispatch(final byte[] payload) throws Exception {
+        return webhookEventDispatcher.dispatch(payload, sign(payload));
+    }
+
+    private static byte[] event(final String event, final String jobId) {
+        return ("{\"event\":\"" + event + "\",\"job\":{\"id\":\"" + jobId + "\"}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String sign(final byte[] payload) throws Exception {
+        final Mac mac = Mac.getInstance(AbstractWebhooksResource.HMAC_SHA256);
+        mac.init(new SecretKeySpec(SIGNING_SECRET.getBytes(StandardCharsets.UTF_8), AbstractWebhooksResource.HMAC_SHA256));
+        return Hex.encodeHexString(mac.doFinal(payload));
+    }
+
+    @After
+    public void after() {
+        webhookEventDispatcher.close();
+    }
+}
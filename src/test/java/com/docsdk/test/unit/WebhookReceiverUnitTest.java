@@ -0,0 +1,153 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.client.AsyncDocSDKClient;
+import com.docsdk.client.mapper.ObjectMapperProvider;
+import com.docsdk.dto.Status;
+import com.docsdk.dto.response.JobResponse;
+import com.docsdk.resource.AbstractWebhooksResource;
+import com.docsdk.test.framework.AbstractStubServerTest;
+import com.docsdk.test.framework.UnitTest;
+import com.docsdk.tracker.CompletionTracker;
+import com.docsdk.webhook.WebhookReceiver;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class WebhookReceiverUnitTest extends AbstractStubServerTest {
+
+    private static final String SIGNING_SECRET = "signing-secret";
+
+    private AsyncDocSDKClient asyncDocSDKClient;
+    private CloseableHttpClient closeableHttpClient;
+    private CompletionTracker completionTracker;
+    private WebhookReceiver webhookReceiver;
+
+    @Override
+    protected void stub(final HttpServer httpServer) {
+        // Stand-in for the API, listing every job as finished
+        httpServer.createContext("/v2/jobs", httpExchange -> respond(httpExchange, HttpStatus.SC_OK, "{\"data\":[{\"id\":\"missed\",\"status\":\"finished\"}]}"));
+    }
+
+    @Before
+    public void before() throws Exception {
+        when(settingsProvider.getWebhookSigningSecret()).thenReturn(SIGNING_SECRET);
+
+        asyncDocSDKClient = new AsyncDocSDKClient(settingsProvider, new ObjectMapperProvider());
+        closeableHttpClient = HttpClients.createDefault();
+    }
+
+    @Test
+    public void awaitJob_completedByEvent() throws Exception {
+        webhookReceiver = webhookReceiver(null);
+
+        final CompletableFuture<JobResponse> finished = webhookReceiver.awaitJob("finished");
+        final CompletableFuture<JobResponse> failed = webhookReceiver.awaitJob("failed");
+        assertThat(webhookReceiver.getPendingJobs()).isEqualTo(2);
+
+        assertThat(post(event("job.finished", "finished", "finished"), true)).isEqualTo(HttpStatus.SC_NO_CONTENT);
+        assertThat(finished.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(Status.FINISHED);
+        assertThat(failed).isNotDone();
+
+        assertThat(post(event("job.failed", "failed", "error"), true)).isEqualTo(HttpStatus.SC_NO_CONTENT);
+        assertThat(failed.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(Status.ERROR);
+        assertThat(webhookReceiver.getPendingJobs()).isEqualTo(0);
+        assertThat(webhookReceiver.getReceived()).isEqualTo(2);
+    }
+
+    @Test
+    public void awaitJob_invalidSignatureRejected() throws Exception {
+        webhookReceiver = webhookReceiver(null);
+
+        final CompletableFuture<JobResponse> finished = webhookReceiver.awaitJob("finished");
+
+        assertThat(post(event("job.finished", "finished", "finished"), false)).isEqualTo(HttpStatus.SC_UNAUTHORIZED);
+        assertThat(finished).isNotDone();
+        assertThat(webhookReceiver.getRejected()).isEqualTo(1);
+        assertThat(webhookReceiver.getReceived()).isEqualTo(0);
+    }
+
+    @Test
+    public void awaitJob_missedEventPolled() throws Exception {
+        completionTracker = CompletionTracker.builder().asyncDocSDKClient(asyncDocSDKClient)
+            .minInterval(Duration.ofMillis(20)).maxInterval(Duration.ofMillis(100)).build();
+        webhookReceiver = webhookReceiver(completionTracker);
+
+        final CompletableFuture<JobResponse> missed = webhookReceiver.awaitJob("missed");
+        assertThat(completionTracker.getPendingJobs()).isEqualTo(0);
+
+        assertThat(missed.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(Status.FINISHED);
+        assertThat(webhookReceiver.getReceived()).isEqualTo(0);
+        assertThat(completionTracker.getListCalls()).isGreaterThan(0);
+    }
+
+    @Test
+    public void webhooks_verify_bytes() throws Exception {
+        final AbstractWebhooksResource<?, ?, ?> webhooksResource = asyncDocSDKClient.webhooks();
+        final byte[] payload = event("job.finished", "finished", "finished");
+
+        assertThat(webhooksResource.verify(payload, sign(payload))).isTrue();
+        assertThat(webhooksResource.verify(new String(payload, StandardCharsets.UTF_8), sign(payload))).isTrue();
+        assertThat(webhooksResource.verify(payload, sign("other".getBytes(StandardCharsets.UTF_8)))).isFalse();
+    }
+
+    private WebhookReceiver webhookReceiver(final CompletionTracker completionTracker) throws Exception {
+        return WebhookReceiver.builder().webhooksResource(asyncDocSDKClient.webhooks()).address(new InetSocketAddress("localhost", 0))
+            .completionTracker(completionTracker).fallbackDelay(Duration.ofMillis(50)).build();
+    }
+
+    private int post(final byte[] payload, final boolean signed) throws Exception {
+        final HttpPost httpPost = new HttpPost("http://localhost:" + webhookReceiver.getAddress().getPort() + "/");
+        httpPost.setHeader(WebhookReceiver.HEADER_SIGNATURE, signed ? sign(payload) : sign(new byte[0]));
+        httpPost.setEntity(new ByteArrayEntity(payload));
+
+        try (final CloseableHttpResponse closeableHttpResponse = closeableHttpClient.execute(httpPost)) {
+            return closeableHttpResponse.getStatusLine().getStatusCode();
+        }
+    }
+
+    private static byte[] event(final String event, final String jobId, final String status) {
+        return ("{\"event\":\"" + event + "\",\"job\":{\"id\":\"" + jobId + "\",\"status\":\"" + status + "\"}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String sign(final byte[] payload) throws Exception {
+        final Mac mac = Mac.getInstance(AbstractWebhooksResource.HMAC_SHA256);
+        mac.init(new SecretKeySpec(SIGNING_SECRET.getBytes(StandardCharsets.UTF_8), AbstractWebhooksResource.HMAC_SHA256));
+        return Hex.encodeHexString(mac.doFinal(payload));
+    }
+
+    @After
+    public void after() throws Exception {
+        if (webhookReceiver != null) {
+            webhookReceiver.close();
+        }
+        if (completionTracker != null) {
+            completionTracker.close();
+        }
+        closeableHttpClient.close();
+        asyncDocSDKClient.close();
+    }
+}
@@ -0,0 +1,102 @@
+package com.docsdk.test.unit;
+
+import com.docsdk.resource.AbstractWebhooksResource;
+import com.docsdk.test.framework.AbstractTest;
+import com.docsdk.test.framework.UnitTest;
+import com.docsdk.webhook.WebhookSignatureVerifier;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class WebhookSignatureVerifierUnitTest extends AbstractTest {
+
+    private static final byte[] PAYLOAD = "{\"event\":\"job.finished\",\"job\":{\"id\":\"id\"}}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void verify_bytes() throws Exception {
+        final WebhookSignatureVerifier webhookSignatureVerifier = WebhookSignatureVerifier.of("secret");
+        final String signature = sign("secret", PAYLOAD);
+
+        assertThat(webhookSignatureVerifier.verify(PAYLOAD, signature)).isTrue();
+        assertThat(webhookSignatureVerifier.verify(PAYLOAD, signature.toUpperCase())).isTrue();
+        assertThat(webhookSignatureVerifier.verify(PAYLOAD, sign("other", PAYLOAD))).isFalse();
+        assertThat(webhookSignatureVerifier.verify("other".getBytes(StandardCharsets.UTF_8), signature)).isFalse();
+
+        // Malformed signatures
+        assertThat(webhookSignatureVerifier.verify(PAYLOAD, "")).isFalse();
+        assertThat(webhookSignatureVerifier.verify(PAYLOAD, signature.substring(2))).isFalse();
+        assertThat(webhookSignatureVerifier.verify(PAYLOAD, "zz" + signature.substring(2))).isFalse();
+    }
+
+    @Test
+    public void verify_offsetAndByteBuffer() throws Exception {
+        final WebhookSignatureVerifier webhookSignatureVerifier = WebhookSignatureVerifier.of("secret");
+        final String signature = sign("secret", PAYLOAD);
+
+        final byte[] buffer = new byte[PAYLOAD.length + 8];
+        System.arraycopy(PAYLOAD, 0, buffer, 4, PAYLOAD.length);
+        assertThat(webhookSignatureVerifier.verify(buffer, 4, PAYLOAD.length, signature)).isTrue();
+
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(buffer.length);
+        byteBuffer.put(buffer).position(4).limit(4 + PAYLOAD.length);
+        assertThat(webhookSignatureVerifier.verify(byteBuffer, signature)).isTrue();
+        assertThat(byteBuffer.position()).isEqualTo(4);
+        // Verified once more, as the position has not moved
+        assertThat(webhookSignatureVerifier.verify(byteBuffer, signature)).isTrue();
+    }
+
+    @Test
+    public void verify_rotatedSecrets() throws Exception {
+        final WebhookSignatureVerifier webhookSignatureVerifier = WebhookSignatureVerifier.of("old", "new");
+
+        assertThat(webhookSignatureVerifier.verify(PAYLOAD, sign("old", PAYLOAD))).isTrue();
+        assertThat(webhookSignatureVerifier.verify(PAYLOAD, sign("new", PAYLOAD))).isTrue();
+        assertThat(webhookSignatureVerifier.verify(PAYLOAD, sign("other", PAYLOAD))).isFalse();
+    }
+
+    @Test
+    public void verify_concurrently() throws Exception {
+        final WebhookSignatureVerifier webhookSignatureVerifier = WebhookSignatureVerifier.of("secret");
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final byte[] payload = ("payload-" + i).getBytes(StandardCharsets.UTF_8);
+                final String signature = sign("secret", payload);
+                final boolean valid = i % 2 == 0;
+                futures.add(executorService.submit((Callable<Boolean>) () ->
+                    webhookSignatureVerifier.verify(payload, valid ? signature : sign("other", payload)) == valid));
+            }
+
+            for (final Future<Boolean> future : futures) {
+                assertThat(future.get()).isTrue();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static String sign(final String signingSecret, final byte[] payload) throws Exception {
+        final Mac mac = Mac.getInstance(AbstractWebhooksResource.HMAC_SHA256);
+        mac.init(new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), AbstractWebhooksResource.HMAC_SHA256));
+        return Hex.encodeHexString(mac.doFinal(payload));
+    }
+}